@@ -26,4 +26,23 @@ public interface CacheAdapterFactory<K, V> {
 
     CacheAdapter<K, V> getInstance(Lock lock, String url, int cacheMaxSize, int maxKeySize);
 
+    /**
+     * Creates a cache for the given session. Factories whose caches depend on the state of the session override this method.
+     *
+     * @param session
+     *            the session using the cache
+     * @param lock
+     *            lock of the connection
+     * @param url
+     *            URL of the connection
+     * @param cacheMaxSize
+     *            maximum number of entries
+     * @param maxKeySize
+     *            maximum length of the keys to cache
+     * @return {@link CacheAdapter}
+     */
+    default CacheAdapter<K, V> getInstance(Session session, Lock lock, String url, int cacheMaxSize, int maxKeySize) {
+        return getInstance(lock, url, cacheMaxSize, maxKeySize);
+    }
+
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj;
+
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.exceptions.CJOperationNotSupportedException;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.util.TinyLfuCache;
+
+/**
+ * Creates caches of parsed queries that all share a single cache per JVM, so that a query run by many connections is parsed and held only once.
+ * <p>
+ * Parsed queries depend on the settings of the session they were parsed for, so entries are keyed by the SQL together with these settings. The shared cache
+ * holds as many entries as the largest maximum size requested.
+ */
+public class PerVmQueryInfoCacheFactory implements CacheAdapterFactory<String, QueryInfo> {
+
+    private static final TinyLfuCache<QueryInfoKey, QueryInfo> queryInfoCache = new TinyLfuCache<>(0);
+
+    /**
+     * Returns the cache shared by all connections, e.g., to look at its statistics.
+     *
+     * @return the shared cache
+     */
+    public static TinyLfuCache<?, QueryInfo> getSharedCache() {
+        return queryInfoCache;
+    }
+
+    @Override
+    public CacheAdapter<String, QueryInfo> getInstance(Lock lock, String url, int cacheMaxSize, int maxKeySize) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("PerVmQueryInfoCacheFactory.SessionRequired"));
+    }
+
+    @Override
+    public CacheAdapter<String, QueryInfo> getInstance(Session session, Lock lock, String url, int cacheMaxSize, int maxKeySize) {
+        queryInfoCache.ensureMaximumSize(cacheMaxSize);
+        return new PerVmQueryInfoCache(session, maxKeySize);
+    }
+
+    /**
+     * The settings of a session a query is parsed with, see {@link QueryInfo#QueryInfo(String, Session, String)}.
+     */
+    private static final class QueryInfoKey {
+
+        private final String sql;
+        private final boolean noBackslashEscapes;
+        private final boolean rewriteBatchedStatements;
+        private final boolean dontCheckOnDuplicateKeyUpdateInSQL;
+        private final String encoding;
+        private final int hashCode;
+
+        QueryInfoKey(String sql, boolean noBackslashEscapes, boolean rewriteBatchedStatements, boolean dontCheckOnDuplicateKeyUpdateInSQL, String encoding) {
+            this.sql = sql;
+            this.noBackslashEscapes = noBackslashEscapes;
+            this.rewriteBatchedStatements = rewriteBatchedStatements;
+            this.dontCheckOnDuplicateKeyUpdateInSQL = dontCheckOnDuplicateKeyUpdateInSQL;
+            this.encoding = encoding;
+            int h = sql.hashCode();
+            h = 31 * h + (noBackslashEscapes ? 1 : 0);
+            h = 31 * h + (rewriteBatchedStatements ? 1 : 0);
+            h = 31 * h + (dontCheckOnDuplicateKeyUpdateInSQL ? 1 : 0);
+            this.hashCode = 31 * h + (encoding == null ? 0 : encoding.hashCode());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof QueryInfoKey)) {
+                return false;
+            }
+            QueryInfoKey other = (QueryInfoKey) obj;
+            return this.hashCode == other.hashCode && this.noBackslashEscapes == other.noBackslashEscapes
+                    && this.rewriteBatchedStatements == other.rewriteBatchedStatements
+                    && this.dontCheckOnDuplicateKeyUpdateInSQL == other.dontCheckOnDuplicateKeyUpdateInSQL && this.sql.equals(other.sql)
+                    && (this.encoding == null ? other.encoding == null : this.encoding.equals(other.encoding));
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+    /**
+     * The view of the shared cache for one session, keying entries with the current settings of the session.
+     */
+    private static class PerVmQueryInfoCache implements CacheAdapter<String, QueryInfo> {
+
+        private final Session session;
+        private final int cacheSqlLimit;
+        private final RuntimeProperty<Boolean> rewriteBatchedStatements;
+        private final RuntimeProperty<Boolean> dontCheckOnDuplicateKeyUpdateInSQL;
+        private final RuntimeProperty<String> characterEncoding;
+
+        PerVmQueryInfoCache(Session session, int maxKeySize) {
+            this.session = session;
+            this.cacheSqlLimit = maxKeySize;
+            this.rewriteBatchedStatements = session.getPropertySet().getBooleanProperty(PropertyKey.rewriteBatchedStatements);
+            this.dontCheckOnDuplicateKeyUpdateInSQL = session.getPropertySet().getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL);
+            this.characterEncoding = session.getPropertySet().getStringProperty(PropertyKey.characterEncoding);
+        }
+
+        private QueryInfoKey keyFor(String sql) {
+            return new QueryInfoKey(sql, this.session.getServerSession().isNoBackslashEscapesSet(), this.rewriteBatchedStatements.getValue(),
+                    this.dontCheckOnDuplicateKeyUpdateInSQL.getValue(), this.characterEncoding.getValue());
+        }
+
+        @Override
+        public QueryInfo get(String key) {
+            if (key == null || key.length() > this.cacheSqlLimit) {
+                return null;
+            }
+            return queryInfoCache.get(keyFor(key));
+        }
+
+        @Override
+        public void put(String key, QueryInfo value) {
+            if (key == null || key.length() > this.cacheSqlLimit) {
+                return;
+            }
+            queryInfoCache.put(keyFor(key), value);
+        }
+
+        @Override
+        public void invalidate(String key) {
+            if (key != null) {
+                queryInfoCache.remove(keyFor(key));
+            }
+        }
+
+        @Override
+        public void invalidateAll(Set<String> keys) {
+            for (String key : keys) {
+                invalidate(key);
+            }
+        }
+
+        /**
+         * Does nothing. The shared cache is used by other sessions too, and the entries of this session can't go stale since they are keyed by the settings
+         * they were parsed with.
+         */
+        @Override
+        public void invalidateAll() {
+            // Nothing to do.
+        }
+
+    }
+
+}
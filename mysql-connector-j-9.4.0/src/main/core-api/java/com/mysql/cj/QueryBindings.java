@@ -33,6 +33,7 @@ import java.util.Calendar;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.result.Field;
 
 public interface QueryBindings {
 
@@ -68,6 +69,31 @@ public interface QueryBindings {
 
     void setFromBindValue(int parameterIndex, BindValue bv);
 
+    /**
+     * Binds a value with the given target type and options, the same way {@link #setFromBindValue(int, BindValue)} binds those of a {@link BindValue}.
+     *
+     * @param parameterIndex
+     *            zero-based index of the parameter
+     * @param value
+     *            the value
+     * @param type
+     *            the target {@link MysqlType}
+     * @param calendar
+     *            the calendar the value was set with, or null
+     * @param field
+     *            the field the value was set with, or null
+     * @param scaleOrLength
+     *            scale or length of the value, or -1
+     * @param keepOrigNanos
+     *            whether fractional seconds are kept as they are
+     * @param escapeBytesIfNeeded
+     *            whether byte values are escaped
+     * @param isNational
+     *            whether the value is a national character string
+     */
+    void setFromValue(int parameterIndex, Object value, MysqlType type, Calendar calendar, Field field, long scaleOrLength, boolean keepOrigNanos,
+            boolean escapeBytesIfNeeded, boolean isNational);
+
     void setAsciiStream(int parameterIndex, InputStream x, int length);
 
     void setBigDecimal(int parameterIndex, BigDecimal x);
@@ -33,6 +33,8 @@ import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.exceptions.WrongArgumentException;
 import com.mysql.cj.util.SearchMode;
+import com.mysql.cj.util.SqlLexer;
+import com.mysql.cj.util.SqlLexer.TokenType;
 import com.mysql.cj.util.StringInspector;
 import com.mysql.cj.util.StringUtils;
 
@@ -75,6 +77,7 @@ public class QueryInfo {
     private int valuesClauseLength = -1;
     private ArrayList<Integer> valuesEndpoints = new ArrayList<>();
     private byte[][] staticSqlParts = null;
+    private int staticSqlPartsLength = -1;
     private List<PlaceholderPurpose> placeholderPurposes = new ArrayList<>();
 
     /**
@@ -102,29 +105,30 @@ public class QueryInfo {
         boolean rewriteBatchedStatements = session.getPropertySet().getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue();
         boolean dontCheckOnDuplicateKeyUpdateInSQL = session.getPropertySet().getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL).getValue();
 
-        this.queryReturnType = getQueryReturnType(this.sql, noBackslashEscapes);
         this.queryLength = this.sql.length();
 
-        StringInspector strInspector = new StringInspector(this.sql, OPENING_MARKERS, CLOSING_MARKERS, OVERRIDING_MARKERS,
-                noBackslashEscapes ? SearchMode.__MRK_COM_MYM_HNT_WS : SearchMode.__BSE_MRK_COM_MYM_HNT_WS);
+        SqlLexer lexer = new SqlLexer(this.sql, noBackslashEscapes);
 
-        this.queryStartPos = strInspector.indexOfNextAlphanumericChar(); // Skip comments at the beginning of queries.
+        this.queryStartPos = indexOfStatementKeyword(this.sql, lexer); // Skip comments at the beginning of queries.
+        this.queryReturnType = getQueryReturnType(this.sql, this.queryStartPos, noBackslashEscapes);
         if (this.queryStartPos == -1) {
             this.queryStartPos = this.queryLength;
         } else {
             this.numberOfQueries = 1;
-            this.statementFirstChar = Character.toUpperCase(strInspector.getChar());
-
-            // Capture the statement keyword.
-            int endStatementKeyword = 0;
-            int nextChar = this.queryStartPos;
-            StringBuilder sbStatementKeyword = new StringBuilder();
-            do {
-                sbStatementKeyword.append(Character.toUpperCase(strInspector.getChar()));
-                endStatementKeyword = nextChar + 1;
-                strInspector.incrementPosition();
-                nextChar = strInspector.indexOfNextChar();
-            } while (nextChar == endStatementKeyword);
+            this.statementFirstChar = Character.toUpperCase(this.sql.charAt(this.queryStartPos));
+
+            // Capture the statement keyword, i.e., all the contiguous meaningful characters.
+            int endStatementKeyword = lexer.getTokenEnd();
+            lexer.mark();
+            while (lexer.next() != TokenType.END && lexer.isCodeToken() && lexer.getTokenStart() == endStatementKeyword) {
+                endStatementKeyword = lexer.getTokenEnd();
+                lexer.mark();
+            }
+            lexer.reset();
+            StringBuilder sbStatementKeyword = new StringBuilder(endStatementKeyword - this.queryStartPos);
+            for (int i = this.queryStartPos; i < endStatementKeyword; i++) {
+                sbStatementKeyword.append(Character.toUpperCase(this.sql.charAt(i)));
+            }
             this.statementKeyword = sbStatementKeyword.toString();
         }
 
@@ -168,27 +172,30 @@ public class QueryInfo {
         boolean matchedLimitClause = false;
         boolean withinLimitClause = false;
         int parensLevel = 0;
-        int matchEnd = -1;
         int lastPos = -1;
         char lastChar = 0;
 
         // Endpoints for the satement's static sections (parts around placeholders).
         ArrayList<Integer> staticEndpoints = new ArrayList<>();
 
-        while (strInspector.indexOfNextChar() != -1) {
-            int currPos = strInspector.getPosition();
-            char currChar = strInspector.getChar();
+        while (lexer.next() != TokenType.END) {
+            if (!lexer.isCodeToken()) { // Quoted text, comments and MySQL specific blocks markers.
+                continue;
+            }
+
+            int currPos = lexer.getTokenStart();
+            char currChar = lexer.getTokenChar();
+            boolean isWord = lexer.getTokenType() == TokenType.WORD;
 
             if (currChar == '?') { // Process placeholder.
                 valueStrMayBeTableName = false; // At this point a string "VALUE" cannot be a table name.
 
                 this.numberOfPlaceholders++;
-                int endpointEnd = strInspector.getPosition();
+                int endpointEnd = currPos;
                 staticEndpoints.add(generalEndpointStart);
                 staticEndpoints.add(endpointEnd);
                 this.placeholderPurposes.add(withinValuesClause ? INSERT_VALUES : withinLimitClause ? LIMIT_AND_OFFSET : GENERIC);
-                strInspector.incrementPosition();
-                generalEndpointStart = strInspector.getPosition(); // Next section starts after the placeholder.
+                generalEndpointStart = lexer.getTokenEnd(); // Next section starts after the placeholder.
 
                 if (rewritableAsMultiValues) {
                     if (!valuesClauseBeginFound) { // There's a placeholder before the VALUE[S] clause.
@@ -207,8 +214,8 @@ public class QueryInfo {
                 matchedLimitClause = false;
                 withinLimitClause = false;
 
-                strInspector.incrementPosition();
-                if (strInspector.indexOfNextNonWsChar() != -1) {
+                lexer.mark();
+                if (nextCodeToken(lexer) != -1) {
                     this.numberOfQueries++;
 
                     if (rewritableAsMultiValues) {
@@ -221,56 +228,46 @@ public class QueryInfo {
                         parensLevel = 0;
                     }
 
+                    boolean consumed = false;
                     isInsert = false;
                     isReplace = false;
                     // Check if continue looking for ON DUPLICATE KEY UPDATE.
                     if (dontCheckOnDuplicateKeyUpdateInSQL || this.containsOnDuplicateKeyUpdate) {
                         lookForOnDuplicateKeyUpdate = false;
                     } else {
-                        isInsert = strInspector.matchesIgnoreCase(INSERT_STATEMENT) != -1;
-                        if (isInsert) {
-                            strInspector.incrementPosition(INSERT_STATEMENT.length() - 1); // Advance to the end of "INSERT" and capture last character.
-                            currPos = strInspector.getPosition();
-                            currChar = strInspector.getChar();
-                            strInspector.incrementPosition();
-                        }
+                        isInsert = consumed = lexer.tokenStartsWithIgnoreCase(INSERT_STATEMENT);
                         lookForOnDuplicateKeyUpdate = isInsert;
                     }
 
                     // Check if continue looking for LIMIT and OFFSET.
-                    if (!isInsert && !isReplace && ((matchEnd = strInspector.matchesIgnoreCase(SELECT_STATEMENT)) != -1
-                            || (matchEnd = strInspector.matchesIgnoreCase(TABLE_STATEMENT)) != -1)) {
-                        strInspector.incrementPosition(matchEnd - strInspector.getPosition() - 1); // Advance to the end and capture last character.
-                        currPos = strInspector.getPosition();
-                        currChar = strInspector.getChar();
-                        strInspector.incrementPosition();
-
-                        lookForLimitAndOffset = true;
-                    } else {
-                        lookForLimitAndOffset = false;
+                    lookForLimitAndOffset = !isInsert && !isReplace
+                            && (lexer.tokenStartsWithIgnoreCase(SELECT_STATEMENT) || lexer.tokenStartsWithIgnoreCase(TABLE_STATEMENT));
+                    consumed |= lookForLimitAndOffset;
+
+                    if (!consumed) { // Not a statement keyword of interest, must be processed as any other token.
+                        lexer.reset();
                     }
+                } else {
+                    lexer.reset();
                 }
 
             } else {
+                boolean consumed = false; // Whether this token was already processed as part of a VALUE[S] clause.
                 if (rewritableAsMultiValues) {
-                    if ((!valuesClauseBeginFound || valueStrMayBeTableName) && strInspector.matchesIgnoreCase(VALUE_CLAUSE) != -1) { // VALUE[S] clause found.
+                    if ((!valuesClauseBeginFound || valueStrMayBeTableName) && isWord && lexer.tokenStartsWithIgnoreCase(VALUE_CLAUSE)) { // VALUE[S] found.
+                        consumed = true;
                         boolean leftBounded = currPos > lastPos + 1 || lastChar == ')'; // ')' would mark the ending of the columns list: "...)VALUES...".
 
-                        strInspector.incrementPosition(VALUE_CLAUSE.length() - 1); // Advance to the end of "VALUE" and capture last character.
-                        currPos = strInspector.getPosition();
-                        currChar = strInspector.getChar();
-                        strInspector.incrementPosition();
+                        int endPos = currPos + VALUE_CLAUSE.length();
                         boolean matchedValues = false;
-                        if (strInspector.matchesIgnoreCase("S") != -1) { // Check for the "S" in "VALUE(S)" and advance 1 more character if so.
-                            currPos = strInspector.getPosition();
-                            currChar = strInspector.getChar();
-                            strInspector.incrementPosition();
+                        if (endPos < lexer.getTokenEnd() && StringUtils.regionMatchesIgnoreCase(this.sql, endPos, "S")) { // Check for the "S" in "VALUE(S)".
+                            endPos++;
                             matchedValues = true;
                         }
 
-                        int endPos = strInspector.getPosition();
-                        int nextPos = strInspector.indexOfNextChar(); // Position on the first meaningful character after VALUE[S].
-                        boolean rightBounded = nextPos > endPos || strInspector.getChar() == '('; // '(' would mark the beginning of VALUE[S]: "... VALUES(...".
+                        // VALUE[S] must be followed by a gap or '(', which would mark the beginning of VALUE[S]: "... VALUES(...".
+                        int nextPos = endPos == lexer.getTokenEnd() ? indexOfNextCodeToken(lexer) : endPos;
+                        boolean rightBounded = nextPos > endPos || nextPos == endPos && this.sql.charAt(nextPos) == '(';
 
                         if (leftBounded && rightBounded) { // VALUE[S] keyword must not be part of another string, such as a table or column name.
                             if (matchedValues) {
@@ -280,125 +277,79 @@ public class QueryInfo {
                                 rewritableAsMultiValues = false;
                             } else {
                                 withinValuesClause = true;
-                                valuesClauseBegin = strInspector.getPosition();
+                                valuesClauseBegin = nextPos;
                                 valuesClauseBeginFound = true;
                                 valuesEndpointStart = valuesClauseBegin;
                             }
                         }
 
                     } else if (withinValuesClause && currChar == '(') {
+                        consumed = true;
                         parensLevel++;
-                        strInspector.incrementPosition();
 
                     } else if (withinValuesClause && currChar == ')') {
+                        consumed = true;
                         parensLevel--;
                         if (parensLevel < 0) {
                             parensLevel = 0; // Keep going, not checking for syntax validity.
                         }
-                        strInspector.incrementPosition();
-                        valuesClauseEnd = strInspector.getPosition(); // It may not be the end of the VALUE[S] clause yet but save it for later.
+                        valuesClauseEnd = lexer.getTokenEnd(); // It may not be the end of the VALUE[S] clause yet but save it for later.
 
-                    } else if (withinValuesClause && parensLevel == 0 && isInsert //
-                            && strInspector.matchesIgnoreCase(AS_CLAUSE) != -1) { // End of VALUE[S] clause.
+                    } else if (withinValuesClause && parensLevel == 0 && isInsert && isWord //
+                            && (lexer.tokenStartsWithIgnoreCase(AS_CLAUSE) || matchesOnDuplicateKeyUpdate(lexer))) { // End of VALUE[S] clause.
+                        consumed = true;
                         valueStrMayBeTableName = false; // At this point a string "VALUE" cannot be a table name.
 
                         if (valuesClauseEnd == -1) {
-                            valuesClauseEnd = strInspector.getPosition();
+                            valuesClauseEnd = currPos;
                         }
                         valuesClauseEndFound = true;
                         withinValuesClause = false;
-                        strInspector.incrementPosition(AS_CLAUSE.length() - 1); // Advance to the end of "AS" and capture last character.
-                        currPos = strInspector.getPosition();
-                        currChar = strInspector.getChar();
-                        strInspector.incrementPosition();
 
                         this.valuesEndpoints.add(valuesEndpointStart);
                         this.valuesEndpoints.add(valuesClauseEnd);
 
-                    } else if (withinValuesClause && parensLevel == 0 && isInsert //
-                            && (matchEnd = strInspector.matchesIgnoreCase(ODKU_CLAUSE)) != -1) { // End of VALUE[S] clause.
-                        valueStrMayBeTableName = false; // At this point a string "VALUE" cannot be a table name.
-
-                        if (valuesClauseEnd == -1) {
-                            valuesClauseEnd = strInspector.getPosition();
+                        if (lexer.getTokenStart() != currPos) { // Matched ON DUPLICATE KEY UPDATE.
+                            this.containsOnDuplicateKeyUpdate = true;
+                            lookForOnDuplicateKeyUpdate = false;
                         }
-                        valuesClauseEndFound = true;
-                        withinValuesClause = false;
-                        strInspector.incrementPosition(matchEnd - strInspector.getPosition() - 1); // Advance to the end of "ODKU" and capture last character.
-                        currPos = strInspector.getPosition();
-                        currChar = strInspector.getChar();
-                        strInspector.incrementPosition();
-
-                        this.valuesEndpoints.add(valuesEndpointStart);
-                        this.valuesEndpoints.add(valuesClauseEnd);
-
-                        this.containsOnDuplicateKeyUpdate = true;
-                        lookForOnDuplicateKeyUpdate = false;
+                    }
 
-                    } else if (strInspector.matchesIgnoreCase(LAST_INSERT_ID_FUNC) != -1) { // Can't rewrite as multi-values if LAST_INSERT_ID function is used.
+                    if (isWord && lexer.tokenContainsIgnoreCase(LAST_INSERT_ID_FUNC)) { // Can't rewrite as multi-values if LAST_INSERT_ID function is used.
                         rewritableAsMultiValues = false;
-                        strInspector.incrementPosition(LAST_INSERT_ID_FUNC.length() - 1); // Advance to the end of "LAST_INSERT_ID" and capture last character.
-                        currPos = strInspector.getPosition();
-                        currChar = strInspector.getChar();
-                        strInspector.incrementPosition();
                     }
                 }
 
-                if (lookForOnDuplicateKeyUpdate && currPos == strInspector.getPosition() && (matchEnd = strInspector.matchesIgnoreCase(ODKU_CLAUSE)) != -1) {
-                    strInspector.incrementPosition(matchEnd - strInspector.getPosition() - 1); // Advance to the end of "ODKU" and capture last character.
-                    currPos = strInspector.getPosition();
-                    currChar = strInspector.getChar();
-                    strInspector.incrementPosition();
-
+                if (lookForOnDuplicateKeyUpdate && !consumed && isWord && matchesOnDuplicateKeyUpdate(lexer)) {
                     this.containsOnDuplicateKeyUpdate = true;
                     lookForOnDuplicateKeyUpdate = false;
                 }
 
-                if (lookForLimitAndOffset) {
-                    if (!matchedLimitClause && currPos == strInspector.getPosition() && (matchEnd = strInspector.matchesIgnoreCase(LIMIT_CLAUSE)) != -1) {
+                if (lookForLimitAndOffset && !consumed) {
+                    if (!matchedLimitClause && isWord && lexer.tokenStartsWithIgnoreCase(LIMIT_CLAUSE)) {
                         boolean leftBounded = currPos > lastPos + 1 || lastChar == ')'; // ')' would mark the ending of an expression: "... (1=1)LIMIT ...".
-
-                        strInspector.incrementPosition(matchEnd - strInspector.getPosition() - 1); // Advance to the end of "LIMIT" and capture last character.
-                        currPos = strInspector.getPosition();
-                        currChar = strInspector.getChar();
-                        strInspector.incrementPosition();
-
-                        int endPos = strInspector.getPosition();
-                        int nextPos = strInspector.indexOfNextChar(); // Position on the first meaningful character after LIMIT.
-                        boolean rightBounded = nextPos > endPos;
+                        boolean rightBounded = lexer.tokenEqualsIgnoreCase(LIMIT_CLAUSE) && indexOfNextCodeToken(lexer) > lexer.getTokenEnd();
 
                         if (leftBounded && rightBounded) { // LIMIT keyword must not be part of another string, such as a table or column name.
                             matchedLimitClause = true;
                             withinLimitClause = true;
                         }
-                    } else if (withinLimitClause && currPos == strInspector.getPosition() && (matchEnd = strInspector.matchesIgnoreCase(OFFSET_CLAUSE)) != -1) {
+                    } else if (withinLimitClause && isWord && lexer.tokenStartsWithIgnoreCase(OFFSET_CLAUSE)) {
                         boolean leftBounded = currPos > lastPos + 1;
-
-                        strInspector.incrementPosition(matchEnd - strInspector.getPosition() - 1); // Advance to the end of "OFFSET" and capture last character.
-                        currPos = strInspector.getPosition();
-                        currChar = strInspector.getChar();
-                        strInspector.incrementPosition();
-
-                        int endPos = strInspector.getPosition();
-                        int nextPos = strInspector.indexOfNextChar(); // Position on the first meaningful character after OFFSET.
-                        boolean rightBounded = nextPos > endPos;
+                        boolean rightBounded = lexer.tokenEqualsIgnoreCase(OFFSET_CLAUSE) && indexOfNextCodeToken(lexer) > lexer.getTokenEnd();
 
                         if (!leftBounded || !rightBounded) { // OFFSET keyword must not be part of another string, such as a table or column name.
                             withinLimitClause = false;
                         }
                     } else if (withinLimitClause) {
                         // If LIMIT was previously found, it's still possible to find a placeholder while digits or comma keep coming: "LIMIT [_digits_|?], ?".
-                        withinLimitClause = withinLimitClause && currPos == strInspector.getPosition() && (currChar == ',' || Character.isDigit(currChar));
+                        withinLimitClause = isWord ? isDigits(this.sql, currPos, lexer.getTokenEnd()) : currChar == ',';
                     }
                 }
-
-                if (currPos == strInspector.getPosition()) {
-                    strInspector.incrementPosition();
-                }
             }
 
-            lastPos = currPos;
-            lastChar = currChar;
+            lastPos = lexer.getTokenEnd() - 1;
+            lastChar = this.sql.charAt(lastPos);
         }
         staticEndpoints.add(generalEndpointStart);
         staticEndpoints.add(this.queryLength);
@@ -437,6 +388,75 @@ public class QueryInfo {
         }
     }
 
+    /**
+     * Advances the given lexer to the next {@link TokenType#WORD} or {@link TokenType#SYMBOL} token, skipping quoted text, comments and MySQL specific blocks
+     * markers.
+     *
+     * @param lexer
+     *            the {@link SqlLexer} to advance
+     * @return the position of the token found or -1 if there are no more tokens
+     */
+    private static int nextCodeToken(SqlLexer lexer) {
+        while (lexer.next() != TokenType.END) {
+            if (lexer.isCodeToken()) {
+                return lexer.getTokenStart();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the position of the {@link TokenType#WORD} or {@link TokenType#SYMBOL} token that follows the current one, without moving the given lexer.
+     *
+     * @param lexer
+     *            the {@link SqlLexer} to search
+     * @return the position of the next token or -1 if there are no more tokens
+     */
+    private static int indexOfNextCodeToken(SqlLexer lexer) {
+        lexer.mark();
+        int pos = nextCodeToken(lexer);
+        lexer.reset();
+        return pos;
+    }
+
+    /**
+     * Checks if the current token of the given lexer starts an ON DUPLICATE KEY UPDATE clause. Words must be separated by whitespace or comments only. If so,
+     * the lexer is left positioned on the "UPDATE" token, otherwise its position is not changed.
+     *
+     * @param lexer
+     *            the {@link SqlLexer} positioned on the token to check
+     * @return <code>true</code> if an ON DUPLICATE KEY UPDATE clause was matched
+     */
+    private static boolean matchesOnDuplicateKeyUpdate(SqlLexer lexer) {
+        if (!lexer.tokenEqualsIgnoreCase(ODKU_CLAUSE[0])) {
+            return false;
+        }
+        lexer.mark();
+        for (int i = 1; i < ODKU_CLAUSE.length; i++) {
+            int prevEnd = lexer.getTokenEnd();
+            TokenType type;
+            while ((type = lexer.next()) == TokenType.COMMENT || type == TokenType.MYSQL_MARKER) {
+                // Skip comments between words.
+            }
+            boolean lastWord = i == ODKU_CLAUSE.length - 1;
+            if (type != TokenType.WORD || lexer.getTokenStart() == prevEnd
+                    || !(lastWord ? lexer.tokenStartsWithIgnoreCase(ODKU_CLAUSE[i]) : lexer.tokenEqualsIgnoreCase(ODKU_CLAUSE[i]))) {
+                lexer.reset();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(String str, int begin, int end) {
+        for (int i = begin; i < end; i++) {
+            if (!Character.isDigit(str.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Constructs a {@link QueryInfo} object with a multi-value clause for the specified batch count, that stems from the specified baseQueryInfo.
      *
@@ -619,6 +639,22 @@ public class QueryInfo {
         return this.staticSqlParts;
     }
 
+    /**
+     * Returns the total length, in bytes, of the static sections of the parsed query.
+     *
+     * @return the sum of the lengths of the arrays returned by {@link #getStaticSqlParts()}
+     */
+    public int getStaticSqlPartsLength() {
+        if (this.staticSqlPartsLength < 0) {
+            int length = 0;
+            for (byte[] part : this.staticSqlParts) {
+                length += part.length;
+            }
+            this.staticSqlPartsLength = length;
+        }
+        return this.staticSqlPartsLength;
+    }
+
     /**
      * Can this query be rewritten as a multi-values clause?
      *
@@ -692,8 +728,32 @@ public class QueryInfo {
      * @return the position of the first character of the query
      */
     public static int indexOfStatementKeyword(String sql, boolean noBackslashEscapes) {
-        return StringUtils.indexOfNextAlphanumericChar(0, sql, OPENING_MARKERS, CLOSING_MARKERS, OVERRIDING_MARKERS,
-                noBackslashEscapes ? SearchMode.__MRK_COM_MYM_HNT_WS : SearchMode.__BSE_MRK_COM_MYM_HNT_WS);
+        if (sql == null) {
+            return -1;
+        }
+        return indexOfStatementKeyword(sql, new SqlLexer(sql, noBackslashEscapes));
+    }
+
+    /**
+     * Advances the given lexer to the token that contains the first alphanumeric character of the statement and returns its position.
+     *
+     * @param sql
+     *            the query being lexed
+     * @param lexer
+     *            the {@link SqlLexer} to advance
+     * @return the position of the first character of the query or -1 if not found
+     */
+    private static int indexOfStatementKeyword(String sql, SqlLexer lexer) {
+        while (lexer.next() != TokenType.END) {
+            if (lexer.getTokenType() == TokenType.WORD) {
+                for (int i = lexer.getTokenStart(); i < lexer.getTokenEnd(); i++) {
+                    if (Character.isLetterOrDigit(sql.charAt(i))) {
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
     }
 
     /**
@@ -723,19 +783,18 @@ public class QueryInfo {
      * @return the statement keyword of the query
      */
     public static String getStatementKeyword(String sql, boolean noBackslashEscapes) {
-        StringInspector strInspector = new StringInspector(sql, 0, OPENING_MARKERS, CLOSING_MARKERS, OVERRIDING_MARKERS,
-                noBackslashEscapes ? SearchMode.__MRK_COM_MYM_HNT_WS : SearchMode.__BSE_MRK_COM_MYM_HNT_WS);
-        int begin = strInspector.indexOfNextAlphanumericChar();
+        if (sql == null) {
+            return "";
+        }
+        SqlLexer lexer = new SqlLexer(sql, noBackslashEscapes);
+        int begin = indexOfStatementKeyword(sql, lexer);
         if (begin == -1) {
             return "";
         }
-        int end = 0;
-        int nextChar = begin;
-        do {
-            end = nextChar + 1;
-            strInspector.incrementPosition();
-            nextChar = strInspector.indexOfNextChar();
-        } while (nextChar == end);
+        int end = lexer.getTokenEnd();
+        while (lexer.next() != TokenType.END && lexer.isCodeToken() && lexer.getTokenStart() == end) {
+            end = lexer.getTokenEnd();
+        }
         return sql.substring(begin, end).toUpperCase();
     }
 
@@ -824,7 +883,21 @@ public class QueryInfo {
          * - LOCK; PREPARE; PURGE; RELEASE; RENAME; REPLACE; RESET; RESIGNAL; RESTART; REVOKE; ROLLBACK; SAVEPOINT; SET; SHUTDOWN; SIGNAL; START; STOP;
          * - TRUNCATE; UNINSTALL; UNLOCK; UPDATE; USE; WITH ... DELETE|UPDATE ...; XA [!RECOVER];
          */
-        int statementKeywordPos = indexOfStatementKeyword(sql, noBackslashEscapes);
+        return getQueryReturnType(sql, indexOfStatementKeyword(sql, noBackslashEscapes), noBackslashEscapes);
+    }
+
+    /**
+     * Returns the type of return that can be expected from executing the given query, whose statement keyword was already found.
+     *
+     * @param sql
+     *            the query to check
+     * @param statementKeywordPos
+     *            the position of the statement keyword, as returned by {@link #indexOfStatementKeyword(String, boolean)}
+     * @param noBackslashEscapes
+     *            whether backslash escapes are disabled or not
+     * @return the return type that can be expected from the given query, one of the elements of {@link QueryReturnType}.
+     */
+    private static QueryReturnType getQueryReturnType(String sql, int statementKeywordPos, boolean noBackslashEscapes) {
         if (statementKeywordPos == -1) {
             return QueryReturnType.NONE;
         }
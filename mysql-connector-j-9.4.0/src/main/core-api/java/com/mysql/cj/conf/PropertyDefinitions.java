@@ -457,6 +457,12 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useStreamLengthsInPrepStmts, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useStreamLengthsInPrepStmts"), "3.0.2", CATEGORY_PREPARED_STATEMENTS, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.shareServerPrepStmtMetadata, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.shareServerPrepStmtMetadata"), "9.5.0", CATEGORY_PREPARED_STATEMENTS, Integer.MIN_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.optionalResultSetMetadata, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.optionalResultSetMetadata"), "9.5.0", CATEGORY_PREPARED_STATEMENTS, Integer.MIN_VALUE),
+
                 //
                 // CATEGORY_RESULT_SETS
                 //
@@ -485,6 +491,10 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.populateInsertRowWithDefaultValues, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.populateInsertRowWithDefaultValues"), "5.0.5", CATEGORY_RESULT_SETS, Integer.MIN_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.prefetchStreamingResults, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.prefetchStreamingResults"), "9.5.0", CATEGORY_RESULT_SETS, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.strictUpdates, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.strictUpdates"), "3.0.4", CATEGORY_RESULT_SETS, Integer.MIN_VALUE),
 
@@ -701,6 +711,9 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.enableQueryTimeouts, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.enableQueryTimeouts"), "5.0.6", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.internStringValues, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.internStringValues"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new MemorySizePropertyDefinition(PropertyKey.largeRowSizeThreshold, 2048, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.largeRowSizeThreshold"), "5.1.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
                         Integer.MAX_VALUE),
@@ -720,18 +733,58 @@ public class PropertyDefinitions {
                 new StringPropertyDefinition(PropertyKey.queryInfoCacheFactory, PerConnectionLRUFactory.class.getName(), RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.queryInfoCacheFactory"), "5.1.1", CATEGORY_PERFORMANCE, 12),
 
+                new MemorySizePropertyDefinition(PropertyKey.resultSetSpillThreshold, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.resultSetSpillThreshold"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.adaptiveBatchSize, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.adaptiveBatchSize"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.adaptiveBatchSizeMaxRows, 10000, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.adaptiveBatchSizeMaxRows"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 1,
+                        Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.adaptiveBatchSizeMinRows, 16, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.adaptiveBatchSizeMinRows"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 1,
+                        Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.adaptiveBatchSizeTargetMillis, 100, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.adaptiveBatchSizeTargetMillis"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 1,
+                        Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.rewriteBatchedStatements, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.rewriteBatchedStatements"), "3.1.13", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.threadConfinedResultSets, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.threadConfinedResultSets"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.useCursorFetch, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useCursorFetch"), "5.0.0", CATEGORY_PERFORMANCE, Integer.MAX_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.adaptiveCursorFetch, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.adaptiveCursorFetch"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MAX_VALUE),
+
+                new MemorySizePropertyDefinition(PropertyKey.adaptiveCursorFetchBufferSize, 4 * 1024 * 1024, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.adaptiveCursorFetchBufferSize"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MAX_VALUE, 0,
+                        Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.adaptiveCursorFetchMaxRows, 10000, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.adaptiveCursorFetchMaxRows"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MAX_VALUE, 1,
+                        Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.adaptiveCursorFetchMinRows, 16, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.adaptiveCursorFetchMinRows"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MAX_VALUE, 1,
+                        Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.useLocalSessionState, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useLocalSessionState"), "3.1.7", CATEGORY_PERFORMANCE, 5),
 
                 new BooleanPropertyDefinition(PropertyKey.useLocalTransactionState, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useLocalTransactionState"), "5.1.7", CATEGORY_PERFORMANCE, 6),
 
+                new BooleanPropertyDefinition(PropertyKey.useMultiStatementBatches, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useMultiStatementBatches"), "9.5.0", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.useReadAheadInput, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useReadAheadInput"), "3.1.5", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
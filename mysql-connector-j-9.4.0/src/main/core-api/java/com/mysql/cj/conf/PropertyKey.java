@@ -52,6 +52,14 @@ public enum PropertyKey {
     /** The database value from the properties instance passed to the driver. */
     DBNAME("dbname", false), //
 
+    adaptiveBatchSize("adaptiveBatchSize", true), //
+    adaptiveBatchSizeMaxRows("adaptiveBatchSizeMaxRows", true), //
+    adaptiveBatchSizeMinRows("adaptiveBatchSizeMinRows", true), //
+    adaptiveBatchSizeTargetMillis("adaptiveBatchSizeTargetMillis", true), //
+    adaptiveCursorFetch("adaptiveCursorFetch", true), //
+    adaptiveCursorFetchBufferSize("adaptiveCursorFetchBufferSize", true), //
+    adaptiveCursorFetchMaxRows("adaptiveCursorFetchMaxRows", true), //
+    adaptiveCursorFetchMinRows("adaptiveCursorFetchMinRows", true), //
     allowLoadLocalInfile("allowLoadLocalInfile", true), //
     allowLoadLocalInfileInPath("allowLoadLocalInfileInPath", true), //
     allowMultiQueries("allowMultiQueries", true), //
@@ -132,6 +140,7 @@ public enum PropertyKey {
     includeThreadNamesAsStatementComment("includeThreadNamesAsStatementComment", true), //
     initialTimeout("initialTimeout", true), //
     interactiveClient("interactiveClient", true), //
+    internStringValues("internStringValues", true), //
     jdbcCompliantTruncation("jdbcCompliantTruncation", true), //
     keyManagerFactoryProvider("KeyManagerFactoryProvider", true), //
     keyStoreProvider("keyStoreProvider", true), //
@@ -166,6 +175,7 @@ public enum PropertyKey {
     ociConfigFile("ociConfigFile", true), //
     ociConfigProfile("ociConfigProfile", true), //
     openTelemetry("openTelemetry", true), //
+    optionalResultSetMetadata("optionalResultSetMetadata", true), //
     overrideSupportsIntegrityEnhancementFacility("overrideSupportsIntegrityEnhancementFacility", true), //
     packetDebugBufferSize("packetDebugBufferSize", true), //
     padCharsWithSpace("padCharsWithSpace", true), //
@@ -177,6 +187,7 @@ public enum PropertyKey {
     pedantic("pedantic", true), //
     pinGlobalTxToPhysicalConnection("pinGlobalTxToPhysicalConnection", true), //
     populateInsertRowWithDefaultValues("populateInsertRowWithDefaultValues", true), //
+    prefetchStreamingResults("prefetchStreamingResults", true), //
     prepStmtCacheSize("prepStmtCacheSize", true), //
     prepStmtCacheSqlLimit("prepStmtCacheSqlLimit", true), //
     preserveInstants("preserveInstants", true), //
@@ -196,6 +207,7 @@ public enum PropertyKey {
     requireSSL("requireSSL", true), //
     resourceId("resourceId", true), //
     resultSetSizeThreshold("resultSetSizeThreshold", true), //
+    resultSetSpillThreshold("resultSetSpillThreshold", true), //
     retriesAllDown("retriesAllDown", true), //
     rewriteBatchedStatements("rewriteBatchedStatements", true), //
     rollbackOnPooledClose("rollbackOnPooledClose", true), //
@@ -209,6 +221,7 @@ public enum PropertyKey {
     serverConfigCacheFactory("serverConfigCacheFactory", true), //
     serverRSAPublicKeyFile("serverRSAPublicKeyFile", true), //
     sessionVariables("sessionVariables", true), //
+    shareServerPrepStmtMetadata("shareServerPrepStmtMetadata", true), //
     slowQueryThresholdMillis("slowQueryThresholdMillis", true), //
     slowQueryThresholdNanos("slowQueryThresholdNanos", true), //
     socketFactory("socketFactory", true), //
@@ -224,6 +237,7 @@ public enum PropertyKey {
     tcpRcvBuf("tcpRcvBuf", true), //
     tcpSndBuf("tcpSndBuf", true), //
     tcpTrafficClass("tcpTrafficClass", true), //
+    threadConfinedResultSets("threadConfinedResultSets", true), //
     tinyInt1isBit("tinyInt1isBit", true), //
     tlsCiphersuites("tlsCiphersuites", "enabledSSLCipherSuites", true), //
     tlsVersions("tlsVersions", "enabledTLSProtocols", true), //
@@ -246,6 +260,7 @@ public enum PropertyKey {
     useInformationSchema("useInformationSchema", true), //
     useLocalSessionState("useLocalSessionState", true), //
     useLocalTransactionState("useLocalTransactionState", true), //
+    useMultiStatementBatches("useMultiStatementBatches", true), //
     useNanosForElapsedTime("useNanosForElapsedTime", true), //
     useOldAliasMetadataBehavior("useOldAliasMetadataBehavior", true), //
     useOnlyServerErrorMessages("useOnlyServerErrorMessages", true), //
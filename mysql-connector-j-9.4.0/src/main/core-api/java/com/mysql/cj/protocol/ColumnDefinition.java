@@ -22,6 +22,7 @@ package com.mysql.cj.protocol;
 
 import java.util.Map;
 
+import com.mysql.cj.result.ColumnLabelIndex;
 import com.mysql.cj.result.Field;
 
 /**
@@ -47,19 +48,24 @@ public interface ColumnDefinition extends ProtocolEntity {
 
     public Map<String, Integer> getColumnLabelToIndex();
 
-    void setColumnLabelToIndex(Map<String, Integer> columnLabelToIndex);
-
     public Map<String, Integer> getFullColumnNameToIndex();
 
-    void setFullColumnNameToIndex(Map<String, Integer> fullColNameToIndex);
-
     public Map<String, Integer> getColumnNameToIndex();
 
-    void setColumnNameToIndex(Map<String, Integer> colNameToIndex);
-
-    public Map<String, Integer> getColumnToIndexCache();
+    /**
+     * Returns the index used by {@link #findColumn(String, boolean, int)}, if it was already built.
+     *
+     * @return the column label index or null if the index mapping wasn't built yet
+     */
+    ColumnLabelIndex getColumnLabelIndex();
 
-    public void setColumnToIndexCache(Map<String, Integer> columnToIndexCache);
+    /**
+     * Sets a previously built index, e.g., one shared by result sets having the same columns, instead of building a new one.
+     *
+     * @param columnLabelIndex
+     *            index built for the same fields as the ones in this ColumnDefinition
+     */
+    void setColumnLabelIndex(ColumnLabelIndex columnLabelIndex);
 
     void initializeFrom(ColumnDefinition columnDefinition);
 
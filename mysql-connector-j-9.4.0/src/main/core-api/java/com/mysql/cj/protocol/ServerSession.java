@@ -118,6 +118,8 @@ public interface ServerSession {
 
     boolean supportsQueryAttributes();
 
+    boolean supportsOptionalResultSetMetadata();
+
     Map<String, String> getServerVariables();
 
     String getServerVariable(String name);
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+/**
+ * A batch of result set rows decoded into one {@link ColumnVector} per column. A batch is reused for reading subsequent rows, so that its arrays are allocated
+ * only once per result set.
+ */
+public class ColumnBatch {
+
+    private final ColumnVector[] columns;
+    private final int capacity;
+    private int size = 0;
+
+    /**
+     * Creates a batch for the given columns.
+     *
+     * @param fields
+     *            result set columns
+     * @param capacity
+     *            maximum number of rows in the batch
+     */
+    public ColumnBatch(Field[] fields, int capacity) {
+        this.capacity = capacity;
+        this.columns = new ColumnVector[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            this.columns[i] = new ColumnVector(fields[i], capacity);
+        }
+    }
+
+    /**
+     * Returns the vector of the given column.
+     *
+     * @param columnIndex
+     *            0-based column index
+     * @return the column vector
+     */
+    public ColumnVector getColumn(int columnIndex) {
+        return this.columns[columnIndex];
+    }
+
+    public int getColumnCount() {
+        return this.columns.length;
+    }
+
+    /**
+     * Checks if the rows of a result set having the given columns can be read into this batch.
+     *
+     * @param fields
+     *            result set columns
+     * @return true if there is a vector for each column and each one accepts the values of its column
+     * @see ColumnVector#accepts(Field)
+     */
+    public boolean accepts(Field[] fields) {
+        if (fields.length != this.columns.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (!this.columns[i].accepts(fields[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of rows in this batch.
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isFull() {
+        return this.size == this.capacity;
+    }
+
+    /**
+     * Empties this batch, keeping its arrays for the next rows.
+     */
+    public void clear() {
+        for (ColumnVector column : this.columns) {
+            column.clear();
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Marks the end of a row, after a value was appended to each column.
+     */
+    public void rowAppended() {
+        this.size++;
+    }
+
+}
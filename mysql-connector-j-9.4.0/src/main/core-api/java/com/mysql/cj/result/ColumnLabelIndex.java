@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable mapping of column labels, column names and fully-qualified column names to column indices, built once per result set shape.
+ *
+ * Instances are safe for concurrent use, so the same index can be shared by all the result sets having the same columns, e.g., the results of successive
+ * executions of a statement. Lookups are resolved by the case-insensitive maps once, and then memoized in exact-match hash maps, so repeated label-based
+ * lookups cost a single hash probe.
+ */
+public final class ColumnLabelIndex {
+
+    private final String[] columnLabels;
+    private final String[] columnNames;
+    private final String[] fullColumnNames;
+
+    private final Map<String, Integer> columnLabelToIndex;
+    private final Map<String, Integer> columnNameToIndex;
+    private final Map<String, Integer> fullColumnNameToIndex;
+
+    /** Memoized lookups, one map for each value of 'useColumnNamesInFindColumn'. */
+    private final Map<String, Integer> labelLookupCache;
+    private final Map<String, Integer> nameLookupCache;
+    private final int maxCacheSize;
+
+    /**
+     * Builds the index for the given fields.
+     *
+     * @param fields
+     *            the result set fields
+     */
+    public ColumnLabelIndex(Field[] fields) {
+        int numFields = fields.length;
+        this.columnLabels = new String[numFields];
+        this.columnNames = new String[numFields];
+        this.fullColumnNames = new String[numFields];
+
+        Map<String, Integer> labelToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, Integer> nameToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, Integer> fullNameToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        // We do this in reverse order, so that the 'first' column with a given name ends up as the final mapping in the hashtable...
+        //
+        // Quoting the JDBC Spec:
+        //
+        // "Column names used as input to getter methods are case insensitive. When a getter method is called with a column name and several columns have the
+        // same name, the value of the first matching column will be returned. "
+        //
+        for (int i = numFields - 1; i >= 0; i--) {
+            Integer index = Integer.valueOf(i);
+            this.columnLabels[i] = fields[i].getName();
+            this.columnNames[i] = fields[i].getOriginalName();
+            this.fullColumnNames[i] = fields[i].getFullName();
+
+            if (this.columnLabels[i] != null) {
+                labelToIndex.put(this.columnLabels[i], index);
+            }
+
+            if (this.fullColumnNames[i] != null) {
+                fullNameToIndex.put(this.fullColumnNames[i], index);
+            }
+
+            if (this.columnNames[i] != null) {
+                nameToIndex.put(this.columnNames[i], index);
+            }
+        }
+
+        this.columnLabelToIndex = Collections.unmodifiableMap(labelToIndex);
+        this.columnNameToIndex = Collections.unmodifiableMap(nameToIndex);
+        this.fullColumnNameToIndex = Collections.unmodifiableMap(fullNameToIndex);
+
+        // Lookups by arbitrary strings are memoized too, but only up to a limit, as this index may live as long as the statement it belongs to.
+        this.maxCacheSize = 4 * numFields + 16;
+        this.labelLookupCache = new ConcurrentHashMap<>(2 * numFields + 1);
+        this.nameLookupCache = new ConcurrentHashMap<>(2 * numFields + 1);
+
+        // Column labels as returned by the server are what label-based getters are typically called with, so resolve them upfront.
+        for (String label : this.columnLabels) {
+            if (label != null) {
+                this.labelLookupCache.put(label, resolve(label, false));
+                this.nameLookupCache.put(label, resolve(label, true));
+            }
+        }
+    }
+
+    /**
+     * Checks whether this index can be used for the given fields, i.e., whether they have the same labels, names and full names, in the same order, as the
+     * fields this index was built for.
+     *
+     * @param fields
+     *            the result set fields
+     * @return true if this index describes the given fields
+     */
+    public boolean matches(Field[] fields) {
+        if (fields == null || fields.length != this.columnLabels.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (!Objects.equals(this.columnLabels[i], fields[i].getName()) || !Objects.equals(this.columnNames[i], fields[i].getOriginalName())
+                    || !Objects.equals(this.fullColumnNames[i], fields[i].getFullName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the index of the first column matching the given name.
+     *
+     * @param columnName
+     *            column label, column name or fully-qualified column name
+     * @param useColumnNamesInFindColumn
+     *            whether to also match column names, and not only column labels
+     * @return the 0-based column index or -1 if there is no such column
+     */
+    public int findColumn(String columnName, boolean useColumnNamesInFindColumn) {
+        Map<String, Integer> cache = useColumnNamesInFindColumn ? this.nameLookupCache : this.labelLookupCache;
+
+        Integer index = cache.get(columnName);
+
+        if (index != null) {
+            return index.intValue();
+        }
+
+        index = resolve(columnName, useColumnNamesInFindColumn);
+
+        if (index.intValue() != -1 && cache.size() < this.maxCacheSize) {
+            cache.put(columnName, index);
+        }
+
+        return index.intValue();
+    }
+
+    private Integer resolve(String columnName, boolean useColumnNamesInFindColumn) {
+        Integer index = this.columnLabelToIndex.get(columnName);
+
+        if (index == null && useColumnNamesInFindColumn) {
+            index = this.columnNameToIndex.get(columnName);
+        }
+
+        if (index == null) {
+            index = this.fullColumnNameToIndex.get(columnName);
+        }
+
+        if (index != null) {
+            return index;
+        }
+
+        // Try this inefficient way, now
+
+        for (int i = 0; i < this.columnLabels.length; i++) {
+            if (columnName.equalsIgnoreCase(this.columnLabels[i]) || columnName.equalsIgnoreCase(this.fullColumnNames[i])) {
+                return Integer.valueOf(i);
+            }
+        }
+
+        return Integer.valueOf(-1);
+    }
+
+    public Map<String, Integer> getColumnLabelToIndex() {
+        return this.columnLabelToIndex;
+    }
+
+    public Map<String, Integer> getColumnNameToIndex() {
+        return this.columnNameToIndex;
+    }
+
+    public Map<String, Integer> getFullColumnNameToIndex() {
+        return this.fullColumnNameToIndex;
+    }
+
+}
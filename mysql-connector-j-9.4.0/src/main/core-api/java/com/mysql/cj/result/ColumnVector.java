@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Objects;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * The values of one column for a batch of rows, held in a primitive array according to the column {@link Kind}, with a bitmap marking the rows having SQL NULL
+ * values.
+ * <p>
+ * Integer and floating point columns are held in int[], long[] or double[] arrays, where NULL values are held as zeros. Any other column is held as the
+ * concatenation of the values bytes, delimited by an offsets array, so that the value of row <code>i</code> is found in the bytes from
+ * <code>offsets[i]</code> to <code>offsets[i + 1]</code>. Values of character and binary columns are held exactly as received from the server, in the
+ * encoding of the column. Values of other types, such as temporal or DECIMAL columns, are held as their string representation, in the same encoding.
+ */
+public class ColumnVector {
+
+    /**
+     * The type of array holding the values of a column.
+     */
+    public enum Kind {
+        INT, LONG, DOUBLE, BYTES;
+
+        /**
+         * Returns the kind of vector used for the given column type.
+         *
+         * @param mysqlType
+         *            column type
+         * @return vector kind
+         */
+        public static Kind forType(MysqlType mysqlType) {
+            switch (mysqlType) {
+                case BOOLEAN:
+                case TINYINT:
+                case TINYINT_UNSIGNED:
+                case SMALLINT:
+                case SMALLINT_UNSIGNED:
+                case MEDIUMINT:
+                case MEDIUMINT_UNSIGNED:
+                case INT:
+                case YEAR:
+                    return INT;
+                case INT_UNSIGNED:
+                case BIGINT:
+                case BIGINT_UNSIGNED: // as the two's complement of values greater than Long.MAX_VALUE, see Long.toUnsignedString()
+                    return LONG;
+                case FLOAT:
+                case FLOAT_UNSIGNED:
+                case DOUBLE:
+                case DOUBLE_UNSIGNED:
+                    return DOUBLE;
+                default:
+                    return BYTES;
+            }
+        }
+    }
+
+    private final Field field;
+    private final Kind kind;
+    private int size = 0;
+
+    private long[] nulls;
+    private int[] intValues;
+    private long[] longValues;
+    private double[] doubleValues;
+    private int[] offsets;
+    private byte[] data;
+
+    /**
+     * Creates a vector for the given column.
+     *
+     * @param field
+     *            column metadata
+     * @param capacity
+     *            maximum number of rows
+     */
+    public ColumnVector(Field field, int capacity) {
+        this.field = field;
+        this.kind = Kind.forType(field.getMysqlType());
+        this.nulls = new long[(capacity + 63) >>> 6];
+
+        switch (this.kind) {
+            case INT:
+                this.intValues = new int[capacity];
+                break;
+            case LONG:
+                this.longValues = new long[capacity];
+                break;
+            case DOUBLE:
+                this.doubleValues = new double[capacity];
+                break;
+            default:
+                this.offsets = new int[capacity + 1];
+                this.data = new byte[Math.max(16, capacity * 16)];
+                break;
+        }
+    }
+
+    public Field getField() {
+        return this.field;
+    }
+
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    /**
+     * Checks if the values of the given column can be read into this vector, i.e., they are held in the same {@link Kind} of array, with the same
+     * signedness for {@link Kind#LONG} values and the same encoding for {@link Kind#BYTES} values.
+     *
+     * @param otherField
+     *            column metadata
+     * @return true if the values of the column can be read into this vector
+     */
+    public boolean accepts(Field otherField) {
+        if (otherField == this.field) {
+            return true;
+        }
+        if (Kind.forType(otherField.getMysqlType()) != this.kind) {
+            return false;
+        }
+        switch (this.kind) {
+            case LONG:
+                return (otherField.getMysqlType() == MysqlType.BIGINT_UNSIGNED) == (this.field.getMysqlType() == MysqlType.BIGINT_UNSIGNED);
+            case BYTES:
+                return Objects.equals(otherField.getCharset(), this.field.getCharset());
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Returns the number of rows held in this vector.
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether the value of the given row is SQL NULL.
+     *
+     * @param row
+     *            0-based row index in this batch
+     * @return true if the value is SQL NULL
+     */
+    public boolean isNull(int row) {
+        return (this.nulls[row >>> 6] & 1L << row) != 0;
+    }
+
+    /**
+     * Returns the bitmap of NULL values, where the value of row <code>i</code> is NULL if the bit <code>i % 64</code> of the word <code>i / 64</code> is set.
+     *
+     * @return the bitmap words
+     */
+    public long[] getNullBitmap() {
+        return this.nulls;
+    }
+
+    /**
+     * Returns the values of an {@link Kind#INT} column. Only the first {@link #size()} elements are meaningful.
+     *
+     * @return the values array
+     */
+    public int[] getIntValues() {
+        return this.intValues;
+    }
+
+    /**
+     * Returns the values of a {@link Kind#LONG} column. Only the first {@link #size()} elements are meaningful.
+     *
+     * @return the values array
+     */
+    public long[] getLongValues() {
+        return this.longValues;
+    }
+
+    /**
+     * Returns the values of a {@link Kind#DOUBLE} column. Only the first {@link #size()} elements are meaningful.
+     *
+     * @return the values array
+     */
+    public double[] getDoubleValues() {
+        return this.doubleValues;
+    }
+
+    /**
+     * Returns the value offsets of a {@link Kind#BYTES} column. Only the first {@link #size()} + 1 elements are meaningful.
+     *
+     * @return the offsets array
+     */
+    public int[] getOffsets() {
+        return this.offsets;
+    }
+
+    /**
+     * Returns the bytes of the values of a {@link Kind#BYTES} column.
+     *
+     * @return the values bytes
+     */
+    public byte[] getData() {
+        return this.data;
+    }
+
+    public int getInt(int row) {
+        return this.intValues[row];
+    }
+
+    public long getLong(int row) {
+        return this.longValues[row];
+    }
+
+    public double getDouble(int row) {
+        return this.doubleValues[row];
+    }
+
+    /**
+     * Returns a copy of the value bytes of the given row of a {@link Kind#BYTES} column.
+     *
+     * @param row
+     *            0-based row index in this batch
+     * @return the value bytes or null if the value is SQL NULL
+     */
+    public byte[] getBytes(int row) {
+        return isNull(row) ? null : Arrays.copyOfRange(this.data, this.offsets[row], this.offsets[row + 1]);
+    }
+
+    /**
+     * Decodes the value of the given row of a {@link Kind#BYTES} column using the column encoding.
+     *
+     * @param row
+     *            0-based row index in this batch
+     * @return the value or null if the value is SQL NULL
+     */
+    public String getString(int row) {
+        return isNull(row) ? null : StringUtils.toString(this.data, this.offsets[row], this.offsets[row + 1] - this.offsets[row], this.field.getCharset());
+    }
+
+    /**
+     * Empties this vector, keeping its arrays for the next batch.
+     */
+    public void clear() {
+        Arrays.fill(this.nulls, 0L);
+        this.size = 0;
+    }
+
+    public void appendNull() {
+        this.nulls[this.size >>> 6] |= 1L << this.size;
+        switch (this.kind) {
+            case INT:
+                this.intValues[this.size] = 0;
+                break;
+            case LONG:
+                this.longValues[this.size] = 0;
+                break;
+            case DOUBLE:
+                this.doubleValues[this.size] = 0;
+                break;
+            default:
+                this.offsets[this.size + 1] = this.offsets[this.size];
+                break;
+        }
+        this.size++;
+    }
+
+    public void appendInt(int value) {
+        this.intValues[this.size++] = value;
+    }
+
+    public void appendLong(long value) {
+        this.longValues[this.size++] = value;
+    }
+
+    public void appendDouble(double value) {
+        this.doubleValues[this.size++] = value;
+    }
+
+    public void appendBytes(byte[] bytes, int offset, int length) {
+        int start = this.offsets[this.size];
+        int end = start + length;
+        if (end > this.data.length) {
+            this.data = Arrays.copyOf(this.data, Math.max(end, this.data.length * 2));
+        }
+        System.arraycopy(bytes, offset, this.data, start, length);
+        this.offsets[++this.size] = end;
+    }
+
+    /**
+     * Appends the given string representation of a value of a {@link Kind#BYTES} column, encoded in the column encoding.
+     *
+     * @param value
+     *            value
+     */
+    public void appendString(String value) {
+        Charset cs = this.field.getCharset();
+        byte[] bytes = cs == null ? value.getBytes() : value.getBytes(cs);
+        appendBytes(bytes, 0, bytes.length);
+    }
+
+}
@@ -20,19 +20,30 @@
 
 package com.mysql.cj.result;
 
+import java.nio.charset.Charset;
+
 import com.mysql.cj.MysqlType;
 import com.mysql.cj.protocol.ProtocolEntity;
 import com.mysql.cj.util.LazyString;
+import com.mysql.cj.util.StringUtils;
+import com.mysql.cj.util.StringValueCache;
 
 /**
  * Field is a class used to describe fields in a ResultSet
  */
 public class Field implements ProtocolEntity {
 
+    /** Decoded schema and table names, shared by the fields of all result sets. */
+    private static final StringValueCache SHARED_NAMES = new StringValueCache(1024, 64);
+
     private int collationIndex = 0;
 
     private String encoding = "US-ASCII";
 
+    private Charset charset = null; // resolved from the encoding on first use
+
+    private StringValueCache stringValueCache = null;
+
     private int colDecimals;
 
     private short colFlag;
@@ -43,6 +54,12 @@ public class Field implements ProtocolEntity {
     private LazyString columnName = null;
     private LazyString originalColumnName = null;
 
+    // Column definition the names are decoded from on first use, if they weren't given to the constructor.
+    private byte[] definition = null;
+    private int namesOffset = 0;
+    private String metadataEncoding = null;
+    private volatile boolean namesDecoded = true;
+
     private String fullName = null;
 
     private long length; // Internal length of the field;
@@ -77,6 +94,68 @@ public class Field implements ProtocolEntity {
         adjustFlagsByMysqlType();
     }
 
+    /**
+     * Creates a field from a column definition whose names are only decoded when first requested.
+     *
+     * @param definition
+     *            buffer holding the column definition
+     * @param namesOffset
+     *            position, in the buffer, of the length-encoded schema name, which the table, original table, column and original column names follow
+     * @param metadataEncoding
+     *            encoding of the names
+     * @param length
+     *            length of the column
+     * @param mysqlTypeId
+     *            MySQL type ID in legacy protocol
+     * @param colFlag
+     *            column flags
+     * @param colDecimals
+     *            number of decimals
+     * @param collationIndex
+     *            the MySQL collation/character set index
+     * @param encoding
+     *            encoding of data in this field
+     * @param mysqlType
+     *            {@link MysqlType}
+     */
+    public Field(byte[] definition, int namesOffset, String metadataEncoding, long length, int mysqlTypeId, short colFlag, int colDecimals, int collationIndex,
+            String encoding, MysqlType mysqlType) {
+        this(null, null, null, null, null, length, mysqlTypeId, colFlag, colDecimals, collationIndex, encoding, mysqlType);
+        this.definition = definition;
+        this.namesOffset = namesOffset;
+        this.metadataEncoding = metadataEncoding;
+        this.namesDecoded = false;
+    }
+
+    /**
+     * Creates a copy of the given field that can be changed, e.g., by {@link #setFlags(short)}, without changing the original.
+     *
+     * @param other
+     *            the field to copy
+     */
+    public Field(Field other) {
+        boolean otherNamesDecoded = other.namesDecoded; // read first, the names are written before it is set
+        this.collationIndex = other.collationIndex;
+        this.encoding = other.encoding;
+        this.charset = other.charset;
+        this.colDecimals = other.colDecimals;
+        this.colFlag = other.colFlag;
+        this.definition = other.definition;
+        this.namesOffset = other.namesOffset;
+        this.metadataEncoding = other.metadataEncoding;
+        if (otherNamesDecoded) {
+            this.databaseName = other.databaseName;
+            this.tableName = other.tableName;
+            this.originalTableName = other.originalTableName;
+            this.columnName = other.columnName;
+            this.originalColumnName = other.originalColumnName;
+        }
+        this.namesDecoded = otherNamesDecoded;
+        this.length = other.length;
+        this.mysqlTypeId = other.mysqlTypeId;
+        this.mysqlType = other.mysqlType;
+    }
+
     private void adjustFlagsByMysqlType() {
         switch (this.mysqlType) {
             case BIT:
@@ -168,11 +247,92 @@ public class Field implements ProtocolEntity {
         return this.encoding;
     }
 
+    /**
+     * Returns the charset of the Java encoding for this field, looked up once and reused for all the values of this field.
+     *
+     * @return the charset or null if the encoding is null, meaning the platform charset
+     */
+    public Charset getCharset() {
+        if (this.charset == null && this.encoding != null) {
+            this.charset = StringUtils.toCharset(this.encoding);
+        }
+        return this.charset;
+    }
+
+    /**
+     * Returns the cache of decoded short values of this field, see {@link StringValueCache}.
+     *
+     * @return the cache
+     */
+    public StringValueCache getStringValueCache() {
+        if (this.stringValueCache == null) {
+            this.stringValueCache = new StringValueCache();
+        }
+        return this.stringValueCache;
+    }
+
+    /**
+     * Tells whether this field was created from a column definition with exactly the given bytes, so that it describes the same column the same way.
+     *
+     * @param buffer
+     *            buffer holding a column definition, starting at its first byte
+     * @param length
+     *            length of the column definition
+     * @return true if this field was created from the same bytes, false if they differ or this field wasn't created from a column definition
+     */
+    public boolean isDefinedBy(byte[] buffer, int length) {
+        if (this.definition == null || this.definition.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (this.definition[i] != buffer[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureNamesDecoded() {
+        if (!this.namesDecoded) {
+            decodeNames();
+        }
+    }
+
+    private synchronized void decodeNames() {
+        if (this.namesDecoded) {
+            return;
+        }
+        Charset metadataCharset = StringUtils.toCharset(this.metadataEncoding);
+        LazyString[] names = new LazyString[5];
+        int position = this.namesOffset;
+        for (int i = 0; i < names.length; i++) {
+            int length = this.definition[position++] & 0xff;
+            if (length >= 0xfc) { // length-encoded integer longer than one byte; names never need more than three
+                int size = length == 0xfc ? 2 : 3;
+                length = 0;
+                for (int b = 0; b < size; b++) {
+                    length |= (this.definition[position++] & 0xff) << 8 * b;
+                }
+            }
+            // Schema and table names repeat across fields and queries, so they are shared, while column names are left to decode on demand.
+            names[i] = i < 3 && length > 0 ? new LazyString(SHARED_NAMES.toString(this.definition, position, length, metadataCharset))
+                    : new LazyString(this.definition, position, length, this.metadataEncoding);
+            position += length;
+        }
+        this.databaseName = names[0];
+        this.tableName = names[1];
+        this.originalTableName = names[2];
+        this.columnName = names[3];
+        this.originalColumnName = names[4];
+        this.namesDecoded = true;
+    }
+
     public String getColumnLabel() {
         return getName();
     }
 
     public String getDatabaseName() {
+        ensureNamesDecoded();
         return this.databaseName.toString();
     }
 
@@ -182,6 +342,7 @@ public class Field implements ProtocolEntity {
 
     public String getFullName() {
         if (this.fullName == null) {
+            ensureNamesDecoded();
             StringBuilder fullNameBuf = new StringBuilder(this.tableName.length() + 1 + this.columnName.length());
             fullNameBuf.append(this.tableName.toString());
             fullNameBuf.append('.');
@@ -205,14 +366,17 @@ public class Field implements ProtocolEntity {
     }
 
     public String getName() {
+        ensureNamesDecoded();
         return this.columnName.toString();
     }
 
     public String getOriginalName() {
+        ensureNamesDecoded();
         return this.originalColumnName.toString();
     }
 
     public String getOriginalTableName() {
+        ensureNamesDecoded();
         return this.originalTableName.toString();
     }
 
@@ -221,6 +385,7 @@ public class Field implements ProtocolEntity {
     }
 
     public String getTableName() {
+        ensureNamesDecoded();
         return this.tableName.toString();
     }
 
@@ -257,6 +422,7 @@ public class Field implements ProtocolEntity {
     }
 
     public boolean isFromFunction() {
+        ensureNamesDecoded();
         return this.originalTableName.length() == 0;
     }
 
@@ -267,6 +433,7 @@ public class Field implements ProtocolEntity {
      *         statement.
      */
     public boolean isReadOnly() {
+        ensureNamesDecoded();
         return this.originalColumnName.length() == 0 && this.originalTableName.length() == 0;
     }
 
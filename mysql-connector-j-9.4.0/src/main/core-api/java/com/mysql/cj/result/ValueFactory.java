@@ -49,6 +49,72 @@ public interface ValueFactory<T> {
 
     T createFromDatetime(InternalTimestamp its);
 
+    /**
+     * Create result value from the fields of a DATE value. Decoders call this method instead of {@link #createFromDate(InternalDate)}, so that factories which
+     * don't need the intermediate form, nor any time zone conversion, can build their values directly.
+     *
+     * @param year
+     *            year
+     * @param month
+     *            month, 1-based, or 0 in zero dates
+     * @param day
+     *            day of month, or 0 in zero dates
+     * @return T object
+     */
+    default T createFromDate(int year, int month, int day) {
+        return createFromDate(new InternalDate(year, month, day));
+    }
+
+    /**
+     * Create result value from the fields of a TIMESTAMP value, see {@link #createFromDate(int, int, int)}.
+     *
+     * @param year
+     *            year
+     * @param month
+     *            month, 1-based, or 0 in zero dates
+     * @param day
+     *            day of month, or 0 in zero dates
+     * @param hours
+     *            hours
+     * @param minutes
+     *            minutes
+     * @param seconds
+     *            seconds
+     * @param nanos
+     *            nanoseconds
+     * @param scale
+     *            fractional seconds precision of the column
+     * @return T object
+     */
+    default T createFromTimestamp(int year, int month, int day, int hours, int minutes, int seconds, int nanos, int scale) {
+        return createFromTimestamp(new InternalTimestamp(year, month, day, hours, minutes, seconds, nanos, scale));
+    }
+
+    /**
+     * Create result value from the fields of a DATETIME value, see {@link #createFromDate(int, int, int)}.
+     *
+     * @param year
+     *            year
+     * @param month
+     *            month, 1-based, or 0 in zero dates
+     * @param day
+     *            day of month, or 0 in zero dates
+     * @param hours
+     *            hours
+     * @param minutes
+     *            minutes
+     * @param seconds
+     *            seconds
+     * @param nanos
+     *            nanoseconds
+     * @param scale
+     *            fractional seconds precision of the column
+     * @return T object
+     */
+    default T createFromDatetime(int year, int month, int day, int hours, int minutes, int seconds, int nanos, int scale) {
+        return createFromDatetime(new InternalTimestamp(year, month, day, hours, minutes, seconds, nanos, scale));
+    }
+
     T createFromYear(long l);
 
     T createFromLong(long l);
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.ArrayDeque;
+import java.util.function.Predicate;
+
+/**
+ * The entries of a cache in the order the clock algorithm looks at them to choose the next one to evict: reads only flag an entry, and a sweep gives the
+ * entries flagged since they were last looked at a second chance by clearing their flag and moving them to the tail.
+ * <p>
+ * Not thread-safe, except for {@link Entry#markAccessed()}: callers serialize all the other operations.
+ *
+ * @param <E>
+ *            entry type
+ */
+final class ClockQueue<E extends ClockQueue.Entry> {
+
+    /**
+     * An entry with the read flag looked at by the sweep.
+     */
+    abstract static class Entry {
+
+        volatile boolean accessed = false; // read since last looked at by a sweep
+
+        /**
+         * Flags the entry as read. Doesn't write the flag if already set, so that reads of the same entry by many threads don't contend.
+         */
+        final void markAccessed() {
+            if (!this.accessed) {
+                this.accessed = true;
+            }
+        }
+
+    }
+
+    private final ArrayDeque<E> entries = new ArrayDeque<>();
+
+    /**
+     * Adds an entry at the tail, not flagged as read, so that it is looked at after all the others.
+     *
+     * @param entry
+     *            entry
+     */
+    void add(E entry) {
+        this.entries.addLast(entry);
+    }
+
+    /**
+     * Moves the entries read since they were last looked at from the head to the tail, clearing their flag, and drops the entries no longer cached, until an
+     * entry that wasn't read is at the head or all entries were looked at once. In the latter case the head is the entry whose flag was cleared first.
+     *
+     * @param cached
+     *            tells whether an entry is still cached
+     * @return the entry at the head, to be evicted next, or null if there are no cached entries
+     */
+    E sweep(Predicate<? super E> cached) {
+        for (int i = this.entries.size(); i > 0; i--) {
+            E entry = this.entries.peekFirst();
+            if (!cached.test(entry)) {
+                this.entries.pollFirst();
+            } else if (entry.accessed) {
+                entry.accessed = false;
+                this.entries.addLast(this.entries.pollFirst());
+            } else {
+                return entry;
+            }
+        }
+        while (!this.entries.isEmpty() && !cached.test(this.entries.peekFirst())) {
+            this.entries.pollFirst();
+        }
+        return this.entries.peekFirst();
+    }
+
+    /**
+     * Removes the entry at the head, the one returned by the last {@link #sweep(Predicate)}.
+     *
+     * @return the entry, or null if empty
+     */
+    E pollFirst() {
+        return this.entries.pollFirst();
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param entry
+     *            entry
+     */
+    void remove(E entry) {
+        this.entries.removeFirstOccurrence(entry);
+    }
+
+    /**
+     * Removes the entries matching the given predicate.
+     *
+     * @param filter
+     *            predicate
+     */
+    void removeIf(Predicate<? super E> filter) {
+        this.entries.removeIf(filter);
+    }
+
+    void clear() {
+        this.entries.clear();
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    boolean isEmpty() {
+        return this.entries.isEmpty();
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * A bounded cache for concurrent use that evicts entries not read recently, like {@link LRUCache}, but whose reads and removals don't take any lock.
+ * <p>
+ * Recency is approximated with the clock algorithm: reads only flag the entry as read; when the cache is full, writers look at entries in insertion order,
+ * clearing the flag of the entries read since they were last looked at and moving them to the end, and evict the first entry not read. A new entry joins
+ * the clock after the eviction it causes, so it's never evicted in its own place. Writes are serialized by a lock.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public class ConcurrentLRUCache<K, V> {
+
+    private static final class Node<K, V> extends ClockQueue.Entry {
+
+        final K key;
+        final V value;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ClockQueue<Node<K, V>> clock = new ClockQueue<>(); // may hold removed or replaced nodes, skipped when found
+    private final int maxElements;
+    private final BiConsumer<K, V> evictionListener;
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxSize
+     *            maximum number of entries
+     */
+    public ConcurrentLRUCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    /**
+     * Creates a cache that notifies the given listener of the entries it evicts.
+     *
+     * @param maxSize
+     *            maximum number of entries
+     * @param evictionListener
+     *            called with the key and value of each evicted entry, after the entry is evicted, by the thread that caused the eviction
+     */
+    public ConcurrentLRUCache(int maxSize, BiConsumer<K, V> evictionListener) {
+        this.maxElements = Math.max(maxSize, 0);
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Returns the value cached for the given key.
+     *
+     * @param key
+     *            key
+     * @return the value or null if not cached
+     */
+    public V get(K key) {
+        Node<K, V> node = this.data.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.markAccessed();
+        return node.value;
+    }
+
+    /**
+     * Caches a value, evicting the entries not read recently if the cache is full.
+     *
+     * @param key
+     *            key
+     * @param value
+     *            value
+     * @return the value previously cached for the key, or null
+     */
+    public V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> previous;
+        List<Node<K, V>> evicted = null;
+
+        this.evictionLock.lock();
+        try {
+            previous = this.data.put(key, node);
+            while (this.data.size() > this.maxElements) {
+                // The new entry isn't in the clock yet, so it's only evicted when there's no other entry, i.e., when the cache can't hold any.
+                Node<K, V> victim = this.clock.sweep(this::isCached);
+                if (victim == null) {
+                    victim = node;
+                } else {
+                    this.clock.pollFirst();
+                }
+                if (this.data.remove(victim.key, victim)) {
+                    if (evicted == null) {
+                        evicted = new ArrayList<>(1);
+                    }
+                    evicted.add(victim);
+                }
+                if (victim == node) {
+                    break;
+                }
+            }
+            if (isCached(node)) {
+                this.clock.add(node);
+            }
+            if (this.clock.size() > 2 * this.data.size() + 16) {
+                // Too many removed entries are left in the clock, as removals don't update it.
+                this.clock.removeIf(n -> !isCached(n));
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+
+        if (evicted != null && this.evictionListener != null) {
+            for (Node<K, V> n : evicted) {
+                this.evictionListener.accept(n.key, n.value);
+            }
+        }
+        return previous == null ? null : previous.value;
+    }
+
+    private boolean isCached(Node<K, V> node) {
+        return this.data.get(node.key) == node;
+    }
+
+    /**
+     * Removes an entry, without notifying the eviction listener.
+     *
+     * @param key
+     *            key
+     * @return the removed value, or null if none was cached
+     */
+    public V remove(K key) {
+        Node<K, V> node = this.data.remove(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Removes all entries, without notifying the eviction listener.
+     */
+    public void clear() {
+        this.evictionLock.lock();
+        try {
+            this.data.clear();
+            this.clock.clear();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return size
+     */
+    public int size() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns a read-only view of the keys of the cache.
+     *
+     * @return keys
+     */
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(this.data.keySet());
+    }
+
+}
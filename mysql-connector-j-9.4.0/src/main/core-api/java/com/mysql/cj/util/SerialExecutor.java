@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An {@link Executor} that runs the submitted tasks one at a time, in submission order.
+ *
+ * This is meant for offloading blocking calls from the calling thread, not for multiplexing several connections over a few threads: each task holds its
+ * thread for as long as it blocks on I/O. Hence, by default, each instance runs its tasks on its own daemon thread, created on demand and stopped after
+ * being idle for a while, so that a slow task can never delay the tasks of other instances. Alternatively, tasks can be run on an executor supplied by the
+ * caller, in which case sizing it for the expected number of concurrently blocked tasks is the caller's responsibility.
+ *
+ * If the underlying executor rejects a task, {@link #execute(Runnable)} throws the {@link RejectedExecutionException} only when the task was submitted to it
+ * right away. Tasks rejected after waiting for their turn are skipped so that the ones behind them still get their chance, and those implementing
+ * {@link Task} are told about it.
+ */
+public class SerialExecutor implements Executor {
+
+    /**
+     * A task that is told when the underlying executor rejects it after it was queued, i.e., when the rejection can't be thrown to the submitter.
+     */
+    public interface Task extends Runnable {
+
+        /**
+         * Called, instead of {@link #run()}, when the underlying executor rejects this task.
+         *
+         * @param e
+         *            the rejection exception
+         */
+        void rejected(RejectedExecutionException e);
+
+    }
+
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private final Executor executor;
+    private final ThreadPoolExecutor ownThread;
+    private final Queue<QueuedTask> tasks = new ArrayDeque<>();
+    private final Lock lock = new ReentrantLock();
+    private QueuedTask active = null;
+    private boolean shutdown = false;
+
+    /**
+     * Creates an instance that runs its tasks on its own daemon thread.
+     *
+     * @param threadName
+     *            the name of the thread
+     */
+    public SerialExecutor(String threadName) {
+        this.ownThread = new ThreadPoolExecutor(1, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            ClassLoader classLoader = SerialExecutor.class.getClassLoader();
+            t.setContextClassLoader(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+            return t;
+        });
+        this.ownThread.allowCoreThreadTimeOut(true);
+        this.executor = this.ownThread;
+    }
+
+    /**
+     * Creates an instance that runs its tasks on the given executor.
+     *
+     * @param executor
+     *            the executor that runs the tasks
+     */
+    public SerialExecutor(Executor executor) {
+        this.ownThread = null;
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.lock.lock();
+        try {
+            this.tasks.add(new QueuedTask(command));
+            if (this.active == null) {
+                scheduleNext(true);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Stops this instance's own thread, if any, once the tasks already submitted complete. A supplied executor is left untouched.
+     */
+    public void shutdown() {
+        this.lock.lock();
+        try {
+            this.shutdown = true;
+            if (this.active == null && this.ownThread != null) {
+                this.ownThread.shutdown();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Submits the next queued task to the underlying executor.
+     *
+     * @param rethrowRejection
+     *            whether a rejection is thrown to the caller, which is only possible when the queue holds nothing but the task just submitted to this
+     *            instance, or handled here by skipping the rejected tasks
+     */
+    private void scheduleNext(boolean rethrowRejection) {
+        List<QueuedTask> rejectedTasks = null;
+        RejectedExecutionException rejection = null;
+        this.lock.lock();
+        try {
+            while ((this.active = this.tasks.poll()) != null) {
+                try {
+                    this.executor.execute(this.active);
+                    break;
+                } catch (RejectedExecutionException e) {
+                    if (rethrowRejection) {
+                        this.active = null;
+                        throw e;
+                    }
+                    if (rejectedTasks == null) {
+                        rejectedTasks = new ArrayList<>();
+                    }
+                    rejectedTasks.add(this.active);
+                    rejection = e;
+                }
+            }
+            if (this.active == null && this.shutdown && this.ownThread != null) {
+                this.ownThread.shutdown();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+
+        if (rejectedTasks != null) {
+            for (QueuedTask rejectedTask : rejectedTasks) {
+                if (rejectedTask.command instanceof Task) {
+                    ((Task) rejectedTask.command).rejected(rejection);
+                }
+            }
+        }
+    }
+
+    private class QueuedTask implements Runnable {
+
+        final Runnable command;
+
+        QueuedTask(Runnable command) {
+            this.command = command;
+        }
+
+        @Override
+        public void run() {
+            try {
+                this.command.run();
+            } finally {
+                scheduleNext(false);
+            }
+        }
+
+    }
+
+}
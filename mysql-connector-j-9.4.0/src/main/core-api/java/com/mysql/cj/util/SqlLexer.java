@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+/**
+ * Single-pass lexer for MySQL statements.
+ *
+ * Breaks a statement into a stream of tokens, dealing with quoted text, comments, hints, MySQL specific blocks (<code>"/*![12345] ... *&#47;"</code>) and
+ * backslash escapes only once. Whitespace is skipped, runs of identifier characters (letters, digits, <code>'_'</code> and <code>'$'</code>) make
+ * {@link TokenType#WORD} tokens and any other meaningful character makes a {@link TokenType#SYMBOL} token of its own. The contents of MySQL specific blocks
+ * are lexed as regular SQL while their opening and closing markers are returned as {@link TokenType#MYSQL_MARKER} tokens.
+ *
+ * The rules for what is skipped and what is meaningful are the same as the ones applied by {@link StringInspector} with the search modes
+ * {@link SearchMode#__BSE_MRK_COM_MYM_HNT_WS} and {@link SearchMode#__MRK_COM_MYM_HNT_WS} and the markers <code>"`'\""</code>, so positions and adjacency of
+ * tokens match what a character by character scan with those modes would find.
+ */
+public class SqlLexer {
+
+    /**
+     * The types of tokens returned by {@link SqlLexer#next()}.
+     */
+    public enum TokenType {
+        /** A run of letters, digits, <code>'_'</code> or <code>'$'</code>. */
+        WORD,
+        /** A single meaningful character that is not part of a word. */
+        SYMBOL,
+        /** Text enclosed by single or double quotes, quotes included. */
+        STRING_LITERAL,
+        /** Text enclosed by backticks, backticks included. */
+        QUOTED_IDENTIFIER,
+        /** A block comment, a line comment or an optimizer hints block. */
+        COMMENT,
+        /** The opening (<code>"/*![12345]"</code>) or closing (<code>"*&#47;"</code>) marker of a MySQL specific block. */
+        MYSQL_MARKER,
+        /** No more tokens available. */
+        END;
+    }
+
+    // Length of MySQL version reference in comments of type '/*![00000] */'.
+    private static final int NON_COMMENTS_MYSQL_VERSION_REF_LENGTH = 5;
+
+    private final String source;
+    private final int srcLen;
+    private final boolean allowBackslashEscapes;
+
+    private int pos = 0;
+    private boolean escaped = false;
+    private boolean inMysqlBlock = false;
+    private TokenType tokenType = null;
+    private int tokenStart = 0;
+    private int tokenEnd = 0;
+
+    private int markedPos = 0;
+    private boolean markedEscaped = false;
+    private boolean markedInMysqlBlock = false;
+    private TokenType markedTokenType = null;
+    private int markedTokenStart = 0;
+    private int markedTokenEnd = 0;
+
+    /**
+     * Constructs a lexer for the given statement.
+     *
+     * @param source
+     *            the statement to lex
+     * @param noBackslashEscapes
+     *            whether backslash escapes are disabled or not
+     */
+    public SqlLexer(String source, boolean noBackslashEscapes) {
+        this.source = source;
+        this.srcLen = source.length();
+        this.allowBackslashEscapes = !noBackslashEscapes;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return
+     *         the type of the new current token, {@link TokenType#END} if there are no more tokens
+     */
+    public TokenType next() {
+        while (this.pos < this.srcLen) {
+            int start = this.pos;
+            char c0 = this.source.charAt(start);
+
+            if (Character.isWhitespace(c0)) { // Whitespace is not affected by backslash escapes.
+                this.pos++;
+                this.escaped = false;
+                continue;
+            }
+
+            if (this.escaped) {
+                // Escaped characters are always meaningful, just not able to open or close quotes, comments or blocks.
+                this.escaped = false;
+                return isWordChar(c0) ? word(start) : symbol(start, false);
+            }
+
+            char c1 = start + 1 < this.srcLen ? this.source.charAt(start + 1) : Character.MIN_VALUE;
+            char c2 = start + 2 < this.srcLen ? this.source.charAt(start + 2) : Character.MIN_VALUE;
+
+            if (c0 == '\'' || c0 == '"' || c0 == '`') {
+                int end = start;
+                while (++end < this.srcLen) {
+                    char c = this.source.charAt(end);
+                    if (c == c0) {
+                        break;
+                    } else if (this.allowBackslashEscapes && c == '\\') {
+                        end++; // Next char is escaped, skip it.
+                    }
+                }
+                return token(c0 == '`' ? TokenType.QUOTED_IDENTIFIER : TokenType.STRING_LITERAL, start, end + 1);
+
+            } else if (c0 == '/' && c1 == '*' && c2 == '!') {
+                int end = start + 3;
+                int i = 0;
+                while (i < NON_COMMENTS_MYSQL_VERSION_REF_LENGTH && end + i < this.srcLen && Character.isDigit(this.source.charAt(end + i))) {
+                    i++;
+                }
+                if (i == NON_COMMENTS_MYSQL_VERSION_REF_LENGTH) {
+                    end += NON_COMMENTS_MYSQL_VERSION_REF_LENGTH;
+                }
+                this.inMysqlBlock = true;
+                return token(TokenType.MYSQL_MARKER, start, end);
+
+            } else if (c0 == '/' && c1 == '*') {
+                // Block comments and hints, skip until end of block ("*/") (backslash escape doesn't work in comments).
+                int end = this.source.indexOf("*/", c2 == '+' ? start + 3 : start + 2);
+                return token(TokenType.COMMENT, start, end == -1 ? this.srcLen : end + 2);
+
+            } else if (c0 == '-' && c1 == '-' && (Character.isWhitespace(c2) || c2 == Character.MIN_VALUE)) {
+                return token(TokenType.COMMENT, start, indexOfEndOfLine(start + 1));
+
+            } else if (c0 == '-' && c1 == '-' && c2 == ';') {
+                // Comments line found but closed immediately by query delimiter marker.
+                return token(TokenType.COMMENT, start, start + 3);
+
+            } else if (c0 == '#') {
+                return token(TokenType.COMMENT, start, indexOfEndOfLine(start + 1));
+
+            } else if (this.inMysqlBlock && c0 == '*' && c1 == '/') {
+                this.inMysqlBlock = false;
+                return token(TokenType.MYSQL_MARKER, start, start + 2);
+
+            } else if (isWordChar(c0)) {
+                return word(start);
+            }
+            return symbol(start, this.allowBackslashEscapes && c0 == '\\');
+        }
+
+        this.tokenType = TokenType.END;
+        this.tokenStart = this.srcLen;
+        this.tokenEnd = this.srcLen;
+        return TokenType.END;
+    }
+
+    private TokenType word(int start) {
+        int end = start + 1;
+        while (end < this.srcLen && isWordChar(this.source.charAt(end))) {
+            end++;
+        }
+        return token(TokenType.WORD, start, end);
+    }
+
+    private TokenType symbol(int start, boolean escapesNext) {
+        TokenType type = token(TokenType.SYMBOL, start, start + 1);
+        this.escaped = escapesNext;
+        return type;
+    }
+
+    private TokenType token(TokenType type, int start, int end) {
+        this.tokenType = type;
+        this.tokenStart = start;
+        this.tokenEnd = Math.min(end, this.srcLen);
+        this.pos = this.tokenEnd;
+        this.escaped = false;
+        return type;
+    }
+
+    private int indexOfEndOfLine(int from) {
+        for (int i = from; i < this.srcLen; i++) {
+            char c = this.source.charAt(i);
+            if (c == '\n') {
+                return i + 1;
+            } else if (c == '\r') {
+                return i + 1 < this.srcLen && this.source.charAt(i + 1) == '\n' ? i + 2 : i + 1;
+            }
+        }
+        return this.srcLen;
+    }
+
+    /**
+     * Checks if the given character can be part of a {@link TokenType#WORD} token.
+     *
+     * @param c
+     *            the character to check
+     * @return
+     *         <code>true</code> if the character is a letter, a digit, <code>'_'</code> or <code>'$'</code>
+     */
+    public static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    /**
+     * Returns the type of the current token.
+     *
+     * @return
+     *         the type of the current token or <code>null</code> if {@link #next()} was never called
+     */
+    public TokenType getTokenType() {
+        return this.tokenType;
+    }
+
+    /**
+     * Checks if the current token is a {@link TokenType#WORD} or a {@link TokenType#SYMBOL}, i.e., if it is made of characters that are neither quoted nor
+     * commented out.
+     *
+     * @return
+     *         <code>true</code> if the current token is a word or a symbol
+     */
+    public boolean isCodeToken() {
+        return this.tokenType == TokenType.WORD || this.tokenType == TokenType.SYMBOL;
+    }
+
+    /**
+     * Returns the position of the first character of the current token.
+     *
+     * @return
+     *         the start position of the current token
+     */
+    public int getTokenStart() {
+        return this.tokenStart;
+    }
+
+    /**
+     * Returns the position right after the last character of the current token.
+     *
+     * @return
+     *         the end position of the current token
+     */
+    public int getTokenEnd() {
+        return this.tokenEnd;
+    }
+
+    /**
+     * Returns the first character of the current token.
+     *
+     * @return
+     *         the first character of the current token or {@link Character#MIN_VALUE} at the end of the statement
+     */
+    public char getTokenChar() {
+        return this.tokenStart < this.tokenEnd ? this.source.charAt(this.tokenStart) : Character.MIN_VALUE;
+    }
+
+    /**
+     * Returns the text of the current token.
+     *
+     * @return
+     *         the current token as a string
+     */
+    public String getToken() {
+        return this.source.substring(this.tokenStart, this.tokenEnd);
+    }
+
+    /**
+     * Checks if the current token starts with the given string, ignoring case.
+     *
+     * @param prefix
+     *            the string to match
+     * @return
+     *         <code>true</code> if the current token starts with the given string
+     */
+    public boolean tokenStartsWithIgnoreCase(String prefix) {
+        return this.tokenEnd - this.tokenStart >= prefix.length() && StringUtils.regionMatchesIgnoreCase(this.source, this.tokenStart, prefix);
+    }
+
+    /**
+     * Checks if the current token is equal to the given string, ignoring case.
+     *
+     * @param toMatch
+     *            the string to match
+     * @return
+     *         <code>true</code> if the current token is equal to the given string
+     */
+    public boolean tokenEqualsIgnoreCase(String toMatch) {
+        return this.tokenEnd - this.tokenStart == toMatch.length() && StringUtils.regionMatchesIgnoreCase(this.source, this.tokenStart, toMatch);
+    }
+
+    /**
+     * Checks if the current token contains the given string, ignoring case.
+     *
+     * @param toMatch
+     *            the string to search for
+     * @return
+     *         <code>true</code> if the given string is found in the current token
+     */
+    public boolean tokenContainsIgnoreCase(String toMatch) {
+        for (int i = this.tokenStart, stop = this.tokenEnd - toMatch.length(); i <= stop; i++) {
+            if (StringUtils.regionMatchesIgnoreCase(this.source, i, toMatch)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks the current lexer's state. A subsequent call to the {@link #reset()} method restores the marked state, current token included.
+     */
+    public void mark() {
+        this.markedPos = this.pos;
+        this.markedEscaped = this.escaped;
+        this.markedInMysqlBlock = this.inMysqlBlock;
+        this.markedTokenType = this.tokenType;
+        this.markedTokenStart = this.tokenStart;
+        this.markedTokenEnd = this.tokenEnd;
+    }
+
+    /**
+     * Resets this lexer's state to the previously marked state.
+     */
+    public void reset() {
+        this.pos = this.markedPos;
+        this.escaped = this.markedEscaped;
+        this.inMysqlBlock = this.markedInMysqlBlock;
+        this.tokenType = this.markedTokenType;
+        this.tokenStart = this.markedTokenStart;
+        this.tokenEnd = this.markedTokenEnd;
+    }
+
+}
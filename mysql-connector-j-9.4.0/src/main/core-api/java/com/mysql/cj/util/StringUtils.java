@@ -33,8 +33,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -58,6 +60,8 @@ public class StringUtils {
 
     private static final String VALID_ID_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIGKLMNOPQRSTUVWXYZ0123456789$_#@";
 
+    private static final Map<Charset, Boolean> ASCII_COMPATIBLE_CHARSETS = new ConcurrentHashMap<>();
+
     /**
      * Returns the given bytes as a hex and ASCII dump (up to length bytes).
      *
@@ -1400,6 +1404,100 @@ public class StringUtils {
         }
     }
 
+    /**
+     * Decodes a subset of the given byte array using the given charset. Pure ASCII values of ASCII-compatible charsets are copied without going through the
+     * charset decoder.
+     *
+     * @param value
+     *            bytes
+     * @param offset
+     *            offset
+     * @param length
+     *            length
+     * @param charset
+     *            charset, or null to use the platform charset
+     * @return string
+     */
+    public static String toString(byte[] value, int offset, int length, Charset charset) {
+        if (charset == null) {
+            return new String(value, offset, length);
+        }
+        if (charset != StandardCharsets.ISO_8859_1 && isAsciiCompatible(charset) && isAscii(value, offset, length)) {
+            return new String(value, offset, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(value, offset, length, charset);
+    }
+
+    /**
+     * Looks up the charset for the given Java encoding name.
+     *
+     * @param encoding
+     *            java encoding
+     * @return charset or null if the encoding is null, meaning the platform charset
+     */
+    public static Charset toCharset(String encoding) {
+        if (encoding == null || "null".equalsIgnoreCase(encoding)) {
+            return null;
+        }
+        try {
+            return Charset.forName(encoding);
+        } catch (IllegalArgumentException e) {
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("StringUtils.0", new Object[] { encoding }), e);
+        }
+    }
+
+    /**
+     * Checks whether all bytes in the given subset of the byte array are 7-bit ASCII characters. The bytes are checked in blocks of eight.
+     *
+     * @param value
+     *            bytes
+     * @param offset
+     *            offset
+     * @param length
+     *            length
+     * @return true if there are no bytes with the high bit set
+     */
+    public static boolean isAscii(byte[] value, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        for (int blockEnd = end - 7; i < blockEnd; i += 8) {
+            if (((value[i] | value[i + 1] | value[i + 2] | value[i + 3] | value[i + 4] | value[i + 5] | value[i + 6] | value[i + 7]) & 0x80) != 0) {
+                return false;
+            }
+        }
+        for (; i < end; i++) {
+            if (value[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether the given charset encodes all 7-bit ASCII characters as single bytes with the same values, so that pure ASCII byte sequences can be
+     * decoded without the charset decoder.
+     *
+     * @param charset
+     *            charset
+     * @return true if the charset is a superset of ASCII
+     */
+    public static boolean isAsciiCompatible(Charset charset) {
+        Boolean compatible = ASCII_COMPATIBLE_CHARSETS.get(charset);
+        if (compatible == null) {
+            byte[] ascii = new byte[128];
+            for (int i = 0; i < ascii.length; i++) {
+                ascii[i] = (byte) i;
+            }
+            try {
+                compatible = new String(ascii, charset).equals(new String(ascii, StandardCharsets.ISO_8859_1));
+            } catch (RuntimeException e) {
+                compatible = Boolean.FALSE;
+            }
+            ASCII_COMPATIBLE_CHARSETS.put(charset, compatible);
+        }
+        return compatible;
+    }
+
     public static String toString(byte[] value, String encoding) {
         if (encoding == null) {
             return new String(value);
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import java.nio.charset.Charset;
+
+/**
+ * A small direct-mapped cache of decoded short strings, meant for columns with few distinct values, such as ENUM or status-like columns, whose values can then
+ * be returned as the same String instances instead of being decoded and allocated again for each row.
+ *
+ * Entries are immutable, so the cache can be read and updated concurrently without locking; a lost update only costs a cache miss.
+ */
+public final class StringValueCache {
+
+    /** Values longer than this, in bytes, are never cached by default. */
+    public static final int MAX_VALUE_LENGTH = 16;
+
+    private static final int SIZE = 64;
+
+    private static final class Entry {
+
+        final byte[] bytes;
+        final Charset charset;
+        final String value;
+
+        Entry(byte[] bytes, Charset charset, String value) {
+            this.bytes = bytes;
+            this.charset = charset;
+            this.value = value;
+        }
+
+    }
+
+    private final Entry[] entries;
+    private final int maxValueLength;
+
+    /**
+     * Creates a cache of 64 entries for values up to {@value #MAX_VALUE_LENGTH} bytes.
+     */
+    public StringValueCache() {
+        this(SIZE, MAX_VALUE_LENGTH);
+    }
+
+    /**
+     * Creates a cache of the given size.
+     *
+     * @param size
+     *            number of entries, must be a power of two
+     * @param maxValueLength
+     *            values longer than this, in bytes, are never cached
+     */
+    public StringValueCache(int size, int maxValueLength) {
+        this.entries = new Entry[size];
+        this.maxValueLength = maxValueLength;
+    }
+
+    /**
+     * Returns the string for the given bytes, decoding it and caching the result if it isn't cached yet.
+     *
+     * @param value
+     *            bytes
+     * @param offset
+     *            offset
+     * @param length
+     *            length, values longer than the maximum length of this cache aren't cached
+     * @param charset
+     *            charset, or null to use the platform charset
+     * @return string
+     */
+    public String toString(byte[] value, int offset, int length, Charset charset) {
+        if (length > this.maxValueLength) {
+            return StringUtils.toString(value, offset, length, charset);
+        }
+
+        int hash = 1;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            hash = 31 * hash + value[i];
+        }
+        int slot = (hash ^ hash >>> 16) & this.entries.length - 1;
+
+        Entry entry = this.entries[slot];
+        if (entry != null && entry.charset == charset && matches(entry.bytes, value, offset, length)) {
+            return entry.value;
+        }
+
+        byte[] bytes = new byte[length];
+        System.arraycopy(value, offset, bytes, 0, length);
+        String decoded = StringUtils.toString(bytes, 0, length, charset);
+        this.entries[slot] = new Entry(bytes, charset, decoded);
+        return decoded;
+    }
+
+    private static boolean matches(byte[] cached, byte[] value, int offset, int length) {
+        if (cached.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (cached[i] != value[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded cache for concurrent use, whose reads don't take any lock, and which chooses the entries to keep with the W-TinyLFU policy.
+ * <p>
+ * New entries go to a small window, about 1% of the cache, where they are kept in order of insertion. Entries leaving the window compete with the entry the
+ * main part of the cache would evict next, chosen by a clock sweep that gives a second chance to the entries read since the last sweep. The one read more
+ * often recently, as estimated by a count-min sketch of the keys of all reads, stays. So a burst of one-off keys doesn't flush the keys used all the time,
+ * while new keys that become popular still get in.
+ * <p>
+ * Reads only update the sketch, with a single compare-and-set per counter, and a flag of the entry. Writes and evictions are serialized by a lock.
+ *
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public class TinyLfuCache<K, V> {
+
+    private static final class Node<K, V> extends ClockQueue.Entry {
+
+        final K key;
+        volatile V value;
+        boolean inMain = false; // guarded by evictionLock
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ArrayDeque<Node<K, V>> window = new ArrayDeque<>();
+    private final ClockQueue<Node<K, V>> main = new ClockQueue<>();
+    private int maximumSize;
+    private int windowMaximumSize;
+    private volatile FrequencySketch sketch;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache.
+     *
+     * @param maximumSize
+     *            maximum number of entries, nothing is cached if 0
+     */
+    public TinyLfuCache(int maximumSize) {
+        setSize(Math.max(maximumSize, 0));
+    }
+
+    private void setSize(int size) {
+        this.maximumSize = size;
+        this.windowMaximumSize = Math.max(1, size / 100);
+        this.sketch = new FrequencySketch(size);
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return maximum size
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Grows the maximum number of entries to the given size, if smaller. The recorded frequencies of keys are lost.
+     *
+     * @param size
+     *            minimum value of the maximum size
+     */
+    public void ensureMaximumSize(int size) {
+        this.evictionLock.lock();
+        try {
+            if (size > this.maximumSize) {
+                setSize(size);
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the value cached for the given key and records the read.
+     *
+     * @param key
+     *            key
+     * @return the value or null if not cached
+     */
+    public V get(K key) {
+        this.sketch.increment(key.hashCode());
+        Node<K, V> node = this.data.get(key);
+        if (node == null) {
+            this.missCount.increment();
+            return null;
+        }
+        node.markAccessed();
+        this.hitCount.increment();
+        return node.value;
+    }
+
+    /**
+     * Caches a value. If the cache is full, either this entry or another one is evicted.
+     *
+     * @param key
+     *            key
+     * @param value
+     *            value
+     */
+    public void put(K key, V value) {
+        Node<K, V> node = this.data.get(key);
+        if (node != null) {
+            node.value = value;
+            return;
+        }
+
+        this.evictionLock.lock();
+        try {
+            if (this.maximumSize == 0) {
+                return;
+            }
+            node = new Node<>(key, value);
+            Node<K, V> existing = this.data.putIfAbsent(key, node);
+            if (existing != null) {
+                existing.value = value;
+                return;
+            }
+            this.window.addLast(node);
+            if (this.window.size() > this.windowMaximumSize) {
+                admit(this.window.pollFirst());
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Moves an entry leaving the window to the main part of the cache, if there is room for it or if it's read more often than the entry that would be evicted
+     * in its place; evicts it otherwise.
+     *
+     * @param candidate
+     *            entry leaving the window
+     */
+    private void admit(Node<K, V> candidate) {
+        Node<K, V> evicted = candidate;
+        if (this.main.size() < this.maximumSize - this.windowMaximumSize) {
+            evicted = null;
+        } else if (!this.main.isEmpty()) {
+            Node<K, V> victim = this.main.sweep(n -> true); // removed entries are taken out of the clock right away
+            FrequencySketch frequencies = this.sketch;
+            frequencies.ageIfNeeded();
+            if (frequencies.frequency(candidate.key.hashCode()) > frequencies.frequency(victim.key.hashCode())) {
+                this.main.pollFirst();
+                evicted = victim;
+            }
+        }
+
+        if (evicted != candidate) {
+            candidate.inMain = true;
+            this.main.add(candidate);
+        }
+        if (evicted != null) {
+            this.data.remove(evicted.key, evicted);
+            this.evictionCount.increment();
+        }
+    }
+
+    /**
+     * Removes an entry.
+     *
+     * @param key
+     *            key
+     */
+    public void remove(K key) {
+        this.evictionLock.lock();
+        try {
+            Node<K, V> node = this.data.remove(key);
+            if (node != null) {
+                if (node.inMain) {
+                    this.main.remove(node);
+                } else {
+                    this.window.removeFirstOccurrence(node);
+                }
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all entries. Statistics and recorded frequencies of keys are kept.
+     */
+    public void clear() {
+        this.evictionLock.lock();
+        try {
+            this.data.clear();
+            this.window.clear();
+            this.main.clear();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return size
+     */
+    public int size() {
+        return this.data.size();
+    }
+
+    /**
+     * Returns the number of reads that found a value.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Returns the number of reads that found no value.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Returns the ratio of reads that found a value, or 1 if there were no reads.
+     *
+     * @return hit rate
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long reads = hits + getMissCount();
+        return reads == 0 ? 1.0 : (double) hits / reads;
+    }
+
+    /**
+     * Returns the number of entries evicted to make room for others.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * Count-min sketch of the frequency of keys, with four 4-bit counters per key, halved every ten reads per entry of the cache so that old reads weigh less.
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final AtomicLongArray table; // 16 counters per element
+        private final int tableMask;
+        private final long sampleSize;
+        private final LongAdder additions = new LongAdder();
+
+        FrequencySketch(int maximumSize) {
+            int size = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 24)) - 1) << 1;
+            this.table = new AtomicLongArray(size);
+            this.tableMask = size - 1;
+            this.sampleSize = 10L * size;
+        }
+
+        int frequency(int hashCode) {
+            int hash = spread(hashCode);
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int count = (int) (this.table.get(indexOf(hash, i)) >>> (start + i << 2) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(int hashCode) {
+            int hash = spread(hashCode);
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), start + i);
+            }
+            if (added) {
+                this.additions.increment();
+            }
+        }
+
+        private boolean incrementAt(int index, int counter) {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            long value = this.table.get(index);
+            if ((value & mask) == mask) {
+                return false;
+            }
+            // A single attempt: a count lost to a concurrent update only makes the estimate a bit lower.
+            return this.table.compareAndSet(index, value, value + (1L << offset));
+        }
+
+        /**
+         * Halves all counters once enough reads were recorded. Only needed before frequencies are compared, so it's done by writers rather than on reads.
+         */
+        void ageIfNeeded() {
+            if (this.additions.sum() < this.sampleSize) {
+                return;
+            }
+            for (int i = 0; i < this.table.length(); i++) {
+                long value = this.table.get(i);
+                this.table.compareAndSet(i, value, value >>> 1 & RESET_MASK);
+            }
+            this.additions.add(this.additions.sumThenReset() / 2);
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & this.tableMask;
+        }
+
+        private static int spread(int x) {
+            x = (x >>> 16 ^ x) * 0x45d9f3b;
+            x = (x >>> 16 ^ x) * 0x45d9f3b;
+            return x >>> 16 ^ x;
+        }
+
+    }
+
+}
@@ -163,11 +163,20 @@ public abstract class AbstractQuery implements Query {
     @Override
     public void addBatch(Object batch) {
         if (this.batchedArgs == null) {
-            this.batchedArgs = new ArrayList<>();
+            this.batchedArgs = createBatchedArgs();
         }
         this.batchedArgs.add(batch);
     }
 
+    /**
+     * Creates the list that holds the batched arguments of this query.
+     *
+     * @return a new empty list
+     */
+    protected List<Object> createBatchedArgs() {
+        return new ArrayList<>();
+    }
+
     @Override
     public List<Object> getBatchedArgs() {
         return this.batchedArgs == null ? null : Collections.unmodifiableList(this.batchedArgs);
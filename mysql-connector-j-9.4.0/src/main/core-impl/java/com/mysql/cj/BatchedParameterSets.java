@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Calendar;
+
+import com.mysql.cj.result.Field;
+
+/**
+ * Columnar storage for the parameter sets added to a client-side prepared statement batch.
+ *
+ * Instead of keeping a deep copy of the whole {@link QueryBindings} graph per batched row, the bound values are appended into per-parameter arrays: integral
+ * and floating point values are kept unboxed in a primitive column, byte arrays are copied into a single shared arena and only the remaining values are kept
+ * as object references. A row is restored into an existing {@link QueryBindings} instance with {@link #loadParameterSet(int, QueryBindings, int)} when it is
+ * executed, so executing a batch reuses the same bindings for every row.
+ *
+ * This class also implements {@link java.util.List} so that it can stand in for the list of batched arguments. Elements that are not {@link QueryBindings},
+ * such as statements added with {@code addBatch(String)}, are stored as they are; {@link #get(int)} materializes a new {@link QueryBindings} instance for the
+ * other elements.
+ */
+public class BatchedParameterSets extends AbstractList<Object> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final byte FLAG_NATIONAL = 0x01;
+    private static final byte FLAG_KEEP_ORIG_NANOS = 0x02;
+    private static final byte FLAG_ESCAPE_BYTES_IF_NEEDED = 0x04;
+
+    private static final int KIND_SHIFT = 4;
+    private static final int KIND_OBJECT = 0;
+    private static final int KIND_LONG = 1;
+    private static final int KIND_INTEGER = 2;
+    private static final int KIND_SHORT = 3;
+    private static final int KIND_BYTE = 4;
+    private static final int KIND_DOUBLE = 5;
+    private static final int KIND_FLOAT = 6;
+    private static final int KIND_BYTES = 7;
+
+    private static final MysqlType[] MYSQL_TYPES = MysqlType.values();
+
+    private final Session session;
+    private final int parameterCount;
+
+    private int size = 0;
+    private int capacity = 0;
+
+    /** Values that can't be stored in the primitive columns, per parameter. */
+    private Object[][] objects;
+    /** Ordinals of the target {@link MysqlType}s, per parameter. */
+    private byte[][] types;
+    /** Value kinds and {@link BindValue} flags, per parameter. */
+    private byte[][] flags;
+    /** Unboxed values and byte array arena positions, per parameter; allocated on first use. */
+    private long[][] primitives;
+    /** Scales or lengths, per parameter; allocated on first use. */
+    private long[][] scalesOrLengths;
+    /** Calendars, per parameter; allocated on first use. */
+    private Calendar[][] calendars;
+    /** Fields, per parameter; allocated on first use. */
+    private Field[][] fields;
+
+    /** Elements that are not parameter sets, such as plain statements; allocated on first use. */
+    private Object[] otherElements;
+    /** Estimated text protocol length of each parameter set. */
+    private long[] textLengths;
+
+    private byte[] arena = null;
+    private int arenaLength = 0;
+
+    /** Single parameter bindings {@link #getParameterString(int, int)} renders values with; created on first use. */
+    private QueryBindings scratchBindings = null;
+
+    public BatchedParameterSets(int parameterCount, Session session) {
+        this.parameterCount = parameterCount;
+        this.session = session;
+        this.objects = new Object[parameterCount][];
+        this.types = new byte[parameterCount][];
+        this.flags = new byte[parameterCount][];
+        this.primitives = new long[parameterCount][];
+        this.scalesOrLengths = new long[parameterCount][];
+        this.calendars = new Calendar[parameterCount][];
+        this.fields = new Field[parameterCount][];
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean add(Object element) {
+        ensureCapacity(this.size + 1);
+        int row = this.size;
+        if (element instanceof QueryBindings && ((QueryBindings) element).getBindValues().length == this.parameterCount) {
+            BindValue[] bindValues = ((QueryBindings) element).getBindValues();
+            long textLength = 0;
+            for (int i = 0; i < this.parameterCount; i++) {
+                storeValue(i, row, bindValues[i]);
+                textLength += bindValues[i].getTextLength();
+            }
+            this.textLengths[row] = textLength;
+        } else {
+            if (this.otherElements == null) {
+                this.otherElements = new Object[this.capacity];
+            }
+            this.otherElements[row] = element instanceof QueryBindings ? ((QueryBindings) element).clone() : element;
+            this.textLengths[row] = 0;
+        }
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Returns the element at the given position. Parameter sets are returned as new {@link QueryBindings} instances; use
+     * {@link #loadParameterSet(int, QueryBindings, int)} to avoid creating them.
+     */
+    @Override
+    public Object get(int index) {
+        checkIndex(index);
+        if (!isParameterSet(index)) {
+            return this.otherElements[index];
+        }
+        QueryBindings bindings = new NativeQueryBindings(this.parameterCount, this.session, NativeQueryBindValue::new);
+        loadParameterSet(index, bindings, 0);
+        return bindings;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < this.parameterCount; i++) {
+            if (this.objects[i] != null) {
+                Arrays.fill(this.objects[i], 0, this.size, null);
+            }
+            if (this.calendars[i] != null) {
+                Arrays.fill(this.calendars[i], 0, this.size, null);
+            }
+            if (this.fields[i] != null) {
+                Arrays.fill(this.fields[i], 0, this.size, null);
+            }
+        }
+        if (this.otherElements != null) {
+            Arrays.fill(this.otherElements, 0, this.size, null);
+        }
+        this.arenaLength = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the number of parameters in each parameter set.
+     *
+     * @return the parameter count
+     */
+    public int getParameterCount() {
+        return this.parameterCount;
+    }
+
+    /**
+     * Is the element at the given position a parameter set, as opposed to a plain statement?
+     *
+     * @param index
+     *            element position
+     * @return true if the element was added as {@link QueryBindings}
+     */
+    public boolean isParameterSet(int index) {
+        checkIndex(index);
+        return this.otherElements == null || this.otherElements[index] == null;
+    }
+
+    /**
+     * Returns the estimated length of the parameter set at the given position when encoded for the text protocol, as computed by
+     * {@link BindValue#getTextLength()} at the time it was added.
+     *
+     * @param index
+     *            parameter set position
+     * @return the sum of the parameters text lengths
+     */
+    public long getTextLength(int index) {
+        checkIndex(index);
+        return this.textLengths[index];
+    }
+
+    /**
+     * Restores the parameter set at the given position into the given bindings, through
+     * {@link QueryBindings#setFromValue(int, Object, MysqlType, Calendar, Field, long, boolean, boolean, boolean)}.
+     *
+     * @param index
+     *            parameter set position
+     * @param target
+     *            bindings to set
+     * @param targetOffset
+     *            zero-based index of the first target parameter
+     */
+    public void loadParameterSet(int index, QueryBindings target, int targetOffset) {
+        checkIndex(index);
+        for (int i = 0; i < this.parameterCount; i++) {
+            loadParameter(index, i, target, targetOffset + i);
+        }
+    }
+
+    /**
+     * Returns the value of a parameter of the parameter set at the given position as it would appear in the SQL of a client-side prepared statement, for
+     * logging and {@code toString()}.
+     *
+     * @param index
+     *            parameter set position
+     * @param parameterIndex
+     *            zero-based index of the parameter
+     * @return the value as SQL
+     */
+    public String getParameterString(int index, int parameterIndex) {
+        checkIndex(index);
+        if (this.scratchBindings == null) {
+            this.scratchBindings = new NativeQueryBindings(1, this.session, NativeQueryBindValue::new);
+        }
+        loadParameter(index, parameterIndex, this.scratchBindings, 0);
+        return this.scratchBindings.getBindValues()[0].getString();
+    }
+
+    private void loadParameter(int index, int column, QueryBindings target, int targetIndex) {
+        byte flag = this.flags[column][index];
+        target.setFromValue(targetIndex, loadValue(column, index, flag), MYSQL_TYPES[this.types[column][index] & 0xff],
+                this.calendars[column] == null ? null : this.calendars[column][index], this.fields[column] == null ? null : this.fields[column][index],
+                this.scalesOrLengths[column] == null ? -1 : this.scalesOrLengths[column][index], (flag & FLAG_KEEP_ORIG_NANOS) != 0,
+                (flag & FLAG_ESCAPE_BYTES_IF_NEEDED) != 0, (flag & FLAG_NATIONAL) != 0);
+    }
+
+    private void storeValue(int column, int row, BindValue bv) {
+        Object value = bv.getValue();
+        int kind = KIND_OBJECT;
+        long primitive = 0;
+        if (value instanceof Long) {
+            kind = KIND_LONG;
+            primitive = (Long) value;
+        } else if (value instanceof Integer) {
+            kind = KIND_INTEGER;
+            primitive = (Integer) value;
+        } else if (value instanceof Short) {
+            kind = KIND_SHORT;
+            primitive = (Short) value;
+        } else if (value instanceof Byte) {
+            kind = KIND_BYTE;
+            primitive = (Byte) value;
+        } else if (value instanceof Double) {
+            kind = KIND_DOUBLE;
+            primitive = Double.doubleToRawLongBits((Double) value);
+        } else if (value instanceof Float) {
+            kind = KIND_FLOAT;
+            primitive = Float.floatToRawIntBits((Float) value);
+        } else if (value instanceof byte[] && (long) this.arenaLength + ((byte[]) value).length <= Integer.MAX_VALUE - 8) {
+            kind = KIND_BYTES;
+            primitive = (long) appendToArena((byte[]) value) << 32 | ((byte[]) value).length;
+        }
+
+        if (kind == KIND_OBJECT) {
+            if (this.objects[column] == null) {
+                this.objects[column] = new Object[this.capacity];
+            }
+            // Byte arrays that don't fit in the arena are copied, the same way BindValue.clone() does.
+            this.objects[column][row] = value instanceof byte[] ? ((byte[]) value).clone() : value;
+        } else {
+            if (this.primitives[column] == null) {
+                this.primitives[column] = new long[this.capacity];
+            }
+            this.primitives[column][row] = primitive;
+            if (this.objects[column] != null) {
+                this.objects[column][row] = null;
+            }
+        }
+
+        this.types[column][row] = (byte) bv.getMysqlType().ordinal();
+        this.flags[column][row] = (byte) (kind << KIND_SHIFT | (bv.isNational() ? FLAG_NATIONAL : 0) | (bv.keepOrigNanos() ? FLAG_KEEP_ORIG_NANOS : 0)
+                | (bv.escapeBytesIfNeeded() ? FLAG_ESCAPE_BYTES_IF_NEEDED : 0));
+
+        long scaleOrLength = bv.getScaleOrLength();
+        if (scaleOrLength != -1 && this.scalesOrLengths[column] == null) {
+            this.scalesOrLengths[column] = new long[this.capacity];
+            Arrays.fill(this.scalesOrLengths[column], -1);
+        }
+        if (this.scalesOrLengths[column] != null) {
+            this.scalesOrLengths[column][row] = scaleOrLength;
+        }
+
+        Calendar calendar = bv.getCalendar();
+        if (calendar != null && this.calendars[column] == null) {
+            this.calendars[column] = new Calendar[this.capacity];
+        }
+        if (this.calendars[column] != null) {
+            this.calendars[column][row] = calendar;
+        }
+
+        Field field = bv.getField();
+        if (field != null && this.fields[column] == null) {
+            this.fields[column] = new Field[this.capacity];
+        }
+        if (this.fields[column] != null) {
+            this.fields[column][row] = field;
+        }
+    }
+
+    private Object loadValue(int column, int row, byte flag) {
+        switch (flag >>> KIND_SHIFT) {
+            case KIND_LONG:
+                return this.primitives[column][row];
+            case KIND_INTEGER:
+                return (int) this.primitives[column][row];
+            case KIND_SHORT:
+                return (short) this.primitives[column][row];
+            case KIND_BYTE:
+                return (byte) this.primitives[column][row];
+            case KIND_DOUBLE:
+                return Double.longBitsToDouble(this.primitives[column][row]);
+            case KIND_FLOAT:
+                return Float.intBitsToFloat((int) this.primitives[column][row]);
+            case KIND_BYTES:
+                long position = this.primitives[column][row];
+                int offset = (int) (position >>> 32);
+                return Arrays.copyOfRange(this.arena, offset, offset + (int) position);
+            default:
+                return this.objects[column][row];
+        }
+    }
+
+    private int appendToArena(byte[] bytes) {
+        int offset = this.arenaLength;
+        int newLength = offset + bytes.length;
+        if (this.arena == null || newLength > this.arena.length) {
+            int newCapacity = this.arena == null ? Math.max(256, bytes.length) : this.arena.length;
+            while (newCapacity < newLength) {
+                newCapacity = (int) Math.min(Integer.MAX_VALUE - 8, newCapacity * 2L);
+            }
+            this.arena = this.arena == null ? new byte[newCapacity] : Arrays.copyOf(this.arena, newCapacity);
+        }
+        System.arraycopy(bytes, 0, this.arena, offset, bytes.length);
+        this.arenaLength = newLength;
+        return offset;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= this.capacity) {
+            return;
+        }
+        int newCapacity = Math.max(INITIAL_CAPACITY, Math.max(minCapacity, this.capacity + (this.capacity >> 1)));
+        for (int i = 0; i < this.parameterCount; i++) {
+            this.types[i] = this.types[i] == null ? new byte[newCapacity] : Arrays.copyOf(this.types[i], newCapacity);
+            this.flags[i] = this.flags[i] == null ? new byte[newCapacity] : Arrays.copyOf(this.flags[i], newCapacity);
+            if (this.objects[i] != null) {
+                this.objects[i] = Arrays.copyOf(this.objects[i], newCapacity);
+            }
+            if (this.primitives[i] != null) {
+                this.primitives[i] = Arrays.copyOf(this.primitives[i], newCapacity);
+            }
+            if (this.scalesOrLengths[i] != null) {
+                this.scalesOrLengths[i] = Arrays.copyOf(this.scalesOrLengths[i], newCapacity);
+                Arrays.fill(this.scalesOrLengths[i], this.capacity, newCapacity, -1);
+            }
+            if (this.calendars[i] != null) {
+                this.calendars[i] = Arrays.copyOf(this.calendars[i], newCapacity);
+            }
+            if (this.fields[i] != null) {
+                this.fields[i] = Arrays.copyOf(this.fields[i], newCapacity);
+            }
+        }
+        if (this.otherElements != null) {
+            this.otherElements = Arrays.copyOf(this.otherElements, newCapacity);
+        }
+        this.textLengths = this.textLengths == null ? new long[newCapacity] : Arrays.copyOf(this.textLengths, newCapacity);
+        this.capacity = newCapacity;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+}
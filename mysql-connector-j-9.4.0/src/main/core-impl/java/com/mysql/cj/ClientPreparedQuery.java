@@ -20,6 +20,8 @@
 
 package com.mysql.cj;
 
+import java.util.List;
+
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.exceptions.ExceptionFactory;
@@ -106,6 +108,23 @@ public class ClientPreparedQuery extends AbstractQuery implements PreparedQuery
         this.batchCommandIndex = batchCommandIndex;
     }
 
+    /**
+     * Batched parameter sets are kept in columnar form instead of as one {@link QueryBindings} clone per row.
+     */
+    @Override
+    protected List<Object> createBatchedArgs() {
+        return new BatchedParameterSets(this.parameterCount, this.session);
+    }
+
+    /**
+     * Returns the batched arguments as columnar parameter sets, if this query stores them that way.
+     *
+     * @return the batched parameter sets, or null if nothing was batched yet or if the batched arguments are kept in a plain list
+     */
+    public BatchedParameterSets getBatchedParameterSets() {
+        return this.batchedArgs instanceof BatchedParameterSets ? (BatchedParameterSets) this.batchedArgs : null;
+    }
+
     /**
      * Computes the optimum number of batched parameter lists to send
      * without overflowing max_allowed_packet.
@@ -152,8 +171,11 @@ public class ClientPreparedQuery extends AbstractQuery implements PreparedQuery
     public String asSql() {
         StringBuilder buf = new StringBuilder();
         Object batchArg = null;
+        BatchedParameterSets parameterSets = null;
         if (this.batchCommandIndex != -1) {
-            batchArg = this.batchedArgs.get(this.batchCommandIndex);
+            // Parameter sets are rendered straight from the columnar store rather than materialized as bindings.
+            parameterSets = getBatchedParameterSets();
+            batchArg = parameterSets != null && parameterSets.isParameterSet(this.batchCommandIndex) ? null : this.batchedArgs.get(this.batchCommandIndex);
         }
 
         byte[][] staticSqlStrings = this.queryInfo.getStaticSqlParts();
@@ -164,8 +186,13 @@ public class ClientPreparedQuery extends AbstractQuery implements PreparedQuery
                 buf.append((String) batchArg);
                 continue;
             }
-            val = this.batchCommandIndex == -1 ? this.queryBindings == null ? null : this.queryBindings.getBindValues()[i].getString()
-                    : ((QueryBindings) batchArg).getBindValues()[i].getString();
+            if (this.batchCommandIndex == -1) {
+                val = this.queryBindings == null ? null : this.queryBindings.getBindValues()[i].getString();
+            } else if (batchArg == null) {
+                val = parameterSets.getParameterString(this.batchCommandIndex, i);
+            } else {
+                val = ((QueryBindings) batchArg).getBindValues()[i].getString();
+            }
             buf.append(val == null ? "** NOT SPECIFIED **" : val);
         }
         buf.append(this.charEncoding != null ? StringUtils.toString(staticSqlStrings[this.parameterCount], this.charEncoding)
@@ -194,12 +221,17 @@ public class ClientPreparedQuery extends AbstractQuery implements PreparedQuery
             }
         }
 
+        BatchedParameterSets parameterSets = getBatchedParameterSets();
         for (int i = 0; i < numBatchedArgs; i++) {
             long sizeOfParameterSet = 0;
 
-            BindValue[] bindValues = ((QueryBindings) this.batchedArgs.get(i)).getBindValues();
-            for (int j = 0; j < bindValues.length; j++) {
-                sizeOfParameterSet += bindValues[j].getTextLength();
+            if (parameterSets != null) {
+                sizeOfParameterSet += parameterSets.getTextLength(i);
+            } else {
+                BindValue[] bindValues = ((QueryBindings) this.batchedArgs.get(i)).getBindValues();
+                for (int j = 0; j < bindValues.length; j++) {
+                    sizeOfParameterSet += bindValues[j].getTextLength();
+                }
             }
 
             //
@@ -240,14 +240,26 @@ public class NativeQueryBindings implements QueryBindings {
 
     @Override
     public void setFromBindValue(int parameterIndex, BindValue bv) {
+        setFromValue(parameterIndex, bv.getValue(), bv.getMysqlType(), bv.getCalendar(), bv.getField(), bv.getScaleOrLength(), bv.keepOrigNanos(),
+                bv.escapeBytesIfNeeded(), bv.isNational());
+    }
+
+    @Override
+    public void setFromValue(int parameterIndex, Object value, MysqlType type, Calendar calendar, Field field, long scaleOrLength, boolean keepOrigNanos,
+            boolean escapeBytesIfNeeded, boolean isNational) {
+        if (parameterIndex < 0 || parameterIndex >= this.bindValues.length) {
+            throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("PreparedStatement.51") + (parameterIndex + 1)
+                    + Messages.getString("PreparedStatement.52") + this.bindValues.length + Messages.getString("PreparedStatement.53"),
+                    this.session.getExceptionInterceptor());
+        }
         BindValue binding = getBinding(parameterIndex, false);
-        binding.setBinding(bv.getValue(), bv.getMysqlType(), this.numberOfExecutions, this.sendTypesToServer);
-        binding.setKeepOrigNanos(bv.keepOrigNanos());
-        binding.setCalendar(bv.getCalendar());
-        binding.setEscapeBytesIfNeeded(bv.escapeBytesIfNeeded());
-        binding.setIsNational(bv.isNational());
-        binding.setField(bv.getField());
-        binding.setScaleOrLength(bv.getScaleOrLength());
+        binding.setBinding(value, type, this.numberOfExecutions, this.sendTypesToServer);
+        binding.setKeepOrigNanos(keepOrigNanos);
+        binding.setCalendar(calendar);
+        binding.setEscapeBytesIfNeeded(escapeBytesIfNeeded);
+        binding.setIsNational(isNational);
+        binding.setField(field);
+        binding.setScaleOrLength(scaleOrLength);
     }
 
     @Override
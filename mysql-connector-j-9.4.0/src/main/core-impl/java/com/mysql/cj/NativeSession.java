@@ -34,7 +34,9 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Timer;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -78,6 +80,7 @@ import com.mysql.cj.telemetry.TelemetryAttribute;
 import com.mysql.cj.telemetry.TelemetryScope;
 import com.mysql.cj.telemetry.TelemetrySpan;
 import com.mysql.cj.telemetry.TelemetrySpanName;
+import com.mysql.cj.util.SerialExecutor;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.Util;
 
@@ -108,6 +111,9 @@ public class NativeSession extends CoreSession implements Serializable {
 
     private transient Timer cancelTimer;
 
+    /** Runs this session's asynchronous operations, created on first use */
+    private transient SerialExecutor asyncExecutor;
+
     public NativeSession(HostInfo hostInfo, PropertySet propSet) {
         super(hostInfo, propSet);
 
@@ -179,6 +185,10 @@ public class NativeSession extends CoreSession implements Serializable {
                 this.cancelTimer.cancel();
                 this.cancelTimer = null;
             }
+            if (this.asyncExecutor != null) {
+                this.asyncExecutor.shutdown();
+                this.asyncExecutor = null;
+            }
         } finally {
             getSessionLock().unlock();
         }
@@ -208,6 +218,10 @@ public class NativeSession extends CoreSession implements Serializable {
                 this.cancelTimer.cancel();
                 this.cancelTimer = null;
             }
+            if (this.asyncExecutor != null) {
+                this.asyncExecutor.shutdown();
+                this.asyncExecutor = null;
+            }
         } finally {
             getSessionLock().unlock();
         }
@@ -861,6 +875,199 @@ public class NativeSession extends CoreSession implements Serializable {
         }
     }
 
+    /**
+     * Sends a group of independent queries to the server using command pipelining, i.e., all queries are written before their results are read, thus saving
+     * one network round trip per query. Results are always fully buffered.
+     *
+     * Queries that may require further client interaction, such as "LOAD DATA LOCAL INFILE", are executed in isolation. Pipelining is not used at all when
+     * features that depend on the strict command/response alternation are enabled, namely compression, query interceptors, profiling and slow query logging.
+     * In such cases the queries are still executed, one at a time.
+     *
+     * To ensure that Statement's queries are serialized, calls to this method should be enclosed in a connection locked block.
+     *
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param callingQuery
+     *            {@link Query} object
+     * @param queries
+     *            the SQL statements to be executed
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param resultConsumer
+     *            receives, in the same order as the queries, either the result of each query or the exception it produced
+     */
+    public <T extends Resultset> void execSQLPipelined(Query callingQuery, List<String> queries, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory,
+            BiConsumer<T, CJException> resultConsumer) {
+        boolean pipeliningAllowed = isPipeliningAllowed();
+        boolean noBackslashEscapes = getServerSession().isNoBackslashEscapesSet();
+        boolean multiQueries = getPropertySet().getBooleanProperty(PropertyKey.allowMultiQueries).getValue();
+        List<NativePacketPayload> pipeline = new ArrayList<>();
+
+        for (String query : queries) {
+            boolean mayLoadLocalData = "LOAD".equalsIgnoreCase(QueryInfo.getStatementKeyword(query, noBackslashEscapes))
+                    || multiQueries && StringUtils.indexOfIgnoreCase(query, "LOAD") != -1;
+            if (pipeliningAllowed && !mayLoadLocalData) {
+                pipeline.add(this.commandBuilder.buildComQuery(null, this, query, callingQuery, this.characterEncoding.getValue()));
+                continue;
+            }
+
+            execSQLPipeline(pipeline, resultSetFactory, resultConsumer);
+            pipeline.clear();
+
+            T rs;
+            try {
+                rs = execSQL(callingQuery, query, -1, null, false, resultSetFactory, null, false);
+            } catch (CJCommunicationsException e) {
+                throw e;
+            } catch (CJException e) {
+                resultConsumer.accept(null, e);
+                continue;
+            }
+            resultConsumer.accept(rs, null);
+        }
+
+        execSQLPipeline(pipeline, resultSetFactory, resultConsumer);
+    }
+
+    private <T extends Resultset> void execSQLPipeline(List<NativePacketPayload> pipeline, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory,
+            BiConsumer<T, CJException> resultConsumer) {
+        if (pipeline.isEmpty()) {
+            return;
+        }
+
+        this.lastQueryFinishedTime = 0; // we're busy!
+        try {
+            ((NativeProtocol) this.protocol).sendPipelinedQueryPackets(pipeline, resultSetFactory, resultConsumer);
+
+        } catch (CJException sqlE) {
+            if (this.autoReconnect.getValue()) {
+                if (sqlE instanceof CJCommunicationsException) {
+                    // IO may be dirty or damaged beyond repair, force close it.
+                    this.protocol.getSocketConnection().forceClose();
+                }
+                this.needsPing = true;
+            } else if (sqlE instanceof CJCommunicationsException) {
+                invokeCleanupListeners(sqlE);
+            }
+            throw sqlE;
+
+        } finally {
+            if (this.maintainTimeStats.getValue()) {
+                this.lastQueryFinishedTime = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Sends a multi-statement query to the server and delivers the result of each statement separately. Multi-statements support must have been enabled
+     * beforehand, either with "allowMultiQueries" or with {@link #enableMultiQueries()}.
+     *
+     * To ensure that Statement's queries are serialized, calls to this method should be enclosed in a connection locked block.
+     *
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param callingQuery
+     *            {@link Query} object
+     * @param query
+     *            the statements to be executed, separated by semicolons; ignored if a packet is given
+     * @param packet
+     *            the query packet, or null to build it from the query string
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param resultConsumer
+     *            receives, in the same order as the statements, either the result of each statement or the exception it produced; the server doesn't execute
+     *            the statements that follow a failed one
+     * @see #isMultiStatementBatchingAllowed()
+     */
+    public <T extends Resultset> void execSQLMultiStatement(Query callingQuery, String query, NativePacketPayload packet,
+            ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, BiConsumer<T, CJException> resultConsumer) {
+        this.lastQueryFinishedTime = 0; // we're busy!
+        try {
+            if (packet == null) {
+                packet = this.commandBuilder.buildComQuery(null, this, query, callingQuery, this.characterEncoding.getValue());
+            }
+            ((NativeProtocol) this.protocol).sendMultiStatementQueryPacket(packet, resultSetFactory, resultConsumer);
+
+        } catch (CJException sqlE) {
+            if (this.autoReconnect.getValue()) {
+                if (sqlE instanceof CJCommunicationsException) {
+                    // IO may be dirty or damaged beyond repair, force close it.
+                    this.protocol.getSocketConnection().forceClose();
+                }
+                this.needsPing = true;
+            } else if (sqlE instanceof CJCommunicationsException) {
+                invokeCleanupListeners(sqlE);
+            }
+            throw sqlE;
+
+        } finally {
+            if (this.maintainTimeStats.getValue()) {
+                this.lastQueryFinishedTime = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Checks whether batches may be sent with {@link #execSQLMultiStatement(Query, String, NativePacketPayload, ProtocolEntityFactory, BiConsumer)}. This is
+     * not the case when features that depend on seeing each statement and its result on their own are enabled, namely query interceptors, profiling, slow
+     * query logging, testcase generation and InnoDB deadlock status lookups.
+     *
+     * @return true if multi-statement batches are allowed
+     */
+    public boolean isMultiStatementBatchingAllowed() {
+        PropertySet pset = getPropertySet();
+        return ((NativeProtocol) this.protocol).getQueryInterceptors() == null && !pset.getBooleanProperty(PropertyKey.profileSQL).getValue()
+                && !pset.getBooleanProperty(PropertyKey.logSlowQueries).getValue()
+                && !pset.getBooleanProperty(PropertyKey.autoGenerateTestcaseScript).getValue()
+                && !pset.getBooleanProperty(PropertyKey.includeInnodbStatusInDeadlockExceptions).getValue();
+    }
+
+    private boolean isPipeliningAllowed() {
+        PropertySet pset = getPropertySet();
+        return !pset.getBooleanProperty(PropertyKey.useCompression).getValue() && ((NativeProtocol) this.protocol).getQueryInterceptors() == null
+                && !pset.getBooleanProperty(PropertyKey.profileSQL).getValue() && !pset.getBooleanProperty(PropertyKey.logSlowQueries).getValue()
+                && !pset.getBooleanProperty(PropertyKey.autoGenerateTestcaseScript).getValue()
+                && !pset.getBooleanProperty(PropertyKey.includeInnodbStatusInDeadlockExceptions).getValue();
+    }
+
+    /**
+     * Returns the {@link Executor} that runs the asynchronous operations issued against this session, one at a time and in submission order. Unless
+     * {@link #setAsyncExecutor(Executor)} was called, operations run on a daemon thread owned by this session, so a slow session never delays the
+     * operations of other sessions.
+     *
+     * @return an {@link Executor}
+     */
+    public Executor getAsyncExecutor() {
+        getSessionLock().lock();
+        try {
+            if (this.asyncExecutor == null) {
+                this.asyncExecutor = new SerialExecutor("MySQL Async Executor - " + getThreadId());
+            }
+            return this.asyncExecutor;
+        } finally {
+            getSessionLock().unlock();
+        }
+    }
+
+    /**
+     * Sets the {@link Executor} on top of which the asynchronous operations issued against this session run, or null to use a thread owned by this session.
+     * Operations are still run one at a time and in submission order, but each one holds an executor thread while it blocks on I/O.
+     *
+     * @param executor
+     *            the executor to use or null
+     */
+    public void setAsyncExecutor(Executor executor) {
+        getSessionLock().lock();
+        try {
+            if (this.asyncExecutor != null) {
+                this.asyncExecutor.shutdown();
+            }
+            this.asyncExecutor = executor == null ? null : new SerialExecutor(executor);
+        } finally {
+            getSessionLock().unlock();
+        }
+    }
+
     public long getIdleFor() {
         return this.lastQueryFinishedTime == 0 ? 0 : System.currentTimeMillis() - this.lastQueryFinishedTime;
     }
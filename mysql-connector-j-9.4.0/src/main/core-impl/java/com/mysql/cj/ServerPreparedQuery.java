@@ -25,6 +25,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.sql.Clob;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.RuntimeProperty;
@@ -44,6 +46,8 @@ import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.NativeMessageBuilder;
 import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeServerSession;
+import com.mysql.cj.result.DefaultColumnDefinition;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.telemetry.TelemetryAttribute;
 import com.mysql.cj.telemetry.TelemetryScope;
@@ -68,6 +72,9 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
     /** Field-level metadata for result sets. From statement prepare. */
     private ColumnDefinition resultFields;
 
+    /** Field-level metadata of the result set of the last execution, when the server can be asked to omit it from the next ones. */
+    private ColumnDefinition executeResultFields;
+
     /** The "profileSQL" connection property value */
     protected boolean profileSQL = false;
 
@@ -84,6 +91,12 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
     protected RuntimeProperty<Boolean> explainSlowQueries;
     protected boolean useCursorFetch = false;
 
+    /** The "shareServerPrepStmtMetadata" connection property value */
+    protected boolean shareServerPrepStmtMetadata = false;
+
+    /** The "optionalResultSetMetadata" connection property value */
+    protected boolean optionalResultSetMetadata = false;
+
     protected boolean queryWasSlow = false;
 
     protected NativeMessageBuilder commandBuilder = null;
@@ -104,6 +117,8 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
         this.slowQueryThresholdMillis = sess.getPropertySet().getIntegerProperty(PropertyKey.slowQueryThresholdMillis);
         this.explainSlowQueries = sess.getPropertySet().getBooleanProperty(PropertyKey.explainSlowQueries);
         this.useCursorFetch = sess.getPropertySet().getBooleanProperty(PropertyKey.useCursorFetch).getValue();
+        this.shareServerPrepStmtMetadata = sess.getPropertySet().getBooleanProperty(PropertyKey.shareServerPrepStmtMetadata).getValue();
+        this.optionalResultSetMetadata = sess.getPropertySet().getBooleanProperty(PropertyKey.optionalResultSetMetadata).getValue();
         this.commandBuilder = (NativeMessageBuilder) sess.getProtocol().getMessageBuilder();
     }
 
@@ -120,6 +135,11 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
         try {
             long begin = this.profileSQL ? System.currentTimeMillis() : 0;
 
+            ServerPreparedStatementDescriptor.Key descriptorKey = this.shareServerPrepStmtMetadata
+                    ? ServerPreparedStatementDescriptor.keyFor(this.session, getCurrentDatabase(), sql)
+                    : null;
+            ServerPreparedStatementDescriptor descriptor = descriptorKey == null ? null : ServerPreparedStatementDescriptor.get(descriptorKey);
+
             NativePacketPayload prepareResultPacket = this.session.getProtocol()
                     .sendCommand(this.commandBuilder.buildComStmtPrepare(this.session.getSharedSendPacket(), sql,
                             this.session.getPropertySet().getStringProperty(PropertyKey.characterEncoding).getValue()), false, 0);
@@ -128,6 +148,7 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
             prepareResultPacket.setPosition(1);
 
             this.serverStatementId = prepareResultPacket.readInteger(IntegerDataType.INT4);
+            this.executeResultFields = null;
             int fieldCount = (int) prepareResultPacket.readInteger(IntegerDataType.INT2);
             setParameterCount((int) prepareResultPacket.readInteger(IntegerDataType.INT2));
 
@@ -144,9 +165,17 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
 
             boolean checkEOF = !this.session.getServerSession().isEOFDeprecated();
 
+            if (descriptor != null && (descriptor.getParameterCount() != this.parameterCount || descriptor.getFieldCount() != fieldCount)) {
+                descriptor = null; // The statement has changed since it was described, decode the new definitions.
+            }
+            boolean describedAgain = descriptor == null;
+
             if (this.parameterCount > 0) {
+                // The definitions of a described statement are compared to the ones received rather than decoded, the ones that changed are decoded.
+                ColumnDefinition describedParameters = descriptor == null ? null : new DefaultColumnDefinition(descriptor.getParameterFields());
                 ColumnDefinition columnDefinitions = this.session.getProtocol().read(ColumnDefinition.class,
-                        new ColumnDefinitionFactory(this.parameterCount, null));
+                        new ColumnDefinitionFactory(this.parameterCount, describedParameters, true));
+                describedAgain |= columnDefinitions != describedParameters;
                 this.queryBindings.setColumnDefinition(columnDefinitions);
                 this.parameterFields = columnDefinitions.getFields();
 
@@ -157,11 +186,19 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
 
             // Read in the result set column information
             if (fieldCount > 0) {
-                this.resultFields = this.session.getProtocol().read(ColumnDefinition.class, new ColumnDefinitionFactory(fieldCount, null));
+                ColumnDefinition describedResultFields = descriptor == null ? null : new DefaultColumnDefinition(descriptor.getResultFields());
+                this.resultFields = this.session.getProtocol().read(ColumnDefinition.class,
+                        new ColumnDefinitionFactory(fieldCount, describedResultFields, true));
+                describedAgain |= this.resultFields != describedResultFields;
                 if (checkEOF && this.session.getProtocol().probeMessage(null).isEOFPacket()) { // Skip the following EOF packet.
                     this.session.getProtocol().skipPacket();
                 }
             }
+
+            if (descriptorKey != null && describedAgain) {
+                ServerPreparedStatementDescriptor.put(descriptorKey, new ServerPreparedStatementDescriptor(this.parameterCount,
+                        this.parameterCount > 0 ? this.parameterFields : null, fieldCount, fieldCount > 0 ? this.resultFields.getFields() : null));
+            }
         } finally {
             this.session.getSessionLock().unlock();
         }
@@ -273,6 +310,10 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
 
             statementBegins();
 
+            if (isResultSetMetadataOptional()) {
+                this.session.getProtocol().setResultSetMetadataSuppressedForNextExecute(this.executeResultFields != null);
+            }
+
             NativePacketPayload resultPacket = this.session.getProtocol().sendCommand(packet, false, 0);
 
             final long queryEndTime = this.session.getCurrentTimeNanosOrMillis();
@@ -321,14 +362,34 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
         }
     }
 
+    private boolean isResultSetMetadataOptional() {
+        return this.optionalResultSetMetadata && this.session.getServerSession().supportsOptionalResultSetMetadata();
+    }
+
     public <T extends Resultset> T readExecuteResult(NativePacketPayload resultPacket, int maxRowsToRetrieve, boolean createStreamingResultSet,
             ColumnDefinition metadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, String queryAsString) {
         // TODO queryAsString should be shared instead of passed
         try {
             long fetchStartTime = this.profileSQL ? this.session.getCurrentTimeNanosOrMillis() : 0;
 
+            ColumnDefinition knownResultFields = this.executeResultFields;
             T rs = this.session.getProtocol().readAllResults(maxRowsToRetrieve, createStreamingResultSet, resultPacket, true,
-                    metadata != null ? metadata : this.resultFields, resultSetFactory);
+                    knownResultFields != null ? knownResultFields : metadata != null ? metadata : this.resultFields, resultSetFactory);
+
+            if (isResultSetMetadataOptional()) {
+                // The column definitions of a single result set can be reused when the server omits them, these of multiple ones can't be told apart.
+                ColumnDefinition resultFields = rs.hasRows() && rs.getNextResultset() == null ? rs.getColumnDefinition() : null;
+                if ((this.session.getServerSession().getStatusFlags() & NativeServerSession.SERVER_STATUS_METADATA_CHANGED) != 0) {
+                    // The server prepared the statement again with other metadata, e.g., after a table was altered. The new column definitions replace the
+                    // ones known if they were sent, otherwise none is kept and they are asked for on the next execution.
+                    if (resultFields != null && resultFields != knownResultFields) {
+                        this.resultFields = resultFields;
+                    } else {
+                        resultFields = null;
+                    }
+                }
+                this.executeResultFields = resultFields;
+            }
 
             if (this.session.shouldIntercept()) {
                 T interceptedResults = this.session.invokeQueryInterceptorsPost(this::getOriginalSql, this, rs, true);
@@ -450,6 +511,7 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
         this.queryBindings = null;
         this.parameterFields = null;
         this.resultFields = null;
+        this.executeResultFields = null;
         super.closeQuery();
     }
 
@@ -616,6 +678,14 @@ public class ServerPreparedQuery extends ClientPreparedQuery {
         }
     }
 
+    /**
+     * Server-side prepared statements batch clones of their own bindings, which carry execution state that columnar parameter sets don't keep.
+     */
+    @Override
+    protected List<Object> createBatchedArgs() {
+        return new ArrayList<>();
+    }
+
     /**
      * Computes the maximum parameter set size and the size of the entire batch given
      * the number of arguments in the batch.
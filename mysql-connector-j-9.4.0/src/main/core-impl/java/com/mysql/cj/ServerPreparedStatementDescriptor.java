@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj;
+
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.protocol.ServerSession;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.util.ConcurrentLRUCache;
+
+/**
+ * The metadata of a server-side prepared statement that doesn't depend on the connection it was prepared on: its parameters and the columns of its results.
+ * <p>
+ * Descriptors are shared by all the connections of the JVM, so that a statement already prepared by another connection to the same server doesn't need the
+ * parameter and column definitions of the COM_STMT_PREPARE response to be decoded again: they are only compared, byte by byte, with the ones the descriptor
+ * was decoded from. They are keyed by the server, the user, the current database, the session settings and connection properties the definitions depend on
+ * and the SQL. A descriptor is replaced when the server sends definitions that differ from its own, e.g., after a change of the underlying tables or of a
+ * session variable set by a statement.
+ * <p>
+ * Fields are changed while the rows they describe are decoded, so a descriptor keeps its own copies of the fields it is created with and gives out new
+ * copies, one for each statement prepared with it.
+ */
+public final class ServerPreparedStatementDescriptor {
+
+    private static final int MAX_SIZE = 4096;
+
+    private static final ConcurrentLRUCache<Key, ServerPreparedStatementDescriptor> descriptors = new ConcurrentLRUCache<>(MAX_SIZE);
+
+    private final int parameterCount;
+    private final Field[] parameterFields;
+    private final int fieldCount;
+    private final Field[] resultFields;
+
+    ServerPreparedStatementDescriptor(int parameterCount, Field[] parameterFields, int fieldCount, Field[] resultFields) {
+        this.parameterCount = parameterCount;
+        this.parameterFields = copyOf(parameterFields);
+        this.fieldCount = fieldCount;
+        this.resultFields = copyOf(resultFields);
+    }
+
+    private static Field[] copyOf(Field[] fields) {
+        if (fields == null) {
+            return null;
+        }
+        Field[] copies = new Field[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            copies[i] = new Field(fields[i]);
+        }
+        return copies;
+    }
+
+    /**
+     * Returns the key of the descriptor of a statement prepared by the given session.
+     *
+     * @param session
+     *            the session preparing the statement
+     * @param database
+     *            the database in use when the statement is prepared
+     * @param sql
+     *            the SQL of the statement
+     * @return the key to look the descriptor up with
+     */
+    static Key keyFor(NativeSession session, String database, String sql) {
+        HostInfo hostInfo = session.getHostInfo();
+        PropertySet propertySet = session.getPropertySet();
+        ServerSession serverSession = session.getServerSession();
+        String server = hostInfo.getUser() + "@" + hostInfo.getHost() + ":" + hostInfo.getPort() + "/" + serverSession.getServerVersion();
+        String settings = propertySet.getStringProperty(PropertyKey.characterEncoding).getValue() + "/"
+                + propertySet.getStringProperty(PropertyKey.characterSetResults).getValue() + "/"
+                + propertySet.getStringProperty(PropertyKey.connectionCollation).getValue() + "/"
+                + propertySet.getStringProperty(PropertyKey.customCharsetMapping).getValue() + "/"
+                + propertySet.getStringProperty(PropertyKey.sessionVariables).getValue() + "/"
+                + serverSession.getServerVariable("sql_mode") + "/" + serverSession.getCharsetSettings().getMetadataEncoding() + "/"
+                + propertySet.getBooleanProperty(PropertyKey.tinyInt1isBit).getValue() + "/"
+                + propertySet.getBooleanProperty(PropertyKey.transformedBitIsBoolean).getValue() + "/"
+                + propertySet.getBooleanProperty(PropertyKey.blobsAreStrings).getValue() + "/"
+                + propertySet.getBooleanProperty(PropertyKey.functionsNeverReturnBlobs).getValue();
+        return new Key(server, database, settings, sql);
+    }
+
+    static ServerPreparedStatementDescriptor get(Key key) {
+        return descriptors.get(key);
+    }
+
+    static void put(Key key, ServerPreparedStatementDescriptor descriptor) {
+        descriptors.put(key, descriptor);
+    }
+
+    /**
+     * Removes all the descriptors, e.g., after the schema of the tables they describe has changed.
+     */
+    public static void clear() {
+        descriptors.clear();
+    }
+
+    /**
+     * Returns the number of descriptors shared by the connections of this JVM.
+     *
+     * @return the number of descriptors
+     */
+    public static int size() {
+        return descriptors.size();
+    }
+
+    public int getParameterCount() {
+        return this.parameterCount;
+    }
+
+    /**
+     * Returns copies of the parameter definitions, owned by the caller.
+     *
+     * @return the parameter fields or null if the statement has no parameters
+     */
+    public Field[] getParameterFields() {
+        return copyOf(this.parameterFields);
+    }
+
+    public int getFieldCount() {
+        return this.fieldCount;
+    }
+
+    /**
+     * Returns copies of the result column definitions, owned by the caller.
+     *
+     * @return the result fields or null if the statement has no results
+     */
+    public Field[] getResultFields() {
+        return copyOf(this.resultFields);
+    }
+
+    static final class Key {
+
+        private final String server;
+        private final String database;
+        private final String settings;
+        private final String sql;
+        private final int hashCode;
+
+        Key(String server, String database, String settings, String sql) {
+            this.server = server;
+            this.database = database;
+            this.settings = settings;
+            this.sql = sql;
+            int h = sql.hashCode();
+            h = 31 * h + server.hashCode();
+            h = 31 * h + (database == null ? 0 : database.hashCode());
+            this.hashCode = 31 * h + settings.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return this.hashCode == other.hashCode && this.sql.equals(other.sql) && this.server.equals(other.server)
+                    && (this.database == null ? other.database == null : this.database.equals(other.database)) && this.settings.equals(other.settings);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+    }
+
+}
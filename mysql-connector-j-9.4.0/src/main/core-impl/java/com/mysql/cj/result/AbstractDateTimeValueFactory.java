@@ -115,7 +115,7 @@ public abstract class AbstractDateTimeValueFactory<T> extends DefaultValueFactor
             return createFromLong(0);
         }
 
-        String s = StringUtils.toString(bytes, offset, length, f.getEncoding());
+        String s = StringUtils.toString(bytes, offset, length, f.getCharset());
         byte[] newBytes = s.getBytes();
 
         if (MysqlTextValueDecoder.isDate(s)) {
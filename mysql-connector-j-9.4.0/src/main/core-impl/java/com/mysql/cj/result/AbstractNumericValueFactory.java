@@ -49,7 +49,7 @@ public abstract class AbstractNumericValueFactory<T> extends DefaultValueFactory
             return createFromLong(0);
         }
 
-        String s = StringUtils.toString(bytes, offset, length, f.getEncoding());
+        String s = StringUtils.toString(bytes, offset, length, f.getCharset());
         byte[] newBytes = s.getBytes();
 
         if (s.contains("e") || s.contains("E") || FLOATING_POINT_PTRN.matcher(s).matches()) {
@@ -0,0 +1,485 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.result.FlatBufferEncoder.Structs;
+import com.mysql.cj.result.FlatBufferEncoder.Table;
+
+/**
+ * Writes column batches as an Apache Arrow IPC stream: a schema message, followed by one record batch message per {@link ColumnBatch} and the end-of-stream
+ * marker.
+ * <p>
+ * Column types map to Arrow types as follows:
+ * <ul>
+ * <li>integer columns up to INT, including unsigned ones up to MEDIUMINT UNSIGNED, and YEAR: Int32;</li>
+ * <li>INT UNSIGNED and BIGINT: Int64; BIGINT UNSIGNED: UInt64;</li>
+ * <li>FLOAT and DOUBLE: Float64;</li>
+ * <li>DATE: Date32; DATETIME and TIMESTAMP: Timestamp with microsecond unit and no time zone, holding the values as returned by the server; zero dates
+ * are written as nulls;</li>
+ * <li>binary strings, BLOBs, BIT, GEOMETRY and VECTOR: Binary;</li>
+ * <li>everything else, including DECIMAL and TIME: Utf8, holding the same string representation as ResultSet.getString().</li>
+ * </ul>
+ */
+public class ArrowStreamWriter {
+
+    private static final short METADATA_VERSION_V5 = 4;
+
+    private static final byte MESSAGE_HEADER_SCHEMA = 1;
+    private static final byte MESSAGE_HEADER_RECORD_BATCH = 3;
+
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_FLOATING_POINT = 3;
+    private static final byte TYPE_BINARY = 4;
+    private static final byte TYPE_UTF8 = 5;
+    private static final byte TYPE_DATE = 8;
+    private static final byte TYPE_TIMESTAMP = 10;
+
+    private static final short PRECISION_DOUBLE = 2;
+    private static final short DATE_UNIT_DAY = 0;
+    private static final short TIME_UNIT_MICROSECOND = 2;
+
+    private enum ArrowType {
+        INT32, INT64, UINT64, FLOAT64, DATE32, TIMESTAMP_MICROS, UTF8, BINARY;
+
+        static ArrowType forField(Field field) {
+            switch (ColumnVector.Kind.forType(field.getMysqlType())) {
+                case INT:
+                    return INT32;
+                case LONG:
+                    return field.getMysqlType() == MysqlType.BIGINT_UNSIGNED ? UINT64 : INT64;
+                case DOUBLE:
+                    return FLOAT64;
+                default:
+                    break;
+            }
+            switch (field.getMysqlType()) {
+                case DATE:
+                    return DATE32;
+                case DATETIME:
+                case TIMESTAMP:
+                    return TIMESTAMP_MICROS;
+                case BINARY:
+                case VARBINARY:
+                case TINYBLOB:
+                case BLOB:
+                case MEDIUMBLOB:
+                case LONGBLOB:
+                case BIT:
+                case GEOMETRY:
+                case VECTOR:
+                case UNKNOWN:
+                    return BINARY;
+                default:
+                    return UTF8;
+            }
+        }
+
+        Table toTable() {
+            switch (this) {
+                case INT32:
+                    return new Table(2).set(0, 32).set(1, true);
+                case INT64:
+                    return new Table(2).set(0, 64).set(1, true);
+                case UINT64:
+                    return new Table(2).set(0, 64).set(1, false);
+                case FLOAT64:
+                    return new Table(1).set(0, PRECISION_DOUBLE);
+                case DATE32:
+                    return new Table(1).set(0, DATE_UNIT_DAY);
+                case TIMESTAMP_MICROS:
+                    return new Table(1).set(0, TIME_UNIT_MICROSECOND);
+                default:
+                    return new Table(0);
+            }
+        }
+
+        byte typeId() {
+            switch (this) {
+                case INT32:
+                case INT64:
+                case UINT64:
+                    return TYPE_INT;
+                case FLOAT64:
+                    return TYPE_FLOATING_POINT;
+                case DATE32:
+                    return TYPE_DATE;
+                case TIMESTAMP_MICROS:
+                    return TYPE_TIMESTAMP;
+                case BINARY:
+                    return TYPE_BINARY;
+                default:
+                    return TYPE_UTF8;
+            }
+        }
+    }
+
+    private final WritableByteChannel channel;
+    private final Field[] fields;
+    private final ArrowType[] types;
+    private boolean schemaWritten = false;
+    private long rowsWritten = 0;
+
+    // Body of the record batch being written, and the offsets and lengths of its buffers.
+    private ByteBuffer body = ByteBuffer.allocate(8192).order(ByteOrder.LITTLE_ENDIAN);
+    private long[] bufferSpecs = new long[16];
+    private int bufferCount = 0;
+
+    /**
+     * Creates a writer for the given columns. Nothing is written until the first batch, or until {@link #end()} is called.
+     *
+     * @param channel
+     *            destination channel, which is not closed by this writer
+     * @param fields
+     *            columns of the batches to write
+     */
+    public ArrowStreamWriter(WritableByteChannel channel, Field[] fields) {
+        this.channel = channel;
+        this.fields = fields;
+        this.types = new ArrowType[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            this.types[i] = ArrowType.forField(fields[i]);
+        }
+    }
+
+    /**
+     * Returns the number of rows written so far.
+     *
+     * @return number of rows
+     */
+    public long getRowsWritten() {
+        return this.rowsWritten;
+    }
+
+    /**
+     * Writes the given batch as a record batch message. Empty batches are skipped.
+     *
+     * @param batch
+     *            batch having the columns this writer was created for
+     * @throws IOException
+     *             if writing to the channel fails
+     */
+    public void writeBatch(ColumnBatch batch) throws IOException {
+        writeSchema();
+        int rows = batch.size();
+        if (rows == 0) {
+            return;
+        }
+
+        this.body.clear();
+        this.bufferCount = 0;
+        long[] nodes = new long[2 * this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            nodes[2 * i + 1] = writeColumn(batch.getColumn(i), this.types[i], rows);
+            nodes[2 * i] = rows;
+        }
+
+        Table recordBatch = new Table(3).set(0, (long) rows).set(1, new Structs(nodes))
+                .set(2, new Structs(Arrays.copyOf(this.bufferSpecs, 2 * this.bufferCount)));
+        writeMessage(MESSAGE_HEADER_RECORD_BATCH, recordBatch, this.body.position());
+        this.rowsWritten += rows;
+    }
+
+    /**
+     * Writes the end-of-stream marker, and the schema if no batch was written.
+     *
+     * @throws IOException
+     *             if writing to the channel fails
+     */
+    public void end() throws IOException {
+        writeSchema();
+        ByteBuffer eos = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        eos.putInt(-1).putInt(0).flip();
+        writeFully(eos);
+    }
+
+    private void writeSchema() throws IOException {
+        if (this.schemaWritten) {
+            return;
+        }
+        Table[] arrowFields = new Table[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            String name = this.fields[i].getName();
+            arrowFields[i] = new Table(6).set(0, name == null ? "" : name).set(1, true).set(2, this.types[i].typeId()).set(3, this.types[i].toTable())
+                    .set(5, new Table[0]);
+        }
+        Table schema = new Table(2).set(0, (short) 0 /* little endian */).set(1, arrowFields);
+        writeMessage(MESSAGE_HEADER_SCHEMA, schema, 0);
+        this.schemaWritten = true;
+    }
+
+    private void writeMessage(byte headerType, Table header, int bodyLength) throws IOException {
+        Table message = new Table(4).set(0, METADATA_VERSION_V5).set(1, headerType).set(2, header).set(3, (long) bodyLength);
+        byte[] metadata = FlatBufferEncoder.encode(message);
+        int metadataSize = (metadata.length + 7 & -8);
+
+        ByteBuffer prefix = ByteBuffer.allocate(8 + metadataSize).order(ByteOrder.LITTLE_ENDIAN);
+        prefix.putInt(-1); // continuation marker
+        prefix.putInt(metadataSize);
+        prefix.put(metadata);
+        prefix.clear();
+        writeFully(prefix);
+
+        if (bodyLength > 0) {
+            this.body.flip();
+            writeFully(this.body);
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+    }
+
+    /**
+     * Writes the buffers of one column to the body.
+     *
+     * @return the null count
+     */
+    private long writeColumn(ColumnVector column, ArrowType type, int rows) {
+        long[] nulls = column.getNullBitmap();
+        int words = rows + 63 >>> 6;
+
+        switch (type) {
+            case INT32: {
+                int nullCount = writeValidity(nulls, words, rows);
+                int start = beginBuffer(4 * rows);
+                for (int i = 0; i < rows; i++) {
+                    this.body.putInt(column.getInt(i));
+                }
+                endBuffer(start);
+                return nullCount;
+            }
+            case INT64:
+            case UINT64: {
+                int nullCount = writeValidity(nulls, words, rows);
+                int start = beginBuffer(8 * rows);
+                for (int i = 0; i < rows; i++) {
+                    this.body.putLong(column.getLong(i));
+                }
+                endBuffer(start);
+                return nullCount;
+            }
+            case FLOAT64: {
+                int nullCount = writeValidity(nulls, words, rows);
+                int start = beginBuffer(8 * rows);
+                for (int i = 0; i < rows; i++) {
+                    this.body.putDouble(column.getDouble(i));
+                }
+                endBuffer(start);
+                return nullCount;
+            }
+            case DATE32: {
+                long[] validNulls = Arrays.copyOf(nulls, words);
+                int[] days = new int[rows];
+                for (int i = 0; i < rows; i++) {
+                    if (!column.isNull(i)) {
+                        long epochDay = parseEpochDay(column.getData(), column.getOffsets()[i], column.getOffsets()[i + 1]);
+                        if (epochDay == Long.MIN_VALUE) {
+                            validNulls[i >>> 6] |= 1L << i;
+                        } else {
+                            days[i] = (int) epochDay;
+                        }
+                    }
+                }
+                int nullCount = writeValidity(validNulls, words, rows);
+                int start = beginBuffer(4 * rows);
+                for (int i = 0; i < rows; i++) {
+                    this.body.putInt(days[i]);
+                }
+                endBuffer(start);
+                return nullCount;
+            }
+            case TIMESTAMP_MICROS: {
+                long[] validNulls = Arrays.copyOf(nulls, words);
+                long[] micros = new long[rows];
+                for (int i = 0; i < rows; i++) {
+                    if (!column.isNull(i)) {
+                        int from = column.getOffsets()[i];
+                        int to = column.getOffsets()[i + 1];
+                        long epochDay = parseEpochDay(column.getData(), from, to);
+                        long timeOfDay = parseTimeOfDayMicros(column.getData(), from + 11, to);
+                        if (epochDay == Long.MIN_VALUE || timeOfDay < 0) {
+                            validNulls[i >>> 6] |= 1L << i;
+                        } else {
+                            micros[i] = epochDay * 86_400_000_000L + timeOfDay;
+                        }
+                    }
+                }
+                int nullCount = writeValidity(validNulls, words, rows);
+                int start = beginBuffer(8 * rows);
+                for (int i = 0; i < rows; i++) {
+                    this.body.putLong(micros[i]);
+                }
+                endBuffer(start);
+                return nullCount;
+            }
+            default: {
+                int nullCount = writeValidity(nulls, words, rows);
+                int[] offsets = column.getOffsets();
+                byte[] data = column.getData();
+                Charset cs = column.getField().getCharset();
+                if (type == ArrowType.UTF8 && cs != null && !StandardCharsets.UTF_8.equals(cs) && !StandardCharsets.US_ASCII.equals(cs)) {
+                    // Arrow strings are UTF-8, re-encode values from other character sets
+                    offsets = new int[rows + 1];
+                    ByteArrayOutputStream utf8 = new ByteArrayOutputStream(column.getOffsets()[rows] * 2 + 16);
+                    for (int i = 0; i < rows; i++) {
+                        String value = column.getString(i);
+                        if (value != null) {
+                            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                            utf8.write(bytes, 0, bytes.length);
+                        }
+                        offsets[i + 1] = utf8.size();
+                    }
+                    data = utf8.toByteArray();
+                }
+
+                int start = beginBuffer(4 * (rows + 1));
+                for (int i = 0; i <= rows; i++) {
+                    this.body.putInt(offsets[i]);
+                }
+                endBuffer(start);
+
+                start = beginBuffer(offsets[rows]);
+                this.body.put(data, 0, offsets[rows]);
+                endBuffer(start);
+                return nullCount;
+            }
+        }
+    }
+
+    /**
+     * Writes the validity bitmap, where set bits mark non-null values, or an empty buffer if there are no nulls.
+     *
+     * @return the null count
+     */
+    private int writeValidity(long[] nulls, int words, int rows) {
+        int nullCount = 0;
+        for (int w = 0; w < words; w++) {
+            nullCount += Long.bitCount(nulls[w]);
+        }
+        if (nullCount == 0) {
+            endBuffer(beginBuffer(0));
+            return 0;
+        }
+        int start = beginBuffer(8 * words);
+        for (int w = 0; w < words; w++) {
+            long valid = ~nulls[w];
+            if (w == words - 1 && (rows & 63) != 0) {
+                valid &= (1L << (rows & 63)) - 1;
+            }
+            this.body.putLong(valid);
+        }
+        endBuffer(start);
+        return nullCount;
+    }
+
+    private int beginBuffer(int length) {
+        int required = this.body.position() + length + 8;
+        if (required > this.body.capacity()) {
+            ByteBuffer newBody = ByteBuffer.allocate(Math.max(required, this.body.capacity() * 2)).order(ByteOrder.LITTLE_ENDIAN);
+            this.body.flip();
+            newBody.put(this.body);
+            this.body = newBody;
+        }
+        return this.body.position();
+    }
+
+    private void endBuffer(int start) {
+        if (2 * this.bufferCount + 2 > this.bufferSpecs.length) {
+            this.bufferSpecs = Arrays.copyOf(this.bufferSpecs, this.bufferSpecs.length * 2);
+        }
+        this.bufferSpecs[2 * this.bufferCount] = start;
+        this.bufferSpecs[2 * this.bufferCount + 1] = this.body.position() - start;
+        this.bufferCount++;
+
+        // buffers are padded to 8 bytes
+        while ((this.body.position() & 7) != 0) {
+            this.body.put((byte) 0);
+        }
+    }
+
+    private static int parseDigits(byte[] data, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = data[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException();
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Parses the date in the 'YYYY-MM-DD' prefix of the given value.
+     *
+     * @return the epoch day or Long.MIN_VALUE for zero or invalid dates
+     */
+    private static long parseEpochDay(byte[] data, int from, int to) {
+        try {
+            if (to - from < 10 || data[from + 4] != '-' || data[from + 7] != '-') {
+                return Long.MIN_VALUE;
+            }
+            return LocalDate.of(parseDigits(data, from, from + 4), parseDigits(data, from + 5, from + 7), parseDigits(data, from + 8, from + 10)).toEpochDay();
+        } catch (NumberFormatException | DateTimeException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Parses the time in the 'HH:MM:SS[.fraction]' value.
+     *
+     * @return microseconds since midnight, 0 if there is no time part or -1 if the time is invalid
+     */
+    private static long parseTimeOfDayMicros(byte[] data, int from, int to) {
+        if (to - from < 8) {
+            return 0;
+        }
+        try {
+            long seconds = parseDigits(data, from, from + 2) * 3600L + parseDigits(data, from + 3, from + 5) * 60L + parseDigits(data, from + 6, from + 8);
+            int fraction = 0;
+            if (to - from > 9 && data[from + 8] == '.') {
+                int digits = Math.min(6, to - from - 9);
+                fraction = parseDigits(data, from + 9, from + 9 + digits);
+                for (int i = digits; i < 6; i++) {
+                    fraction *= 10;
+                }
+            }
+            return seconds * 1_000_000L + fraction;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
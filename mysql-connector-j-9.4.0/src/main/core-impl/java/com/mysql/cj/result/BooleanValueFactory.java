@@ -85,7 +85,7 @@ public class BooleanValueFactory extends DefaultValueFactory<Boolean> {
             return createFromLong(0);
         }
 
-        String s = StringUtils.toString(bytes, offset, length, f.getEncoding());
+        String s = StringUtils.toString(bytes, offset, length, f.getCharset());
         byte[] newBytes = s.getBytes();
 
         if (s.equalsIgnoreCase("Y") || s.equalsIgnoreCase("yes") || s.equalsIgnoreCase("T") || s.equalsIgnoreCase("true")) {
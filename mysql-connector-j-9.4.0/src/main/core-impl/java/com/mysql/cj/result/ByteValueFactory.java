@@ -93,7 +93,7 @@ public class ByteValueFactory extends DefaultValueFactory<Byte> {
         if (length == 0 && this.pset.getBooleanProperty(PropertyKey.emptyStringsConvertToZero).getValue()) {
             return (byte) 0;
         }
-        String s = StringUtils.toString(bytes, offset, length, f.getEncoding());
+        String s = StringUtils.toString(bytes, offset, length, f.getCharset());
         byte[] newBytes = s.getBytes();
 
         if (this.jdbcCompliantTruncationForReads && newBytes.length != 1) {
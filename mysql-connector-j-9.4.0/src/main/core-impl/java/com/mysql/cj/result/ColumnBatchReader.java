@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.result.PrimitiveValueFactory.Source;
+
+/**
+ * Decodes rows into the column vectors of a {@link ColumnBatch}.
+ * <p>
+ * Integer and floating point values are decoded through a {@link PrimitiveValueFactory}, so they are written to the vectors without boxing. Character and
+ * binary values are copied straight from the row buffers into the vector bytes, without being decoded into strings. Not thread-safe, each instance must be
+ * used by one result set only.
+ */
+public class ColumnBatchReader {
+
+    private final PrimitiveValueFactory primitiveValueFactory = new PrimitiveValueFactory();
+    private final ValueFactory<Integer> integerValueFactory;
+    private final ValueFactory<Long> longValueFactory;
+    private final ValueFactory<Double> doubleValueFactory;
+    private final ValueFactory<String> stringValueFactory;
+    private final RawBytesValueFactory rawBytesValueFactory;
+
+    public ColumnBatchReader(PropertySet pset) {
+        this.integerValueFactory = new IntegerValueFactory(pset);
+        this.longValueFactory = new LongValueFactory(pset);
+        this.doubleValueFactory = new DoubleValueFactory(pset);
+        this.stringValueFactory = new StringValueFactory(pset);
+        this.rawBytesValueFactory = new RawBytesValueFactory(pset);
+    }
+
+    /**
+     * Decodes the given row and appends its values to the batch, which must not be full.
+     *
+     * @param row
+     *            row, with metadata set
+     * @param batch
+     *            batch having a vector for each column of the row
+     */
+    public void readRow(Row row, ColumnBatch batch) {
+        for (int i = 0, n = batch.getColumnCount(); i < n; i++) {
+            ColumnVector column = batch.getColumn(i);
+            if (row.getNull(i)) {
+                column.appendNull();
+                continue;
+            }
+            switch (column.getKind()) {
+                case INT:
+                    readInt(row, i, column);
+                    break;
+                case LONG:
+                    readLong(row, i, column);
+                    break;
+                case DOUBLE:
+                    readDouble(row, i, column);
+                    break;
+                default:
+                    readBytes(row, i, column);
+                    break;
+            }
+        }
+        batch.rowAppended();
+    }
+
+    private void readInt(Row row, int columnIndex, ColumnVector column) {
+        if (row.getValue(columnIndex, this.primitiveValueFactory) == Source.LONG) {
+            long l = this.primitiveValueFactory.getLong();
+            if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) {
+                column.appendInt((int) l);
+                return;
+            }
+        }
+        // Not an integer or out of range, let the regular value factory deal with it.
+        column.appendInt(row.getValue(columnIndex, this.integerValueFactory));
+    }
+
+    private void readLong(Row row, int columnIndex, ColumnVector column) {
+        if (row.getValue(columnIndex, this.primitiveValueFactory) == Source.LONG) {
+            column.appendLong(this.primitiveValueFactory.getLong());
+        } else if (column.getField().getMysqlType() == MysqlType.BIGINT_UNSIGNED) {
+            column.appendLong(Long.parseUnsignedLong(row.getValue(columnIndex, this.stringValueFactory)));
+        } else {
+            column.appendLong(row.getValue(columnIndex, this.longValueFactory));
+        }
+    }
+
+    private void readDouble(Row row, int columnIndex, ColumnVector column) {
+        Source source = row.getValue(columnIndex, this.primitiveValueFactory);
+        if (source == Source.DOUBLE) {
+            column.appendDouble(this.primitiveValueFactory.getDouble());
+        } else if (source == Source.LONG) {
+            column.appendDouble(this.primitiveValueFactory.getLong());
+        } else {
+            column.appendDouble(row.getValue(columnIndex, this.doubleValueFactory));
+        }
+    }
+
+    private void readBytes(Row row, int columnIndex, ColumnVector column) {
+        this.rawBytesValueFactory.target = column;
+        String value = row.getValue(columnIndex, this.rawBytesValueFactory);
+        if (value != null) {
+            // not received as raw bytes, e.g., a temporal value
+            column.appendString(value);
+        }
+    }
+
+    /**
+     * Appends raw values to the target vector, instead of decoding them; values of any other form are returned as strings.
+     */
+    private static class RawBytesValueFactory extends StringValueFactory {
+
+        ColumnVector target;
+
+        RawBytesValueFactory(PropertySet pset) {
+            super(pset);
+        }
+
+        @Override
+        public String createFromBytes(byte[] bytes, int offset, int length, Field f) {
+            this.target.appendBytes(bytes, offset, length);
+            return null;
+        }
+
+        @Override
+        public String createFromBit(byte[] bytes, int offset, int length) {
+            this.target.appendBytes(bytes, offset, length);
+            return null;
+        }
+
+    }
+
+}
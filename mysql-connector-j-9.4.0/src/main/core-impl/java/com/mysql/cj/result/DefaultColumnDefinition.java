@@ -20,9 +20,7 @@
 
 package com.mysql.cj.result;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
 import com.mysql.cj.protocol.ColumnDefinition;
 
@@ -34,22 +32,8 @@ public class DefaultColumnDefinition implements ColumnDefinition {
 
     protected Field[] fields;
 
-    /** Map column names (and all of their permutations) to column indices */
-    private Map<String, Integer> columnLabelToIndex = null;
-
-    /**
-     * The above map is a case-insensitive tree-map, it can be slow, this caches lookups into that map, because the other alternative is to create new
-     * object instances for every call to findColumn()....
-     */
-    private Map<String, Integer> columnToIndexCache = new HashMap<>();
-
-    /** Map of fully-specified column names to column indices */
-    private Map<String, Integer> fullColumnNameToIndex = null;
-
-    /** Map column names (and all of their permutations) to column indices */
-    private Map<String, Integer> columnNameToIndex = null;
-
-    private boolean builtIndexMapping = false;
+    /** Maps column labels, column names and fully-qualified column names to column indices, possibly shared with other result sets with the same columns */
+    private ColumnLabelIndex columnLabelIndex = null;
 
     public DefaultColumnDefinition() {
     }
@@ -65,6 +49,9 @@ public class DefaultColumnDefinition implements ColumnDefinition {
 
     @Override
     public void setFields(Field[] fields) {
+        if (fields != this.fields) {
+            this.columnLabelIndex = null;
+        }
         this.fields = fields;
     }
 
@@ -74,142 +61,63 @@ public class DefaultColumnDefinition implements ColumnDefinition {
      * Builds a hash between column names and their indices for fast retrieval.
      */
     public void buildIndexMapping() {
-        int numFields = this.fields.length;
-        this.columnLabelToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        this.fullColumnNameToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-        this.columnNameToIndex = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
-
-        // We do this in reverse order, so that the 'first' column with a given name ends up as the final mapping in the hashtable...
-        //
-        // Quoting the JDBC Spec:
-        //
-        // "Column names used as input to getter methods are case insensitive. When a getter method is called with a column name and several columns have the
-        // same name, the value of the first matching column will be returned. "
-        //
-        for (int i = numFields - 1; i >= 0; i--) {
-            Integer index = Integer.valueOf(i);
-            String columnName = this.fields[i].getOriginalName();
-            String columnLabel = this.fields[i].getName();
-            String fullColumnName = this.fields[i].getFullName();
-
-            if (columnLabel != null) {
-                this.columnLabelToIndex.put(columnLabel, index);
-            }
-
-            if (fullColumnName != null) {
-                this.fullColumnNameToIndex.put(fullColumnName, index);
-            }
-
-            if (columnName != null) {
-                this.columnNameToIndex.put(columnName, index);
-            }
-        }
-
-        // set the flag to prevent rebuilding...
-        this.builtIndexMapping = true;
+        this.columnLabelIndex = new ColumnLabelIndex(this.fields);
     }
 
     @Override
     public boolean hasBuiltIndexMapping() {
-        return this.builtIndexMapping;
+        return this.columnLabelIndex != null;
     }
 
     @Override
     public Map<String, Integer> getColumnLabelToIndex() {
-        return this.columnLabelToIndex;
-    }
-
-    @Override
-    public void setColumnLabelToIndex(Map<String, Integer> columnLabelToIndex) {
-        this.columnLabelToIndex = columnLabelToIndex;
+        return this.columnLabelIndex == null ? null : this.columnLabelIndex.getColumnLabelToIndex();
     }
 
     @Override
     public Map<String, Integer> getFullColumnNameToIndex() {
-        return this.fullColumnNameToIndex;
-    }
-
-    @Override
-    public void setFullColumnNameToIndex(Map<String, Integer> fullColNameToIndex) {
-        this.fullColumnNameToIndex = fullColNameToIndex;
+        return this.columnLabelIndex == null ? null : this.columnLabelIndex.getFullColumnNameToIndex();
     }
 
     @Override
     public Map<String, Integer> getColumnNameToIndex() {
-        return this.columnNameToIndex;
+        return this.columnLabelIndex == null ? null : this.columnLabelIndex.getColumnNameToIndex();
     }
 
     @Override
-    public void setColumnNameToIndex(Map<String, Integer> colNameToIndex) {
-        this.columnNameToIndex = colNameToIndex;
+    public ColumnLabelIndex getColumnLabelIndex() {
+        return this.columnLabelIndex;
     }
 
     @Override
-    public Map<String, Integer> getColumnToIndexCache() {
-        return this.columnToIndexCache;
-    }
-
-    @Override
-    public void setColumnToIndexCache(Map<String, Integer> columnToIndexCache) {
-        this.columnToIndexCache = columnToIndexCache;
+    public void setColumnLabelIndex(ColumnLabelIndex columnLabelIndex) {
+        this.columnLabelIndex = columnLabelIndex;
     }
 
     @Override
     public void initializeFrom(ColumnDefinition columnDefinition) {
         this.fields = columnDefinition.getFields();
-        this.columnLabelToIndex = columnDefinition.getColumnNameToIndex();
-        this.fullColumnNameToIndex = columnDefinition.getFullColumnNameToIndex();
-        this.builtIndexMapping = true;
+        this.columnLabelIndex = columnDefinition.getColumnLabelIndex();
+        if (this.columnLabelIndex == null) {
+            buildIndexMapping();
+        }
     }
 
     @Override
     public void exportTo(ColumnDefinition columnDefinition) {
         columnDefinition.setFields(this.fields);
-        columnDefinition.setColumnNameToIndex(this.columnLabelToIndex);
-        columnDefinition.setFullColumnNameToIndex(this.fullColumnNameToIndex);
+        columnDefinition.setColumnLabelIndex(this.columnLabelIndex);
     }
 
     @Override
     public int findColumn(String columnName, boolean useColumnNamesInFindColumn, int indexBase) {
-        Integer index;
-
         if (!hasBuiltIndexMapping()) {
             buildIndexMapping();
         }
 
-        index = this.columnToIndexCache.get(columnName);
-
-        if (index != null) {
-            return index.intValue() + indexBase;
-        }
-
-        index = this.columnLabelToIndex.get(columnName);
-
-        if (index == null && useColumnNamesInFindColumn) {
-            index = this.columnNameToIndex.get(columnName);
-        }
-
-        if (index == null) {
-            index = this.fullColumnNameToIndex.get(columnName);
-        }
-
-        if (index != null) {
-            this.columnToIndexCache.put(columnName, index);
-
-            return index.intValue() + indexBase;
-        }
-
-        // Try this inefficient way, now
-
-        for (int i = 0; i < this.fields.length; i++) {
-            if (this.fields[i].getName().equalsIgnoreCase(columnName)) {
-                return i + indexBase;
-            } else if (this.fields[i].getFullName().equalsIgnoreCase(columnName)) {
-                return i + indexBase;
-            }
-        }
+        int index = this.columnLabelIndex.findColumn(columnName, useColumnNamesInFindColumn);
 
-        return -1;
+        return index == -1 ? -1 : index + indexBase;
     }
 
     /**
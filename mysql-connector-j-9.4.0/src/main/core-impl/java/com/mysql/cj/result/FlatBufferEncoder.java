@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A minimal FlatBuffers encoder, enough to write the metadata of Arrow IPC messages without depending on the FlatBuffers library.
+ * <p>
+ * Tables are described by {@link Table} instances, whose fields are set by field id, and are laid out front to back: each table is preceded by its vtable and
+ * followed by the objects it references. All scalars are aligned to their size from the start of the buffer.
+ */
+final class FlatBufferEncoder {
+
+    /**
+     * A FlatBuffers table. Field values may be Byte, Boolean, Short, Integer or Long scalars, or references to String, Table, Table[] (vector of tables) or
+     * {@link Structs} objects.
+     */
+    static final class Table {
+
+        final Object[] fields;
+
+        Table(int numFields) {
+            this.fields = new Object[numFields];
+        }
+
+        Table set(int id, Object value) {
+            this.fields[id] = value;
+            return this;
+        }
+
+    }
+
+    /**
+     * A vector of structs made of two long members, such as Arrow FieldNode and Buffer structs, given as a flat array of members.
+     */
+    static final class Structs {
+
+        final long[] values;
+
+        Structs(long[] values) {
+            this.values = values;
+        }
+
+    }
+
+    private ByteBuffer buf = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+    private int pos = 0;
+
+    private FlatBufferEncoder() {
+    }
+
+    /**
+     * Encodes the given root table.
+     *
+     * @param root
+     *            root table
+     * @return the flatbuffer bytes
+     */
+    static byte[] encode(Table root) {
+        FlatBufferEncoder encoder = new FlatBufferEncoder();
+        encoder.pos = 4; // root offset
+        int rootPos = encoder.writeTable(root);
+        encoder.buf.putInt(0, rootPos);
+        return Arrays.copyOf(encoder.buf.array(), encoder.pos);
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > this.buf.capacity()) {
+            ByteBuffer newBuf = ByteBuffer.allocate(Math.max(size, this.buf.capacity() * 2)).order(ByteOrder.LITTLE_ENDIAN);
+            newBuf.put(this.buf.array(), 0, this.pos);
+            this.buf = newBuf;
+        }
+    }
+
+    private static int align(int position, int alignment) {
+        return position + alignment - 1 & -alignment;
+    }
+
+    private static int inlineSize(Object value) {
+        if (value instanceof Byte || value instanceof Boolean) {
+            return 1;
+        } else if (value instanceof Short) {
+            return 2;
+        } else if (value instanceof Long) {
+            return 8;
+        }
+        return 4; // Integer and references
+    }
+
+    private static boolean isReference(Object value) {
+        return value instanceof String || value instanceof Table || value instanceof Table[] || value instanceof Structs;
+    }
+
+    private int writeTable(Table table) {
+        int numFields = table.fields.length;
+        while (numFields > 0 && table.fields[numFields - 1] == null) {
+            numFields--;
+        }
+
+        int[] fieldOffsets = new int[numFields];
+        int inlineSize = 4; // soffset to the vtable
+        for (int i = 0; i < numFields; i++) {
+            Object value = table.fields[i];
+            if (value != null) {
+                int size = inlineSize(value);
+                inlineSize = align(inlineSize, size);
+                fieldOffsets[i] = inlineSize;
+                inlineSize += size;
+            }
+        }
+
+        int vtablePos = align(this.pos, 2);
+        int vtableSize = 4 + 2 * numFields;
+        int tablePos = align(vtablePos + vtableSize, 8);
+        ensureCapacity(tablePos + inlineSize);
+
+        this.buf.putShort(vtablePos, (short) vtableSize);
+        this.buf.putShort(vtablePos + 2, (short) inlineSize);
+        for (int i = 0; i < numFields; i++) {
+            this.buf.putShort(vtablePos + 4 + 2 * i, (short) fieldOffsets[i]);
+        }
+
+        this.buf.putInt(tablePos, tablePos - vtablePos);
+        for (int i = 0; i < numFields; i++) {
+            Object value = table.fields[i];
+            int fieldPos = tablePos + fieldOffsets[i];
+            if (value instanceof Byte) {
+                this.buf.put(fieldPos, (Byte) value);
+            } else if (value instanceof Boolean) {
+                this.buf.put(fieldPos, (byte) ((Boolean) value ? 1 : 0));
+            } else if (value instanceof Short) {
+                this.buf.putShort(fieldPos, (Short) value);
+            } else if (value instanceof Integer) {
+                this.buf.putInt(fieldPos, (Integer) value);
+            } else if (value instanceof Long) {
+                this.buf.putLong(fieldPos, (Long) value);
+            }
+        }
+        this.pos = tablePos + inlineSize;
+
+        // Referenced objects follow the table, as offsets to them are unsigned.
+        for (int i = 0; i < numFields; i++) {
+            Object value = table.fields[i];
+            if (isReference(value)) {
+                int fieldPos = tablePos + fieldOffsets[i];
+                int targetPos = writeReference(value);
+                this.buf.putInt(fieldPos, targetPos - fieldPos);
+            }
+        }
+        return tablePos;
+    }
+
+    private int writeReference(Object value) {
+        if (value instanceof String) {
+            byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            int stringPos = align(this.pos, 4);
+            ensureCapacity(stringPos + 4 + bytes.length + 1);
+            this.buf.putInt(stringPos, bytes.length);
+            System.arraycopy(bytes, 0, this.buf.array(), stringPos + 4, bytes.length);
+            this.buf.put(stringPos + 4 + bytes.length, (byte) 0);
+            this.pos = stringPos + 4 + bytes.length + 1;
+            return stringPos;
+
+        } else if (value instanceof Table) {
+            return writeTable((Table) value);
+
+        } else if (value instanceof Table[]) {
+            Table[] tables = (Table[]) value;
+            int vectorPos = align(this.pos, 4);
+            ensureCapacity(vectorPos + 4 + 4 * tables.length);
+            this.buf.putInt(vectorPos, tables.length);
+            this.pos = vectorPos + 4 + 4 * tables.length;
+            for (int i = 0; i < tables.length; i++) {
+                int slotPos = vectorPos + 4 + 4 * i;
+                int tablePos = writeTable(tables[i]); // may reallocate the buffer
+                this.buf.putInt(slotPos, tablePos - slotPos);
+            }
+            return vectorPos;
+        }
+
+        // Struct elements must be 8-byte aligned, right after the vector length.
+        long[] values = ((Structs) value).values;
+        int vectorPos = align(this.pos + 4, 8) - 4;
+        ensureCapacity(vectorPos + 4 + 8 * values.length);
+        this.buf.putInt(vectorPos, values.length / 2);
+        for (int i = 0; i < values.length; i++) {
+            this.buf.putLong(vectorPos + 4 + 8 * i, values[i]);
+        }
+        this.pos = vectorPos + 4 + 8 * values.length;
+        return vectorPos;
+    }
+
+}
@@ -77,6 +77,24 @@ public class LocalDateTimeValueFactory extends AbstractDateTimeValueFactory<Loca
         return LocalDateTime.of(its.getYear(), its.getMonth(), its.getDay(), its.getHours(), its.getMinutes(), its.getSeconds(), its.getNanos());
     }
 
+    @Override
+    public LocalDateTime createFromTimestamp(int year, int month, int day, int hours, int minutes, int seconds, int nanos, int scale) {
+        if (year == 0 && month == 0 && day == 0) {
+            // zero dates are handled according to 'zeroDateTimeBehavior'
+            return super.createFromTimestamp(year, month, day, hours, minutes, seconds, nanos, scale);
+        }
+        return LocalDateTime.of(year, month, day, hours, minutes, seconds, nanos);
+    }
+
+    @Override
+    public LocalDateTime createFromDatetime(int year, int month, int day, int hours, int minutes, int seconds, int nanos, int scale) {
+        if (year == 0 && month == 0 && day == 0) {
+            // zero dates are handled according to 'zeroDateTimeBehavior'
+            return super.createFromDatetime(year, month, day, hours, minutes, seconds, nanos, scale);
+        }
+        return LocalDateTime.of(year, month, day, hours, minutes, seconds, nanos);
+    }
+
     @Override
     public String getTargetTypeName() {
         return LocalDateTime.class.getName();
@@ -68,6 +68,15 @@ public class LocalDateValueFactory extends AbstractDateTimeValueFactory<LocalDat
         return LocalDate.of(idate.getYear(), idate.getMonth(), idate.getDay());
     }
 
+    @Override
+    public LocalDate createFromDate(int year, int month, int day) {
+        if (year == 0 && month == 0 && day == 0) {
+            // zero dates are handled according to 'zeroDateTimeBehavior'
+            return super.createFromDate(year, month, day);
+        }
+        return LocalDate.of(year, month, day);
+    }
+
     @Override
     public LocalDate localCreateFromDatetime(InternalTimestamp its) {
         if (this.warningListener != null) {
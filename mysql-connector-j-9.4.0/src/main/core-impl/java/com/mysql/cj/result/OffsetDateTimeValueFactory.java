@@ -103,7 +103,7 @@ public class OffsetDateTimeValueFactory extends AbstractDateTimeValueFactory<Off
             return createFromLong(0);
         }
 
-        String s = StringUtils.toString(bytes, offset, length, f.getEncoding());
+        String s = StringUtils.toString(bytes, offset, length, f.getCharset());
         byte[] newBytes = s.getBytes();
 
         if (MysqlTextValueDecoder.isDate(s)) {
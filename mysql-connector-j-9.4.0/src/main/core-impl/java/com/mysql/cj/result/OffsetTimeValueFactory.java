@@ -93,7 +93,7 @@ public class OffsetTimeValueFactory extends AbstractDateTimeValueFactory<OffsetT
             return createFromLong(0);
         }
 
-        String s = StringUtils.toString(bytes, offset, length, f.getEncoding());
+        String s = StringUtils.toString(bytes, offset, length, f.getCharset());
         byte[] newBytes = s.getBytes();
 
         if (MysqlTextValueDecoder.isDate(s)) {
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.protocol.InternalDate;
+import com.mysql.cj.protocol.InternalTime;
+import com.mysql.cj.protocol.InternalTimestamp;
+
+/**
+ * A {@link ValueFactory} that captures integer and floating point values as primitives instead of creating objects from them, thus allowing the primitive
+ * getters of result sets to avoid boxing.
+ * <p>
+ * The returned {@link Source} tells which of {@link #getLong()} or {@link #getDouble()} holds the decoded value. Values from any other intermediate form are
+ * not captured and must be retrieved through a regular {@link ValueFactory}, which also applies to values that don't fit in the target primitive type. Not
+ * thread-safe, each instance must be used by one result set only.
+ */
+public class PrimitiveValueFactory implements ValueFactory<PrimitiveValueFactory.Source> {
+
+    /**
+     * The intermediate form of the last value.
+     */
+    public enum Source {
+        LONG, DOUBLE, OTHER;
+    }
+
+    private long longValue = 0;
+    private double doubleValue = 0;
+
+    @Override
+    public void setPropertySet(PropertySet pset) {
+        // Not needed.
+    }
+
+    /**
+     * Returns the last value created from an integer, when {@link Source#LONG} was returned.
+     *
+     * @return the value
+     */
+    public long getLong() {
+        return this.longValue;
+    }
+
+    /**
+     * Returns the last value created from a floating point number, when {@link Source#DOUBLE} was returned.
+     *
+     * @return the value
+     */
+    public double getDouble() {
+        return this.doubleValue;
+    }
+
+    @Override
+    public Source createFromTime(InternalTime it) {
+        return Source.OTHER;
+    }
+
+    @Override
+    public Source createFromTimestamp(InternalTimestamp its) {
+        return Source.OTHER;
+    }
+
+    @Override
+    public Source createFromDate(InternalDate idate) {
+        return Source.OTHER;
+    }
+
+    @Override
+    public Source createFromDatetime(InternalTimestamp its) {
+        return Source.OTHER;
+    }
+
+    @Override
+    public Source createFromYear(long l) {
+        // All numeric value factories create years as plain integers.
+        return createFromLong(l);
+    }
+
+    @Override
+    public Source createFromLong(long l) {
+        this.longValue = l;
+        return Source.LONG;
+    }
+
+    @Override
+    public Source createFromBigInteger(BigInteger i) {
+        return Source.OTHER;
+    }
+
+    @Override
+    public Source createFromDouble(double d) {
+        this.doubleValue = d;
+        return Source.DOUBLE;
+    }
+
+    @Override
+    public Source createFromBigDecimal(BigDecimal d) {
+        return Source.OTHER;
+    }
+
+    @Override
+    public Source createFromBit(byte[] bytes, int offset, int length) {
+        return Source.OTHER;
+    }
+
+    @Override
+    public Source createFromBytes(byte[] bytes, int offset, int length, Field f) {
+        return Source.OTHER;
+    }
+
+    @Override
+    public Source createFromNull() {
+        return null;
+    }
+
+    @Override
+    public String getTargetTypeName() {
+        return "primitive";
+    }
+
+}
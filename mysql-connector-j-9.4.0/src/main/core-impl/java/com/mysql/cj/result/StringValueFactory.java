@@ -26,19 +26,24 @@ import java.math.BigInteger;
 import com.mysql.cj.CharsetMapping;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.protocol.InternalDate;
 import com.mysql.cj.protocol.InternalTime;
 import com.mysql.cj.protocol.InternalTimestamp;
 import com.mysql.cj.util.DataTypeUtil;
 import com.mysql.cj.util.StringUtils;
+import com.mysql.cj.util.StringValueCache;
 
 /**
  * A {@link ValueFactory} to create {@link String} instances.
  */
 public class StringValueFactory extends DefaultValueFactory<String> {
 
+    private RuntimeProperty<Boolean> internStringValues;
+
     public StringValueFactory(PropertySet pset) {
         super(pset);
+        this.internStringValues = pset.getBooleanProperty(PropertyKey.internStringValues);
     }
 
     /**
@@ -149,9 +154,13 @@ public class StringValueFactory extends DefaultValueFactory<String> {
      */
     @Override
     public String createFromBytes(byte[] bytes, int offset, int length, Field f) {
-        return StringUtils.toString(bytes, offset, length,
-                f.getCollationIndex() == CharsetMapping.MYSQL_COLLATION_INDEX_binary ? this.pset.getStringProperty(PropertyKey.characterEncoding).getValue()
-                        : f.getEncoding());
+        if (f.getCollationIndex() == CharsetMapping.MYSQL_COLLATION_INDEX_binary) {
+            return StringUtils.toString(bytes, offset, length, this.pset.getStringProperty(PropertyKey.characterEncoding).getValue());
+        }
+        if (this.internStringValues.getValue() && length <= StringValueCache.MAX_VALUE_LENGTH) {
+            return f.getStringValueCache().toString(bytes, offset, length, f.getCharset());
+        }
+        return StringUtils.toString(bytes, offset, length, f.getCharset());
     }
 
     @Override
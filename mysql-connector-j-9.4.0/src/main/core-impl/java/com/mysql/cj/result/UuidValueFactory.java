@@ -51,7 +51,7 @@ public class UuidValueFactory extends DefaultValueFactory<UUID> {
             case TINYTEXT:
             case MEDIUMTEXT:
             case LONGTEXT:
-                String s = StringUtils.toString(bytes, offset, length, f.getEncoding());
+                String s = StringUtils.toString(bytes, offset, length, f.getCharset());
                 try {
                     return UUID.fromString(s);
                 } catch (IllegalArgumentException e) {
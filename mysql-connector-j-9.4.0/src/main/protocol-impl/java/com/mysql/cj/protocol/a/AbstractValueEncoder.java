@@ -27,6 +27,9 @@ import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import com.mysql.cj.BindValue;
@@ -53,6 +56,11 @@ import com.mysql.cj.util.TimeUtil;
 
 public abstract class AbstractValueEncoder implements ValueEncoder {
 
+    private static final byte[] LONG_MIN_VALUE_BYTES = StringUtils.getBytes(String.valueOf(Long.MIN_VALUE));
+
+    /** Character encodings known to encode every 7-bit character as the same single byte, keyed by Java encoding name. */
+    private static final Map<String, Boolean> ASCII_COMPATIBLE_ENCODINGS = new ConcurrentHashMap<>();
+
     protected PropertySet propertySet;
     protected ServerSession serverSession;
     protected ExceptionInterceptor exceptionInterceptor;
@@ -83,6 +91,63 @@ public abstract class AbstractValueEncoder implements ValueEncoder {
         intoPacket.writeBytes(StringLengthDataType.STRING_FIXED, getBytes(binding));
     }
 
+    /**
+     * Checks whether the given character encoding writes every 7-bit character as the identical single byte, so that ASCII text can be copied into a
+     * packet without going through the encoder.
+     *
+     * @param encoding
+     *            Java character encoding name
+     * @return true if ASCII characters can be written as-is
+     */
+    protected static boolean isAsciiCompatible(String encoding) {
+        if (encoding == null) {
+            return false;
+        }
+        return ASCII_COMPATIBLE_ENCODINGS.computeIfAbsent(encoding, enc -> {
+            char[] ascii = new char[0x80];
+            byte[] expected = new byte[0x80];
+            for (int i = 0; i < ascii.length; i++) {
+                ascii[i] = (char) i;
+                expected[i] = (byte) i;
+            }
+            return Arrays.equals(expected, StringUtils.getBytes(new String(ascii), enc));
+        });
+    }
+
+    /**
+     * Writes the decimal representation of the given value straight into the packet, without creating an intermediate string or byte array. The caller is
+     * responsible for checking that the connection character encoding is {@link #isAsciiCompatible(String) ASCII compatible}.
+     *
+     * @param intoPacket
+     *            the packet to write to
+     * @param value
+     *            the value to write
+     */
+    protected static void writeAsciiDecimal(NativePacketPayload intoPacket, long value) {
+        if (value == Long.MIN_VALUE) {
+            intoPacket.writeBytes(StringLengthDataType.STRING_FIXED, LONG_MIN_VALUE_BYTES);
+            return;
+        }
+        long abs = value < 0 ? -value : value;
+        int length = value < 0 ? 2 : 1;
+        for (long v = abs; v >= 10; v /= 10) {
+            length++;
+        }
+        intoPacket.ensureCapacity(length);
+        byte[] b = intoPacket.getByteBuffer();
+        int end = intoPacket.getPosition() + length;
+        int pos = end;
+        do {
+            b[--pos] = (byte) ('0' + abs % 10);
+            abs /= 10;
+        } while (abs != 0);
+        if (value < 0) {
+            b[--pos] = '-';
+        }
+        intoPacket.setPosition(end);
+        intoPacket.adjustPayloadLength();
+    }
+
     @Override
     public void encodeAsQueryAttribute(Message msg, BindValue binding) {
         NativePacketPayload intoPacket = (NativePacketPayload) msg;
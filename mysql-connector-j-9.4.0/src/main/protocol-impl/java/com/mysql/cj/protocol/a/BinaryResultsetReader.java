@@ -22,12 +22,14 @@ package com.mysql.cj.protocol.a;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.Resultset.Concurrency;
 import com.mysql.cj.protocol.Resultset.Type;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
@@ -37,6 +39,7 @@ import com.mysql.cj.protocol.a.result.OkPacket;
 import com.mysql.cj.protocol.a.result.ResultsetRowsCursor;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStreaming;
+import com.mysql.cj.protocol.a.result.SpillableRowList;
 
 public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, NativePacketPayload> {
 
@@ -56,8 +59,10 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
         if (columnCount > 0) {
             // Build a result set with rows.
 
-            // Read in the column information
-            ColumnDefinition cdef = this.protocol.read(ColumnDefinition.class, new MergingColumnDefinitionFactory(columnCount, metadata));
+            // Read in the column information, unless the server didn't send it
+            ColumnDefinition cdef = this.protocol.readResultSetMetadataFollows(resultPacket, columnCount, metadata)
+                    ? this.protocol.read(ColumnDefinition.class, new MergingColumnDefinitionFactory(columnCount, metadata))
+                    : metadata;
 
             boolean isCursorPossible = this.protocol.getPropertySet().getBooleanProperty(PropertyKey.useCursorFetch).getValue()
                     && resultSetFactory.getResultSetType() == Type.FORWARD_ONLY && resultSetFactory.getFetchSize() > 0;
@@ -91,7 +96,7 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
             } else if (!streamResults) {
                 BinaryRowFactory brf = new BinaryRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
 
-                ArrayList<ResultsetRow> rowList = new ArrayList<>();
+                List<ResultsetRow> rowList = createRowList(cdef, resultSetFactory);
                 ResultsetRow row = this.protocol.read(ResultsetRow.class, brf);
                 while (row != null) {
                     if (maxRows == -1 || rowList.size() < maxRows) {
@@ -133,4 +138,21 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
         return rs;
     }
 
+    /**
+     * Creates the list buffering the rows of a result set, which spills them to disk beyond 'resultSetSpillThreshold' for read-only result sets.
+     *
+     * @param cdef
+     *            {@link ColumnDefinition} of the result set
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory} creating the result set
+     * @return a list of rows
+     */
+    private List<ResultsetRow> createRowList(ColumnDefinition cdef, ProtocolEntityFactory<Resultset, NativePacketPayload> resultSetFactory) {
+        int spillThreshold = this.protocol.getPropertySet().getMemorySizeProperty(PropertyKey.resultSetSpillThreshold).getValue();
+        if (spillThreshold > 0 && resultSetFactory.getResultSetConcurrency() == Concurrency.READ_ONLY) {
+            return new SpillableRowList(cdef, true, this.protocol.getBufferedRowsMemoryBudget(), this.protocol.getExceptionInterceptor());
+        }
+        return new ArrayList<>();
+    }
+
 }
@@ -29,12 +29,29 @@ public class ColumnDefinitionFactory implements ProtocolEntityFactory<ColumnDefi
 
     protected long columnCount;
     protected ColumnDefinition columnDefinitionFromCache;
+    protected boolean validateColumnDefinitionFromCache = false;
 
     public ColumnDefinitionFactory(long columnCount, ColumnDefinition columnDefinitionFromCache) {
         this.columnCount = columnCount;
         this.columnDefinitionFromCache = columnDefinitionFromCache;
     }
 
+    /**
+     * Creates a factory whose cached column definition, if any, is checked against the one sent by the server.
+     *
+     * @param columnCount
+     *            number of columns
+     * @param columnDefinitionFromCache
+     *            {@link ColumnDefinition} to use instead of decoding the one sent by the server, or null
+     * @param validateColumnDefinitionFromCache
+     *            if true, the cached column definition is only used if the server sent the same definitions it was decoded from; the reader returns a new
+     *            {@link ColumnDefinition} otherwise
+     */
+    public ColumnDefinitionFactory(long columnCount, ColumnDefinition columnDefinitionFromCache, boolean validateColumnDefinitionFromCache) {
+        this(columnCount, columnDefinitionFromCache);
+        this.validateColumnDefinitionFromCache = validateColumnDefinitionFromCache;
+    }
+
     public long getColumnCount() {
         return this.columnCount;
     }
@@ -53,6 +70,10 @@ public class ColumnDefinitionFactory implements ProtocolEntityFactory<ColumnDefi
         return false;
     }
 
+    public boolean validateColumnDefinitionFromCache() {
+        return this.validateColumnDefinitionFromCache;
+    }
+
     public ColumnDefinition createFromFields(Field[] fields) {
         return new DefaultColumnDefinition(fields);
     }
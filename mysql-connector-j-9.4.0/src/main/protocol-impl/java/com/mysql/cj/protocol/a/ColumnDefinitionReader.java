@@ -26,12 +26,18 @@ import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.result.Field;
-import com.mysql.cj.util.LazyString;
 
 public class ColumnDefinitionReader implements ProtocolEntityReader<ColumnDefinition, NativePacketPayload> {
 
+    /** Prefix of the names of the temporary tables created by the server to resolve queries. */
+    private static final byte[] IMPLICIT_TEMPORARY_TABLE_PREFIX = { '#', 's', 'q', 'l', '_' };
+
     private NativeProtocol protocol;
 
+    // Encoding of the last collation seen, as most columns of a result set share their collation.
+    private int lastCollationIndex = -1;
+    private String lastEncoding = null;
+
     public ColumnDefinitionReader(NativeProtocol prot) {
         this.protocol = prot;
     }
@@ -43,7 +49,7 @@ public class ColumnDefinitionReader implements ProtocolEntityReader<ColumnDefini
         long columnCount = cdf.getColumnCount();
         ColumnDefinition cdef = cdf.getColumnDefinitionFromCache();
 
-        if (cdef != null && !cdf.mergeColumnDefinitions()) {
+        if (cdef != null && !cdf.mergeColumnDefinitions() && !cdf.validateColumnDefinitionFromCache()) {
             for (int i = 0; i < columnCount; i++) {
                 this.protocol.skipPacket();
             }
@@ -51,11 +57,29 @@ public class ColumnDefinitionReader implements ProtocolEntityReader<ColumnDefini
         }
 
         /* read the metadata from the server */
+        this.lastCollationIndex = -1;
         Field[] fields = new Field[(int) columnCount];
+        String metadataEncoding = this.protocol.getServerSession().getCharsetSettings().getMetadataEncoding();
+
+        if (cdef != null && cdf.validateColumnDefinitionFromCache()) {
+            // Only the definitions that differ from the cached ones are decoded; comparing the bytes is cheaper than decoding them.
+            Field[] cachedFields = cdef.getFields();
+            boolean unchanged = cachedFields.length == columnCount;
+            for (int i = 0; i < columnCount; i++) {
+                NativePacketPayload fieldPacket = this.protocol.readMessage(null);
+                if (unchanged && cachedFields[i].isDefinedBy(fieldPacket.getByteBuffer(), fieldPacket.getPayloadLength())) {
+                    fields[i] = cachedFields[i];
+                } else {
+                    unchanged = false;
+                    fields[i] = unpackField(fieldPacket, metadataEncoding);
+                }
+            }
+            return unchanged ? cdef : cdf.createFromFields(fields);
+        }
 
         for (int i = 0; i < columnCount; i++) {
             NativePacketPayload fieldPacket = this.protocol.readMessage(null);
-            fields[i] = unpackField(fieldPacket, this.protocol.getServerSession().getCharsetSettings().getMetadataEncoding());
+            fields[i] = unpackField(fieldPacket, metadataEncoding);
         }
 
         return cdf.createFromFields(fields);
@@ -72,35 +96,30 @@ public class ColumnDefinitionReader implements ProtocolEntityReader<ColumnDefini
      * @return the unpacked field
      */
     protected Field unpackField(NativePacketPayload packet, String characterSetMetadata) {
-        int offset, length;
+        int length;
 
         length = (int) packet.readInteger(IntegerDataType.INT_LENENC);
-        packet.setPosition(packet.getPosition() + length); // skip database name
+        packet.setPosition(packet.getPosition() + length); // skip catalog name
+
+        // Names are decoded by the field when first requested; only the ones the column type depends on are looked at here.
+        int namesOffset = packet.getPosition();
 
         length = (int) packet.readInteger(IntegerDataType.INT_LENENC);
-        offset = packet.getPosition();
-        LazyString databaseName = new LazyString(packet.getByteBuffer(), offset, length, characterSetMetadata);
-        packet.setPosition(packet.getPosition() + length);
+        packet.setPosition(packet.getPosition() + length); // skip database name
 
         length = (int) packet.readInteger(IntegerDataType.INT_LENENC);
-        offset = packet.getPosition();
-        LazyString tableName = new LazyString(packet.getByteBuffer(), offset, length, characterSetMetadata);
+        boolean isImplicitTemporaryTable = startsWith(packet.getByteBuffer(), packet.getPosition(), length, IMPLICIT_TEMPORARY_TABLE_PREFIX);
         packet.setPosition(packet.getPosition() + length);
 
         length = (int) packet.readInteger(IntegerDataType.INT_LENENC);
-        offset = packet.getPosition();
-        LazyString originalTableName = new LazyString(packet.getByteBuffer(), offset, length, characterSetMetadata);
+        boolean isFromFunction = length == 0;
         packet.setPosition(packet.getPosition() + length);
 
         length = (int) packet.readInteger(IntegerDataType.INT_LENENC);
-        offset = packet.getPosition();
-        LazyString columnName = new LazyString(packet.getByteBuffer(), offset, length, characterSetMetadata);
-        packet.setPosition(packet.getPosition() + length);
+        packet.setPosition(packet.getPosition() + length); // skip column name
 
         length = (int) packet.readInteger(IntegerDataType.INT_LENENC);
-        offset = packet.getPosition();
-        LazyString originalColumnName = new LazyString(packet.getByteBuffer(), offset, length, characterSetMetadata);
-        packet.setPosition(packet.getPosition() + length);
+        packet.setPosition(packet.getPosition() + length); // skip original column name
 
         packet.readInteger(IntegerDataType.INT1);
 
@@ -110,10 +129,14 @@ public class ColumnDefinitionReader implements ProtocolEntityReader<ColumnDefini
         short colFlag = (short) packet.readInteger(this.protocol.getServerSession().hasLongColumnInfo() ? IntegerDataType.INT2 : IntegerDataType.INT1);
         int colDecimals = (int) packet.readInteger(IntegerDataType.INT1);
 
-        String encoding = this.protocol.getServerSession().getCharsetSettings().getJavaEncodingForCollationIndex(collationIndex);
+        if (collationIndex != this.lastCollationIndex) {
+            this.lastEncoding = this.protocol.getServerSession().getCharsetSettings().getJavaEncodingForCollationIndex(collationIndex);
+            this.lastCollationIndex = collationIndex;
+        }
+        String encoding = this.lastEncoding;
 
-        MysqlType mysqlType = NativeProtocol.findMysqlType(this.protocol.getPropertySet(), colType, colFlag, colLength, tableName, originalTableName,
-                collationIndex, encoding);
+        MysqlType mysqlType = NativeProtocol.findMysqlType(this.protocol.getPropertySet(), colType, colFlag, colLength, isFromFunction,
+                isImplicitTemporaryTable, collationIndex, encoding);
 
         // Protocol returns precision and scale differently for some types. We need to align then to I_S.
         switch (mysqlType) {
@@ -158,8 +181,20 @@ public class ColumnDefinitionReader implements ProtocolEntityReader<ColumnDefini
                 break;
         }
 
-        return new Field(databaseName, tableName, originalTableName, columnName, originalColumnName, colLength, colType, colFlag, colDecimals, collationIndex,
-                encoding, mysqlType);
+        return new Field(packet.getByteBuffer(), namesOffset, characterSetMetadata, colLength, colType, colFlag, colDecimals, collationIndex, encoding,
+                mysqlType);
+    }
+
+    private static boolean startsWith(byte[] buffer, int offset, int length, byte[] prefix) {
+        if (length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
     }
 
 }
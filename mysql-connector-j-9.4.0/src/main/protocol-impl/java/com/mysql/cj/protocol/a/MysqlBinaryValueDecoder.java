@@ -73,7 +73,7 @@ public class MysqlBinaryValueDecoder implements ValueDecoder {
             nanos = 1000 * (bytes[offset + 7] & 0xff | (bytes[offset + 8] & 0xff) << 8 | (bytes[offset + 9] & 0xff) << 16 | (bytes[offset + 10] & 0xff) << 24);
         }
 
-        return vf.createFromTimestamp(new InternalTimestamp(year, month, day, hours, minutes, seconds, nanos, scale));
+        return vf.createFromTimestamp(year, month, day, hours, minutes, seconds, nanos, scale);
     }
 
     @Override
@@ -111,7 +111,7 @@ public class MysqlBinaryValueDecoder implements ValueDecoder {
             nanos = 1000 * (bytes[offset + 7] & 0xff | (bytes[offset + 8] & 0xff) << 8 | (bytes[offset + 9] & 0xff) << 16 | (bytes[offset + 10] & 0xff) << 24);
         }
 
-        return vf.createFromDatetime(new InternalTimestamp(year, month, day, hours, minutes, seconds, nanos, scale));
+        return vf.createFromDatetime(year, month, day, hours, minutes, seconds, nanos, scale);
     }
 
     @Override
@@ -157,7 +157,7 @@ public class MysqlBinaryValueDecoder implements ValueDecoder {
         int year = bytes[offset] & 0xff | (bytes[offset + 1] & 0xff) << 8;
         int month = bytes[offset + 2];
         int day = bytes[offset + 3];
-        return vf.createFromDate(new InternalDate(year, month, day));
+        return vf.createFromDate(year, month, day);
     }
 
     @Override
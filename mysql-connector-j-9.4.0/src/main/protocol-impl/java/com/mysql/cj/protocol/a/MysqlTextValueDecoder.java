@@ -22,7 +22,6 @@ package com.mysql.cj.protocol.a;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.mysql.cj.Messages;
@@ -60,15 +59,27 @@ public class MysqlTextValueDecoder implements ValueDecoder {
     /** String length of String timestamp with nanos. This does not come from MySQL server but we support it via string conversion. */
     public static final int TIMESTAMP_STR_LEN_WITH_NANOS = TIMESTAMP_STR_LEN_NO_FRAC + 10;
 
+    /**
+     * @deprecated not used by the driver anymore, see {@link #isTime(String)}
+     */
+    @Deprecated
     public static final Pattern TIME_PTRN = Pattern.compile("[-]{0,1}\\d{2,3}:\\d{2}:\\d{2}(\\.\\d{1,9})?");
+    /**
+     * @deprecated not used by the driver anymore, see {@link #isTimestamp(String)}
+     */
+    @Deprecated
     public static final Pattern DATETIME_PTRN = Pattern.compile("\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}(\\.\\d{1,9}){0,1}");
 
+    /** Multipliers scaling a fractional second of n digits, the array index, to nanoseconds. */
+    private static final int[] FRACTION_TO_NANOS = { 1000000000, 100000000, 10000000, 1000000, 100000, 10000, 1000, 100, 10, 1 };
+
     /** Max string length of a signed long = 9223372036854775807 (19+1 for minus sign) */
     public static final int MAX_SIGNED_LONG_LEN = 20;
 
     @Override
     public <T> T decodeDate(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
-        return vf.createFromDate(getDate(bytes, offset, length));
+        checkDateFormat(length);
+        return vf.createFromDate(getDigits(bytes, offset, 4), getDigits(bytes, offset + 5, 2), getDigits(bytes, offset + 8, 2));
     }
 
     @Override
@@ -78,12 +89,18 @@ public class MysqlTextValueDecoder implements ValueDecoder {
 
     @Override
     public <T> T decodeTimestamp(byte[] bytes, int offset, int length, int scale, ValueFactory<T> vf) {
-        return vf.createFromTimestamp(getTimestamp(bytes, offset, length, scale));
+        checkTimestampFormat(bytes, offset, length);
+        return vf.createFromTimestamp(getDigits(bytes, offset, 4), getDigits(bytes, offset + 5, 2), getDigits(bytes, offset + 8, 2),
+                getDigits(bytes, offset + 11, 2), getDigits(bytes, offset + 14, 2), getDigits(bytes, offset + 17, 2), getTimestampNanos(bytes, offset, length),
+                scale);
     }
 
     @Override
     public <T> T decodeDatetime(byte[] bytes, int offset, int length, int scale, ValueFactory<T> vf) {
-        return vf.createFromDatetime(getTimestamp(bytes, offset, length, scale));
+        checkTimestampFormat(bytes, offset, length);
+        return vf.createFromDatetime(getDigits(bytes, offset, 4), getDigits(bytes, offset + 5, 2), getDigits(bytes, offset + 8, 2),
+                getDigits(bytes, offset + 11, 2), getDigits(bytes, offset + 14, 2), getDigits(bytes, offset + 17, 2), getTimestampNanos(bytes, offset, length),
+                scale);
     }
 
     @Override
@@ -262,24 +279,88 @@ public class MysqlTextValueDecoder implements ValueDecoder {
         return s.length() == DATE_BUF_LEN && s.charAt(4) == '-' && s.charAt(7) == '-'; // TODO also check proper date parts ranges
     }
 
+    /**
+     * Checks whether the given string is a TIME value, i.e., matches <code>-?\d{2,3}:\d{2}:\d{2}(\.\d{1,9})?</code>.
+     *
+     * @param s
+     *            string
+     * @return true if the string is a TIME value
+     */
     public static boolean isTime(String s) {
-        Matcher matcher = TIME_PTRN.matcher(s);
-        return matcher.matches();
+        int pos = s.startsWith("-") ? 1 : 0;
+        int hoursLen = countDigits(s, pos);
+        if (hoursLen < 2 || hoursLen > 3) {
+            return false;
+        }
+        pos += hoursLen;
+        for (int i = 0; i < 2; i++, pos += 3) {
+            if (pos >= s.length() || s.charAt(pos) != ':' || countDigits(s, pos + 1) != 2) {
+                return false;
+            }
+        }
+        return isFraction(s, pos);
     }
 
+    /**
+     * Checks whether the given string is a DATETIME or TIMESTAMP value, i.e., matches
+     * <code>\d{4}-\d{2}-\d{2} \d{2}:\d{2}:\d{2}(\.\d{1,9})?</code>.
+     *
+     * @param s
+     *            string
+     * @return true if the string is a DATETIME or TIMESTAMP value
+     */
     public static boolean isTimestamp(String s) {
-        Matcher matcher = DATETIME_PTRN.matcher(s);
-        return matcher.matches();
+        return s.length() >= TIMESTAMP_STR_LEN_NO_FRAC && countDigits(s, 0) == 4 && s.charAt(4) == '-' && countDigits(s, 5) == 2 && s.charAt(7) == '-'
+                && countDigits(s, 8) == 2 && s.charAt(10) == ' ' && countDigits(s, 11) == 2 && s.charAt(13) == ':' && countDigits(s, 14) == 2
+                && s.charAt(16) == ':' && countDigits(s, 17) == 2 && isFraction(s, TIMESTAMP_STR_LEN_NO_FRAC);
     }
 
-    public static InternalDate getDate(byte[] bytes, int offset, int length) {
+    /**
+     * Counts the ASCII digits in the given string, starting at the given position.
+     */
+    private static int countDigits(String s, int pos) {
+        int end = pos;
+        while (end < s.length() && s.charAt(end) >= '0' && s.charAt(end) <= '9') {
+            end++;
+        }
+        return end - pos;
+    }
+
+    /**
+     * Checks whether the given string ends at the given position or continues with a fractional second of 1 to 9 digits up to its end.
+     */
+    private static boolean isFraction(String s, int pos) {
+        if (pos == s.length()) {
+            return true;
+        }
+        int digits = countDigits(s, pos + 1);
+        return s.charAt(pos) == '.' && digits >= 1 && digits <= 9 && pos + 1 + digits == s.length();
+    }
+
+    /**
+     * Parses the given number of ASCII digits. Anything else is passed to {@link #getInt(byte[], int, int)}, so that it's accepted or rejected as before.
+     */
+    private static int getDigits(byte[] bytes, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return getInt(bytes, offset, offset + count);
+            }
+            value = value * 10 + digit;
+        }
+        return count > 0 ? value : getInt(bytes, offset, offset);
+    }
+
+    private static void checkDateFormat(int length) {
         if (length != DATE_BUF_LEN) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "DATE" }));
         }
-        int year = getInt(bytes, offset, offset + 4);
-        int month = getInt(bytes, offset + 5, offset + 7);
-        int day = getInt(bytes, offset + 8, offset + 10);
-        return new InternalDate(year, month, day);
+    }
+
+    public static InternalDate getDate(byte[] bytes, int offset, int length) {
+        checkDateFormat(length);
+        return new InternalDate(getDigits(bytes, offset, 4), getDigits(bytes, offset + 5, 2), getDigits(bytes, offset + 8, 2));
     }
 
     public static InternalTime getTime(byte[] bytes, int offset, int length, int scale) {
@@ -306,7 +387,7 @@ public class MysqlTextValueDecoder implements ValueDecoder {
             throw new DataReadException(
                     Messages.getString("ResultSet.InvalidFormatForType", new Object[] { "TIME", StringUtils.toString(bytes, offset, length) }));
         }
-        int hours = getInt(bytes, offset + pos, offset + pos + segmentLen);
+        int hours = getDigits(bytes, offset + pos, segmentLen);
         if (negative) {
             hours *= -1;
         }
@@ -320,7 +401,7 @@ public class MysqlTextValueDecoder implements ValueDecoder {
             throw new DataReadException(
                     Messages.getString("ResultSet.InvalidFormatForType", new Object[] { "TIME", StringUtils.toString(bytes, offset, length) }));
         }
-        int minutes = getInt(bytes, offset + pos, offset + pos + segmentLen);
+        int minutes = getDigits(bytes, offset + pos, segmentLen);
         pos += segmentLen + 1;
 
         // parse seconds field
@@ -331,7 +412,7 @@ public class MysqlTextValueDecoder implements ValueDecoder {
             throw new DataReadException(
                     Messages.getString("ResultSet.InvalidFormatForType", new Object[] { StringUtils.toString(bytes, offset, length), "TIME" }));
         }
-        int seconds = getInt(bytes, offset + pos, offset + pos + segmentLen);
+        int seconds = getDigits(bytes, offset + pos, segmentLen);
         pos += segmentLen;
 
         // parse optional microsecond fractional value
@@ -346,16 +427,16 @@ public class MysqlTextValueDecoder implements ValueDecoder {
                 throw new DataReadException(
                         Messages.getString("ResultSet.InvalidFormatForType", new Object[] { StringUtils.toString(bytes, offset, length), "TIME" }));
             }
-            nanos = getInt(bytes, offset + pos, offset + pos + segmentLen);
+            nanos = getDigits(bytes, offset + pos, segmentLen);
             // scale out nanos appropriately. mysql supports up to 6 digits of fractional seconds, each additional digit increasing the range by a factor of
             // 10. one digit is tenths, two is hundreths, etc
-            nanos = nanos * (int) Math.pow(10, 9 - segmentLen);
+            nanos = nanos * FRACTION_TO_NANOS[segmentLen];
         }
 
         return new InternalTime(hours, minutes, seconds, nanos, scale);
     }
 
-    public static InternalTimestamp getTimestamp(byte[] bytes, int offset, int length, int scale) {
+    private static void checkTimestampFormat(byte[] bytes, int offset, int length) {
         if (length < TIMESTAMP_STR_LEN_NO_FRAC || length > TIMESTAMP_STR_LEN_WITH_MICROS && length != TIMESTAMP_STR_LEN_WITH_NANOS) {
             throw new DataReadException(Messages.getString("ResultSet.InvalidLengthForType", new Object[] { length, "TIMESTAMP" }));
         } else if (length != TIMESTAMP_STR_LEN_NO_FRAC) {
@@ -372,25 +453,25 @@ public class MysqlTextValueDecoder implements ValueDecoder {
             throw new DataReadException(
                     Messages.getString("ResultSet.InvalidFormatForType", new Object[] { StringUtils.toString(bytes, offset, length), "TIMESTAMP" }));
         }
+    }
 
-        int year = getInt(bytes, offset, offset + 4);
-        int month = getInt(bytes, offset + 5, offset + 7);
-        int day = getInt(bytes, offset + 8, offset + 10);
-        int hours = getInt(bytes, offset + 11, offset + 13);
-        int minutes = getInt(bytes, offset + 14, offset + 16);
-        int seconds = getInt(bytes, offset + 17, offset + 19);
-        // nanos from MySQL fractional
-        int nanos;
-        if (length == TIMESTAMP_STR_LEN_WITH_NANOS) {
-            nanos = getInt(bytes, offset + 20, offset + length);
-        } else {
-            nanos = length == TIMESTAMP_STR_LEN_NO_FRAC ? 0 : getInt(bytes, offset + 20, offset + length);
-            // scale out nanos appropriately. mysql supports up to 6 digits of fractional seconds, each additional digit increasing the range by a factor of
-            // 10. one digit is tenths, two is hundreths, etc
-            nanos = nanos * (int) Math.pow(10, 9 - (length - TIMESTAMP_STR_LEN_NO_FRAC - 1));
+    /**
+     * Returns the nanoseconds of a timestamp that passed {@link #checkTimestampFormat(byte[], int, int)}.
+     */
+    private static int getTimestampNanos(byte[] bytes, int offset, int length) {
+        if (length == TIMESTAMP_STR_LEN_NO_FRAC) {
+            return 0;
         }
+        // nanos from MySQL fractional, scaled out by the number of digits: one digit is tenths, two is hundreths, etc
+        int digits = length - TIMESTAMP_STR_LEN_NO_FRAC - 1;
+        return getDigits(bytes, offset + TIMESTAMP_STR_LEN_NO_FRAC + 1, digits) * FRACTION_TO_NANOS[digits];
+    }
 
-        return new InternalTimestamp(year, month, day, hours, minutes, seconds, nanos, scale);
+    public static InternalTimestamp getTimestamp(byte[] bytes, int offset, int length, int scale) {
+        checkTimestampFormat(bytes, offset, length);
+        return new InternalTimestamp(getDigits(bytes, offset, 4), getDigits(bytes, offset + 5, 2), getDigits(bytes, offset + 8, 2),
+                getDigits(bytes, offset + 11, 2), getDigits(bytes, offset + 14, 2), getDigits(bytes, offset + 17, 2), getTimestampNanos(bytes, offset, length),
+                scale);
     }
 
 }
@@ -189,6 +189,8 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
                 | (this.propertySet.getBooleanProperty(PropertyKey.trackSessionState).getValue() ? //
                         capabilityFlags & NativeServerSession.CLIENT_SESSION_TRACK : 0) //
                 | capabilityFlags & NativeServerSession.CLIENT_DEPRECATE_EOF //
+                | (this.propertySet.getBooleanProperty(PropertyKey.optionalResultSetMetadata).getValue() ? //
+                        capabilityFlags & NativeServerSession.CLIENT_OPTIONAL_RESULTSET_METADATA : 0) //
                 | capabilityFlags & NativeServerSession.CLIENT_QUERY_ATTRIBUTES //
                 | capabilityFlags & NativeServerSession.CLIENT_MULTI_FACTOR_AUTHENTICATION;
 
@@ -253,8 +253,8 @@ public class NativeMessageBuilder implements MessageBuilder<NativePacketPayload>
 
         boolean useStreamLengths = sess.getPropertySet().getBooleanProperty(PropertyKey.useStreamLengthsInPrepStmts).getValue();
 
-        // Try and get this allocation as close as possible for BLOBs.
-        int ensurePacketSize = 0;
+        // Try and get this allocation as close as possible for BLOBs. Values are written straight into the packet, after their static SQL parts.
+        int ensurePacketSize = preparedQuery.getQueryInfo().getStaticSqlPartsLength();
 
         String statementComment = sess.getQueryComment();
         byte[] commentAsBytes = null;
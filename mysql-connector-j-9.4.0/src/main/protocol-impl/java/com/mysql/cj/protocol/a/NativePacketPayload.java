@@ -174,7 +174,7 @@ public class NativePacketPayload implements Message {
      * To be called after write operations to ensure that payloadLength contains
      * the real size of written data.
      */
-    private void adjustPayloadLength() {
+    void adjustPayloadLength() {
         if (this.position > this.payloadLength) {
             this.payloadLength = this.position;
         }
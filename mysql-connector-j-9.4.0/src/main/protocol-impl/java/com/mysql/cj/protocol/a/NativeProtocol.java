@@ -69,6 +69,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import com.mysql.cj.CharsetMapping;
@@ -130,6 +131,7 @@ import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.protocol.a.result.RowMemoryBudget;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.IntegerValueFactory;
 import com.mysql.cj.result.Row;
@@ -151,6 +153,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     protected static final int COMP_HEADER_LENGTH = 3;
     protected static final int MAX_QUERY_SIZE_TO_EXPLAIN = 1024 * 1024; // don't explain queries above 1MB
     protected static final int SSL_REQUEST_LENGTH = 32;
+    protected static final int PIPELINE_WINDOW_SIZE = 64 * 1024; // max bytes of commands sent ahead of reading their results
     private static final String EXPLAINABLE_STATEMENT = "SELECT";
     private static final String[] EXPLAINABLE_STATEMENT_EXTENSION = new String[] { "INSERT", "UPDATE", "REPLACE", "DELETE" };
 
@@ -197,6 +200,13 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     protected Map<Class<? extends ProtocolEntity>, ProtocolEntityReader<? extends ProtocolEntity, ? extends Message>> PROTOCOL_ENTITY_CLASS_TO_BINARY_READER;
 
     private int statementExecutionDepth = 0;
+    private boolean pipelining = false;
+    private boolean resultSetMetadataSuppressed = false; // value of "resultset_metadata" in the session
+    private boolean resultSetMetadataSuppressionRequested = false; // by the next COM_STMT_EXECUTE
+    private long lastExecutedStatementId = -1; // if no other command returning column definitions was sent since
+    private long cursorFetchBufferUsage = 0;
+
+    private RowMemoryBudget bufferedRowsMemoryBudget = null;
     private List<QueryInterceptor> queryInterceptors;
 
     private RuntimeProperty<Boolean> maintainTimeStats;
@@ -642,6 +652,13 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     @Override
     public final NativePacketPayload sendCommand(Message queryPacket, boolean skipCheck, int timeoutMillis) {
         int command = queryPacket.getByteBuffer()[0];
+
+        if (command == NativeConstants.COM_RESET_CONNECTION) {
+            this.resultSetMetadataSuppressed = false;
+            this.lastExecutedStatementId = -1;
+            this.bufferedRowsMemoryBudget = null; // Forget the rows of result sets left open.
+        }
+
         this.commandCount++;
 
         if (this.queryInterceptors != null) {
@@ -685,8 +702,13 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
                 }
             }
 
+            NativePacketPayload resultSetMetadataSwitch = resultSetMetadataSwitchFor(queryPacket, command);
             try {
                 clearInputStream();
+                if (resultSetMetadataSwitch != null) {
+                    this.packetSequence = -1;
+                    send(resultSetMetadataSwitch, resultSetMetadataSwitch.getPosition());
+                }
                 this.packetSequence = -1;
                 send(queryPacket, queryPacket.getPosition());
 
@@ -698,6 +720,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
                         getPacketReceivedTimeHolder(), ex, getExceptionInterceptor());
             }
 
+            if (resultSetMetadataSwitch != null) {
+                readResultSetMetadataSwitchResult();
+            }
+
             NativePacketPayload returnPacket = null;
 
             if (!skipCheck) {
@@ -864,6 +890,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     }
 
     public void clearInputStream() {
+        if (this.pipelining) {
+            // Whatever is available belongs to the results of commands already sent.
+            return;
+        }
         try {
             int len;
 
@@ -1029,6 +1059,148 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    /**
+     * Sends several independent query packets back to back and only then reads their results, in order, so that a group of statements costs one network round
+     * trip instead of one per statement.
+     *
+     * Commands are sent in windows of up to {@link #PIPELINE_WINDOW_SIZE} bytes, so that the server is never forced to block on writing results while this
+     * side is still writing commands. Results are always fully buffered. Query interceptors, profiling and slow query logging are not applied, thus callers
+     * must fall back to {@link #sendQueryPacket(Query, NativePacketPayload, int, boolean, ColumnDefinition, ProtocolEntityFactory)} when these are required.
+     *
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param queryPackets
+     *            the COM_QUERY packets to send
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param resultConsumer
+     *            receives, in the same order as the packets, either the result of each command or the exception produced by it
+     * @throws CJCommunicationsException
+     *             if an i/o error occurs, in which case the state of the remaining commands is unknown
+     */
+    public final <T extends Resultset> void sendPipelinedQueryPackets(List<NativePacketPayload> queryPackets,
+            ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, BiConsumer<T, CJException> resultConsumer) {
+        this.statementExecutionDepth++;
+        try {
+            checkForOutstandingStreamingData();
+            clearInputStream();
+
+            NativePacketPayload resultSetMetadataSwitch = resultSetMetadataSwitchFor(null, NativeConstants.COM_QUERY);
+            if (resultSetMetadataSwitch != null) {
+                this.packetSequence = -1;
+                send(resultSetMetadataSwitch, resultSetMetadataSwitch.getPosition());
+            }
+
+            int next = 0;
+            while (next < queryPackets.size()) {
+                int windowStart = next;
+                int windowSize = 0;
+                do {
+                    NativePacketPayload queryPacket = queryPackets.get(next++);
+                    this.commandCount++;
+                    this.packetSequence = -1;
+                    send(queryPacket, queryPacket.getPosition());
+                    windowSize += queryPacket.getPosition();
+                } while (next < queryPackets.size() && windowSize < PIPELINE_WINDOW_SIZE);
+
+                this.pipelining = true;
+                try {
+                    if (resultSetMetadataSwitch != null) {
+                        readResultSetMetadataSwitchResult();
+                        resultSetMetadataSwitch = null;
+                    }
+                    for (int i = windowStart; i < next; i++) {
+                        this.packetReader.resetMessageSequence();
+                        this.hadWarnings = false;
+                        setWarningCount(0);
+
+                        T rs;
+                        try {
+                            rs = readAllResults(-1, false, checkErrorMessage(NativeConstants.COM_QUERY), false, null, resultSetFactory);
+                        } catch (CJCommunicationsException e) {
+                            throw e;
+                        } catch (CJException e) {
+                            resultConsumer.accept(null, e);
+                            continue;
+                        }
+                        resultConsumer.accept(rs, null);
+                    }
+                } finally {
+                    this.pipelining = false;
+                }
+            }
+        } catch (IOException ioEx) {
+            this.serverSession.preserveOldTransactionState();
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, getPacketSentTimeHolder(), getPacketReceivedTimeHolder(),
+                    ioEx, getExceptionInterceptor());
+        } finally {
+            this.statementExecutionDepth--;
+        }
+    }
+
+    /**
+     * Sends a query packet holding several statements separated by semicolons and delivers the result of each statement separately, in order. The server stops
+     * executing the statements at the first one that fails, so an exception, if any, is always the last thing delivered and the statements following the failed
+     * one were not executed.
+     *
+     * Multi-statements support must be enabled in the session. Results are always fully buffered. Query interceptors, profiling and slow query logging are not
+     * applied, thus callers must fall back to
+     * {@link #sendQueryPacket(Query, NativePacketPayload, int, boolean, ColumnDefinition, ProtocolEntityFactory)} when these are required.
+     *
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param queryPacket
+     *            the COM_QUERY packet to send
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param resultConsumer
+     *            receives, in the same order as the statements, either the result of each statement or the exception produced by it
+     * @throws CJCommunicationsException
+     *             if an i/o error occurs, in which case the state of the remaining statements is unknown
+     */
+    public final <T extends Resultset> void sendMultiStatementQueryPacket(NativePacketPayload queryPacket,
+            ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, BiConsumer<T, CJException> resultConsumer) {
+        this.statementExecutionDepth++;
+        try {
+            NativePacketPayload resultPacket;
+            try {
+                resultPacket = sendCommand(queryPacket, false, 0);
+            } catch (CJCommunicationsException e) {
+                throw e;
+            } catch (CJException e) {
+                resultConsumer.accept(null, e);
+                return;
+            }
+
+            while (true) {
+                resultPacket.setPosition(0);
+                resultConsumer.accept(read(Resultset.class, -1, false, resultPacket, false, null, resultSetFactory), null);
+                if (!this.serverSession.hasMoreResults()) {
+                    break;
+                }
+
+                this.hadWarnings = false;
+                setWarningCount(0);
+                try {
+                    resultPacket = checkErrorMessage();
+                } catch (CJCommunicationsException e) {
+                    throw e;
+                } catch (CJException e) {
+                    resultConsumer.accept(null, e);
+                    break;
+                }
+            }
+
+            reclaimLargeReusablePacket();
+        } catch (IOException ioEx) {
+            this.serverSession.preserveOldTransactionState();
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, getPacketSentTimeHolder(), getPacketReceivedTimeHolder(),
+                    ioEx, getExceptionInterceptor());
+        } finally {
+            this.statementExecutionDepth--;
+        }
+    }
+
     public <T extends Resultset> T invokeQueryInterceptorsPre(Supplier<String> sql, Query interceptedQuery, boolean forceExecute) {
         T previousResultSet = null;
 
@@ -1283,10 +1455,98 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         this.packetSequence = -1;
         this.packetSender = this.packetSender.undecorateAll();
         this.packetReader = this.packetReader.undecorateAll();
+        this.resultSetMetadataSuppressed = false;
+        this.lastExecutedStatementId = -1;
+        this.bufferedRowsMemoryBudget = null; // Forget the rows of result sets left open.
 
         this.authProvider.changeUser(user, password, database);
     }
 
+    /**
+     * Asks for the column definitions of the result sets of the next COM_STMT_EXECUTE to be omitted, because they are already known. They are only omitted if
+     * the same statement was the last one executed and no other command returning column definitions was sent since, so that statements executed alternately
+     * don't switch the "resultset_metadata" session variable back and forth.
+     *
+     * @param suppressed
+     *            true to omit the column definitions of the next execution, false to receive them
+     */
+    public void setResultSetMetadataSuppressedForNextExecute(boolean suppressed) {
+        this.resultSetMetadataSuppressionRequested = suppressed;
+    }
+
+    /**
+     * Returns the "SET resultset_metadata" query giving the session variable the value the given command needs, to be sent in the same flight, right before
+     * the command. The query is sent directly, so query interceptors don't see it.
+     *
+     * @param commandPacket
+     *            the command packet, only looked at for COM_STMT_EXECUTE
+     * @param command
+     *            the command
+     * @return the query packet, or null if the session variable already has the needed value
+     */
+    private NativePacketPayload resultSetMetadataSwitchFor(Message commandPacket, int command) {
+        boolean suppressed;
+        if (command == NativeConstants.COM_STMT_EXECUTE) {
+            byte[] packet = commandPacket.getByteBuffer();
+            long statementId = packet[1] & 0xffL | (packet[2] & 0xffL) << 8 | (packet[3] & 0xffL) << 16 | (packet[4] & 0xffL) << 24;
+            suppressed = this.resultSetMetadataSuppressionRequested && statementId == this.lastExecutedStatementId;
+            this.lastExecutedStatementId = statementId;
+        } else if (command == NativeConstants.COM_QUERY || command == NativeConstants.COM_STMT_PREPARE) {
+            suppressed = false;
+            this.lastExecutedStatementId = -1;
+        } else {
+            return null;
+        }
+        this.resultSetMetadataSuppressionRequested = false;
+        if (suppressed == this.resultSetMetadataSuppressed) {
+            return null;
+        }
+        // Not built in the shared send packet, which may hold the command itself.
+        return getNativeMessageBuilder().buildComQuery(null, this.session, suppressed ? "SET resultset_metadata = NONE" : "SET resultset_metadata = FULL");
+    }
+
+    /**
+     * Reads the reply to a query returned by {@link #resultSetMetadataSwitchFor(Message, int)}, which precedes the reply to the command sent after it.
+     */
+    private void readResultSetMetadataSwitchResult() {
+        this.packetReader.resetMessageSequence();
+        try {
+            checkErrorMessage(NativeConstants.COM_QUERY);
+        } catch (CJCommunicationsException e) {
+            throw e;
+        } catch (CJException e) {
+            // The reply to the command sent right after is still to be read and the state it was executed in isn't known, so the connection can't be used
+            // anymore.
+            this.socketConnection.forceClose();
+            throw ExceptionFactory.createException(CJCommunicationsException.class, Messages.getString("Protocol.ResultSetMetadataSwitchFailed"), e,
+                    getExceptionInterceptor());
+        }
+        this.resultSetMetadataSuppressed = !this.resultSetMetadataSuppressed;
+        this.packetReader.resetMessageSequence();
+    }
+
+    /**
+     * Reads the 'metadata_follows' field of a result set header, which is only sent when CLIENT_OPTIONAL_RESULTSET_METADATA was negotiated.
+     *
+     * @param resultPacket
+     *            the result set header, positioned after the column count
+     * @param columnCount
+     *            the number of columns of the result set
+     * @param metadata
+     *            the column definitions known for the result set, if any
+     * @return true if the column definitions follow the header, false if the given ones must be used
+     */
+    public boolean readResultSetMetadataFollows(NativePacketPayload resultPacket, long columnCount, ColumnDefinition metadata) {
+        if (!this.serverSession.supportsOptionalResultSetMetadata()
+                || resultPacket.readInteger(IntegerDataType.INT1) == NativeConstants.RESULTSET_METADATA_FULL) {
+            return true;
+        }
+        if (metadata == null || metadata.getFields() == null || metadata.getFields().length != columnCount) {
+            throw ExceptionFactory.createException(Messages.getString("Protocol.ResultSetMetadataMissing"), getExceptionInterceptor());
+        }
+        return false;
+    }
+
     protected boolean useNanosForElapsedTime() {
         return this.useNanosForElapsedTime;
     }
@@ -1379,13 +1639,35 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     public static MysqlType findMysqlType(PropertySet propertySet, int mysqlTypeId, short colFlag, long length, LazyString tableName,
             LazyString originalTableName, int collationIndex, String encoding) {
+        return findMysqlType(propertySet, mysqlTypeId, colFlag, length, originalTableName.length() == 0,
+                tableName.length() > 0 && tableName.toString().startsWith("#sql_"), collationIndex, encoding);
+    }
+
+    /**
+     * Finds the {@link MysqlType} of a column.
+     *
+     * @param propertySet
+     *            connection properties
+     * @param mysqlTypeId
+     *            MySQL type ID in legacy protocol
+     * @param colFlag
+     *            column flags
+     * @param length
+     *            length of the column
+     * @param isFromFunction
+     *            whether the column has no original table
+     * @param isImplicitTemporaryTable
+     *            whether the column is owned by a server-created temporary table
+     * @param collationIndex
+     *            the MySQL collation/character set index
+     * @param encoding
+     *            encoding of data in this column
+     * @return {@link MysqlType}
+     */
+    public static MysqlType findMysqlType(PropertySet propertySet, int mysqlTypeId, short colFlag, long length, boolean isFromFunction,
+            boolean isImplicitTemporaryTable, int collationIndex, String encoding) {
         boolean isUnsigned = (colFlag & MysqlType.FIELD_FLAG_UNSIGNED) > 0;
-        boolean isFromFunction = originalTableName.length() == 0;
         boolean isBinary = (colFlag & MysqlType.FIELD_FLAG_BINARY) > 0;
-        /**
-         * Is this field owned by a server-created temporary table?
-         */
-        boolean isImplicitTemporaryTable = tableName.length() > 0 && tableName.toString().startsWith("#sql_");
 
         boolean isOpaqueBinary = isBinary && collationIndex == CharsetMapping.MYSQL_COLLATION_INDEX_binary
                 && (mysqlTypeId == MysqlType.FIELD_TYPE_STRING || mysqlTypeId == MysqlType.FIELD_TYPE_VAR_STRING || mysqlTypeId == MysqlType.FIELD_TYPE_VARCHAR)
@@ -1522,7 +1804,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
                 }
 
                 // call this method again with correct this.mysqlType set
-                return findMysqlType(propertySet, newMysqlTypeId, colFlag, length, tableName, originalTableName, collationIndex, encoding);
+                return findMysqlType(propertySet, newMysqlTypeId, colFlag, length, isFromFunction, isImplicitTemporaryTable, collationIndex, encoding);
 
             case MysqlType.FIELD_TYPE_STRING:
                 if (isOpaqueBinary && !propertySet.getBooleanProperty(PropertyKey.blobsAreStrings).getValue()) {
@@ -1873,6 +2155,40 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         this.streamingData = streamingData;
     }
 
+    /**
+     * Returns the amount of memory currently used by the rows fetched from server-side cursors in this connection, as accounted for by the adaptive fetch
+     * size controllers.
+     *
+     * @return the number of bytes in use
+     */
+    public long getCursorFetchBufferUsage() {
+        return this.cursorFetchBufferUsage;
+    }
+
+    /**
+     * Updates the amount of memory used by the rows fetched from server-side cursors in this connection.
+     *
+     * @param delta
+     *            the number of bytes to add (positive) or release (negative)
+     */
+    public void adjustCursorFetchBufferUsage(long delta) {
+        this.cursorFetchBufferUsage = Math.max(0, this.cursorFetchBufferUsage + delta);
+    }
+
+    /**
+     * Returns the budget shared by the rows of all the buffered, read-only result sets of this connection, limited by the current value of
+     * 'resultSetSpillThreshold'. A new budget is started when the connection is reset, so that result sets left open before don't count anymore.
+     *
+     * @return {@link RowMemoryBudget}
+     */
+    public RowMemoryBudget getBufferedRowsMemoryBudget() {
+        if (this.bufferedRowsMemoryBudget == null) {
+            RuntimeProperty<Integer> spillThreshold = this.propertySet.getMemorySizeProperty(PropertyKey.resultSetSpillThreshold);
+            this.bufferedRowsMemoryBudget = new RowMemoryBudget(() -> spillThreshold.getValue());
+        }
+        return this.bufferedRowsMemoryBudget;
+    }
+
     private void checkForOutstandingStreamingData() {
         if (this.streamingData != null) {
             boolean shouldClobber = this.propertySet.getBooleanProperty(PropertyKey.clobberStreamingResults).getValue();
@@ -45,6 +45,7 @@ public class NativeServerSession implements ServerSession {
     public static final int SERVER_QUERY_NO_INDEX_USED = 32;
     public static final int SERVER_STATUS_CURSOR_EXISTS = 64;
     public static final int SERVER_STATUS_LAST_ROW_SENT = 128; // The server status for 'last-row-sent'
+    public static final int SERVER_STATUS_METADATA_CHANGED = 1024; // A prepared statement's result set metadata changed since it was prepared
     public static final int SERVER_QUERY_WAS_SLOW = 2048;
     public static final int SERVER_SESSION_STATE_CHANGED = 1 << 14; // 16384
 
@@ -69,6 +70,7 @@ public class NativeServerSession implements ServerSession {
     public static final int CLIENT_CAN_HANDLE_EXPIRED_PASSWORD = 0x00400000;
     public static final int CLIENT_SESSION_TRACK = 0x00800000;
     public static final int CLIENT_DEPRECATE_EOF = 0x01000000;
+    public static final int CLIENT_OPTIONAL_RESULTSET_METADATA = 0x02000000;
     public static final int CLIENT_QUERY_ATTRIBUTES = 0x08000000;
     public static final int CLIENT_MULTI_FACTOR_AUTHENTICATION = 0x10000000;
 
@@ -219,6 +221,11 @@ public class NativeServerSession implements ServerSession {
         return (this.clientParam & CLIENT_QUERY_ATTRIBUTES) != 0;
     }
 
+    @Override
+    public boolean supportsOptionalResultSetMetadata() {
+        return (this.clientParam & CLIENT_OPTIONAL_RESULTSET_METADATA) != 0;
+    }
+
     @Override
     public Map<String, String> getServerVariables() {
         return this.serverVariables;
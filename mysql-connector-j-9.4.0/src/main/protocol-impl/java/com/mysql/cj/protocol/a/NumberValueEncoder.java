@@ -33,6 +33,35 @@ import com.mysql.cj.util.StringUtils;
 
 public class NumberValueEncoder extends AbstractValueEncoder {
 
+    @Override
+    public void encodeAsText(Message msg, BindValue binding) {
+        Object x = binding.getValue();
+        if ((x instanceof Long || x instanceof Integer || x instanceof Short || x instanceof Byte) && isAsciiCompatible(this.charEncoding.getValue())) {
+            // Integral values are written straight into the packet, following the same conversions as getString().
+            switch (binding.getMysqlType()) {
+                case BIT:
+                case TINYINT:
+                case TINYINT_UNSIGNED:
+                case SMALLINT:
+                case SMALLINT_UNSIGNED:
+                case MEDIUMINT:
+                case MEDIUMINT_UNSIGNED:
+                case INT:
+                case YEAR:
+                    writeAsciiDecimal((NativePacketPayload) msg, ((Number) x).intValue());
+                    return;
+                case INT_UNSIGNED:
+                case BIGINT:
+                case BIGINT_UNSIGNED:
+                    writeAsciiDecimal((NativePacketPayload) msg, ((Number) x).longValue());
+                    return;
+                default:
+                    break;
+            }
+        }
+        super.encodeAsText(msg, binding);
+    }
+
     @Override
     public String getString(BindValue binding) {
         Number x = binding.getValue() instanceof BigDecimal ? getScaled((BigDecimal) binding.getValue(), binding.getScaleOrLength())
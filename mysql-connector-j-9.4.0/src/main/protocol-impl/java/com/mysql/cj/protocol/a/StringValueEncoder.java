@@ -113,6 +113,131 @@ public class StringValueEncoder extends AbstractValueEncoder {
         }
     }
 
+    @Override
+    public void encodeAsText(Message msg, BindValue binding) {
+        if (!binding.isNational() && isAsciiCompatible(this.charEncoding.getValue())) {
+            switch (binding.getMysqlType()) {
+                case CHAR:
+                case ENUM:
+                case SET:
+                case VARCHAR:
+                case TINYTEXT:
+                case TEXT:
+                case MEDIUMTEXT:
+                case LONGTEXT:
+                case JSON:
+                case BINARY:
+                case GEOMETRY:
+                case VARBINARY:
+                case TINYBLOB:
+                case BLOB:
+                case MEDIUMBLOB:
+                case LONGBLOB:
+                    if (writeAsciiStringLiteral((NativePacketPayload) msg, (String) binding.getValue())) {
+                        return;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        super.encodeAsText(msg, binding);
+    }
+
+    /**
+     * Writes the given string as a quoted and escaped literal straight into the packet, producing the same bytes as {@link #getBytes(BindValue)} would.
+     * Only strings made of 7-bit characters are handled here; nothing is written if the string contains any other character or if it needs escaping while
+     * NO_BACKSLASH_ESCAPES is set, so that the caller can fall back to the regular encoding.
+     *
+     * @param intoPacket
+     *            the packet to write to
+     * @param x
+     *            the string value
+     * @return true if the literal was written
+     */
+    private boolean writeAsciiStringLiteral(NativePacketPayload intoPacket, String x) {
+        boolean noBackslashEscapes = this.serverSession.isNoBackslashEscapesSet();
+        boolean useAnsiQuotedIdentifiers = this.serverSession.useAnsiQuotedIdentifiers();
+        int stringLength = x.length();
+
+        // First pass: check the characters and compute the exact length of the literal.
+        int length = stringLength + 2;
+        for (int i = 0; i < stringLength; ++i) {
+            char c = x.charAt(i);
+            if (c >= 0x80) {
+                return false;
+            }
+            switch (c) {
+                case '"':
+                    if (noBackslashEscapes) {
+                        return false;
+                    }
+                    if (useAnsiQuotedIdentifiers) {
+                        length++;
+                    }
+                    break;
+                case 0:
+                case '\n':
+                case '\r':
+                case '\\':
+                case '\'':
+                case '\032':
+                    if (noBackslashEscapes) {
+                        return false;
+                    }
+                    length++;
+                    break;
+            }
+        }
+
+        // Second pass: write the literal, escaping it the same way StringUtils.escapeString() does.
+        intoPacket.ensureCapacity(length);
+        byte[] b = intoPacket.getByteBuffer();
+        int pos = intoPacket.getPosition();
+        b[pos++] = '\'';
+        for (int i = 0; i < stringLength; ++i) {
+            char c = x.charAt(i);
+            switch (c) {
+                case 0:
+                    b[pos++] = '\\';
+                    b[pos++] = '0';
+                    break;
+                case '\n':
+                    b[pos++] = '\\';
+                    b[pos++] = 'n';
+                    break;
+                case '\r':
+                    b[pos++] = '\\';
+                    b[pos++] = 'r';
+                    break;
+                case '\\':
+                    b[pos++] = '\\';
+                    b[pos++] = '\\';
+                    break;
+                case '\'':
+                    b[pos++] = '\'';
+                    b[pos++] = '\'';
+                    break;
+                case '"':
+                    if (useAnsiQuotedIdentifiers) {
+                        b[pos++] = '\\';
+                    }
+                    b[pos++] = '"';
+                    break;
+                case '\032':
+                    b[pos++] = '\\';
+                    b[pos++] = 'Z';
+                    break;
+                default:
+                    b[pos++] = (byte) c;
+            }
+        }
+        b[pos++] = '\'';
+        intoPacket.setPosition(pos);
+        intoPacket.adjustPayloadLength();
+        return true;
+    }
+
     @Override
     public String getString(BindValue binding) {
         String x = (String) binding.getValue();
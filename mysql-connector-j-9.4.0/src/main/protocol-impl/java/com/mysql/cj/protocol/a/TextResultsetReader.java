@@ -22,12 +22,14 @@ package com.mysql.cj.protocol.a;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.List;
 
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
 import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.Resultset.Concurrency;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
@@ -35,6 +37,7 @@ import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
 import com.mysql.cj.protocol.a.result.OkPacket;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStreaming;
+import com.mysql.cj.protocol.a.result.SpillableRowList;
 
 public class TextResultsetReader implements ProtocolEntityReader<Resultset, NativePacketPayload> {
 
@@ -54,8 +57,10 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
         if (columnCount > 0) {
             // Build a result set with rows.
 
-            // Read in the column information
-            ColumnDefinition cdef = this.protocol.read(ColumnDefinition.class, new ColumnDefinitionFactory(columnCount, metadata));
+            // Read in the column information, unless the server didn't send it
+            ColumnDefinition cdef = this.protocol.readResultSetMetadataFollows(resultPacket, columnCount, metadata)
+                    ? this.protocol.read(ColumnDefinition.class, new ColumnDefinitionFactory(columnCount, metadata))
+                    : metadata;
 
             // There is no EOF packet after fields when CLIENT_DEPRECATE_EOF is set
             if (!this.protocol.getServerSession().isEOFDeprecated()) {
@@ -67,7 +72,7 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
 
             if (!streamResults) {
                 TextRowFactory trf = new TextRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
-                ArrayList<ResultsetRow> rowList = new ArrayList<>();
+                List<ResultsetRow> rowList = createRowList(cdef, resultSetFactory);
 
                 ResultsetRow row = this.protocol.read(ResultsetRow.class, trf);
                 while (row != null) {
@@ -115,4 +120,21 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
         //}
     }
 
+    /**
+     * Creates the list buffering the rows of a result set, which spills them to disk beyond 'resultSetSpillThreshold' for read-only result sets.
+     *
+     * @param cdef
+     *            {@link ColumnDefinition} of the result set
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory} creating the result set
+     * @return a list of rows
+     */
+    private List<ResultsetRow> createRowList(ColumnDefinition cdef, ProtocolEntityFactory<Resultset, NativePacketPayload> resultSetFactory) {
+        int spillThreshold = this.protocol.getPropertySet().getMemorySizeProperty(PropertyKey.resultSetSpillThreshold).getValue();
+        if (spillThreshold > 0 && resultSetFactory.getResultSetConcurrency() == Concurrency.READ_ONLY) {
+            return new SpillableRowList(cdef, false, this.protocol.getBufferedRowsMemoryBudget(), this.protocol.getExceptionInterceptor());
+        }
+        return new ArrayList<>();
+    }
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.jdbc.result.CursorFetchStatistics;
+import com.mysql.cj.protocol.a.NativeProtocol;
+
+/**
+ * Chooses the number of rows requested by each COM_STMT_FETCH of a cursor-based result set.
+ *
+ * The fetch size grows while the round trips take a significant share of the total time spent in the result set and shrinks while the application is the
+ * bottleneck, as larger fetches wouldn't make it any faster. In all cases, the number of rows is capped so that the fetched rows of all cursors in the
+ * connection stay within the configured memory budget, based on the average row size measured so far.
+ */
+public class CursorFetchSizeController implements CursorFetchStatistics {
+
+    /** Weight of the latest measurement in the average row size. */
+    private static final double ROW_SIZE_SMOOTHING = 0.5;
+    /** Fetch time share above which the fetch size grows. */
+    private static final double GROW_FETCH_TIME_RATIO = 0.1;
+    /** Fetch time share below which the fetch size shrinks. */
+    private static final double SHRINK_FETCH_TIME_RATIO = 0.02;
+
+    private NativeProtocol protocol;
+    private int minRows;
+    private int maxRows;
+    private long bufferSize;
+
+    private int fetchSize;
+    private double averageRowSize = 0;
+    private long reservedBytes = 0;
+
+    private long fetchStartNanos = 0;
+    private long fetchEndNanos = 0;
+    private long lastFetchNanos = 0;
+
+    private int fetchCount = 0;
+    private long rowsFetched = 0;
+    private int smallestFetchSize = Integer.MAX_VALUE;
+    private int largestFetchSize = 0;
+
+    /**
+     * Creates a new controller.
+     *
+     * @param protocol
+     *            the protocol the cursor is read from
+     * @param initialFetchSize
+     *            the number of rows requested by the first fetch
+     */
+    public CursorFetchSizeController(NativeProtocol protocol, int initialFetchSize) {
+        PropertySet propertySet = protocol.getPropertySet();
+        this.protocol = protocol;
+        this.minRows = propertySet.getIntegerProperty(PropertyKey.adaptiveCursorFetchMinRows).getValue();
+        this.maxRows = Math.max(this.minRows, propertySet.getIntegerProperty(PropertyKey.adaptiveCursorFetchMaxRows).getValue());
+        this.bufferSize = propertySet.getMemorySizeProperty(PropertyKey.adaptiveCursorFetchBufferSize).getValue();
+        this.fetchSize = Math.max(1, initialFetchSize);
+    }
+
+    /**
+     * Computes the size of the next fetch. Must be followed by a call to {@link #fetchCompleted(int, long)} once the rows are read.
+     *
+     * @return the number of rows to fetch
+     */
+    public int nextFetchSize() {
+        long now = System.nanoTime();
+        release();
+
+        long size = this.fetchSize;
+        if (this.fetchCount > 0) {
+            long consumeNanos = now - this.fetchEndNanos;
+            double fetchTimeRatio = (double) this.lastFetchNanos / Math.max(1, this.lastFetchNanos + consumeNanos);
+            if (fetchTimeRatio > GROW_FETCH_TIME_RATIO) {
+                size *= 2;
+            } else if (fetchTimeRatio < SHRINK_FETCH_TIME_RATIO) {
+                size /= 2;
+            }
+            size = Math.min(Math.max(size, this.minRows), this.maxRows);
+        }
+
+        if (this.bufferSize > 0 && this.averageRowSize > 0) {
+            long available = this.bufferSize - this.protocol.getCursorFetchBufferUsage();
+            size = Math.max(Math.min(size, (long) (available / this.averageRowSize)), Math.min(this.minRows, size));
+        }
+
+        this.fetchSize = (int) Math.max(1, size);
+        this.fetchStartNanos = now;
+        this.fetchCount++;
+        this.smallestFetchSize = Math.min(this.smallestFetchSize, this.fetchSize);
+        this.largestFetchSize = Math.max(this.largestFetchSize, this.fetchSize);
+        return this.fetchSize;
+    }
+
+    /**
+     * Records the outcome of the fetch started by the last call to {@link #nextFetchSize()}.
+     *
+     * @param rows
+     *            the number of rows fetched
+     * @param bytes
+     *            the total size of the fetched rows
+     */
+    public void fetchCompleted(int rows, long bytes) {
+        this.fetchEndNanos = System.nanoTime();
+        this.lastFetchNanos = this.fetchEndNanos - this.fetchStartNanos;
+        this.rowsFetched += rows;
+        if (rows > 0) {
+            double rowSize = (double) bytes / rows;
+            this.averageRowSize = this.averageRowSize == 0 ? rowSize : ROW_SIZE_SMOOTHING * rowSize + (1 - ROW_SIZE_SMOOTHING) * this.averageRowSize;
+        }
+        this.reservedBytes = bytes;
+        this.protocol.adjustCursorFetchBufferUsage(bytes);
+    }
+
+    /**
+     * Releases the memory accounted for the rows of the last fetch.
+     */
+    public void release() {
+        if (this.reservedBytes > 0) {
+            this.protocol.adjustCursorFetchBufferUsage(-this.reservedBytes);
+            this.reservedBytes = 0;
+        }
+    }
+
+    @Override
+    public int getLastFetchSize() {
+        return this.fetchSize;
+    }
+
+    @Override
+    public int getSmallestFetchSize() {
+        return this.fetchCount == 0 ? 0 : this.smallestFetchSize;
+    }
+
+    @Override
+    public int getLargestFetchSize() {
+        return this.largestFetchSize;
+    }
+
+    @Override
+    public int getFetchCount() {
+        return this.fetchCount;
+    }
+
+    @Override
+    public long getRowsFetched() {
+        return this.rowsFetched;
+    }
+
+    @Override
+    public double getAverageRowSize() {
+        return this.averageRowSize;
+    }
+
+}
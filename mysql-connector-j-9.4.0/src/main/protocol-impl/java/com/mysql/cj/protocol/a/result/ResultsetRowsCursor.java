@@ -26,6 +26,7 @@ import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.Session;
+import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Resultset.Concurrency;
@@ -33,6 +34,7 @@ import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.BinaryRowFactory;
 import com.mysql.cj.protocol.a.NativeMessageBuilder;
+import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.protocol.a.NativeProtocol;
 import com.mysql.cj.result.Row;
 import com.mysql.cj.telemetry.TelemetryAttribute;
@@ -75,6 +77,18 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
 
     protected NativeMessageBuilder commandBuilder = null;
 
+    /**
+     * Is the fetch size chosen by a {@link CursorFetchSizeController}?
+     */
+    private boolean adaptiveFetch = false;
+
+    private CursorFetchSizeController fetchSizeController = null;
+
+    /**
+     * Size of the rows read by the current fetch, if adaptive.
+     */
+    private long fetchedBytes = 0;
+
     /**
      * Creates a new cursor-backed row provider.
      *
@@ -87,7 +101,17 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
         this.currentPositionInEntireResult = BEFORE_START_OF_ROWS;
         this.metadata = columnDefinition;
         this.protocol = ioChannel;
-        this.rowFactory = new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, false);
+        this.adaptiveFetch = this.protocol.getPropertySet().getBooleanProperty(PropertyKey.adaptiveCursorFetch).getValue();
+        this.rowFactory = !this.adaptiveFetch ? new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, false)
+                : new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, false) {
+
+                    @Override
+                    public ResultsetRow createFromMessage(NativePacketPayload rowPacket) {
+                        ResultsetRowsCursor.this.fetchedBytes += rowPacket.getPayloadLength();
+                        return super.createFromMessage(rowPacket);
+                    }
+
+                };
         this.commandBuilder = new NativeMessageBuilder(this.protocol.getServerSession().supportsQueryAttributes());
     }
 
@@ -124,6 +148,9 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
 
     @Override
     public void close() {
+        if (this.fetchSizeController != null) {
+            this.fetchSizeController.release();
+        }
         this.metadata = null;
         this.owner = null;
     }
@@ -235,6 +262,14 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
                         numRowsToFetch = 1;
                     }
 
+                    if (this.adaptiveFetch) {
+                        if (this.fetchSizeController == null) {
+                            this.fetchSizeController = new CursorFetchSizeController(this.protocol, numRowsToFetch);
+                        }
+                        numRowsToFetch = this.fetchSizeController.nextFetchSize();
+                        this.fetchedBytes = 0;
+                    }
+
                     if (this.fetchedRows == null) {
                         this.fetchedRows = new ArrayList<>(numRowsToFetch);
                     } else {
@@ -252,6 +287,10 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
                         this.fetchedRows.add(row);
                     }
 
+                    if (this.fetchSizeController != null) {
+                        this.fetchSizeController.fetchCompleted(this.fetchedRows.size(), this.fetchedBytes);
+                    }
+
                     this.currentPositionInFetchedRows = BEFORE_START_OF_ROWS;
 
                     if (this.protocol.getServerSession().isLastRowSent()) {
@@ -275,6 +314,15 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
         }
     }
 
+    /**
+     * Returns the controller that chooses the size of each fetch, which also exposes the sizes chosen so far.
+     *
+     * @return the {@link CursorFetchSizeController}, or null if 'adaptiveCursorFetch' is disabled or no rows were fetched yet
+     */
+    public CursorFetchSizeController getFetchSizeController() {
+        return this.fetchSizeController;
+    }
+
     @Override
     public void addRow(Row row) {
         // TODO consider to handle additional List<Row> addedRows along with fetchedRows
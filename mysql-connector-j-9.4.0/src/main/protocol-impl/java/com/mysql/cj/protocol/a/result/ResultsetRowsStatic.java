@@ -74,6 +74,24 @@ public class ResultsetRowsStatic extends AbstractResultsetRows implements Result
         }
     }
 
+    @Override
+    public void close() {
+        List<?> rowList = this.rows;
+        if (rowList instanceof SpillableRowList) {
+            ((SpillableRowList) rowList).close();
+        }
+    }
+
+    /**
+     * Gives back the share of the connection's buffered rows memory budget held by these rows, without closing them.
+     */
+    public void releaseMemoryBudget() {
+        List<?> rowList = this.rows;
+        if (rowList instanceof SpillableRowList) {
+            ((SpillableRowList) rowList).releaseMemoryBudget();
+        }
+    }
+
     @Override
     public Row get(int atIndex) {
         if (atIndex < 0 || atIndex >= this.rows.size()) {
@@ -20,6 +20,15 @@
 
 package com.mysql.cj.protocol.a.result;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -37,6 +46,7 @@ import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.Resultset.Concurrency;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
+import com.mysql.cj.protocol.ResultsetRowsOwner;
 import com.mysql.cj.protocol.a.BinaryRowFactory;
 import com.mysql.cj.protocol.a.NativeMessageBuilder;
 import com.mysql.cj.protocol.a.NativePacketPayload;
@@ -53,11 +63,30 @@ import com.mysql.cj.util.Util;
  * Provides streaming of Resultset rows. Each next row is consumed from the input stream only on {@link #next()} call. Consumed rows are not cached thus result
  * sets are streamed only when they are forward-only, read-only, and the fetch size has been set to Integer.MIN_VALUE (rows are read one by one).
  *
+ * If 'prefetchStreamingResults' is set, rows are read ahead by a background thread into a bounded buffer instead, so that reading from the network overlaps
+ * with the processing of the rows already fetched. Background threads come from a bounded pool shared by all result sets; when all of them are busy, rows
+ * are read on demand as if prefetching was disabled. A background thread that waits too long for the application to take rows from a full buffer, e.g.
+ * because the result set was abandoned without being closed, gives its thread back to the pool; reading then resumes in the background once the rows
+ * already buffered are consumed.
+ *
  * @param <T>
  *            ProtocolEntity type
  */
 public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractResultsetRows implements ResultsetRows {
 
+    private static final int PREFETCH_POOL_SIZE = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+    private static final ThreadPoolExecutor PREFETCH_POOL;
+    static {
+        AtomicInteger threadCount = new AtomicInteger();
+        PREFETCH_POOL = new ThreadPoolExecutor(0, PREFETCH_POOL_SIZE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+            Thread t = new Thread(r, "MySQL Streaming Result Prefetcher-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            ClassLoader classLoader = ResultsetRowsStreaming.class.getClassLoader();
+            t.setContextClassLoader(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+            return t;
+        });
+    }
+
     private NativeProtocol protocol;
     private NativeMessageBuilder commandBuilder = null;
     private ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory;
@@ -71,6 +100,10 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
     private boolean isBinaryEncoded = false;
     private boolean streamerClosed = false;
 
+    private int prefetchRows;
+    private RowPrefetcher prefetcher = null;
+    private boolean draining = false;
+
     private ExceptionInterceptor exceptionInterceptor;
 
     /**
@@ -92,8 +125,11 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
         this.metadata = columnDefinition;
         this.exceptionInterceptor = this.protocol.getExceptionInterceptor();
         this.resultSetFactory = resultSetFactory;
-        this.rowFactory = this.isBinaryEncoded ? new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, true)
-                : new TextRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, true);
+        this.prefetchRows = this.protocol.getPropertySet().getIntegerProperty(PropertyKey.prefetchStreamingResults).getValue();
+        // Prefetched rows outlive the reusable packet, so they can't share it.
+        boolean canReuseRowPacket = this.prefetchRows == 0;
+        this.rowFactory = this.isBinaryEncoded ? new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, canReuseRowPacket)
+                : new TextRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, canReuseRowPacket);
         this.commandBuilder = new NativeMessageBuilder(this.protocol.getServerSession().supportsQueryAttributes());
     }
 
@@ -107,11 +143,21 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
         try {
             // drain the rest of the records.
             try {
-                while (next() != null) {
-                    hadMore = true;
-                    howMuchMore++;
-                    if (howMuchMore % 100 == 0) {
-                        Thread.yield();
+                this.draining = true;
+                if (this.prefetcher != null) {
+                    this.prefetcher.cancel();
+                }
+                try {
+                    while (next() != null) {
+                        hadMore = true;
+                        howMuchMore++;
+                        if (howMuchMore % 100 == 0) {
+                            Thread.yield();
+                        }
+                    }
+                } finally {
+                    if (this.prefetcher != null) {
+                        this.prefetcher.join();
                     }
                 }
             } catch (CJException e) {
@@ -121,6 +167,11 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
                     throw e;
                 }
             }
+            if (this.prefetcher != null) {
+                int discardedRows = this.prefetcher.getDiscardedRows();
+                hadMore |= discardedRows > 0;
+                howMuchMore += discardedRows;
+            }
 
             if (this.protocol.getPropertySet().getIntegerProperty(PropertyKey.netTimeoutForStreamingResults).getValue() > 0) {
                 Session session = this.owner.getSession();
@@ -211,7 +262,7 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
     public Row next() {
         try {
             if (!this.noMoreRows) {
-                this.nextRow = this.protocol.read(ResultsetRow.class, this.rowFactory);
+                this.nextRow = readRow();
 
                 if (this.nextRow == null) {
                     this.noMoreRows = true;
@@ -268,6 +319,37 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
         }
     }
 
+    /**
+     * Reads the next row, either directly from the server or from the rows prefetched in the background.
+     *
+     * @return the next row or null if there are no more rows in this result set
+     * @throws Exception
+     *             if the row couldn't be read
+     */
+    private Row readRow() throws Exception {
+        if (this.prefetchRows == 0 || this.prefetcher == null && this.draining) {
+            return this.protocol.read(ResultsetRow.class, this.rowFactory);
+        }
+        if (this.prefetcher == null) {
+            RowPrefetcher newPrefetcher = new RowPrefetcher(this.prefetchRows);
+            try {
+                newPrefetcher.start();
+            } catch (RejectedExecutionException e) {
+                // All prefetching threads are busy, read this result set on demand.
+                this.prefetchRows = 0;
+                return this.protocol.read(ResultsetRow.class, this.rowFactory);
+            }
+            this.prefetcher = newPrefetcher;
+        }
+        Row row = this.prefetcher.take();
+        if (row == null && this.prefetcher.isStoppedEarly()) {
+            // The prefetcher gave up waiting for the rows to be consumed before reading all of them, start a new one.
+            this.prefetcher = null;
+            return readRow();
+        }
+        return row;
+    }
+
     @Override
     public int getPosition() {
         throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
@@ -298,4 +380,156 @@ public class ResultsetRowsStreaming<T extends ProtocolEntity> extends AbstractRe
         throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
     }
 
+    /**
+     * Reads all rows of this result set in the background, keeping a bounded number of them ready to be consumed.
+     */
+    private class RowPrefetcher implements Runnable {
+
+        private static final long POLL_INTERVAL_MILLIS = 100;
+        /** How long the prefetcher waits for room in a full buffer before giving its thread back to the pool. */
+        private static final long MAX_IDLE_MILLIS = 5000;
+
+        /** Wakes up a waiting consumer once all rows were read. */
+        private final Object endOfRows = new Object();
+
+        private final BlockingQueue<Object> queue;
+
+        private volatile boolean cancelled = false;
+        private volatile boolean done = false;
+        private volatile Throwable failure = null;
+        private volatile int discardedRows = 0;
+        private volatile Row parkedRow = null;
+        private volatile boolean stoppedEarly = false;
+        private Future<?> task = null;
+
+        RowPrefetcher(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * Starts prefetching rows in the shared pool.
+         *
+         * @throws RejectedExecutionException
+         *             if all prefetching threads are busy
+         */
+        void start() {
+            this.task = PREFETCH_POOL.submit(this);
+        }
+
+        @Override
+        public void run() {
+            try {
+                ResultsetRow row;
+                while ((row = ResultsetRowsStreaming.this.protocol.read(ResultsetRow.class, ResultsetRowsStreaming.this.rowFactory)) != null) {
+                    boolean queued = false;
+                    long idleSince = System.currentTimeMillis();
+                    while (!this.cancelled && !(queued = this.queue.offer(row, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS))) {
+                        // Wait for the consumer to make room, unless cancelled meanwhile or the consumer seems gone.
+                        if (System.currentTimeMillis() - idleSince > MAX_IDLE_MILLIS || isConnectionClosed()) {
+                            // Keep the row for the consumer, if it ever comes back, and leave the remaining ones in the server's stream.
+                            this.parkedRow = row;
+                            this.stoppedEarly = true;
+                            return;
+                        }
+                    }
+                    if (!queued) {
+                        this.discardedRows++;
+                    }
+                }
+            } catch (Throwable t) {
+                this.failure = t;
+            } finally {
+                this.done = true;
+                this.queue.offer(this.endOfRows); // If the queue is full the consumer is not waiting, it sees 'done' once it drains the queue.
+            }
+        }
+
+        private boolean isConnectionClosed() {
+            ResultsetRowsOwner owner = ResultsetRowsStreaming.this.owner;
+            return owner != null && owner.getSession() != null && owner.getSession().isClosed();
+        }
+
+        /**
+         * Returns the next prefetched row, waiting for it if needed.
+         *
+         * @return the next row or null if there are no more rows, or no more prefetched rows if {@link #isStoppedEarly()}
+         * @throws Exception
+         *             the exception thrown while reading the rows
+         */
+        Row take() throws Exception {
+            while (true) {
+                boolean finished = this.done; // Rows are all queued before this flag is set.
+                Object element = finished ? this.queue.poll() : this.queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (element instanceof Row) {
+                    return (Row) element;
+                }
+                if (element == null && finished) {
+                    Row row = this.parkedRow;
+                    if (row != null) {
+                        this.parkedRow = null;
+                        return row;
+                    }
+                    Throwable t = this.failure;
+                    if (t == null) {
+                        return null;
+                    }
+                    if (t instanceof Error) {
+                        throw (Error) t;
+                    }
+                    throw (Exception) t;
+                }
+            }
+        }
+
+        /**
+         * Checks if this prefetcher stopped before reading all rows, because the consumer didn't take rows for too long or the connection was closed. Rows
+         * not returned by {@link #take()} are still to be read from the server.
+         *
+         * @return true if this prefetcher stopped early
+         */
+        boolean isStoppedEarly() {
+            return this.stoppedEarly;
+        }
+
+        /**
+         * Stops buffering rows. The remaining rows are read from the server and discarded.
+         */
+        void cancel() {
+            this.cancelled = true;
+        }
+
+        /**
+         * Waits for the background task to finish reading all rows from the server.
+         */
+        void join() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        this.task.get();
+                        return;
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    } catch (ExecutionException e) {
+                        return; // Not thrown by run(), failures are kept for take().
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * Returns the number of rows discarded after being cancelled. Only reliable after {@link #join()}.
+         *
+         * @return the number of discarded rows
+         */
+        int getDiscardedRows() {
+            return this.discardedRows;
+        }
+
+    }
+
 }
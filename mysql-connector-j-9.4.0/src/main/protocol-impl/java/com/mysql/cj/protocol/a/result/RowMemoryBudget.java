@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * The amount of memory that the rows of buffered result sets may use, shared by all {@link SpillableRowList}s of a connection. Rows are accounted for while
+ * their result set is open. The share of a result set that is never closed is given back when its statement is closed, or else when the connection is
+ * reset or closed.
+ */
+public class RowMemoryBudget {
+
+    private final LongSupplier limit;
+    private final AtomicLong used = new AtomicLong();
+
+    /**
+     * Creates a budget whose limit is read each time memory is reserved, so that changes take effect for the rows read afterwards.
+     *
+     * @param limit
+     *            supplies the maximum number of bytes
+     */
+    public RowMemoryBudget(LongSupplier limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Reserves the given number of bytes if they fit in the budget.
+     *
+     * @param bytes
+     *            the number of bytes to reserve
+     * @return true if reserved, false if there is not enough room left
+     */
+    public boolean tryReserve(long bytes) {
+        long maxBytes = this.limit.getAsLong();
+        while (true) {
+            long current = this.used.get();
+            if (current + bytes > maxBytes) {
+                return false;
+            }
+            if (this.used.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserves the given number of bytes, even if they exceed the budget.
+     *
+     * @param bytes
+     *            the number of bytes to reserve
+     */
+    public void reserve(long bytes) {
+        this.used.addAndGet(bytes);
+    }
+
+    /**
+     * Gives back bytes previously reserved.
+     *
+     * @param bytes
+     *            the number of bytes to release
+     */
+    public void release(long bytes) {
+        this.used.addAndGet(-bytes);
+    }
+
+    /**
+     * Returns the number of bytes currently reserved.
+     *
+     * @return the number of bytes used
+     */
+    public long getUsed() {
+        return this.used.get();
+    }
+
+}
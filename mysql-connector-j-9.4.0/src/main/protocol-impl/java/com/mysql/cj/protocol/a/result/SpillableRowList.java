@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ResultsetRow;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+
+/**
+ * A list of the rows of a buffered result set that keeps them in memory while they fit in a {@link RowMemoryBudget}, usually shared by all the result sets of
+ * a connection, and spills the rows that come after to a temporary file.
+ * <p>
+ * Spilled rows are stored as their raw column values and found through an index of their offsets in the file, so random access keeps working at the cost of a
+ * file read. Each read returns a new {@link ByteArrayRow}, so changes made to a spilled row are lost: this list is for read-only result sets only. The file is
+ * deleted by {@link #close()}.
+ */
+public class SpillableRowList extends AbstractList<ResultsetRow> implements RandomAccess {
+
+    /** Estimated memory used by a row or column besides its values. */
+    private static final int OBJECT_OVERHEAD = 16;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final ColumnDefinition columnDefinition;
+    private final ValueDecoder valueDecoder;
+    private final RowMemoryBudget memoryBudget;
+    private final ExceptionInterceptor exceptionInterceptor;
+
+    private final List<ResultsetRow> memoryRows = new ArrayList<>();
+    private long memoryUsed = 0;
+
+    private FileChannel spillFile = null;
+    private ByteBuffer writeBuffer = null;
+    private long fileSize = 0; // including the bytes in the write buffer
+    private long[] spilledOffsets = new long[0];
+    private int[] spilledLengths = new int[0];
+    private int spilledCount = 0;
+
+    /**
+     * Creates an empty list with a memory budget of its own.
+     *
+     * @param columnDefinition
+     *            columns of the rows
+     * @param binaryEncoded
+     *            whether rows are encoded by the binary protocol
+     * @param memoryLimit
+     *            number of bytes of rows to keep in memory before spilling to disk
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor}
+     */
+    public SpillableRowList(ColumnDefinition columnDefinition, boolean binaryEncoded, long memoryLimit, ExceptionInterceptor exceptionInterceptor) {
+        this(columnDefinition, binaryEncoded, new RowMemoryBudget(() -> memoryLimit), exceptionInterceptor);
+    }
+
+    /**
+     * Creates an empty list.
+     *
+     * @param columnDefinition
+     *            columns of the rows
+     * @param binaryEncoded
+     *            whether rows are encoded by the binary protocol
+     * @param memoryBudget
+     *            the budget for the rows kept in memory, released when this list is closed
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor}
+     */
+    public SpillableRowList(ColumnDefinition columnDefinition, boolean binaryEncoded, RowMemoryBudget memoryBudget,
+            ExceptionInterceptor exceptionInterceptor) {
+        this.columnDefinition = columnDefinition;
+        this.valueDecoder = binaryEncoded ? new MysqlBinaryValueDecoder() : new MysqlTextValueDecoder();
+        this.memoryBudget = memoryBudget;
+        this.exceptionInterceptor = exceptionInterceptor;
+    }
+
+    @Override
+    public int size() {
+        return this.memoryRows.size() + this.spilledCount;
+    }
+
+    /**
+     * Returns the number of rows stored in the temporary file.
+     *
+     * @return number of spilled rows
+     */
+    public int getSpilledCount() {
+        return this.spilledCount;
+    }
+
+    @Override
+    public ResultsetRow get(int index) {
+        if (index < this.memoryRows.size()) {
+            return this.memoryRows.get(index);
+        }
+        int spilledIndex = index - this.memoryRows.size();
+        if (spilledIndex >= this.spilledCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return readRow(this.spilledOffsets[spilledIndex], this.spilledLengths[spilledIndex]);
+    }
+
+    @Override
+    public boolean add(ResultsetRow row) {
+        long rowSize = estimateSize(row);
+        // Rows are kept in order, so once a row is spilled all the following ones are, too. At least one row is always kept in memory.
+        boolean keepInMemory = false;
+        if (this.spilledCount == 0) {
+            if (this.memoryRows.isEmpty()) {
+                this.memoryBudget.reserve(rowSize);
+                keepInMemory = true;
+            } else {
+                keepInMemory = this.memoryBudget.tryReserve(rowSize);
+            }
+        }
+        if (keepInMemory) {
+            this.memoryRows.add(row);
+            this.memoryUsed += rowSize;
+        } else {
+            writeRow(row);
+        }
+        this.modCount++;
+        return true;
+    }
+
+    @Override
+    public ResultsetRow remove(int index) {
+        ResultsetRow row = get(index);
+        if (index < this.memoryRows.size()) {
+            this.memoryRows.remove(index);
+            long rowSize = Math.min(estimateSize(row), this.memoryUsed);
+            this.memoryUsed -= rowSize;
+            this.memoryBudget.release(rowSize);
+        } else {
+            int spilledIndex = index - this.memoryRows.size();
+            int moved = this.spilledCount - spilledIndex - 1;
+            System.arraycopy(this.spilledOffsets, spilledIndex + 1, this.spilledOffsets, spilledIndex, moved);
+            System.arraycopy(this.spilledLengths, spilledIndex + 1, this.spilledLengths, spilledIndex, moved);
+            this.spilledCount--;
+        }
+        this.modCount++;
+        return row;
+    }
+
+    /**
+     * Gives back the memory budget reserved by the rows kept in memory. The rows can still be read, but no longer count against the budget.
+     */
+    public void releaseMemoryBudget() {
+        this.memoryBudget.release(this.memoryUsed);
+        this.memoryUsed = 0;
+    }
+
+    /**
+     * Releases the memory budget of the rows kept in memory and deletes the temporary file, if any. Spilled rows can't be read anymore.
+     */
+    public void close() {
+        releaseMemoryBudget();
+        if (this.spillFile != null) {
+            try {
+                this.spillFile.close();
+            } catch (IOException e) {
+                // ignore, the file is deleted on exit otherwise
+            }
+            this.spillFile = null;
+            this.writeBuffer = null;
+        }
+    }
+
+    private long estimateSize(ResultsetRow row) {
+        if (row instanceof AbstractBufferRow) {
+            return OBJECT_OVERHEAD + ((AbstractBufferRow) row).rowFromServer.getByteBuffer().length;
+        }
+        long size = OBJECT_OVERHEAD;
+        if (row instanceof ByteArrayRow) {
+            for (byte[] value : ((ByteArrayRow) row).internalRowData) {
+                size += OBJECT_OVERHEAD + (value == null ? 0 : value.length);
+            }
+        }
+        return size;
+    }
+
+    private void writeRow(ResultsetRow row) {
+        row.setMetadata(this.columnDefinition);
+        int columnCount = this.columnDefinition.getFields().length;
+        byte[][] values = new byte[columnCount][];
+        int length = 0;
+        for (int i = 0; i < columnCount; i++) {
+            values[i] = row.getBytes(i);
+            length += 4 + (values[i] == null ? 0 : values[i].length);
+        }
+
+        try {
+            if (this.spillFile == null) {
+                Path path = Files.createTempFile("mysql-rows-", ".tmp");
+                this.spillFile = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+                this.writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+            }
+            if (length > this.writeBuffer.remaining()) {
+                flush();
+            }
+            ByteBuffer buffer = length > this.writeBuffer.capacity() ? ByteBuffer.allocate(length) : this.writeBuffer;
+            for (byte[] value : values) {
+                if (value == null) {
+                    buffer.putInt(-1);
+                } else {
+                    buffer.putInt(value.length);
+                    buffer.put(value);
+                }
+            }
+            if (buffer != this.writeBuffer) {
+                buffer.flip();
+                writeFully(buffer, this.fileSize);
+            }
+        } catch (IOException e) {
+            throw ExceptionFactory.createException(Messages.getString("ResultSet.SpillFileFailed"), e, this.exceptionInterceptor);
+        }
+
+        if (this.spilledCount == this.spilledOffsets.length) {
+            int capacity = Math.max(16, this.spilledCount * 2);
+            this.spilledOffsets = Arrays.copyOf(this.spilledOffsets, capacity);
+            this.spilledLengths = Arrays.copyOf(this.spilledLengths, capacity);
+        }
+        this.spilledOffsets[this.spilledCount] = this.fileSize;
+        this.spilledLengths[this.spilledCount] = length;
+        this.spilledCount++;
+        this.fileSize += length;
+    }
+
+    private ResultsetRow readRow(long offset, int length) {
+        int columnCount = this.columnDefinition.getFields().length;
+        byte[][] values = new byte[columnCount][];
+        try {
+            if (this.spillFile == null) {
+                throw new IOException(Messages.getString("ResultSet.SpillFileClosed"));
+            }
+            flush();
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (this.spillFile.read(buffer, offset + buffer.position()) < 0) {
+                    throw new EOFException();
+                }
+            }
+            buffer.flip();
+            for (int i = 0; i < columnCount; i++) {
+                int valueLength = buffer.getInt();
+                if (valueLength >= 0) {
+                    values[i] = new byte[valueLength];
+                    buffer.get(values[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw ExceptionFactory.createException(Messages.getString("ResultSet.SpillFileFailed"), e, this.exceptionInterceptor);
+        }
+        return new ByteArrayRow(values, this.exceptionInterceptor, this.valueDecoder);
+    }
+
+    /**
+     * Writes the buffered rows to the file. Synchronized, as spilled rows may be read by several threads.
+     *
+     * @throws IOException
+     *             if writing fails
+     */
+    private synchronized void flush() throws IOException {
+        if (this.writeBuffer != null && this.writeBuffer.position() > 0) {
+            this.writeBuffer.flip();
+            writeFully(this.writeBuffer, this.fileSize - this.writeBuffer.remaining());
+            this.writeBuffer.clear();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            this.spillFile.write(buffer, position + buffer.position());
+        }
+    }
+
+}
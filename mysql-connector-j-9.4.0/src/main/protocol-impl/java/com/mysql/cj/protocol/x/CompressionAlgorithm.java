@@ -42,6 +42,9 @@ public class CompressionAlgorithm {
         ALIASES.put("zstd", "zstd_stream");
     }
 
+    private static final String ZSTD_JNI_INPUT_STREAM = "com.github.luben.zstd.ZstdInputStream";
+    private static final String ZSTD_JNI_OUTPUT_STREAM = "com.github.luben.zstd.ZstdOutputStream";
+
     private String algorithmIdentifier;
     private CompressionMode compressionMode;
     private String inputStreamClassFqn;
@@ -50,15 +53,32 @@ public class CompressionAlgorithm {
     /**
      * Returns a list of the compression algorithms supported natively. Additional algorithms can be registered by user.
      *
+     * "deflate_stream" and "lz4_message" are always available. "zstd_stream" is made available automatically if the zstd-jni library is found in the class
+     * path.
+     *
      * @return a list of the compression algorithms supported natively.
      */
     public static Map<String, CompressionAlgorithm> getDefaultInstances() {
         HashMap<String, CompressionAlgorithm> defaultInstances = new HashMap<>();
         defaultInstances.put("deflate_stream",
                 new CompressionAlgorithm("deflate_stream", InflaterInputStream.class.getName(), SyncFlushDeflaterOutputStream.class.getName()));
+        defaultInstances.put("lz4_message",
+                new CompressionAlgorithm("lz4_message", Lz4MessageInputStream.class.getName(), Lz4MessageOutputStream.class.getName()));
+        if (isClassAvailable(ZSTD_JNI_INPUT_STREAM) && isClassAvailable(ZSTD_JNI_OUTPUT_STREAM)) {
+            defaultInstances.put("zstd_stream", new CompressionAlgorithm("zstd_stream", ZSTD_JNI_INPUT_STREAM, ZSTD_JNI_OUTPUT_STREAM));
+        }
         return defaultInstances;
     }
 
+    private static boolean isClassAvailable(String className) {
+        try {
+            Class.forName(className, false, CompressionAlgorithm.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
     /**
      * Returns the normalized compression algorithm identifier. A normalized identifier is composed by a compression algorithm name followed by '_' and then the
      * the compression operation mode ("stream" vs "message").
@@ -42,6 +42,8 @@ public class CompressorStreamsFactory {
     private OutputStream compressorOutputStreamInstance = null;
     private ReusableOutputStream underlyingOutputStream = null;
 
+    private Lz4Codec lz4Codec = null;
+
     public CompressorStreamsFactory(CompressionAlgorithm algorithm) {
         this.compressionAlgorithm = algorithm;
     }
@@ -79,6 +81,10 @@ public class CompressorStreamsFactory {
         }
 
         InputStream compressionIn;
+        if (isBundledLz4()) {
+            // Bypass reflection and share the codec context among all messages.
+            return new Lz4MessageInputStream(underlyingIn, getLz4Codec());
+        }
         try {
             compressionIn = Util.getInstance(InputStream.class, this.compressionAlgorithm.getInputStreamClassName(), new Class<?>[] { InputStream.class },
                     new Object[] { underlyingIn }, null);
@@ -118,6 +124,10 @@ public class CompressorStreamsFactory {
         }
 
         OutputStream compressionOut;
+        if (isBundledLz4()) {
+            // Bypass reflection and share the codec context among all messages.
+            return new Lz4MessageOutputStream(underlyingOut, getLz4Codec());
+        }
         try {
             compressionOut = Util.getInstance(OutputStream.class, this.compressionAlgorithm.getOutputStreamClassName(), new Class<?>[] { OutputStream.class },
                     new Object[] { underlyingOut }, null);
@@ -133,4 +143,23 @@ public class CompressorStreamsFactory {
         return compressionOut;
     }
 
+    /**
+     * Checks if the compression algorithm is implemented by the bundled LZ4 message streams, in which case these can be instantiated directly.
+     *
+     * @return
+     *         <code>true</code> if the bundled LZ4 implementation is in use, <code>false</code> otherwise.
+     */
+    private boolean isBundledLz4() {
+        return getCompressionMode() == CompressionMode.MESSAGE
+                && Lz4MessageInputStream.class.getName().equals(this.compressionAlgorithm.getInputStreamClassName())
+                && Lz4MessageOutputStream.class.getName().equals(this.compressionAlgorithm.getOutputStreamClassName());
+    }
+
+    private Lz4Codec getLz4Codec() {
+        if (this.lz4Codec == null) {
+            this.lz4Codec = new Lz4Codec();
+        }
+        return this.lz4Codec;
+    }
+
 }
@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.x;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.mysql.cj.Messages;
+
+/**
+ * Pure Java implementation of the LZ4 frame format, as used by the X Protocol "lz4_message" compression algorithm.
+ *
+ * Instances of this class hold the compressor context, i.e., the match finder hash table and the work buffers, so that they can be reused from message to
+ * message. Instances are not thread safe.
+ */
+public class Lz4Codec {
+
+    private static final int MAGIC_NUMBER = 0x184D2204;
+    private static final int FLG_VERSION = 0x40;
+    private static final int FLG_VERSION_MASK = 0xC0;
+    private static final int FLG_BLOCK_INDEPENDENCE = 0x20;
+    private static final int FLG_BLOCK_CHECKSUM = 0x10;
+    private static final int FLG_CONTENT_SIZE = 0x08;
+    private static final int FLG_CONTENT_CHECKSUM = 0x04;
+    private static final int FLG_DICTIONARY_ID = 0x01;
+    private static final int BD_64KB = 4 << 4;
+    private static final int BLOCK_UNCOMPRESSED_FLAG = 0x80000000;
+
+    private static final int MAX_BLOCK_SIZE = 64 * 1024;
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_DISTANCE = 65535;
+    private static final int HASH_LOG = 12;
+    private static final int SKIP_TRIGGER = 6;
+
+    private final int[] hashTable = new int[1 << HASH_LOG];
+    private byte[] blockBuffer = new byte[maxCompressedBlockLength(MAX_BLOCK_SIZE)];
+    private byte[] frameBuffer = new byte[0];
+
+    public Lz4Codec() {
+    }
+
+    /**
+     * Compresses the given data into a single LZ4 frame. The returned array is owned by this codec and is overwritten by the next call.
+     *
+     * @param src
+     *            the data to compress.
+     * @param off
+     *            the start offset in the data.
+     * @param len
+     *            the number of bytes to compress.
+     * @return
+     *         the number of bytes of the compressed frame, which can be obtained from {@link #getFrameBuffer()}.
+     */
+    public int compressFrame(byte[] src, int off, int len) {
+        int blocks = (len + MAX_BLOCK_SIZE - 1) / MAX_BLOCK_SIZE;
+        int frameLengthBound = 4 + 11 + blocks * (4 + maxCompressedBlockLength(MAX_BLOCK_SIZE)) + 4;
+        if (this.frameBuffer.length < frameLengthBound) {
+            this.frameBuffer = new byte[frameLengthBound];
+        }
+        byte[] dest = this.frameBuffer;
+
+        int pos = writeIntLE(dest, 0, MAGIC_NUMBER);
+        int descriptorStart = pos;
+        dest[pos++] = (byte) (FLG_VERSION | FLG_BLOCK_INDEPENDENCE | FLG_CONTENT_SIZE);
+        dest[pos++] = (byte) BD_64KB;
+        pos = writeIntLE(dest, pos, len);
+        pos = writeIntLE(dest, pos, 0);
+        dest[pos] = (byte) (XxHash32.hash(dest, descriptorStart, pos - descriptorStart, 0) >>> 8 & 0xFF);
+        pos++;
+
+        for (int blockOff = off, end = off + len; blockOff < end; blockOff += MAX_BLOCK_SIZE) {
+            int blockLen = Math.min(MAX_BLOCK_SIZE, end - blockOff);
+            int compressedLen = compressBlock(src, blockOff, blockLen, this.blockBuffer, 0);
+            if (compressedLen < blockLen) {
+                pos = writeIntLE(dest, pos, compressedLen);
+                System.arraycopy(this.blockBuffer, 0, dest, pos, compressedLen);
+                pos += compressedLen;
+            } else {
+                pos = writeIntLE(dest, pos, blockLen | BLOCK_UNCOMPRESSED_FLAG);
+                System.arraycopy(src, blockOff, dest, pos, blockLen);
+                pos += blockLen;
+            }
+        }
+        return writeIntLE(dest, pos, 0); // End mark.
+    }
+
+    /**
+     * Gets the buffer where the last frame was compressed into.
+     *
+     * @return the internal frame buffer.
+     */
+    public byte[] getFrameBuffer() {
+        return this.frameBuffer;
+    }
+
+    /**
+     * Decompresses one LZ4 frame. Both linked and independent blocks are supported. Block and content checksums, if present, are skipped.
+     *
+     * @param src
+     *            the compressed frame.
+     * @param off
+     *            the start offset of the frame.
+     * @param len
+     *            the number of bytes of the frame.
+     * @return
+     *         a new array containing exactly the decompressed data.
+     * @throws IOException
+     *             if the given data is not a valid LZ4 frame.
+     */
+    public byte[] decompressFrame(byte[] src, int off, int len) throws IOException {
+        int end = off + len;
+        int pos = off;
+        if (len < 7 || readIntLE(src, pos) != MAGIC_NUMBER) {
+            throw new IOException(Messages.getString("Protocol.Compression.Lz4.0"));
+        }
+        pos += 4;
+        int descriptorStart = pos;
+        int flg = src[pos++] & 0xFF;
+        int bd = src[pos++] & 0xFF;
+        if ((flg & FLG_VERSION_MASK) != FLG_VERSION) {
+            throw new IOException(Messages.getString("Protocol.Compression.Lz4.1", new Object[] { flg >>> 6 }));
+        }
+        long contentSize = -1;
+        if ((flg & FLG_CONTENT_SIZE) != 0) {
+            checkBounds(pos + 8, end);
+            contentSize = readIntLE(src, pos) & 0xFFFFFFFFL | (long) readIntLE(src, pos + 4) << 32;
+            pos += 8;
+        }
+        if ((flg & FLG_DICTIONARY_ID) != 0) {
+            throw new IOException(Messages.getString("Protocol.Compression.Lz4.2"));
+        }
+        checkBounds(pos + 1, end);
+        if ((src[pos] & 0xFF) != (XxHash32.hash(src, descriptorStart, pos - descriptorStart, 0) >>> 8 & 0xFF)) {
+            throw new IOException(Messages.getString("Protocol.Compression.Lz4.3"));
+        }
+        pos++;
+
+        int maxBlockSize = 1 << 8 + 2 * (bd >>> 4 & 0x07);
+        // When the frame declares its content size, decompress straight into a buffer of that exact size; grow only when the size is absent.
+        boolean knownSize = contentSize >= 0 && contentSize < Integer.MAX_VALUE - 8;
+        byte[] dest = new byte[knownSize ? (int) contentSize : maxBlockSize];
+        int destPos = 0;
+        boolean blockChecksum = (flg & FLG_BLOCK_CHECKSUM) != 0;
+
+        while (true) {
+            checkBounds(pos + 4, end);
+            int blockHeader = readIntLE(src, pos);
+            pos += 4;
+            if (blockHeader == 0) {
+                break;
+            }
+            int blockLen = blockHeader & ~BLOCK_UNCOMPRESSED_FLAG;
+            checkBounds(pos + blockLen, end);
+            if (!knownSize && dest.length - destPos < maxBlockSize) {
+                dest = Arrays.copyOf(dest, Math.max(dest.length << 1, destPos + maxBlockSize));
+            }
+            if ((blockHeader & BLOCK_UNCOMPRESSED_FLAG) != 0) {
+                if (dest.length - destPos < blockLen) {
+                    throw new IOException(Messages.getString("Protocol.Compression.Lz4.4", new Object[] { contentSize, (long) destPos + blockLen }));
+                }
+                System.arraycopy(src, pos, dest, destPos, blockLen);
+                destPos += blockLen;
+            } else {
+                destPos = decompressBlock(src, pos, blockLen, dest, destPos);
+            }
+            pos += blockLen + (blockChecksum ? 4 : 0);
+        }
+
+        if (contentSize >= 0 && contentSize != destPos) {
+            throw new IOException(Messages.getString("Protocol.Compression.Lz4.4", new Object[] { contentSize, destPos }));
+        }
+        return destPos == dest.length ? dest : Arrays.copyOf(dest, destPos);
+    }
+
+    /**
+     * Compresses one LZ4 block. The destination buffer must have, at least, {@link #maxCompressedBlockLength(int)} bytes available.
+     *
+     * @param src
+     *            the data to compress.
+     * @param srcOff
+     *            the start offset in the data.
+     * @param srcLen
+     *            the number of bytes to compress.
+     * @param dest
+     *            the buffer where to write the compressed block to.
+     * @param destOff
+     *            the start offset in the destination buffer.
+     * @return
+     *         the length of the compressed block.
+     */
+    int compressBlock(byte[] src, int srcOff, int srcLen, byte[] dest, int destOff) {
+        int srcEnd = srcOff + srcLen;
+        int matchLimit = srcEnd - LAST_LITERALS;
+        int mfLimit = srcEnd - MF_LIMIT;
+        int anchor = srcOff;
+        int dp = destOff;
+
+        if (srcLen >= MF_LIMIT + 1) {
+            Arrays.fill(this.hashTable, -1);
+            int ip = srcOff;
+            this.hashTable[hash(readIntLE(src, ip))] = ip;
+            ip++;
+
+            while (ip < mfLimit) {
+                int searchMatchNb = 1 << SKIP_TRIGGER;
+                int ref;
+                int sequence;
+                do {
+                    sequence = readIntLE(src, ip);
+                    int h = hash(sequence);
+                    ref = this.hashTable[h];
+                    this.hashTable[h] = ip;
+                    if (ref >= 0 && ip - ref <= MAX_DISTANCE && readIntLE(src, ref) == sequence) {
+                        break;
+                    }
+                    ref = -1;
+                    ip += searchMatchNb++ >>> SKIP_TRIGGER;
+                } while (ip < mfLimit);
+
+                if (ref < 0) {
+                    break;
+                }
+
+                while (ip > anchor && ref > srcOff && src[ip - 1] == src[ref - 1]) {
+                    ip--;
+                    ref--;
+                }
+
+                int literalLen = ip - anchor;
+                int tokenPos = dp++;
+                dp = writeLength(dest, dp, literalLen);
+                System.arraycopy(src, anchor, dest, dp, literalLen);
+                dp += literalLen;
+
+                int offset = ip - ref;
+                dest[dp++] = (byte) offset;
+                dest[dp++] = (byte) (offset >>> 8);
+
+                ip += MIN_MATCH;
+                ref += MIN_MATCH;
+                int matchStart = ip;
+                while (ip < matchLimit && src[ip] == src[ref]) {
+                    ip++;
+                    ref++;
+                }
+                int matchLen = ip - matchStart;
+                dp = writeLength(dest, dp, matchLen);
+                dest[tokenPos] = (byte) (Math.min(literalLen, 15) << 4 | Math.min(matchLen, 15));
+                anchor = ip;
+
+                if (ip < mfLimit) {
+                    this.hashTable[hash(readIntLE(src, ip - 2))] = ip - 2;
+                }
+            }
+        }
+
+        int literalLen = srcEnd - anchor;
+        dest[dp++] = (byte) (Math.min(literalLen, 15) << 4);
+        dp = writeLength(dest, dp, literalLen);
+        System.arraycopy(src, anchor, dest, dp, literalLen);
+        return dp + literalLen - destOff;
+    }
+
+    /**
+     * Decompresses one LZ4 block. Matches may refer to any data already present in the destination buffer, which makes it suitable for linked blocks as long
+     * as they are decompressed contiguously.
+     *
+     * @param src
+     *            the compressed block.
+     * @param srcOff
+     *            the start offset of the block.
+     * @param srcLen
+     *            the compressed block length.
+     * @param dest
+     *            the buffer where to write the decompressed data to. It must be large enough to hold the whole block.
+     * @param destOff
+     *            the start offset in the destination buffer.
+     * @return
+     *         the offset in the destination buffer right after the last decompressed byte.
+     * @throws IOException
+     *             if the compressed data is malformed.
+     */
+    static int decompressBlock(byte[] src, int srcOff, int srcLen, byte[] dest, int destOff) throws IOException {
+        int sp = srcOff;
+        int srcEnd = srcOff + srcLen;
+        int dp = destOff;
+        try {
+            while (sp < srcEnd) {
+                int token = src[sp++] & 0xFF;
+
+                int literalLen = token >>> 4;
+                if (literalLen == 15) {
+                    int b;
+                    do {
+                        b = src[sp++] & 0xFF;
+                        literalLen += b;
+                    } while (b == 255);
+                }
+                System.arraycopy(src, sp, dest, dp, literalLen);
+                sp += literalLen;
+                dp += literalLen;
+                if (sp >= srcEnd) {
+                    break; // Last sequence has no match part.
+                }
+
+                int offset = src[sp++] & 0xFF | (src[sp++] & 0xFF) << 8;
+                int matchLen = token & 0x0F;
+                if (matchLen == 15) {
+                    int b;
+                    do {
+                        b = src[sp++] & 0xFF;
+                        matchLen += b;
+                    } while (b == 255);
+                }
+                matchLen += MIN_MATCH;
+
+                int ref = dp - offset;
+                if (offset == 0 || ref < 0) {
+                    throw new IOException(Messages.getString("Protocol.Compression.Lz4.5"));
+                }
+                if (offset >= matchLen) {
+                    System.arraycopy(dest, ref, dest, dp, matchLen);
+                    dp += matchLen;
+                } else {
+                    for (int i = 0; i < matchLen; i++) {
+                        dest[dp++] = dest[ref++];
+                    }
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException(Messages.getString("Protocol.Compression.Lz4.5"), e);
+        }
+        return dp;
+    }
+
+    /**
+     * Returns the maximum length of a compressed block for the given uncompressed length.
+     *
+     * @param len
+     *            the uncompressed length.
+     * @return the worst case compressed length.
+     */
+    static int maxCompressedBlockLength(int len) {
+        return len + len / 255 + 16;
+    }
+
+    private static int hash(int sequence) {
+        return sequence * -1640531535 >>> 32 - HASH_LOG;
+    }
+
+    private static int writeLength(byte[] dest, int dp, int len) {
+        if (len >= 15) {
+            len -= 15;
+            while (len >= 255) {
+                dest[dp++] = (byte) 0xFF;
+                len -= 255;
+            }
+            dest[dp++] = (byte) len;
+        }
+        return dp;
+    }
+
+    private static void checkBounds(int pos, int end) throws IOException {
+        if (pos > end) {
+            throw new IOException(Messages.getString("Protocol.Compression.Lz4.6"));
+        }
+    }
+
+    static int readIntLE(byte[] b, int pos) {
+        return b[pos] & 0xFF | (b[pos + 1] & 0xFF) << 8 | (b[pos + 2] & 0xFF) << 16 | (b[pos + 3] & 0xFF) << 24;
+    }
+
+    private static int writeIntLE(byte[] b, int pos, int v) {
+        b[pos] = (byte) v;
+        b[pos + 1] = (byte) (v >>> 8);
+        b[pos + 2] = (byte) (v >>> 16);
+        b[pos + 3] = (byte) (v >>> 24);
+        return pos + 4;
+    }
+
+    /**
+     * Minimal xxHash32 implementation, required for the LZ4 frame descriptor checksum.
+     */
+    static final class XxHash32 {
+
+        private static final int PRIME1 = 0x9E3779B1;
+        private static final int PRIME2 = 0x85EBCA77;
+        private static final int PRIME3 = 0xC2B2AE3D;
+        private static final int PRIME4 = 0x27D4EB2F;
+        private static final int PRIME5 = 0x165667B1;
+
+        private XxHash32() {
+        }
+
+        static int hash(byte[] b, int off, int len, int seed) {
+            int end = off + len;
+            int pos = off;
+            int h;
+            if (len >= 16) {
+                int v1 = seed + PRIME1 + PRIME2;
+                int v2 = seed + PRIME2;
+                int v3 = seed;
+                int v4 = seed - PRIME1;
+                int limit = end - 16;
+                do {
+                    v1 = round(v1, readIntLE(b, pos));
+                    v2 = round(v2, readIntLE(b, pos + 4));
+                    v3 = round(v3, readIntLE(b, pos + 8));
+                    v4 = round(v4, readIntLE(b, pos + 12));
+                    pos += 16;
+                } while (pos <= limit);
+                h = Integer.rotateLeft(v1, 1) + Integer.rotateLeft(v2, 7) + Integer.rotateLeft(v3, 12) + Integer.rotateLeft(v4, 18);
+            } else {
+                h = seed + PRIME5;
+            }
+            h += len;
+            while (pos + 4 <= end) {
+                h += readIntLE(b, pos) * PRIME3;
+                h = Integer.rotateLeft(h, 17) * PRIME4;
+                pos += 4;
+            }
+            while (pos < end) {
+                h += (b[pos] & 0xFF) * PRIME5;
+                h = Integer.rotateLeft(h, 11) * PRIME1;
+                pos++;
+            }
+            h ^= h >>> 15;
+            h *= PRIME2;
+            h ^= h >>> 13;
+            h *= PRIME3;
+            h ^= h >>> 16;
+            return h;
+        }
+
+        private static int round(int acc, int input) {
+            acc += input * PRIME2;
+            acc = Integer.rotateLeft(acc, 13);
+            return acc * PRIME1;
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.x;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} that inflates one LZ4 frame read from the underlying {@link InputStream}. This is the bundled inflater for the "lz4_message"
+ * compression algorithm.
+ *
+ * The whole compressed message is decoded at once on first read, directly into the final buffer, with no intermediate copies.
+ */
+public class Lz4MessageInputStream extends InputStream {
+
+    private InputStream in;
+    private Lz4Codec codec;
+
+    private byte[] buffer = null;
+    private int position = 0;
+
+    private boolean closed = false;
+
+    public Lz4MessageInputStream(InputStream in) {
+        this(in, new Lz4Codec());
+    }
+
+    public Lz4MessageInputStream(InputStream in, Lz4Codec codec) {
+        this.in = in;
+        this.codec = codec;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        inflate();
+        return this.buffer.length - this.position;
+    }
+
+    @Override
+    public int read() throws IOException {
+        ensureOpen();
+        inflate();
+        return this.position < this.buffer.length ? this.buffer[this.position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if ((off | len | b.length - (len + off) | off + len) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        inflate();
+        int toRead = Math.min(len, this.buffer.length - this.position);
+        if (toRead <= 0) {
+            return -1;
+        }
+        System.arraycopy(this.buffer, this.position, b, off, toRead);
+        this.position += toRead;
+        return toRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.in.close();
+            this.in = null;
+            this.buffer = null;
+            this.closed = true;
+        }
+    }
+
+    /**
+     * Reads the entire compressed frame from the underlying {@link InputStream} and inflates it, if not done yet.
+     *
+     * @throws IOException
+     *             if any of the underlying I/O operations fail or if the data is not a valid LZ4 frame.
+     */
+    private void inflate() throws IOException {
+        if (this.buffer == null) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(this.in.available(), 32));
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = this.in.read(chunk)) != -1) {
+                compressed.write(chunk, 0, read);
+            }
+            this.buffer = this.codec.decompressFrame(compressed.toByteArray(), 0, compressed.size());
+            this.position = 0;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+}
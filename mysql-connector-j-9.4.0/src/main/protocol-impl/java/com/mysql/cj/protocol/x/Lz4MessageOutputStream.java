@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.x;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} that deflates all data written to it into one single LZ4 frame, which is written to the underlying {@link OutputStream} when this
+ * stream is closed. This is the bundled deflater for the "lz4_message" compression algorithm.
+ */
+public class Lz4MessageOutputStream extends OutputStream {
+
+    private OutputStream out;
+    private Lz4Codec codec;
+
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024) {
+
+        @Override
+        public synchronized void writeTo(OutputStream target) throws IOException {
+            int frameLength = Lz4MessageOutputStream.this.codec.compressFrame(this.buf, 0, this.count);
+            target.write(Lz4MessageOutputStream.this.codec.getFrameBuffer(), 0, frameLength);
+        }
+
+    };
+
+    private boolean closed = false;
+
+    public Lz4MessageOutputStream(OutputStream out) {
+        this(out, new Lz4Codec());
+    }
+
+    public Lz4MessageOutputStream(OutputStream out, Lz4Codec codec) {
+        this.out = out;
+        this.codec = codec;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        this.buffer.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        this.buffer.write(b, off, len);
+    }
+
+    /**
+     * Compresses all the buffered data into one LZ4 frame and writes it into the underlying {@link OutputStream}, which is also closed.
+     *
+     * @see OutputStream#close()
+     */
+    @Override
+    public void close() throws IOException {
+        if (!this.closed) {
+            this.buffer.writeTo(this.out);
+            this.out.close();
+            this.out = null;
+            this.buffer = null;
+            this.closed = true;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (this.closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+}
@@ -141,6 +141,11 @@ public class XServerSession implements ServerSession {
         throw ExceptionFactory.createException(CJOperationNotSupportedException.class, "Not supported");
     }
 
+    @Override
+    public boolean supportsOptionalResultSetMetadata() {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, "Not supported");
+    }
+
     @Override
     public Map<String, String> getServerVariables() {
         throw ExceptionFactory.createException(CJOperationNotSupportedException.class, "Not supported");
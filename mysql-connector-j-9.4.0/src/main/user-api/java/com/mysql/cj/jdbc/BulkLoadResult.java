@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+/**
+ * The outcome of a bulk load executed through {@link JdbcConnection#bulkLoad(String, java.util.List, java.util.Iterator)} or
+ * {@link JdbcConnection#bulkLoadColumns(String, java.util.List, Object...)}, including throughput figures.
+ */
+public interface BulkLoadResult {
+
+    /**
+     * Returns the number of rows sent to the server.
+     *
+     * @return the number of rows
+     */
+    long getRowCount();
+
+    /**
+     * Returns the number of bytes of infile data sent to the server.
+     *
+     * @return the number of bytes
+     */
+    long getByteCount();
+
+    /**
+     * Returns the number of rows affected, as reported by the server. It may differ from {@link #getRowCount()} if rows were skipped or replaced.
+     *
+     * @return the update count
+     */
+    long getUpdateCount();
+
+    /**
+     * Returns the time the load took, from sending the LOAD DATA statement until the server acknowledged it.
+     *
+     * @return the elapsed time, in nanoseconds
+     */
+    long getElapsedNanos();
+
+    /**
+     * Returns the average number of rows sent per second.
+     *
+     * @return the row throughput
+     */
+    double getRowsPerSecond();
+
+    /**
+     * Returns the average number of bytes sent per second.
+     *
+     * @return the byte throughput
+     */
+    double getBytesPerSecond();
+
+}
@@ -21,7 +21,9 @@
 package com.mysql.cj.jdbc;
 
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.MysqlConnection;
@@ -383,6 +385,84 @@ public interface JdbcConnection extends java.sql.Connection, MysqlConnection, Tr
      */
     boolean isServerLocal() throws SQLException;
 
+    /**
+     * Executes a group of independent SQL statements using command pipelining: all statements are sent to the server before reading any of their results,
+     * so that the whole group costs a single network round trip. Statements are sent as-is, i.e., no escape processing is performed, and results are always
+     * fully buffered. The returned result sets aren't owned by any statement.
+     *
+     * A failing statement doesn't prevent the remaining ones from being executed; its error is reported in the respective {@link PipelinedResult}. Only
+     * communication failures are thrown.
+     *
+     * @param sqls
+     *            the SQL statements to execute, in order
+     * @return the results of each statement, in the same order as the statements
+     * @throws SQLException
+     *             if the connection is closed or a communication failure occurs
+     */
+    List<PipelinedResult> executePipelined(List<String> sqls) throws SQLException;
+
+    /**
+     * Loads the given rows into a table using a LOAD DATA LOCAL INFILE statement. Rows are encoded as they are sent, in the default LOAD DATA format and with
+     * the utf8mb4 character set, so at no point the whole data set is held in memory and the rate at which rows are pulled from the iterator is bounded by
+     * the rate at which the server accepts them.
+     *
+     * This requires both the connection property 'allowLoadLocalInfile' and the server variable 'local_infile' to be enabled. The LOAD DATA statement can't be
+     * aborted once started, so when a row can't be read or encoded the load stops after the rows that precede it, these rows remain loaded unless the load is
+     * part of a transaction that is rolled back, and the exception thrown reports their number.
+     *
+     * Values may be strings, integers, {@link java.math.BigInteger}, {@link java.math.BigDecimal}, doubles, floats, booleans, byte arrays,
+     * {@link java.time.LocalDate}, {@link java.time.LocalDateTime}, {@link java.time.LocalTime}, {@link java.sql.Timestamp} or null; values of any other type
+     * stop the load with a {@link java.sql.SQLFeatureNotSupportedException}. {@link java.sql.Timestamp} values are rendered in the time zone given by the
+     * connection properties 'connectionTimeZone' and 'preserveInstants', as if set with {@link java.sql.PreparedStatement#setTimestamp}.
+     *
+     * @param tableName
+     *            the name of the table to load, possibly qualified and quoted; used as-is in the statement, so it must not come from untrusted input
+     * @param columnNames
+     *            the names of the columns to load, in the order of the values of each row, or null to load all columns of the table
+     * @param rows
+     *            the rows to load
+     * @return the outcome and throughput of the load
+     * @throws SQLException
+     *             if the connection is closed, a row doesn't have a value for each column, reading or encoding a row fails, or the server fails to load the
+     *             data; a {@link java.sql.SQLFeatureNotSupportedException} if a value has an unsupported type
+     */
+    BulkLoadResult bulkLoad(String tableName, List<String> columnNames, Iterator<Object[]> rows) throws SQLException;
+
+    /**
+     * Loads the given column vectors into a table using a LOAD DATA LOCAL INFILE statement. Each column vector is an array of primitives, such as
+     * <code>long[]</code> or <code>double[]</code>, or an array of objects, holding the values of one column for all rows, and all vectors must have the
+     * same length.
+     *
+     * The same requirements and failure semantics as {@link #bulkLoad(String, List, Iterator)} apply.
+     *
+     * @param tableName
+     *            the name of the table to load, possibly qualified and quoted; used as-is in the statement, so it must not come from untrusted input
+     * @param columnNames
+     *            the names of the columns to load, one per column vector, or null to load all columns of the table
+     * @param columnVectors
+     *            the column vectors to load
+     * @return the outcome and throughput of the load
+     * @throws SQLException
+     *             if the connection is closed, the column vectors are invalid or the server fails to load the data
+     */
+    BulkLoadResult bulkLoadColumns(String tableName, List<String> columnNames, Object... columnVectors) throws SQLException;
+
+    /**
+     * Sets the {@link Executor} that runs the asynchronous operations issued against this connection, such as {@link JdbcStatement#executeQueryAsync(String)}.
+     * Operations are still run one at a time and in submission order.
+     *
+     * Asynchronous operations offload blocking calls from the calling thread, they don't multiplex connections: each running operation holds one executor
+     * thread for as long as it waits for the server. By default, each connection runs its operations on its own daemon thread, created on demand and stopped
+     * when idle, so a slow connection never delays others. An executor shared by several connections must therefore have enough threads for all the
+     * operations expected to run concurrently.
+     *
+     * @param executor
+     *            the executor to use, or null to go back to a thread owned by this connection
+     * @throws SQLException
+     *             if the connection is closed
+     */
+    void setAsyncExecutor(Executor executor) throws SQLException;
+
     /**
      * Returns the sql select limit max-rows for this session.
      *
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.nio.channels.WritableByteChannel;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.mysql.cj.jdbc.result.CursorFetchStatistics;
+import com.mysql.cj.jdbc.result.RowMapper;
+import com.mysql.cj.result.ColumnBatch;
+
+/**
+ * This interface contains methods that are considered the "vendor extension" to the JDBC API for MySQL's implementation of java.sql.ResultSet.
+ *
+ * Result sets returned by the driver can be unwrapped to this interface with {@link java.sql.ResultSet#unwrap(Class)}.
+ */
+public interface JdbcResultSet extends java.sql.ResultSet {
+
+    /**
+     * Returns the statistics of the fetches done by this result set when it is read through a server-side cursor with 'adaptiveCursorFetch' enabled, which
+     * show how the number of rows requested by each fetch was adapted.
+     *
+     * @return the fetch statistics, or null if this result set isn't read through a cursor with adaptive fetch sizes or no rows were fetched yet
+     */
+    CursorFetchStatistics getCursorFetchStatistics();
+
+    /**
+     * Creates a batch that can hold the given number of rows of this result set, for {@link #nextColumnBatch(ColumnBatch)}.
+     *
+     * @param capacity
+     *            maximum number of rows read per batch
+     * @return column batch
+     * @throws SQLException
+     *             if the result set is closed or has no columns
+     */
+    ColumnBatch createColumnBatch(int capacity) throws SQLException;
+
+    /**
+     * Moves the cursor forward up to as many rows as the batch capacity, decoding the rows into the column vectors of the given batch, which is cleared first.
+     * Integer and floating point columns are decoded into primitive arrays, and other columns into contiguous bytes, without creating any object per value.
+     * After this method returns, the cursor is positioned on the last row read.
+     *
+     * @param batch
+     *            batch created by {@link #createColumnBatch(int)} of this result set, or of one whose columns have the same types and encodings
+     * @return the number of rows read, 0 if there are no more rows
+     * @throws SQLException
+     *             if a database access error occurs, if the result set is closed or if the batch doesn't accept the columns of this result set
+     */
+    int nextColumnBatch(ColumnBatch batch) throws SQLException;
+
+    /**
+     * Writes the remaining rows of this result set, from the row after the current one, to the given channel as an Apache Arrow IPC stream, made of record
+     * batches of up to the given number of rows. Rows are decoded through {@link #nextColumnBatch(ColumnBatch)}, so no objects are created per value and, for
+     * streaming result sets, at most one batch of rows is held in memory. To write to a file, pass a FileChannel.
+     *
+     * @param channel
+     *            destination channel, which is left open
+     * @param batchRows
+     *            maximum number of rows per record batch
+     * @return the number of rows written
+     * @throws SQLException
+     *             if a database access error occurs, if the result set is closed or if writing to the channel fails
+     */
+    long exportArrowStream(WritableByteChannel channel, int batchRows) throws SQLException;
+
+    /**
+     * Maps the remaining rows of this result set, from the row after the current one, to objects and returns them in row order. The cursor is left after the
+     * last row.
+     * <p>
+     * When the rows are buffered in memory, they are split into chunks that are mapped by fork-join tasks of the given pool. Each chunk is read through a
+     * result set of its own, confined to the task thread, with its own value factories and without acquiring the connection lock, so the mapper must be
+     * thread-safe and must only use the result set it receives. Streaming and cursor-based result sets, and small ones, are mapped on the calling thread.
+     *
+     * @param <T>
+     *            type of the mapped objects
+     * @param mapper
+     *            maps each row to an object
+     * @param pool
+     *            pool running the mapping tasks, or null to use the common pool
+     * @return the mapped objects, in row order
+     * @throws SQLException
+     *             if a database access error occurs, if the result set is closed or if the mapper fails
+     */
+    <T> List<T> mapRows(RowMapper<T> mapper, ForkJoinPool pool) throws SQLException;
+
+}
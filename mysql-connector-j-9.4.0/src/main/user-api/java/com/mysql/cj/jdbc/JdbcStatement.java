@@ -21,7 +21,9 @@
 package com.mysql.cj.jdbc;
 
 import java.io.InputStream;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 
 import com.mysql.cj.PingTarget;
 import com.mysql.cj.Query;
@@ -118,4 +120,63 @@ public interface JdbcStatement extends java.sql.Statement, Query {
      */
     void doClose(CloseOption... options) throws SQLException;
 
+    /**
+     * Sets whether the read-only, fully buffered result sets produced by this statement are confined to the first thread that accesses them. Such result sets
+     * don't acquire the connection lock when navigating rows or reading values, and throw an exception if accessed from any other thread.
+     *
+     * @param threadConfined
+     *            true to confine result sets to a single thread
+     * @throws SQLException
+     *             if the statement is closed
+     */
+    void setThreadConfinedResultSets(boolean threadConfined) throws SQLException;
+
+    /**
+     * Returns whether the result sets produced by this statement are confined to a single thread.
+     *
+     * @return true if result sets are confined to a single thread
+     * @throws SQLException
+     *             if the statement is closed
+     * @see #setThreadConfinedResultSets(boolean)
+     */
+    boolean isThreadConfinedResultSets() throws SQLException;
+
+    /**
+     * Executes the given query asynchronously. Asynchronous operations issued against the same connection are executed one at a time, in submission order,
+     * by the connection's asynchronous executor, thus the calling thread is never blocked. This offloads the blocking call to another thread rather than
+     * multiplexing connections, see {@link JdbcConnection#setAsyncExecutor(java.util.concurrent.Executor)}.
+     *
+     * As with {@link #executeQuery(String)}, a new execution closes the current result set of this statement, so separate statements should be used to keep
+     * several asynchronous results open at the same time. Cancelling the returned future either prevents the query from running or, if it is already
+     * running, cancels it as in {@link #cancel()}.
+     *
+     * @param sql
+     *            an SQL statement to be sent to the database, typically a static SQL SELECT statement
+     * @return a future that completes with the {@link ResultSet} produced by the query, or exceptionally with the {@link SQLException} thrown by it
+     */
+    CompletableFuture<ResultSet> executeQueryAsync(String sql);
+
+    /**
+     * Executes the given query asynchronously and streams its rows, as they are read from the server, to the given handler. Rows are not buffered by the
+     * driver, thus the handler's pace controls how fast data is read from the network.
+     *
+     * See {@link #executeQueryAsync(String)} for details on the execution model.
+     *
+     * @param sql
+     *            an SQL statement to be sent to the database, typically a static SQL SELECT statement
+     * @param rowHandler
+     *            the handler that processes each row
+     * @return a future that completes with the number of rows processed, or exceptionally with the {@link SQLException} thrown by the query or the handler
+     */
+    CompletableFuture<Long> executeQueryAsync(String sql, ResultSetRowHandler rowHandler);
+
+    /**
+     * Executes the given SQL statement asynchronously. See {@link #executeQueryAsync(String)} for details on the execution model.
+     *
+     * @param sql
+     *            an SQL Data Manipulation Language (DML) statement, or an SQL statement that returns nothing
+     * @return a future that completes with the number of affected rows, or exceptionally with the {@link SQLException} thrown by the statement
+     */
+    CompletableFuture<Long> executeLargeUpdateAsync(String sql);
+
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The outcome of one statement executed through {@link JdbcConnection#executePipelined(java.util.List)}: either a result set, an update count or the error
+ * the statement produced.
+ */
+public interface PipelinedResult {
+
+    /**
+     * Returns the SQL statement this result refers to.
+     *
+     * @return the SQL statement
+     */
+    String getSql();
+
+    /**
+     * Checks if the statement produced a result set.
+     *
+     * @return true if the statement produced a result set, false if it produced an update count or failed
+     */
+    boolean isResultSet();
+
+    /**
+     * Returns the fully buffered result set produced by the statement. Subsequent result sets, if multiple results were returned, are available through
+     * {@link com.mysql.cj.protocol.Resultset#getNextResultset()}.
+     *
+     * @return the result set or null if the statement didn't produce one
+     */
+    ResultSet getResultSet();
+
+    /**
+     * Returns the number of rows affected by the statement.
+     *
+     * @return the update count, or -1 if the statement produced a result set or failed
+     */
+    long getUpdateCount();
+
+    /**
+     * Returns the auto-generated key reported by the server for this statement.
+     *
+     * @return the last insert id, or -1 if the statement failed
+     */
+    long getLastInsertId();
+
+    /**
+     * Returns the error produced by the statement, if any. An error in one statement doesn't prevent the remaining statements from being executed.
+     *
+     * @return the error or null if the statement succeeded
+     */
+    SQLException getException();
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc.result;
+
+/**
+ * Statistics of the fetches done by a result set read through a server-side cursor with adaptive fetch sizes.
+ */
+public interface CursorFetchStatistics {
+
+    /**
+     * Returns the number of rows requested by the last fetch.
+     *
+     * @return the last fetch size
+     */
+    int getLastFetchSize();
+
+    /**
+     * Returns the smallest number of rows requested by a single fetch so far.
+     *
+     * @return the smallest fetch size, or 0 if nothing was fetched yet
+     */
+    int getSmallestFetchSize();
+
+    /**
+     * Returns the largest number of rows requested by a single fetch so far.
+     *
+     * @return the largest fetch size
+     */
+    int getLargestFetchSize();
+
+    /**
+     * Returns the number of fetches done so far.
+     *
+     * @return the number of fetches
+     */
+    int getFetchCount();
+
+    /**
+     * Returns the number of rows fetched so far.
+     *
+     * @return the number of rows
+     */
+    long getRowsFetched();
+
+    /**
+     * Returns the average size of the fetched rows, favoring the most recent fetches.
+     *
+     * @return the average row size in bytes
+     */
+    double getAverageRowSize();
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.util.Arrays;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.conf.RuntimeProperty;
+
+/**
+ * Chooses the number of parameter sets sent in each chunk of a rewritten prepared statement batch.
+ *
+ * The chunk size is steered towards the number of rows the server executes within the configured target latency, estimated from the time taken by the
+ * previous chunks. Each adjustment at most doubles or halves the chunk size, and changes smaller than 25% are ignored, so that batches settle on a few distinct
+ * chunk sizes and rewritten statements don't have to be prepared over and over. The chunk size always stays within the configured bounds and never exceeds
+ * the number of parameter sets that fit in 'maxAllowedPacket'.
+ *
+ * The state is kept across batches, so that subsequent batches of the same statement start at the chunk size reached so far. The bounds and target latency
+ * given by the connection properties are read again at the start of each batch, so that changes made at runtime apply to the next batch.
+ */
+public class BatchChunkSizeController {
+
+    /** Weight of the latest measurement in the average row execution time. */
+    private static final double ROW_TIME_SMOOTHING = 0.5;
+    /** Relative change in the ideal chunk size below which the chunk size is kept. */
+    private static final double HYSTERESIS = 0.25;
+
+    private final RuntimeProperty<Integer> minRowsProperty;
+    private final RuntimeProperty<Integer> maxRowsProperty;
+    private final RuntimeProperty<Integer> targetMillisProperty;
+
+    private int minRows;
+    private int maxRows;
+    private long targetNanos;
+
+    private int chunkSize;
+    private double averageRowNanos = 0;
+
+    private int[] lastBatchChunkSizes = new int[8];
+    private int lastBatchChunkCount = 0;
+    private int chunkCount = 0;
+    private long rowsExecuted = 0;
+    private int smallestChunkSize = Integer.MAX_VALUE;
+    private int largestChunkSize = 0;
+
+    /**
+     * Creates a new controller.
+     *
+     * @param propertySet
+     *            the connection properties
+     */
+    public BatchChunkSizeController(PropertySet propertySet) {
+        this.minRowsProperty = propertySet.getIntegerProperty(PropertyKey.adaptiveBatchSizeMinRows);
+        this.maxRowsProperty = propertySet.getIntegerProperty(PropertyKey.adaptiveBatchSizeMaxRows);
+        this.targetMillisProperty = propertySet.getIntegerProperty(PropertyKey.adaptiveBatchSizeTargetMillis);
+        setLimits(this.minRowsProperty.getValue(), this.maxRowsProperty.getValue(), this.targetMillisProperty.getValue());
+        this.chunkSize = this.minRows;
+    }
+
+    /**
+     * Creates a new controller.
+     *
+     * @param minRows
+     *            the minimum chunk size, also used as the size of the first chunk
+     * @param maxRows
+     *            the maximum chunk size
+     * @param targetMillis
+     *            the time the server should take to execute each chunk
+     */
+    public BatchChunkSizeController(int minRows, int maxRows, int targetMillis) {
+        this.minRowsProperty = null;
+        this.maxRowsProperty = null;
+        this.targetMillisProperty = null;
+        setLimits(minRows, maxRows, targetMillis);
+        this.chunkSize = this.minRows;
+    }
+
+    private void setLimits(int minRows, int maxRows, int targetMillis) {
+        this.minRows = Math.max(1, minRows);
+        this.maxRows = Math.max(this.minRows, maxRows);
+        this.targetNanos = Math.max(1, targetMillis) * 1000000L;
+    }
+
+    /**
+     * Marks the start of a new batch, reading the current values of the connection properties the controller was created with, if any.
+     */
+    public void batchStarted() {
+        if (this.minRowsProperty != null) {
+            setLimits(this.minRowsProperty.getValue(), this.maxRowsProperty.getValue(), this.targetMillisProperty.getValue());
+            this.chunkSize = Math.min(Math.max(this.chunkSize, this.minRows), this.maxRows);
+        }
+        this.lastBatchChunkCount = 0;
+    }
+
+    /**
+     * Computes the size of the next chunk. Should be followed by a call to {@link #chunkCompleted(int, long)} once the chunk is executed.
+     *
+     * @param maxChunkSize
+     *            the maximum number of parameter sets that fit in a single packet
+     * @param remaining
+     *            the number of parameter sets still to execute in the current batch
+     * @return the number of parameter sets to send in the next chunk
+     */
+    public int nextChunkSize(int maxChunkSize, int remaining) {
+        if (this.averageRowNanos > 0) {
+            double ideal = this.targetNanos / this.averageRowNanos;
+            if (Math.abs(ideal - this.chunkSize) > this.chunkSize * HYSTERESIS) {
+                long size = (long) Math.min(Math.max(ideal, this.chunkSize / 2.0), this.chunkSize * 2.0);
+                this.chunkSize = (int) Math.min(Math.max(size, this.minRows), this.maxRows);
+            }
+        }
+
+        int size = Math.max(1, Math.min(this.chunkSize, Math.min(maxChunkSize, remaining)));
+        if (this.lastBatchChunkCount == this.lastBatchChunkSizes.length) {
+            this.lastBatchChunkSizes = Arrays.copyOf(this.lastBatchChunkSizes, this.lastBatchChunkCount * 2);
+        }
+        this.lastBatchChunkSizes[this.lastBatchChunkCount++] = size;
+        this.chunkCount++;
+        this.smallestChunkSize = Math.min(this.smallestChunkSize, size);
+        this.largestChunkSize = Math.max(this.largestChunkSize, size);
+        return size;
+    }
+
+    /**
+     * Records the execution time of a chunk.
+     *
+     * @param rows
+     *            the number of parameter sets in the chunk
+     * @param elapsedNanos
+     *            the time taken to execute the chunk
+     */
+    public void chunkCompleted(int rows, long elapsedNanos) {
+        this.rowsExecuted += rows;
+        if (rows > 0) {
+            double rowNanos = Math.max(1, elapsedNanos) / (double) rows;
+            this.averageRowNanos = this.averageRowNanos == 0 ? rowNanos : ROW_TIME_SMOOTHING * rowNanos + (1 - ROW_TIME_SMOOTHING) * this.averageRowNanos;
+        }
+    }
+
+    /**
+     * Returns the size of the chunks the current or last batch was split into, in execution order.
+     *
+     * @return the chunk sizes
+     */
+    public int[] getLastBatchChunkSizes() {
+        return Arrays.copyOf(this.lastBatchChunkSizes, this.lastBatchChunkCount);
+    }
+
+    /**
+     * Returns the chunk size the controller is currently aiming at, before applying the packet size and batch size limits.
+     *
+     * @return the current chunk size
+     */
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * Returns the smallest chunk size chosen so far.
+     *
+     * @return the smallest chunk size, or 0 if no chunks were executed yet
+     */
+    public int getSmallestChunkSize() {
+        return this.chunkCount == 0 ? 0 : this.smallestChunkSize;
+    }
+
+    /**
+     * Returns the largest chunk size chosen so far.
+     *
+     * @return the largest chunk size
+     */
+    public int getLargestChunkSize() {
+        return this.largestChunkSize;
+    }
+
+    /**
+     * Returns the number of chunks executed so far.
+     *
+     * @return the number of chunks
+     */
+    public int getChunkCount() {
+        return this.chunkCount;
+    }
+
+    /**
+     * Returns the number of parameter sets executed so far.
+     *
+     * @return the number of parameter sets
+     */
+    public long getRowsExecuted() {
+        return this.rowsExecuted;
+    }
+
+    /**
+     * Returns the average time the server takes to execute a parameter set, favoring the most recent chunks.
+     *
+     * @return the average time in nanoseconds
+     */
+    public double getAverageRowNanos() {
+        return this.averageRowNanos;
+    }
+
+}
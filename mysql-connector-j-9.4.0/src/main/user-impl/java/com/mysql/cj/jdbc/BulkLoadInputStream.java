@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.TimeZone;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.util.TimeUtil;
+
+/**
+ * An {@link InputStream} that renders rows of Java objects, or column vectors, into the default LOAD DATA infile format as it is read: fields separated by
+ * tabs, rows terminated by new lines, special characters escaped with backslashes and NULL values written as <code>\N</code>. Text is encoded as UTF-8.
+ *
+ * Rows are only encoded when the stream is read, so when the stream is used as the source of a LOAD DATA LOCAL INFILE statement the rows are pulled at the
+ * rate the server accepts them and at most a few kilobytes of encoded data are kept in memory.
+ *
+ * Values may be {@link String}, {@link Long}, {@link Integer}, {@link Short}, {@link Byte}, {@link BigInteger}, {@link BigDecimal}, {@link Double},
+ * {@link Float}, {@link Boolean}, <code>byte[]</code>, {@link LocalDate}, {@link LocalDateTime}, {@link LocalTime}, {@link Timestamp} or null. Values of
+ * other types are refused with a {@link java.sql.SQLFeatureNotSupportedException} rather than rendered with {@link Object#toString()}, which may not give
+ * a value the server parses as intended.
+ *
+ * {@link Timestamp} values are rendered in the time zone the {@link Timestamp} value encoder uses for TIMESTAMP targets, which depends on the connection
+ * properties 'connectionTimeZone' and 'preserveInstants'.
+ *
+ * Reading from the row iterator and encoding errors don't surface as I/O errors. Instead, the stream ends after the last complete row and the error is kept
+ * to be thrown by {@link #checkFailure()}, so that the LOAD DATA statement can complete and the connection remains usable.
+ */
+public class BulkLoadInputStream extends InputStream {
+
+    private static final int FILL_THRESHOLD = 8192;
+    private static final byte[] NULL_VALUE = new byte[] { '\\', 'N' };
+
+    private final Iterator<Object[]> rows;
+    private final int columnCount;
+    private final Object[] columns;
+    private final int columnRowCount;
+    private final ZoneId timestampZone;
+    private final ExceptionInterceptor exceptionInterceptor;
+
+    private int nextColumnRow = 0;
+    private byte[] buffer = new byte[FILL_THRESHOLD * 2];
+    private int bufferPosition = 0;
+    private int bufferLimit = 0;
+    private boolean exhausted = false;
+    private Throwable failure = null;
+    private long rowCount = 0;
+    private long byteCount = 0;
+
+    /**
+     * Creates a stream that renders the rows returned by the given iterator.
+     *
+     * @param rows
+     *            the rows to render, each one an array with a value per column
+     * @param columnCount
+     *            the number of values expected in each row, or -1 to not check it
+     * @param timestampTimeZone
+     *            the time zone {@link Timestamp} values are rendered in
+     * @param exceptionInterceptor
+     *            exception interceptor
+     */
+    public BulkLoadInputStream(Iterator<Object[]> rows, int columnCount, TimeZone timestampTimeZone, ExceptionInterceptor exceptionInterceptor) {
+        this.rows = rows;
+        this.columnCount = columnCount;
+        this.columns = null;
+        this.columnRowCount = 0;
+        this.timestampZone = timestampTimeZone.toZoneId();
+        this.exceptionInterceptor = exceptionInterceptor;
+    }
+
+    private BulkLoadInputStream(Object[] columns, int columnRowCount, TimeZone timestampTimeZone, ExceptionInterceptor exceptionInterceptor) {
+        this.rows = null;
+        this.columnCount = columns.length;
+        this.columns = columns;
+        this.columnRowCount = columnRowCount;
+        this.timestampZone = timestampTimeZone.toZoneId();
+        this.exceptionInterceptor = exceptionInterceptor;
+    }
+
+    /**
+     * Creates a stream that renders the given column vectors. Each vector is an array of primitives, such as <code>long[]</code> or <code>double[]</code>, or
+     * an array of objects, and all of them must have the same length.
+     *
+     * @param columnVectors
+     *            the column vectors, one per column
+     * @param timestampTimeZone
+     *            the time zone {@link Timestamp} values are rendered in
+     * @param exceptionInterceptor
+     *            exception interceptor
+     * @return a new {@link BulkLoadInputStream}
+     * @throws SQLException
+     *             if a column vector isn't an array of a supported type or the vectors don't have the same length
+     */
+    public static BulkLoadInputStream forColumns(Object[] columnVectors, TimeZone timestampTimeZone, ExceptionInterceptor exceptionInterceptor)
+            throws SQLException {
+        int length = -1;
+        for (Object column : columnVectors) {
+            if (!(column instanceof Object[] || column instanceof long[] || column instanceof int[] || column instanceof short[] || column instanceof byte[]
+                    || column instanceof boolean[] || column instanceof double[] || column instanceof float[])) {
+                throw SQLError.createSQLException(Messages.getString("Connection.29", new Object[] { column == null ? null : column.getClass().getName() }),
+                        MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, exceptionInterceptor);
+            }
+            int columnLength = java.lang.reflect.Array.getLength(column);
+            if (length != -1 && columnLength != length) {
+                throw SQLError.createSQLException(Messages.getString("Connection.28"), MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, exceptionInterceptor);
+            }
+            length = columnLength;
+        }
+        return new BulkLoadInputStream(columnVectors, Math.max(length, 0), timestampTimeZone, exceptionInterceptor);
+    }
+
+    /**
+     * Returns the number of rows rendered so far.
+     *
+     * @return the number of rows
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the number of bytes read from this stream so far.
+     *
+     * @return the number of bytes
+     */
+    public long getByteCount() {
+        return this.byteCount;
+    }
+
+    /**
+     * Throws the error that ended this stream early, if any.
+     *
+     * @throws SQLException
+     *             if a row didn't have the expected number of values, or the error thrown by the row iterator if it was an {@link SQLException}
+     */
+    public void checkFailure() throws SQLException {
+        if (this.failure instanceof SQLException) {
+            throw (SQLException) this.failure;
+        } else if (this.failure instanceof RuntimeException) {
+            throw (RuntimeException) this.failure;
+        } else if (this.failure instanceof Error) {
+            throw (Error) this.failure;
+        }
+    }
+
+    @Override
+    public int read() {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        int total = 0;
+        while (total < len) {
+            if (this.bufferPosition == this.bufferLimit && !fill()) {
+                break;
+            }
+            int n = Math.min(len - total, this.bufferLimit - this.bufferPosition);
+            System.arraycopy(this.buffer, this.bufferPosition, b, off + total, n);
+            this.bufferPosition += n;
+            total += n;
+        }
+        this.byteCount += total;
+        return total == 0 ? -1 : total;
+    }
+
+    @Override
+    public int available() {
+        return this.bufferLimit - this.bufferPosition;
+    }
+
+    /**
+     * Encodes rows into the internal buffer, which must have been fully read, until it holds enough data or there are no more rows.
+     *
+     * @return true if there is data to read
+     */
+    private boolean fill() {
+        this.bufferPosition = 0;
+        this.bufferLimit = 0;
+        while (!this.exhausted && this.bufferLimit < FILL_THRESHOLD) {
+            int rowStart = this.bufferLimit;
+            try {
+                if (!encodeNextRow()) {
+                    this.exhausted = true;
+                }
+            } catch (SQLException | RuntimeException | Error e) {
+                this.bufferLimit = rowStart; // discard the incomplete row
+                this.failure = e;
+                this.exhausted = true;
+            }
+        }
+        return this.bufferLimit > 0;
+    }
+
+    private boolean encodeNextRow() throws SQLException {
+        if (this.rows != null) {
+            if (!this.rows.hasNext()) {
+                return false;
+            }
+            Object[] row = this.rows.next();
+            int length = row == null ? 0 : row.length;
+            if (row == null || this.columnCount >= 0 && length != this.columnCount) {
+                throw SQLError.createSQLException(Messages.getString("Connection.30", new Object[] { this.rowCount + 1, length, this.columnCount }),
+                        MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, this.exceptionInterceptor);
+            }
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    writeByte('\t');
+                }
+                writeValue(row[i]);
+            }
+        } else {
+            if (this.nextColumnRow == this.columnRowCount) {
+                return false;
+            }
+            int r = this.nextColumnRow++;
+            for (int i = 0; i < this.columns.length; i++) {
+                if (i > 0) {
+                    writeByte('\t');
+                }
+                writeColumnValue(this.columns[i], r);
+            }
+        }
+        writeByte('\n');
+        this.rowCount++;
+        return true;
+    }
+
+    private void writeColumnValue(Object column, int row) throws SQLException {
+        if (column instanceof long[]) {
+            writeLong(((long[]) column)[row]);
+        } else if (column instanceof int[]) {
+            writeLong(((int[]) column)[row]);
+        } else if (column instanceof short[]) {
+            writeLong(((short[]) column)[row]);
+        } else if (column instanceof byte[]) {
+            writeLong(((byte[]) column)[row]);
+        } else if (column instanceof boolean[]) {
+            writeByte(((boolean[]) column)[row] ? '1' : '0');
+        } else if (column instanceof double[]) {
+            writeString(Double.toString(((double[]) column)[row]));
+        } else if (column instanceof float[]) {
+            writeString(Float.toString(((float[]) column)[row]));
+        } else {
+            writeValue(((Object[]) column)[row]);
+        }
+    }
+
+    private void writeValue(Object value) throws SQLException {
+        if (value == null) {
+            ensureCapacity(NULL_VALUE.length);
+            System.arraycopy(NULL_VALUE, 0, this.buffer, this.bufferLimit, NULL_VALUE.length);
+            this.bufferLimit += NULL_VALUE.length;
+        } else if (value instanceof String) {
+            writeString((String) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float || value instanceof BigInteger) {
+            writeString(value.toString());
+        } else if (value instanceof Boolean) {
+            writeByte((Boolean) value ? '1' : '0');
+        } else if (value instanceof BigDecimal) {
+            writeString(((BigDecimal) value).toPlainString());
+        } else if (value instanceof byte[]) {
+            writeBytes((byte[]) value);
+        } else if (value instanceof LocalDate) {
+            writeString(((LocalDate) value).format(TimeUtil.DATE_FORMATTER));
+        } else if (value instanceof LocalDateTime) {
+            writeString(((LocalDateTime) value).format(TimeUtil.DATETIME_FORMATTER_WITH_OPTIONAL_MICROS));
+        } else if (value instanceof LocalTime) {
+            writeString(((LocalTime) value).format(TimeUtil.TIME_FORMATTER_WITH_OPTIONAL_MICROS));
+        } else if (value instanceof Timestamp) {
+            writeString(((Timestamp) value).toInstant().atZone(this.timestampZone).toLocalDateTime().format(TimeUtil.DATETIME_FORMATTER_WITH_OPTIONAL_MICROS));
+        } else {
+            throw SQLError.createSQLFeatureNotSupportedException(
+                    Messages.getString("Connection.33", new Object[] { value.getClass().getName(), this.rowCount + 1 }),
+                    MysqlErrorNumbers.SQLSTATE_FEATURE_NOT_SUPPORTED_NO_SUBCLASS, this.exceptionInterceptor);
+        }
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        this.buffer[this.bufferLimit++] = (byte) c;
+    }
+
+    private void writeLong(long value) {
+        writeString(Long.toString(value));
+    }
+
+    /**
+     * Writes the given string encoded as UTF-8, escaping the characters that are special in the infile format.
+     *
+     * @param s
+     *            the string to write
+     */
+    private void writeString(String s) {
+        int length = s.length();
+        ensureCapacity(length * 3);
+        byte[] b = this.buffer;
+        int pos = this.bufferLimit;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                pos = writeEscaped(b, pos, (byte) c);
+            } else if (c < 0x800) {
+                b[pos++] = (byte) (0xc0 | c >> 6);
+                b[pos++] = (byte) (0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                b[pos++] = (byte) (0xf0 | cp >> 18);
+                b[pos++] = (byte) (0x80 | cp >> 12 & 0x3f);
+                b[pos++] = (byte) (0x80 | cp >> 6 & 0x3f);
+                b[pos++] = (byte) (0x80 | cp & 0x3f);
+            } else if (Character.isSurrogate(c)) {
+                b[pos++] = '?'; // unpaired surrogate, as String.getBytes() would do
+            } else {
+                b[pos++] = (byte) (0xe0 | c >> 12);
+                b[pos++] = (byte) (0x80 | c >> 6 & 0x3f);
+                b[pos++] = (byte) (0x80 | c & 0x3f);
+            }
+        }
+        this.bufferLimit = pos;
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length * 2);
+        byte[] b = this.buffer;
+        int pos = this.bufferLimit;
+        for (byte x : bytes) {
+            pos = writeEscaped(b, pos, x);
+        }
+        this.bufferLimit = pos;
+    }
+
+    private static int writeEscaped(byte[] b, int pos, byte x) {
+        switch (x) {
+            case 0:
+                b[pos++] = '\\';
+                b[pos++] = '0';
+                break;
+            case '\t':
+                b[pos++] = '\\';
+                b[pos++] = 't';
+                break;
+            case '\n':
+                b[pos++] = '\\';
+                b[pos++] = 'n';
+                break;
+            case '\r':
+                b[pos++] = '\\';
+                b[pos++] = 'r';
+                break;
+            case '\032':
+                b[pos++] = '\\';
+                b[pos++] = 'Z';
+                break;
+            case '\\':
+                b[pos++] = '\\';
+                b[pos++] = '\\';
+                break;
+            default:
+                b[pos++] = x;
+        }
+        return pos;
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = this.bufferLimit + additional;
+        if (required > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(required, this.buffer.length * 2));
+        }
+    }
+
+}
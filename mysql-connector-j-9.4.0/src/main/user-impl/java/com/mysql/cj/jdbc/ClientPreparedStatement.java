@@ -42,7 +42,9 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
 
+import com.mysql.cj.BatchedParameterSets;
 import com.mysql.cj.BindValue;
 import com.mysql.cj.CancelQueryTask;
 import com.mysql.cj.ClientPreparedQuery;
@@ -67,6 +69,7 @@ import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
 import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
 import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.ResultSetMetaData;
 import com.mysql.cj.log.ProfilerEvent;
@@ -113,6 +116,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     protected int rewrittenBatchSize = 0;
 
+    private BatchChunkSizeController batchChunkSizeController = null;
+
     /**
      * Creates a prepared statement instance
      *
@@ -246,7 +251,8 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
         try {
             QueryBindings queryBindings = ((PreparedQuery) this.query).getQueryBindings();
             queryBindings.checkAllParametersSet();
-            this.query.addBatch(queryBindings.clone());
+            // The values are copied into the query's columnar parameter sets, so the bindings don't need to be cloned.
+            this.query.addBatch(queryBindings);
         } finally {
             connectionLock.unlock();
         }
@@ -457,11 +463,15 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                         }
 
                         if (!this.batchHasPlainStatements && this.query.getBatchedArgs() != null
-                                && this.query.getBatchedArgs().size() > 3 /* cost of option setting rt-wise */) {
+                                && this.query.getBatchedArgs().size() > 3 /* cost of option setting rt-wise */ && !canExecuteBatchWithPerStatementResults()) {
                             return executePreparedBatchAsMultiStatement(batchTimeout);
                         }
                     }
 
+                    if (canExecuteBatchWithPerStatementResults()) {
+                        return executePreparedBatchWithPerStatementResults(batchTimeout);
+                    }
+
                     return executeBatchSerially(batchTimeout);
                 } finally {
                     this.query.getStatementExecuting().set(false);
@@ -480,7 +490,9 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
     }
 
     /**
-     * Rewrites the already prepared statement into a multi-statement query and executes the entire batch using this new statement.
+     * Rewrites the already prepared statement into a multi-statement query and executes the entire batch using this new statement. See
+     * {@link #executePreparedBatchWithPerStatementResults(long)} for the variant used with "useMultiStatementBatches=true", which reports each parameter
+     * set's update count or error on its own.
      *
      * @param batchTimeout
      *            timeout for the batch execution
@@ -512,16 +524,11 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                     this.batchedGeneratedKeys = new ArrayList<>(numBatchedArgs);
                 }
 
-                int numValuesPerBatch = ((PreparedQuery) this.query).computeBatchSize(numBatchedArgs);
-
-                if (numBatchedArgs < numValuesPerBatch) {
-                    numValuesPerBatch = numBatchedArgs;
-                }
+                int maxValuesPerBatch = ((PreparedQuery) this.query).computeBatchSize(numBatchedArgs);
 
                 java.sql.PreparedStatement batchedStatement = null;
 
-                int batchedParamIndex = 1;
-                int numberToExecuteAsMultiValue = 0;
+                int batchedStatementSize = 0;
                 int batchCounter = 0;
                 int updateCountCounter = 0;
                 long[] updateCounts = new long[numBatchedArgs * getQueryInfo().getNumberOfQueries()];
@@ -532,77 +539,44 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                         ((NativeSession) locallyScopedConn.getSession()).enableMultiQueries();
                     }
 
-                    batchedStatement = this.retrieveGeneratedKeys
-                            ? locallyScopedConn.prepareStatement(generateMultiStatementForBatch(numValuesPerBatch), RETURN_GENERATED_KEYS)
-                                    .unwrap(java.sql.PreparedStatement.class)
-                            : locallyScopedConn.prepareStatement(generateMultiStatementForBatch(numValuesPerBatch)).unwrap(java.sql.PreparedStatement.class);
+                    startBatchChunks();
 
-                    timeoutTask = startQueryTimer((StatementImpl) batchedStatement, batchTimeout);
+                    while (batchCounter < numBatchedArgs) {
+                        int numValuesPerBatch = nextBatchChunkSize(maxValuesPerBatch, numBatchedArgs - batchCounter);
 
-                    numberToExecuteAsMultiValue = numBatchedArgs < numValuesPerBatch ? numBatchedArgs : numBatchedArgs / numValuesPerBatch;
-
-                    int numberArgsToExecute = numberToExecuteAsMultiValue * numValuesPerBatch;
-
-                    for (int i = 0; i < numberArgsToExecute; i++) {
-                        if (i != 0 && i % numValuesPerBatch == 0) {
-                            try {
-                                batchedStatement.execute();
-                            } catch (SQLException ex) {
-                                sqlEx = handleExceptionForBatch(batchCounter, numValuesPerBatch, updateCounts, ex);
+                        if (batchedStatement == null || batchedStatementSize != numValuesPerBatch) {
+                            if (batchedStatement != null) {
+                                if (timeoutTask != null) {
+                                    // we need to check the cancel state now because we loose if after the following batchedStatement.close()
+                                    ((JdbcPreparedStatement) batchedStatement).checkCancelTimeout();
+                                }
+                                batchedStatement.close();
+                                batchedStatement = null;
                             }
 
-                            updateCountCounter = processMultiCountsAndKeys((StatementImpl) batchedStatement, updateCountCounter, updateCounts);
-
-                            batchedStatement.clearParameters();
-                            batchedParamIndex = 1;
-                        }
-
-                        batchedParamIndex = setOneBatchedParameterSet(batchedStatement, batchedParamIndex, this.query.getBatchedArgs().get(batchCounter++));
-                    }
-
-                    try {
-                        batchedStatement.execute();
-                    } catch (SQLException ex) {
-                        sqlEx = handleExceptionForBatch(batchCounter - 1, numValuesPerBatch, updateCounts, ex);
-                    }
-
-                    updateCountCounter = processMultiCountsAndKeys((StatementImpl) batchedStatement, updateCountCounter, updateCounts);
-
-                    batchedStatement.clearParameters();
-
-                    numValuesPerBatch = numBatchedArgs - batchCounter;
-
-                    if (timeoutTask != null) {
-                        // we need to check the cancel state now because we loose if after the following batchedStatement.close()
-                        ((JdbcPreparedStatement) batchedStatement).checkCancelTimeout();
-                    }
-
-                } finally {
-                    if (batchedStatement != null) {
-                        batchedStatement.close();
-                        batchedStatement = null;
-                    }
-                }
-
-                try {
-                    if (numValuesPerBatch > 0) {
-
-                        batchedStatement = this.retrieveGeneratedKeys
-                                ? locallyScopedConn.prepareStatement(generateMultiStatementForBatch(numValuesPerBatch), RETURN_GENERATED_KEYS)
-                                : locallyScopedConn.prepareStatement(generateMultiStatementForBatch(numValuesPerBatch));
-
-                        if (timeoutTask != null) {
-                            timeoutTask.setQueryToCancel((Query) batchedStatement);
+                            batchedStatement = this.retrieveGeneratedKeys
+                                    ? locallyScopedConn.prepareStatement(generateMultiStatementForBatch(numValuesPerBatch), RETURN_GENERATED_KEYS)
+                                            .unwrap(java.sql.PreparedStatement.class)
+                                    : locallyScopedConn.prepareStatement(generateMultiStatementForBatch(numValuesPerBatch))
+                                            .unwrap(java.sql.PreparedStatement.class);
+                            batchedStatementSize = numValuesPerBatch;
+
+                            if (batchCounter == 0) {
+                                timeoutTask = startQueryTimer((StatementImpl) batchedStatement, batchTimeout);
+                            } else if (timeoutTask != null) {
+                                timeoutTask.setQueryToCancel((Query) batchedStatement);
+                            }
                         }
 
-                        batchedParamIndex = 1;
-
-                        while (batchCounter < numBatchedArgs) {
-                            batchedParamIndex = setOneBatchedParameterSet(batchedStatement, batchedParamIndex, this.query.getBatchedArgs().get(batchCounter++));
+                        int batchedParamIndex = 1;
+                        for (int i = 0; i < numValuesPerBatch; i++) {
+                            batchedParamIndex = setOneBatchedParameterSet(batchedStatement, batchedParamIndex, batchCounter++);
                         }
 
+                        long chunkStartNanos = System.nanoTime();
                         try {
                             batchedStatement.execute();
+                            batchChunkCompleted(numValuesPerBatch, System.nanoTime() - chunkStartNanos);
                         } catch (SQLException ex) {
                             sqlEx = handleExceptionForBatch(batchCounter - 1, numValuesPerBatch, updateCounts, ex);
                         }
@@ -642,6 +616,97 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
         }
     }
 
+    /**
+     * Checks whether this batch can be executed by {@link #executePreparedBatchWithPerStatementResults(long)}.
+     *
+     * @return true if multi-statement batches are enabled and allowed, the batch has no plain statements and this statement can share a multi-statement query
+     *         with copies of itself
+     */
+    private boolean canExecuteBatchWithPerStatementResults() {
+        if (!this.useMultiStatementBatches.getValue() || this.batchHasPlainStatements || this.query.getBatchedArgs() == null
+                || this.query.getBatchedArgs().size() <= 3 /* cost of option setting rt-wise */ || !this.session.isMultiStatementBatchingAllowed()) {
+            return false;
+        }
+        String origSql = ((PreparedQuery) this.query).getOriginalSql();
+        String packableSql = MultiStatementBatchExecutor.toPackableStatement(origSql, this.session.getServerSession().isNoBackslashEscapesSet());
+        return packableSql != null && origSql.substring(packableSql.length()).trim().isEmpty();
+    }
+
+    /**
+     * Executes the batch as multi-statement queries holding as many copies of this statement as fit in max_allowed_packet. Unlike
+     * {@link #executePreparedBatchAsMultiStatement(long)}, each parameter set gets its own update count or error.
+     *
+     * @param batchTimeout
+     *            timeout for the batch execution
+     * @return update counts in the same fashion as executeBatch()
+     *
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed PreparedStatement
+     */
+    protected long[] executePreparedBatchWithPerStatementResults(long batchTimeout) throws SQLException {
+        Lock connectionLock = checkClosed().getConnectionLock();
+        connectionLock.lock();
+        try {
+            int numBatchedArgs = this.query.getBatchedArgs().size();
+
+            if (this.retrieveGeneratedKeys) {
+                this.batchedGeneratedKeys = new ArrayList<>(numBatchedArgs);
+            }
+
+            int maxValuesPerBatch = ((PreparedQuery) this.query).computeBatchSize(numBatchedArgs);
+            startBatchChunks();
+
+            return new MultiStatementBatchExecutor(this, numBatchedArgs) {
+
+                private ClientPreparedStatement batchedStatement = null;
+                private int batchedStatementSize = 0;
+
+                @Override
+                protected int nextChunkSize(int commandIndex) {
+                    return nextBatchChunkSize(maxValuesPerBatch, this.nbrCommands - commandIndex);
+                }
+
+                @Override
+                protected void executeChunk(int commandIndex, int chunkSize, BiConsumer<ResultSetImpl, CJException> resultConsumer) throws SQLException {
+                    if (this.batchedStatement == null || this.batchedStatementSize != chunkSize) {
+                        release();
+                        this.batchedStatement = ClientPreparedStatement.this.connection.clientPrepareStatement(generateMultiStatementForBatch(chunkSize))
+                                .unwrap(ClientPreparedStatement.class);
+                        this.batchedStatementSize = chunkSize;
+                    }
+
+                    int batchedParamIndex = 1;
+                    for (int i = commandIndex; i < commandIndex + chunkSize; i++) {
+                        batchedParamIndex = setOneBatchedParameterSet(this.batchedStatement, batchedParamIndex, i);
+                    }
+
+                    PreparedQuery batchedQuery = (PreparedQuery) this.batchedStatement.getQuery();
+                    long chunkStartNanos = System.nanoTime();
+                    try {
+                        ClientPreparedStatement.this.session.execSQLMultiStatement(ClientPreparedStatement.this.query, null,
+                                batchedQuery.fillSendPacket(batchedQuery.getQueryBindings()), ClientPreparedStatement.this.resultSetFactory, resultConsumer);
+                    } catch (CJException e) {
+                        throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+                    } finally {
+                        this.batchedStatement.clearParameters();
+                    }
+                    batchChunkCompleted(chunkSize, System.nanoTime() - chunkStartNanos);
+                }
+
+                @Override
+                protected void release() throws SQLException {
+                    if (this.batchedStatement != null) {
+                        this.batchedStatement.close();
+                        this.batchedStatement = null;
+                    }
+                }
+
+            }.execute(batchTimeout);
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
     protected int setOneBatchedParameterSet(java.sql.PreparedStatement batchedStatement, int batchedParamIndex, Object paramSet) throws SQLException {
         BindValue[] bindValues = ((QueryBindings) paramSet).getBindValues();
         QueryBindings batchedStatementBindings = ((PreparedQuery) ((ClientPreparedStatement) batchedStatement).getQuery()).getQueryBindings();
@@ -652,6 +717,30 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
         return batchedParamIndex;
     }
 
+    /**
+     * Sets the parameters of the given batched statement from the batched arguments at the given position, starting at the given parameter index.
+     *
+     * @param batchedStatement
+     *            the rewritten statement
+     * @param batchedParamIndex
+     *            one-based index of the first parameter to set
+     * @param commandIndex
+     *            position of the parameter set in the batch
+     * @return the index of the parameter that follows the ones set
+     * @throws SQLException
+     *             if an error occurs
+     */
+    private int setOneBatchedParameterSet(java.sql.PreparedStatement batchedStatement, int batchedParamIndex, int commandIndex) throws SQLException {
+        BatchedParameterSets parameterSets = ((ClientPreparedQuery) this.query).getBatchedParameterSets();
+        if (parameterSets == null || !parameterSets.isParameterSet(commandIndex)) {
+            return setOneBatchedParameterSet(batchedStatement, batchedParamIndex, this.query.getBatchedArgs().get(commandIndex));
+        }
+
+        QueryBindings batchedStatementBindings = ((PreparedQuery) ((ClientPreparedStatement) batchedStatement).getQuery()).getQueryBindings();
+        parameterSets.loadParameterSet(commandIndex, batchedStatementBindings, batchedParamIndex - 1);
+        return batchedParamIndex + parameterSets.getParameterCount();
+    }
+
     private String generateMultiStatementForBatch(int numBatches) throws SQLException {
         Lock connectionLock = checkClosed().getConnectionLock();
         connectionLock.lock();
@@ -694,17 +783,11 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                 this.batchedGeneratedKeys = new ArrayList<>(numBatchedArgs);
             }
 
-            int numValuesPerBatch = ((PreparedQuery) this.query).computeBatchSize(numBatchedArgs);
-
-            if (numBatchedArgs < numValuesPerBatch) {
-                numValuesPerBatch = numBatchedArgs;
-            }
+            int maxValuesPerBatch = ((PreparedQuery) this.query).computeBatchSize(numBatchedArgs);
 
-            JdbcPreparedStatement batchedStatement = null;
+            ClientPreparedStatement batchedStatement = null;
 
-            int batchedParamIndex = 1;
             long updateCountRunningTotal = 0;
-            int numberToExecuteAsMultiValue = 0;
             int batchCounter = 0;
             CancelQueryTask timeoutTask = null;
             SQLException sqlEx = null;
@@ -713,64 +796,38 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
             try {
                 try {
-                    batchedStatement = /* FIXME -if we ever care about folks proxying our JdbcConnection */
-                            prepareBatchedInsertSQL(locallyScopedConn, numValuesPerBatch);
+                    startBatchChunks();
 
-                    timeoutTask = startQueryTimer(batchedStatement, batchTimeout);
+                    while (batchCounter < numBatchedArgs) {
+                        int numValuesPerBatch = nextBatchChunkSize(maxValuesPerBatch, numBatchedArgs - batchCounter);
 
-                    numberToExecuteAsMultiValue = numBatchedArgs < numValuesPerBatch ? numBatchedArgs : numBatchedArgs / numValuesPerBatch;
+                        if (batchedStatement == null || batchedStatement.rewrittenBatchSize != numValuesPerBatch) {
+                            if (batchedStatement != null) {
+                                batchedStatement.close();
+                                batchedStatement = null;
+                            }
 
-                    int numberArgsToExecute = numberToExecuteAsMultiValue * numValuesPerBatch;
+                            batchedStatement = /* FIXME -if we ever care about folks proxying our JdbcConnection */
+                                    prepareBatchedInsertSQL(locallyScopedConn, numValuesPerBatch);
 
-                    for (int i = 0; i < numberArgsToExecute; i++) {
-                        if (i != 0 && i % numValuesPerBatch == 0) {
-                            try {
-                                updateCountRunningTotal += batchedStatement.executeLargeUpdate();
-                            } catch (SQLException ex) {
-                                sqlEx = handleExceptionForBatch(batchCounter - 1, numValuesPerBatch, updateCounts, ex);
+                            if (batchCounter == 0) {
+                                timeoutTask = startQueryTimer(batchedStatement, batchTimeout);
+                            } else if (timeoutTask != null) {
+                                timeoutTask.setQueryToCancel(batchedStatement);
                             }
-
-                            getBatchedGeneratedKeys(batchedStatement);
+                        } else {
                             batchedStatement.clearParameters();
-                            batchedParamIndex = 1;
-
                         }
 
-                        batchedParamIndex = setOneBatchedParameterSet(batchedStatement, batchedParamIndex, this.query.getBatchedArgs().get(batchCounter++));
-                    }
-
-                    try {
-                        updateCountRunningTotal += batchedStatement.executeLargeUpdate();
-                    } catch (SQLException ex) {
-                        sqlEx = handleExceptionForBatch(batchCounter - 1, numValuesPerBatch, updateCounts, ex);
-                    }
-
-                    getBatchedGeneratedKeys(batchedStatement);
-
-                    numValuesPerBatch = numBatchedArgs - batchCounter;
-                } finally {
-                    if (batchedStatement != null) {
-                        batchedStatement.close();
-                        batchedStatement = null;
-                    }
-                }
-
-                try {
-                    if (numValuesPerBatch > 0) {
-                        batchedStatement = prepareBatchedInsertSQL(locallyScopedConn, numValuesPerBatch);
-
-                        if (timeoutTask != null) {
-                            timeoutTask.setQueryToCancel(batchedStatement);
-                        }
-
-                        batchedParamIndex = 1;
-
-                        while (batchCounter < numBatchedArgs) {
-                            batchedParamIndex = setOneBatchedParameterSet(batchedStatement, batchedParamIndex, this.query.getBatchedArgs().get(batchCounter++));
+                        int batchedParamIndex = 1;
+                        for (int i = 0; i < numValuesPerBatch; i++) {
+                            batchedParamIndex = setOneBatchedParameterSet(batchedStatement, batchedParamIndex, batchCounter++);
                         }
 
+                        long chunkStartNanos = System.nanoTime();
                         try {
                             updateCountRunningTotal += batchedStatement.executeLargeUpdate();
+                            batchChunkCompleted(numValuesPerBatch, System.nanoTime() - chunkStartNanos);
                         } catch (SQLException ex) {
                             sqlEx = handleExceptionForBatch(batchCounter - 1, numValuesPerBatch, updateCounts, ex);
                         }
@@ -843,13 +900,23 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                         this.batchedGeneratedKeys = new ArrayList<>(nbrCommands);
                     }
 
+                    // Parameter sets kept in columnar form are executed one after another through the same bindings.
+                    BatchedParameterSets parameterSets = ((ClientPreparedQuery) this.query).getBatchedParameterSets();
+                    QueryBindings parameterSetBindings = parameterSets == null ? null : ((PreparedQuery) this.query).getQueryBindings().clone();
+
                     int batchCommandIndex = ((PreparedQuery) this.query).getBatchCommandIndex();
 
                     for (batchCommandIndex = 0; batchCommandIndex < nbrCommands; batchCommandIndex++) {
 
                         ((PreparedQuery) this.query).setBatchCommandIndex(batchCommandIndex);
 
-                        Object arg = this.query.getBatchedArgs().get(batchCommandIndex);
+                        Object arg;
+                        if (parameterSets != null && parameterSets.isParameterSet(batchCommandIndex)) {
+                            parameterSets.loadParameterSet(batchCommandIndex, parameterSetBindings, 0);
+                            arg = parameterSetBindings;
+                        } else {
+                            arg = this.query.getBatchedArgs().get(batchCommandIndex);
+                        }
 
                         try {
                             if (arg instanceof String) {
@@ -1201,6 +1268,48 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
         return getQueryInfo().containsOnDuplicateKeyUpdate();
     }
 
+    /**
+     * Prepares the chunk size controller for a new rewritten batch, if adaptive batch sizing is enabled.
+     */
+    private void startBatchChunks() {
+        if (!this.session.getPropertySet().getBooleanProperty(PropertyKey.adaptiveBatchSize).getValue()) {
+            this.batchChunkSizeController = null; // may have been disabled at runtime
+        } else if (this.batchChunkSizeController == null) {
+            this.batchChunkSizeController = new BatchChunkSizeController(this.session.getPropertySet());
+        }
+        if (this.batchChunkSizeController != null) {
+            this.batchChunkSizeController.batchStarted();
+        }
+    }
+
+    /**
+     * Computes the number of parameter sets to send in the next chunk of a rewritten batch.
+     *
+     * @param maxChunkSize
+     *            the maximum number of parameter sets that fit in a single packet
+     * @param remaining
+     *            the number of parameter sets still to execute
+     * @return the number of parameter sets to send
+     */
+    private int nextBatchChunkSize(int maxChunkSize, int remaining) {
+        return this.batchChunkSizeController == null ? Math.min(maxChunkSize, remaining) : this.batchChunkSizeController.nextChunkSize(maxChunkSize, remaining);
+    }
+
+    private void batchChunkCompleted(int rows, long elapsedNanos) {
+        if (this.batchChunkSizeController != null) {
+            this.batchChunkSizeController.chunkCompleted(rows, elapsedNanos);
+        }
+    }
+
+    /**
+     * Returns the controller that sizes the chunks of rewritten batches, which holds the chunk sizes chosen so far.
+     *
+     * @return the {@link BatchChunkSizeController}, or null if adaptive batch sizing is disabled or no batch was rewritten yet
+     */
+    public BatchChunkSizeController getBatchChunkSizeController() {
+        return this.batchChunkSizeController;
+    }
+
     /**
      * Returns a prepared statement for the number of batched parameters, used when re-writing batch INSERTs.
      *
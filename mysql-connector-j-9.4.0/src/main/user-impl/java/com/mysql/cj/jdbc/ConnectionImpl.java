@@ -31,11 +31,13 @@ import java.sql.NClob;
 import java.sql.ResultSet;
 import java.sql.SQLClientInfoException;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLPermission;
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Struct;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -43,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Stack;
+import java.util.TimeZone;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.locks.Lock;
@@ -90,7 +93,7 @@ import com.mysql.cj.telemetry.TelemetryAttribute;
 import com.mysql.cj.telemetry.TelemetryScope;
 import com.mysql.cj.telemetry.TelemetrySpan;
 import com.mysql.cj.telemetry.TelemetrySpanName;
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.util.ConcurrentLRUCache;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.Util;
 
@@ -257,8 +260,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
      */
     private final CopyOnWriteArrayList<JdbcStatement> openStatements = new CopyOnWriteArrayList<>();
 
-    private LRUCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
-    private final Lock parsedCallableStatementCacheLock = new ReentrantLock();
+    private ConcurrentLRUCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
 
     /** The password we used */
     private String password = null;
@@ -270,8 +272,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     private boolean readOnly = false;
 
     /** Cache of ResultSet metadata */
-    protected LRUCache<String, CachedResultSetMetaData> resultSetMetadataCache;
-    protected final Lock resultSetMetadataCacheLock = new ReentrantLock();
+    protected ConcurrentLRUCache<String, CachedResultSetMetaData> resultSetMetadataCache;
 
     /**
      * The type map for UDTs (not implemented, but used by some third-party
@@ -282,9 +283,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     /** The user we're connected as */
     private String user = null;
 
-    private LRUCache<String, Boolean> serverSideStatementCheckCache;
-    private final Lock serverSideStatementCheckCacheLock = new ReentrantLock();
-    private LRUCache<CompoundCacheKey, ServerPreparedStatement> serverSideStatementCache;
+    private ConcurrentLRUCache<String, Boolean> serverSideStatementCheckCache;
+    private ConcurrentLRUCache<CompoundCacheKey, ServerPreparedStatement> serverSideStatementCache;
 
     private HostInfo origHostInfo;
 
@@ -394,13 +394,14 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                     createPreparedStatementCaches();
                 }
                 if (this.propertySet.getBooleanProperty(PropertyKey.cacheCallableStmts).getValue()) {
-                    this.parsedCallableStatementCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
+                    this.parsedCallableStatementCache = new ConcurrentLRUCache<>(
+                            this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
                 }
                 if (this.propertySet.getBooleanProperty(PropertyKey.allowMultiQueries).getValue()) {
                     this.propertySet.getProperty(PropertyKey.cacheResultSetMetadata).setValue(false); // we don't handle this yet
                 }
                 if (this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata).getValue()) {
-                    this.resultSetMetadataCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
+                    this.resultSetMetadataCache = new ConcurrentLRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
                 }
                 if (this.propertySet.getStringProperty(PropertyKey.socksProxyHost).getStringValue() != null) {
                     this.propertySet.getProperty(PropertyKey.socketFactory).setValue(SocksProxySocketFactory.class.getName());
@@ -494,22 +495,17 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 || this.propertySet.getBooleanProperty(PropertyKey.rewriteBatchedStatements).getValue();
 
         if (this.cachePrepStmts.getValue()) {
-            this.serverSideStatementCheckCacheLock.lock();
-            try {
-                Boolean flag = this.serverSideStatementCheckCache.get(sql);
-                if (flag != null) {
-                    return flag.booleanValue();
-                }
+            Boolean flag = this.serverSideStatementCheckCache.get(sql);
+            if (flag != null) {
+                return flag.booleanValue();
+            }
 
-                boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), multiQueriesEnabled,
-                        this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
-                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                    this.serverSideStatementCheckCache.put(sql, canHandle);
-                }
-                return canHandle;
-            } finally {
-                this.serverSideStatementCheckCacheLock.unlock();
+            boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), multiQueriesEnabled,
+                    this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
+            if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                this.serverSideStatementCheckCache.put(sql, canHandle);
             }
+            return canHandle;
         }
 
         return StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), multiQueriesEnabled,
@@ -1042,35 +1038,21 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             @SuppressWarnings("unchecked")
             CacheAdapterFactory<String, QueryInfo> cacheFactory = Util.getInstance(CacheAdapterFactory.class, queryInfoCacheFactory, null, null,
                     getExceptionInterceptor());
-            this.queryInfoCache = cacheFactory.getInstance(connectionLock, this.origHostInfo.getDatabaseUrl(), cacheSize,
+            this.queryInfoCache = cacheFactory.getInstance(this.session, connectionLock, this.origHostInfo.getDatabaseUrl(), cacheSize,
                     this.prepStmtCacheSqlLimit.getValue());
 
             if (this.useServerPrepStmts.getValue()) {
-                this.serverSideStatementCheckCache = new LRUCache<>(cacheSize);
-                this.serverSideStatementCache = new LRUCache<CompoundCacheKey, ServerPreparedStatement>(cacheSize) {
-
-                    private static final long serialVersionUID = 7692318650375988114L;
-
-                    @Override
-                    protected boolean removeEldestEntry(java.util.Map.Entry<CompoundCacheKey, ServerPreparedStatement> eldest) {
-                        if (this.maxElements <= 1) {
-                            return false;
-                        }
-                        boolean removeIt = super.removeEldestEntry(eldest);
-                        if (removeIt) {
-                            ServerPreparedStatement ps = eldest.getValue();
-                            ps.isCached = false;
-                            ps.setClosed(false);
-                            try {
-                                ps.doClose(CloseOption.PROPAGATE, CloseOption.NO_CACHE);
-                            } catch (SQLException sqlEx) {
-                                // punt
-                            }
-                        }
-                        return removeIt;
+                this.serverSideStatementCheckCache = new ConcurrentLRUCache<>(cacheSize);
+                // Caches of less than two statements never evict them.
+                this.serverSideStatementCache = new ConcurrentLRUCache<>(cacheSize <= 1 ? Integer.MAX_VALUE : cacheSize, (key, ps) -> {
+                    ps.isCached = false;
+                    ps.setClosed(false);
+                    try {
+                        ps.doClose(CloseOption.PROPAGATE, CloseOption.NO_CACHE);
+                    } catch (SQLException sqlEx) {
+                        // punt
                     }
-
-                };
+                });
             }
         } finally {
             connectionLock.unlock();
@@ -1536,21 +1518,16 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
                     cStmt = parseCallableStatement(sql);
                 } else {
-                    this.parsedCallableStatementCacheLock.lock();
-                    try {
-                        CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
+                    CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
 
-                        CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
+                    CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
 
-                        if (cachedParamInfo != null) {
-                            cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
-                        } else {
-                            cStmt = parseCallableStatement(sql);
-                            cachedParamInfo = cStmt.paramInfo;
-                            this.parsedCallableStatementCache.put(key, cachedParamInfo);
-                        }
-                    } finally {
-                        this.parsedCallableStatementCacheLock.unlock();
+                    if (cachedParamInfo != null) {
+                        cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
+                    } else {
+                        cStmt = parseCallableStatement(sql);
+                        cachedParamInfo = cStmt.paramInfo;
+                        this.parsedCallableStatementCache.put(key, cachedParamInfo);
                     }
                 }
 
@@ -1623,42 +1600,37 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
                 if (this.useServerPrepStmts.getValue() && canServerPrepare) {
                     if (this.cachePrepStmts.getValue()) {
-                        this.serverSideStatementCheckCacheLock.lock();
-                        try {
-                            pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
+                        pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
+
+                        if (pStmt != null) {
+                            ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
+                            pStmt.clearParameters();
+                            pStmt.setResultSetType(resultSetType);
+                            pStmt.setResultSetConcurrency(resultSetConcurrency);
+                        }
+
+                        if (pStmt == null) {
+                            try {
+                                pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType,
+                                        resultSetConcurrency);
+                                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                                    ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
+                                }
 
-                            if (pStmt != null) {
-                                ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
-                                pStmt.clearParameters();
                                 pStmt.setResultSetType(resultSetType);
                                 pStmt.setResultSetConcurrency(resultSetConcurrency);
-                            }
+                            } catch (SQLException sqlEx) {
+                                // Punt, if necessary
+                                if (this.emulateUnsupportedPstmts.getValue()) {
+                                    pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
 
-                            if (pStmt == null) {
-                                try {
-                                    pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType,
-                                            resultSetConcurrency);
                                     if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                        ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
-                                    }
-
-                                    pStmt.setResultSetType(resultSetType);
-                                    pStmt.setResultSetConcurrency(resultSetConcurrency);
-                                } catch (SQLException sqlEx) {
-                                    // Punt, if necessary
-                                    if (this.emulateUnsupportedPstmts.getValue()) {
-                                        pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
-
-                                        if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                            this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
-                                        }
-                                    } else {
-                                        throw sqlEx;
+                                        this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
                                     }
+                                } else {
+                                    throw sqlEx;
                                 }
                             }
-                        } finally {
-                            this.serverSideStatementCheckCacheLock.unlock();
                         }
                     } else {
                         try {
@@ -1805,18 +1777,12 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         connectionLock.lock();
         try {
             if (this.cachePrepStmts.getValue() && pstmt.isPoolable()) {
-                this.serverSideStatementCheckCacheLock.lock();
-                try {
-                    Object oldServerPrepStmt = this.serverSideStatementCache.put(
-                            new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()),
-                            (ServerPreparedStatement) pstmt);
-                    if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
-                        ((ServerPreparedStatement) oldServerPrepStmt).isCached = false;
-                        ((ServerPreparedStatement) oldServerPrepStmt).setClosed(false);
-                        ((ServerPreparedStatement) oldServerPrepStmt).doClose(CloseOption.PROPAGATE, CloseOption.NO_CACHE);
-                    }
-                } finally {
-                    this.serverSideStatementCheckCacheLock.unlock();
+                ServerPreparedStatement oldServerPrepStmt = this.serverSideStatementCache.put(
+                        new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()), (ServerPreparedStatement) pstmt);
+                if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
+                    oldServerPrepStmt.isCached = false;
+                    oldServerPrepStmt.setClosed(false);
+                    oldServerPrepStmt.doClose(CloseOption.PROPAGATE, CloseOption.NO_CACHE);
                 }
             }
         } finally {
@@ -1830,12 +1796,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         connectionLock.lock();
         try {
             if (this.cachePrepStmts.getValue()) {
-                this.serverSideStatementCheckCacheLock.lock();
-                try {
-                    this.serverSideStatementCache.remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()));
-                } finally {
-                    this.serverSideStatementCheckCacheLock.unlock();
-                }
+                this.serverSideStatementCache.remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery) pstmt.getQuery()).getOriginalSql()));
             }
         } finally {
             connectionLock.unlock();
@@ -2491,12 +2452,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     @Override
     public CachedResultSetMetaData getCachedMetaData(String sql) {
         if (this.resultSetMetadataCache != null) {
-            this.resultSetMetadataCacheLock.lock();
-            try {
-                return this.resultSetMetadataCache.get(sql);
-            } finally {
-                this.resultSetMetadataCacheLock.unlock();
-            }
+            return this.resultSetMetadataCache.get(sql);
         }
 
         return null; // no cache exists
@@ -2594,6 +2550,103 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         }
     }
 
+    @Override
+    public List<PipelinedResult> executePipelined(List<String> sqls) throws SQLException {
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
+            List<PipelinedResult> results = new ArrayList<>(sqls.size());
+            Iterator<String> sqlIterator = sqls.iterator();
+            try {
+                checkClosed();
+                this.session.execSQLPipelined(null, sqls, this.nullStatementResultSetFactory, (rs, ex) -> {
+                    String sql = sqlIterator.next();
+                    results.add(ex == null ? new PipelinedResultImpl(sql, rs)
+                            : new PipelinedResultImpl(sql, SQLExceptionsMapping.translateException(ex, getExceptionInterceptor())));
+                });
+            } catch (CJException ex) {
+                throw SQLExceptionsMapping.translateException(ex, getExceptionInterceptor());
+            }
+            return results;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setAsyncExecutor(Executor executor) throws SQLException {
+        checkClosed();
+        this.session.setAsyncExecutor(executor);
+    }
+
+    @Override
+    public BulkLoadResult bulkLoad(String tableName, List<String> columnNames, Iterator<Object[]> rows) throws SQLException {
+        return bulkLoad(tableName, columnNames,
+                new BulkLoadInputStream(rows, columnNames == null ? -1 : columnNames.size(), getBulkLoadTimestampTimeZone(), getExceptionInterceptor()));
+    }
+
+    @Override
+    public BulkLoadResult bulkLoadColumns(String tableName, List<String> columnNames, Object... columnVectors) throws SQLException {
+        if (columnNames != null && columnNames.size() != columnVectors.length) {
+            throw SQLError.createSQLException(Messages.getString("Connection.31", new Object[] { columnNames.size(), columnVectors.length }),
+                    MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+        return bulkLoad(tableName, columnNames, BulkLoadInputStream.forColumns(columnVectors, getBulkLoadTimestampTimeZone(), getExceptionInterceptor()));
+    }
+
+    /**
+     * Returns the time zone {@link java.sql.Timestamp} values are rendered in by bulk loads, the same one the {@link java.sql.Timestamp} value encoder uses
+     * for TIMESTAMP targets.
+     *
+     * @return the time zone
+     */
+    private TimeZone getBulkLoadTimestampTimeZone() {
+        return this.propertySet.getBooleanProperty(PropertyKey.preserveInstants).getValue() ? this.session.getServerSession().getSessionTimeZone()
+                : this.session.getServerSession().getDefaultTimeZone();
+    }
+
+    private BulkLoadResult bulkLoad(String tableName, List<String> columnNames, BulkLoadInputStream data) throws SQLException {
+        StringBuilder sql = new StringBuilder("LOAD DATA LOCAL INFILE 'bulk-load' INTO TABLE ").append(tableName).append(" CHARACTER SET utf8mb4");
+        if (columnNames != null) {
+            sql.append(" (");
+            for (int i = 0; i < columnNames.size(); i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(StringUtils.quoteIdentifier(columnNames.get(i), this.session.getIdentifierQuoteString(), this.pedantic.getValue()));
+            }
+            sql.append(")");
+        }
+
+        Lock connectionLock = getConnectionLock();
+        connectionLock.lock();
+        try {
+            checkClosed();
+            try (JdbcStatement stmt = (JdbcStatement) createStatement()) {
+                stmt.setEscapeProcessing(false);
+                stmt.setLocalInfileInputStream(data);
+                long start = System.nanoTime();
+                long updateCount = stmt.executeLargeUpdate(sql.toString());
+                long elapsed = System.nanoTime() - start;
+                try {
+                    data.checkFailure();
+                } catch (SQLException | RuntimeException e) {
+                    // The rows sent before the failure were loaded by the LOAD DATA statement, which the client protocol can't abort.
+                    String message = Messages.getString("Connection.32", new Object[] { data.getRowCount(), updateCount, e.getMessage() });
+                    if (e instanceof SQLFeatureNotSupportedException) {
+                        throw SQLError.createSQLFeatureNotSupportedException(message, ((SQLException) e).getSQLState(), getExceptionInterceptor());
+                    }
+                    throw SQLError.createSQLException(message,
+                            e instanceof SQLException ? ((SQLException) e).getSQLState() : MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, e,
+                            getExceptionInterceptor());
+                }
+                return new BulkLoadResultImpl(data.getRowCount(), data.getByteCount(), updateCount, elapsed);
+            }
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
     @Override
     public int getSessionMaxRows() {
         Lock connectionLock = getConnectionLock();
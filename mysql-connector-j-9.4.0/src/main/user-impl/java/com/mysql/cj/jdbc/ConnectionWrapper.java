@@ -32,6 +32,7 @@ import java.sql.Statement;
 import java.sql.Struct;
 import java.sql.Wrapper;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -836,6 +837,45 @@ public class ConnectionWrapper extends WrapperBase implements JdbcConnection {
         return this.mc.isServerLocal();
     }
 
+    @Override
+    public List<PipelinedResult> executePipelined(List<String> sqls) throws SQLException {
+        try {
+            return this.mc.executePipelined(sqls);
+        } catch (SQLException sqlException) {
+            checkAndFireConnectionError(sqlException);
+        }
+        return null; // never reached, but compiler can't tell
+    }
+
+    @Override
+    public BulkLoadResult bulkLoad(String tableName, List<String> columnNames, Iterator<Object[]> rows) throws SQLException {
+        try {
+            return this.mc.bulkLoad(tableName, columnNames, rows);
+        } catch (SQLException sqlException) {
+            checkAndFireConnectionError(sqlException);
+        }
+        return null; // never reached, but compiler can't tell
+    }
+
+    @Override
+    public BulkLoadResult bulkLoadColumns(String tableName, List<String> columnNames, Object... columnVectors) throws SQLException {
+        try {
+            return this.mc.bulkLoadColumns(tableName, columnNames, columnVectors);
+        } catch (SQLException sqlException) {
+            checkAndFireConnectionError(sqlException);
+        }
+        return null; // never reached, but compiler can't tell
+    }
+
+    @Override
+    public void setAsyncExecutor(Executor executor) throws SQLException {
+        try {
+            this.mc.setAsyncExecutor(executor);
+        } catch (SQLException sqlException) {
+            checkAndFireConnectionError(sqlException);
+        }
+    }
+
     @Override
     public void setSchema(String schema) throws SQLException {
         this.mc.setSchema(schema);
@@ -35,6 +35,7 @@ import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.util.EscapeTokenizer;
+import com.mysql.cj.util.SqlLexer;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.TimeUtil;
 
@@ -105,7 +106,7 @@ class EscapeProcessor {
         int beginBrace = sql.indexOf('{');
         int nextEndBrace = beginBrace == -1 ? -1 : sql.indexOf('}', beginBrace);
 
-        if (nextEndBrace == -1) {
+        if (nextEndBrace == -1 || mayBeQuotedOrCommented(sql, beginBrace) && !mayContainEscapeCodes(sql)) {
             return sql;
         }
 
@@ -296,6 +297,69 @@ class EscapeProcessor {
         return epr;
     }
 
+    /**
+     * Checks if the character at the given position may be inside quoted text or a comment, i.e., if any character that could open those is found before it.
+     * When it can't, the brace at that position starts an escape code for sure and there's no point in lexing the statement before tokenizing it.
+     *
+     * @param sql
+     *            the SQL to check
+     * @param pos
+     *            the position of the first curly brace in the SQL
+     * @return <code>true</code> if the character at the given position may be quoted or commented out
+     */
+    private static boolean mayBeQuotedOrCommented(String sql, int pos) {
+        for (int i = 0; i < pos; i++) {
+            if ("'\"`\\#-/".indexOf(sql.charAt(i)) != -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the given SQL may contain escape codes, i.e., curly braces that are not inside quoted text or comments. The check is conservative: anything
+     * {@link EscapeTokenizer} could tokenize differently than {@link SqlLexer}, such as text in backticks, MySQL specific blocks, unterminated comments or
+     * "--" comments not followed by a space, is reported as a possible escape code.
+     *
+     * @param sql
+     *            the SQL to check
+     * @return <code>false</code> if escape processing would leave the SQL unchanged, <code>true</code> if it needs to be processed
+     */
+    private static boolean mayContainEscapeCodes(String sql) {
+        SqlLexer lexer = new SqlLexer(sql, false); // EscapeTokenizer always honors backslash escapes.
+        while (true) {
+            switch (lexer.next()) {
+                case END:
+                    return false;
+                case SYMBOL:
+                    if (lexer.getTokenChar() == '{') {
+                        return true;
+                    }
+                    break;
+                case QUOTED_IDENTIFIER:
+                    // EscapeTokenizer doesn't know about backticks so anything it could take as quoted text, comments or escape codes counts.
+                    for (int i = lexer.getTokenStart(); i < lexer.getTokenEnd(); i++) {
+                        if ("'\"\\{#-/".indexOf(sql.charAt(i)) != -1) {
+                            return true;
+                        }
+                    }
+                    break;
+                case COMMENT:
+                    int start = lexer.getTokenStart();
+                    int end = lexer.getTokenEnd();
+                    if (sql.startsWith("--", start) ? end - start > 2 && sql.charAt(start + 2) != ' '
+                            : sql.startsWith("/*", start) && (sql.startsWith("/*/", start) || end - start < 4 || !sql.startsWith("*/", end - 2))) {
+                        return true;
+                    }
+                    break;
+                case MYSQL_MARKER:
+                    return true;
+                default:
+                    break;
+            }
+        }
+    }
+
     private static void processTimeToken(StringBuilder newSql, String token, boolean serverSupportsFractionalSecond, ExceptionInterceptor exceptionInterceptor)
             throws SQLException {
         int startPos = token.indexOf('\'') + 1;
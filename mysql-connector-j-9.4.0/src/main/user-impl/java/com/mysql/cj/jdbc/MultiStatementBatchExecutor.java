@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.function.BiConsumer;
+
+import com.mysql.cj.CancelQueryTask;
+import com.mysql.cj.NativeSession;
+import com.mysql.cj.QueryInfo;
+import com.mysql.cj.QueryReturnType;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.AssertionFailedException;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.jdbc.exceptions.SQLError;
+import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+import com.mysql.cj.protocol.a.result.ByteArrayRow;
+import com.mysql.cj.util.SqlLexer;
+import com.mysql.cj.util.SqlLexer.TokenType;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Executes a batch by packing consecutive batched commands into multi-statement queries, each one as large as 'maxAllowedPacket' allows.
+ *
+ * The server stops executing a multi-statement query at the first statement that fails, so the results received for each query are matched to the batched
+ * commands in order: the commands before the failed one succeeded and the ones after it were not executed. With 'continueBatchOnError' the commands that
+ * follow a failed one are sent again in the next query, otherwise the batch stops right there. Either way, each command gets its own update count, or
+ * {@link Statement#EXECUTE_FAILED}, and the exceptions are the ones the commands would have produced if executed one by one.
+ *
+ * Subclasses decide how many commands go in each query, how the query is built and how commands that can't share a query with others are executed.
+ */
+public abstract class MultiStatementBatchExecutor {
+
+    protected StatementImpl statement;
+    protected int nbrCommands;
+
+    private int chunkResults;
+    private CJException chunkFailure;
+
+    /**
+     * Constructor.
+     *
+     * @param statement
+     *            the statement that owns the batch
+     * @param nbrCommands
+     *            number of batched commands
+     */
+    protected MultiStatementBatchExecutor(StatementImpl statement, int nbrCommands) {
+        this.statement = statement;
+        this.nbrCommands = nbrCommands;
+    }
+
+    /**
+     * Returns the number of batched commands, starting at the given one, to be sent in the next multi-statement query.
+     *
+     * @param commandIndex
+     *            the first command not executed yet
+     * @return the number of commands to send, or 0 if the command at commandIndex must be executed on its own
+     * @throws SQLException
+     *             if an error occurs
+     */
+    protected abstract int nextChunkSize(int commandIndex) throws SQLException;
+
+    /**
+     * Sends the given range of batched commands as a single multi-statement query.
+     *
+     * @param commandIndex
+     *            the first command to send
+     * @param chunkSize
+     *            the number of commands to send
+     * @param resultConsumer
+     *            to be given to {@link NativeSession#execSQLMultiStatement(com.mysql.cj.Query, String, com.mysql.cj.protocol.a.NativePacketPayload,
+     *            com.mysql.cj.protocol.ProtocolEntityFactory, BiConsumer)}
+     * @throws SQLException
+     *             if an error occurs
+     */
+    protected abstract void executeChunk(int commandIndex, int chunkSize, BiConsumer<ResultSetImpl, CJException> resultConsumer) throws SQLException;
+
+    /**
+     * Executes a batched command that can't share a multi-statement query with others. Must be overridden if {@link #nextChunkSize(int)} may return 0.
+     *
+     * @param commandIndex
+     *            the command to execute
+     * @return the update count
+     * @throws SQLException
+     *             if an error occurs
+     */
+    protected long executeAlone(int commandIndex) throws SQLException {
+        throw AssertionFailedException.shouldNotHappen("Batched command " + commandIndex + " can't be executed on its own.");
+    }
+
+    /**
+     * Releases the resources used while executing the batch. Called once, when the batch execution ends.
+     *
+     * @throws SQLException
+     *             if an error occurs
+     */
+    protected void release() throws SQLException {
+    }
+
+    /**
+     * Executes the batch. Callers must hold the connection lock.
+     *
+     * @param batchTimeout
+     *            timeout for the whole batch
+     * @return update counts in the same manner as executeBatch()
+     * @throws SQLException
+     *             if a database access error occurs
+     */
+    public long[] execute(long batchTimeout) throws SQLException {
+        NativeSession session = this.statement.session;
+        boolean multiQueriesEnabled = session.getPropertySet().getBooleanProperty(PropertyKey.allowMultiQueries).getValue();
+
+        long[] updateCounts = new long[this.nbrCommands];
+        for (int i = 0; i < this.nbrCommands; i++) {
+            updateCounts[i] = Statement.EXECUTE_FAILED;
+        }
+
+        SQLException sqlEx = null;
+        CancelQueryTask timeoutTask = null;
+
+        try {
+            if (!multiQueriesEnabled) {
+                session.enableMultiQueries();
+            }
+
+            timeoutTask = this.statement.startQueryTimer(this.statement, batchTimeout);
+
+            int commandIndex = 0;
+            while (commandIndex < this.nbrCommands) {
+                int chunkSize = nextChunkSize(commandIndex);
+
+                if (chunkSize == 0) {
+                    try {
+                        updateCounts[commandIndex] = executeAlone(commandIndex);
+                        if (timeoutTask != null) {
+                            this.statement.checkCancelTimeout();
+                        }
+                    } catch (SQLException ex) {
+                        sqlEx = this.statement.handleExceptionForBatch(commandIndex, 1, updateCounts, ex);
+                    } catch (CJException ex) {
+                        sqlEx = this.statement.handleExceptionForBatch(commandIndex, 1, updateCounts,
+                                SQLExceptionsMapping.translateException(ex, this.statement.getExceptionInterceptor()));
+                    }
+                    commandIndex++;
+                    continue;
+                }
+
+                int firstCommandIndex = commandIndex;
+                this.chunkResults = 0;
+                this.chunkFailure = null;
+                executeChunk(firstCommandIndex, chunkSize, (rs, ex) -> {
+                    if (ex != null) {
+                        this.chunkFailure = ex;
+                    } else if (this.chunkResults < chunkSize) {
+                        updateCounts[firstCommandIndex + this.chunkResults++] = rs.getUpdateCount();
+                        addGeneratedKey(rs);
+                    }
+                });
+
+                SQLException ex = this.chunkFailure == null ? null
+                        : SQLExceptionsMapping.translateException(this.chunkFailure, this.statement.getExceptionInterceptor());
+                try {
+                    if (timeoutTask != null) {
+                        this.statement.checkCancelTimeout();
+                    }
+                } catch (CJException e) {
+                    ex = SQLExceptionsMapping.translateException(e, this.statement.getExceptionInterceptor());
+                }
+
+                commandIndex = firstCommandIndex + this.chunkResults;
+                if (ex != null && commandIndex < firstCommandIndex + chunkSize) {
+                    sqlEx = this.statement.handleExceptionForBatch(commandIndex, 1, updateCounts, ex);
+                    commandIndex++;
+                } else if (ex != null) {
+                    throw SQLError.createBatchUpdateException(ex, updateCounts, this.statement.getExceptionInterceptor());
+                } else {
+                    // Each command produces exactly one result, but if some went missing never send their commands again.
+                    for (; commandIndex < firstCommandIndex + chunkSize; commandIndex++) {
+                        updateCounts[commandIndex] = Statement.SUCCESS_NO_INFO;
+                    }
+                }
+            }
+
+            if (timeoutTask != null) {
+                this.statement.stopQueryTimer(timeoutTask, true, true);
+                timeoutTask = null;
+            }
+
+            if (sqlEx != null) {
+                throw SQLError.createBatchUpdateException(sqlEx, updateCounts, this.statement.getExceptionInterceptor());
+            }
+
+            return updateCounts;
+        } finally {
+            this.statement.stopQueryTimer(timeoutTask, false, false);
+            this.statement.resetCancelledState();
+
+            try {
+                release();
+            } finally {
+                if (!multiQueriesEnabled) {
+                    session.disableMultiQueries();
+                }
+            }
+        }
+    }
+
+    private void addGeneratedKey(ResultSetImpl rs) {
+        if (this.statement.batchedGeneratedKeys != null) {
+            byte[][] row = new byte[1][];
+            row[0] = StringUtils.getBytes(Long.toString(rs.getUpdateID()));
+            this.statement.batchedGeneratedKeys.add(new ByteArrayRow(row, this.statement.getExceptionInterceptor()));
+        }
+    }
+
+    /**
+     * Checks whether the given SQL can share a multi-statement query with other statements and returns the text to be used for it.
+     *
+     * Only statements that produce nothing but an update count qualify: the ones that may return result sets, call stored procedures, load data or already
+     * hold several statements are rejected. Comments and semicolons that follow the statement are cut off, so that the statements appended after this one
+     * don't end up commented out.
+     *
+     * @param sql
+     *            the SQL statement, already escape processed
+     * @param noBackslashEscapes
+     *            whether the server has NO_BACKSLASH_ESCAPES set
+     * @return the statement without trailing comments and semicolons, or null if it can't be packed with other statements
+     */
+    public static String toPackableStatement(String sql, boolean noBackslashEscapes) {
+        if (sql == null || QueryInfo.getQueryReturnType(sql, noBackslashEscapes) != QueryReturnType.DOES_NOT_PRODUCE_RESULT_SET
+                || "LOAD".equals(QueryInfo.getStatementKeyword(sql, noBackslashEscapes))) {
+            return null;
+        }
+
+        SqlLexer lexer = new SqlLexer(sql, noBackslashEscapes);
+        int start = 0;
+        int end = 0;
+        boolean terminated = false;
+        TokenType lastTokenType = TokenType.END;
+        for (TokenType tokenType = lexer.next(); tokenType != TokenType.END; tokenType = lexer.next()) {
+            if (tokenType == TokenType.COMMENT) {
+                continue;
+            }
+            if (terminated) {
+                return null; // Something else than comments after the statement terminator.
+            }
+            if (tokenType == TokenType.SYMBOL && lexer.getTokenChar() == ';') {
+                terminated = true;
+                continue;
+            }
+            start = lexer.getTokenStart();
+            end = lexer.getTokenEnd();
+            lastTokenType = tokenType;
+        }
+
+        if ((lastTokenType == TokenType.STRING_LITERAL || lastTokenType == TokenType.QUOTED_IDENTIFIER)
+                && (end - start < 2 || sql.charAt(end - 1) != sql.charAt(start))) {
+            return null; // Unterminated quoted text would swallow the statements that follow.
+        }
+        return end == sql.length() ? sql : sql.substring(0, end);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+
+/**
+ * Default {@link PipelinedResult} implementation.
+ */
+public class PipelinedResultImpl implements PipelinedResult {
+
+    private String sql;
+    private ResultSetImpl resultSet;
+    private SQLException exception;
+
+    public PipelinedResultImpl(String sql, ResultSetImpl resultSet) {
+        this.sql = sql;
+        this.resultSet = resultSet;
+    }
+
+    public PipelinedResultImpl(String sql, SQLException exception) {
+        this.sql = sql;
+        this.exception = exception;
+    }
+
+    @Override
+    public String getSql() {
+        return this.sql;
+    }
+
+    @Override
+    public boolean isResultSet() {
+        return this.resultSet != null && this.resultSet.hasRows();
+    }
+
+    @Override
+    public ResultSet getResultSet() {
+        return isResultSet() ? this.resultSet : null;
+    }
+
+    @Override
+    public long getUpdateCount() {
+        return this.resultSet != null && !this.resultSet.hasRows() ? this.resultSet.getUpdateCount() : -1;
+    }
+
+    @Override
+    public long getLastInsertId() {
+        return this.resultSet != null ? this.resultSet.getUpdateID() : -1;
+    }
+
+    @Override
+    public SQLException getException() {
+        return this.exception;
+    }
+
+}
@@ -32,8 +32,12 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
+import java.util.function.BiConsumer;
 
 import com.mysql.cj.CancelQueryTask;
 import com.mysql.cj.Messages;
@@ -73,10 +77,12 @@ import com.mysql.cj.protocol.Message;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.Resultset;
 import com.mysql.cj.protocol.Resultset.Type;
+import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.NativeConstants;
 import com.mysql.cj.protocol.a.NativeMessageBuilder;
 import com.mysql.cj.protocol.a.result.ByteArrayRow;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
+import com.mysql.cj.result.ColumnLabelIndex;
 import com.mysql.cj.result.DefaultColumnDefinition;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.Row;
@@ -84,6 +90,7 @@ import com.mysql.cj.telemetry.TelemetryAttribute;
 import com.mysql.cj.telemetry.TelemetryScope;
 import com.mysql.cj.telemetry.TelemetrySpan;
 import com.mysql.cj.telemetry.TelemetrySpanName;
+import com.mysql.cj.util.SerialExecutor;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.Util;
 
@@ -170,8 +177,13 @@ public class StatementImpl implements JdbcStatement {
     protected RuntimeProperty<Boolean> dumpQueriesOnException;
     protected boolean logSlowQueries = false;
     protected RuntimeProperty<Boolean> rewriteBatchedStatements;
+    protected RuntimeProperty<Boolean> useMultiStatementBatches;
     protected RuntimeProperty<Integer> maxAllowedPacket;
     protected boolean dontCheckOnDuplicateKeyUpdateInSQL;
+    protected boolean threadConfinedResultSets = false;
+
+    /** Column label index of the last result set that did label-based lookups, reused by the next results having the same columns */
+    private volatile ColumnLabelIndex columnLabelIndex = null;
 
     protected ResultSetFactory resultSetFactory;
 
@@ -216,6 +228,7 @@ public class StatementImpl implements JdbcStatement {
         this.continueBatchOnError = pset.getBooleanProperty(PropertyKey.continueBatchOnError).getValue();
         this.pedantic = pset.getBooleanProperty(PropertyKey.pedantic).getValue();
         this.rewriteBatchedStatements = pset.getBooleanProperty(PropertyKey.rewriteBatchedStatements);
+        this.useMultiStatementBatches = pset.getBooleanProperty(PropertyKey.useMultiStatementBatches);
         this.charEncoding = pset.getStringProperty(PropertyKey.characterEncoding).getValue();
         this.profileSQL = pset.getBooleanProperty(PropertyKey.profileSQL).getValue();
         this.useUsageAdvisor = pset.getBooleanProperty(PropertyKey.useUsageAdvisor).getValue();
@@ -223,6 +236,7 @@ public class StatementImpl implements JdbcStatement {
         this.maxAllowedPacket = pset.getIntegerProperty(PropertyKey.maxAllowedPacket);
         this.dontCheckOnDuplicateKeyUpdateInSQL = pset.getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL).getValue();
         this.doEscapeProcessing = pset.getBooleanProperty(PropertyKey.enableEscapeProcessing).getValue();
+        this.threadConfinedResultSets = pset.getBooleanProperty(PropertyKey.threadConfinedResultSets).getValue();
 
         this.maxFieldSize = this.maxAllowedPacket.getValue();
 
@@ -278,7 +292,16 @@ public class StatementImpl implements JdbcStatement {
         if (!this.query.getStatementExecuting().get()) {
             return;
         }
+        killQuery();
+    }
 
+    /**
+     * Kills the query being run by this statement's session, whether this statement is executing it or not.
+     *
+     * @throws SQLException
+     *             if the KILL QUERY statement can't be sent
+     */
+    private void killQuery() throws SQLException {
         if (!this.isClosed && this.connection != null) {
             NativeSession newSession = null;
 
@@ -910,6 +933,10 @@ public class StatementImpl implements JdbcStatement {
 
                             this.batchedGeneratedKeys = new ArrayList<>(batchedArgs.size());
 
+                            if (this.useMultiStatementBatches.getValue() && nbrCommands > 4 && this.session.isMultiStatementBatchingAllowed()) {
+                                return executeBatchAsMultiStatements(nbrCommands, individualStatementTimeout);
+                            }
+
                             if (this.rewriteBatchedStatements.getValue() && nbrCommands > 4) {
                                 boolean multiQueriesEnabled = locallyScopedConn.getPropertySet().getBooleanProperty(PropertyKey.allowMultiQueries).getValue();
                                 return executeBatchUsingMultiQueries(multiQueriesEnabled, nbrCommands, individualStatementTimeout);
@@ -1136,6 +1163,85 @@ public class StatementImpl implements JdbcStatement {
         }
     }
 
+    /**
+     * Executes the batch packing consecutive statements into multi-statement queries that fit in max_allowed_packet. Unlike
+     * {@link #executeBatchUsingMultiQueries(boolean, int, long)}, each statement gets its own update count or error, and statements that can't share a query
+     * with others are executed on their own.
+     *
+     * @param nbrCommands
+     *            number of queries in a batch
+     * @param batchTimeout
+     *            timeout for the whole batch
+     *
+     * @return update counts in the same manner as executeBatch()
+     * @throws SQLException
+     *             if a database access error occurs or this method is called on a closed Statement
+     */
+    private long[] executeBatchAsMultiStatements(int nbrCommands, long batchTimeout) throws SQLException {
+        List<Object> batchedArgs = this.query.getBatchedArgs();
+        boolean noBackslashEscapes = this.session.getServerSession().isNoBackslashEscapesSet();
+
+        String[] packableStatements = new String[nbrCommands];
+        for (int i = 0; i < nbrCommands; i++) {
+            String sql = (String) batchedArgs.get(i);
+            if (sql != null && this.doEscapeProcessing) {
+                Object escapedSqlResult = EscapeProcessor.escapeSQL(sql, this.session.getServerSession().getSessionTimeZone(),
+                        this.session.getServerSession().getCapabilities().serverSupportsFracSecs(),
+                        this.session.getServerSession().isServerTruncatesFracSecs(), getExceptionInterceptor());
+                sql = escapedSqlResult instanceof String ? (String) escapedSqlResult : ((EscapeProcessorResult) escapedSqlResult).escapedSql;
+            }
+            packableStatements[i] = MultiStatementBatchExecutor.toPackableStatement(sql, noBackslashEscapes);
+        }
+
+        String connectionEncoding = this.session.getPropertySet().getStringProperty(PropertyKey.characterEncoding).getValue();
+        int numberOfBytesPerChar = StringUtils.startsWithIgnoreCase(connectionEncoding, "utf") ? 3
+                : this.session.getServerSession().getCharsetSettings().isMultibyteCharset(connectionEncoding) ? 2 : 1;
+
+        return new MultiStatementBatchExecutor(this, nbrCommands) {
+
+            @Override
+            protected int nextChunkSize(int commandIndex) {
+                long querySize = NativeConstants.HEADER_LENGTH + 32; // allowance for the command and query attributes headers
+                int chunkSize = 0;
+                while (commandIndex + chunkSize < nbrCommands && packableStatements[commandIndex + chunkSize] != null) {
+                    querySize += (packableStatements[commandIndex + chunkSize].length() + 1 /* for semicolon */) * numberOfBytesPerChar;
+                    if (chunkSize > 0 && querySize > StatementImpl.this.maxAllowedPacket.getValue()) {
+                        break;
+                    }
+                    chunkSize++;
+                }
+                return chunkSize;
+            }
+
+            @Override
+            protected void executeChunk(int commandIndex, int chunkSize, BiConsumer<ResultSetImpl, CJException> resultConsumer) throws SQLException {
+                StringBuilder queryBuf = new StringBuilder();
+                for (int i = commandIndex; i < commandIndex + chunkSize; i++) {
+                    queryBuf.append(packableStatements[i]);
+                    queryBuf.append(';');
+                }
+
+                try {
+                    StatementImpl.this.session.execSQLMultiStatement(StatementImpl.this.query, queryBuf.toString(), null, StatementImpl.this.resultSetFactory,
+                            resultConsumer);
+                } catch (CJException e) {
+                    throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+                }
+            }
+
+            @Override
+            protected long executeAlone(int commandIndex) throws SQLException {
+                String sql = (String) batchedArgs.get(commandIndex);
+                long updateCount = executeUpdateInternal(sql, true, true);
+
+                // limit one generated key per OnDuplicateKey statement
+                getBatchedGeneratedKeys(StatementImpl.this.results.getFirstCharOfQuery() == 'I' && containsOnDuplicateKeyInString(sql) ? 1 : 0);
+                return updateCount;
+            }
+
+        }.execute(batchTimeout);
+    }
+
     protected int processMultiCountsAndKeys(StatementImpl batchedStatement, int updateCountCounter, long[] updateCounts) throws SQLException {
         Lock connectionLock = checkClosed().getConnectionLock();
         connectionLock.lock();
@@ -1311,6 +1417,132 @@ public class StatementImpl implements JdbcStatement {
         }
     }
 
+    @Override
+    public void setThreadConfinedResultSets(boolean threadConfined) throws SQLException {
+        checkClosed();
+        this.threadConfinedResultSets = threadConfined;
+    }
+
+    @Override
+    public boolean isThreadConfinedResultSets() throws SQLException {
+        checkClosed();
+        return this.threadConfinedResultSets;
+    }
+
+    /**
+     * Returns a column label index for the given fields, reusing the one built for the previous results of this statement if they had the same columns.
+     *
+     * @param fields
+     *            the result set fields
+     * @return the column label index
+     */
+    public ColumnLabelIndex getColumnLabelIndex(Field[] fields) {
+        ColumnLabelIndex index = this.columnLabelIndex;
+        if (index == null || !index.matches(fields)) {
+            index = new ColumnLabelIndex(fields);
+            this.columnLabelIndex = index;
+        }
+        return index;
+    }
+
+    @Override
+    public CompletableFuture<ResultSet> executeQueryAsync(String sql) {
+        return executeAsync(() -> executeQuery(sql), false);
+    }
+
+    @Override
+    public CompletableFuture<Long> executeQueryAsync(String sql, ResultSetRowHandler rowHandler) {
+        return executeAsync(() -> {
+            try (Statement streamingStmt = this.connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                streamingStmt.setFetchSize(Integer.MIN_VALUE);
+                long rowCount = 0;
+                try (ResultSet streamingRs = streamingStmt.executeQuery(sql)) {
+                    while (streamingRs.next()) {
+                        rowHandler.handleRow(streamingRs);
+                        rowCount++;
+                    }
+                }
+                return rowCount;
+            }
+        }, true);
+    }
+
+    @Override
+    public CompletableFuture<Long> executeLargeUpdateAsync(String sql) {
+        return executeAsync(() -> executeLargeUpdate(sql), false);
+    }
+
+    /**
+     * Runs the given task in this session's asynchronous executor.
+     *
+     * @param <T>
+     *            the task result type
+     * @param task
+     *            the task to run
+     * @param streaming
+     *            whether the task streams the results of a query. Rows are streamed after the statement has finished executing, so cancelling the task
+     *            then kills the session's current query instead of cancelling this statement, which would be a no-op
+     * @return a future that completes with the task result. Cancelling it prevents the task from running or cancels the statement if already running.
+     */
+    private <T> CompletableFuture<T> executeAsync(Callable<T> task, boolean streaming) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            checkClosed();
+        } catch (SQLException e) {
+            future.completeExceptionally(e);
+            return future;
+        }
+
+        AtomicBoolean running = new AtomicBoolean(false);
+        future.whenComplete((r, e) -> {
+            if (future.isCancelled() && running.get()) {
+                try {
+                    if (streaming) {
+                        killQuery();
+                    } else {
+                        cancel();
+                    }
+                } catch (SQLException ex) {
+                    // Nothing else can be done.
+                }
+            }
+        });
+
+        try {
+            this.session.getAsyncExecutor().execute(new SerialExecutor.Task() {
+
+                @Override
+                public void run() {
+                    if (future.isDone()) {
+                        return; // Cancelled before starting.
+                    }
+                    running.set(true);
+                    try {
+                        future.complete(task.call());
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    } finally {
+                        running.set(false);
+                    }
+                }
+
+                @Override
+                public void rejected(RejectedExecutionException e) {
+                    future.completeExceptionally(asyncExecutionRejected(e));
+                }
+
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(asyncExecutionRejected(e));
+        }
+        return future;
+    }
+
+    private SQLException asyncExecutionRejected(RejectedExecutionException e) {
+        return SQLError.createSQLException(Messages.getString("Statement.AsyncExecutionRejected"), MysqlErrorNumbers.SQLSTATE_CONNJ_GENERAL_ERROR, e,
+                getExceptionInterceptor());
+    }
+
     protected void doPingInstead() throws SQLException {
         Lock connectionLock = checkClosed().getConnectionLock();
         connectionLock.lock();
@@ -1979,6 +2211,12 @@ public class StatementImpl implements JdbcStatement {
             closeAllOpenResults();
         }
 
+        // Result sets left open must not hold the connection's buffered rows memory budget forever.
+        releaseMemoryBudget(this.results);
+        if (this.openResultSets != null) {
+            this.openResultSets.forEach(StatementImpl::releaseMemoryBudget);
+        }
+
         clearAttributes();
 
         this.isClosed = true;
@@ -1996,6 +2234,21 @@ public class StatementImpl implements JdbcStatement {
         this.resultSetFactory = null;
     }
 
+    /**
+     * Gives back the share of the connection's buffered rows memory budget held by the given result set and the ones following it, which stay open.
+     *
+     * @param rs
+     *            the first result set, may be null
+     */
+    private static void releaseMemoryBudget(ResultSetInternalMethods rs) {
+        for (Resultset next = rs; next instanceof ResultSetImpl; next = next.getNextResultset()) {
+            ResultsetRows rows = ((ResultSetImpl) next).getRows();
+            if (rows instanceof ResultsetRowsStatic) {
+                ((ResultsetRowsStatic) rows).releaseMemoryBudget();
+            }
+        }
+    }
+
     @Override
     public void setCursorName(String name) throws SQLException {
         // No-op
@@ -33,6 +33,7 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -46,11 +47,13 @@ import com.mysql.cj.Session;
 import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.jdbc.BulkLoadResult;
 import com.mysql.cj.jdbc.ClientInfoProvider;
 import com.mysql.cj.jdbc.CloseOption;
 import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.JdbcPreparedStatement;
 import com.mysql.cj.jdbc.JdbcPropertySet;
+import com.mysql.cj.jdbc.PipelinedResult;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
 import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
@@ -607,6 +610,26 @@ public class MultiHostMySQLConnection implements JdbcConnection {
         return getActiveMySQLConnection().isServerLocal();
     }
 
+    @Override
+    public List<PipelinedResult> executePipelined(List<String> sqls) throws SQLException {
+        return getActiveMySQLConnection().executePipelined(sqls);
+    }
+
+    @Override
+    public BulkLoadResult bulkLoad(String tableName, List<String> columnNames, Iterator<Object[]> rows) throws SQLException {
+        return getActiveMySQLConnection().bulkLoad(tableName, columnNames, rows);
+    }
+
+    @Override
+    public BulkLoadResult bulkLoadColumns(String tableName, List<String> columnNames, Object... columnVectors) throws SQLException {
+        return getActiveMySQLConnection().bulkLoadColumns(tableName, columnNames, columnVectors);
+    }
+
+    @Override
+    public void setAsyncExecutor(Executor executor) throws SQLException {
+        getActiveMySQLConnection().setAsyncExecutor(executor);
+    }
+
     @Override
     public void setSchema(String schema) throws SQLException {
         getActiveMySQLConnection().setSchema(schema);
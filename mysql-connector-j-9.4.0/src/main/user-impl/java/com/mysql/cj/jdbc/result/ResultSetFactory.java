@@ -128,6 +128,10 @@ public class ResultSetFactory implements ProtocolEntityFactory<ResultSetImpl, Na
         rs.setResultSetType(resultSetType);
         rs.setResultSetConcurrency(resultSetConcurrency);
 
+        if (st != null && st.isThreadConfinedResultSets() && resultSetConcurrency == java.sql.ResultSet.CONCUR_READ_ONLY && !rows.isDynamic()) {
+            rs.setThreadConfined();
+        }
+
         if (st != null) {
             rs.setFetchSize(st.getFetchSize());
         }
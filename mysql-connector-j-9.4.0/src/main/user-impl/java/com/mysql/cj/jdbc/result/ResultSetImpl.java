@@ -20,6 +20,7 @@
 
 package com.mysql.cj.jdbc.result;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
@@ -28,6 +29,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.WritableByteChannel;
 import java.sql.Array;
 import java.sql.Date;
 import java.sql.NClob;
@@ -49,10 +51,18 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZonedDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 
 import com.mysql.cj.Messages;
@@ -74,6 +84,7 @@ import com.mysql.cj.jdbc.Clob;
 import com.mysql.cj.jdbc.CloseOption;
 import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcResultSet;
 import com.mysql.cj.jdbc.JdbcStatement;
 import com.mysql.cj.jdbc.MysqlSQLXML;
 import com.mysql.cj.jdbc.StatementImpl;
@@ -86,10 +97,15 @@ import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.result.NativeResultset;
 import com.mysql.cj.protocol.a.result.OkPacket;
+import com.mysql.cj.protocol.a.result.ResultsetRowsCursor;
+import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
+import com.mysql.cj.result.ArrowStreamWriter;
 import com.mysql.cj.result.BigDecimalValueFactory;
 import com.mysql.cj.result.BinaryStreamValueFactory;
 import com.mysql.cj.result.BooleanValueFactory;
 import com.mysql.cj.result.ByteValueFactory;
+import com.mysql.cj.result.ColumnBatch;
+import com.mysql.cj.result.ColumnBatchReader;
 import com.mysql.cj.result.DoubleValueFactory;
 import com.mysql.cj.result.DurationValueFactory;
 import com.mysql.cj.result.Field;
@@ -101,6 +117,9 @@ import com.mysql.cj.result.LocalTimeValueFactory;
 import com.mysql.cj.result.LongValueFactory;
 import com.mysql.cj.result.OffsetDateTimeValueFactory;
 import com.mysql.cj.result.OffsetTimeValueFactory;
+import com.mysql.cj.result.PrimitiveValueFactory;
+import com.mysql.cj.result.PrimitiveValueFactory.Source;
+import com.mysql.cj.result.Row;
 import com.mysql.cj.result.ShortValueFactory;
 import com.mysql.cj.result.SqlDateValueFactory;
 import com.mysql.cj.result.SqlTimeValueFactory;
@@ -113,11 +132,32 @@ import com.mysql.cj.result.ZonedDateTimeValueFactory;
 import com.mysql.cj.util.LogUtils;
 import com.mysql.cj.util.StringUtils;
 
-public class ResultSetImpl extends NativeResultset implements ResultSetInternalMethods, WarningListener {
+public class ResultSetImpl extends NativeResultset implements ResultSetInternalMethods, JdbcResultSet, WarningListener {
 
     /** Counter used to generate IDs for profiling. */
     static int resultCounter = 1;
 
+    /** Minimum number of rows mapped by each task of {@link #mapRows(RowMapper, ForkJoinPool)}. */
+    private static final int MIN_ROWS_PER_TASK = 1024;
+
+    /** Number of tasks per pool thread created by {@link #mapRows(RowMapper, ForkJoinPool)}, to balance the load between threads. */
+    private static final int TASKS_PER_THREAD = 4;
+
+    /**
+     * An {@link AccessLock} that doesn't lock, used by thread-confined result sets.
+     */
+    private static final AccessLock ELIDED_ACCESS_LOCK = new AccessLock() {
+
+        @Override
+        public void lock() {
+        }
+
+        @Override
+        public void unlock() {
+        }
+
+    };
+
     /** The database that was in use when we were created */
     protected String db = null;
 
@@ -192,6 +232,16 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
     private ValueFactory<Long> longValueFactory;
     private ValueFactory<Float> floatValueFactory;
     private ValueFactory<Double> doubleValueFactory;
+    private PrimitiveValueFactory primitiveValueFactory;
+    private ValueFactory<String> stringValueFactory;
+    private ColumnBatchReader columnBatchReader;
+
+    /** Is this result set confined to a single thread? */
+    private boolean threadConfined = false;
+    /** The thread this result set is confined to, once accessed */
+    private final AtomicReference<Thread> ownerThread = new AtomicReference<>();
+    /** The connection lock, as used by {@link #getAccessLock()} */
+    private AccessLock connectionAccessLock = null;
     private ValueFactory<BigDecimal> bigDecimalValueFactory;
     private ValueFactory<InputStream> binaryStreamValueFactory;
     private ValueFactory<UUID> uuidValueFactory;
@@ -275,6 +325,8 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         this.longValueFactory = new LongValueFactory(pset);
         this.floatValueFactory = new FloatValueFactory(pset);
         this.doubleValueFactory = new DoubleValueFactory(pset);
+        this.primitiveValueFactory = new PrimitiveValueFactory();
+        this.stringValueFactory = new StringValueFactory(pset);
         this.bigDecimalValueFactory = new BigDecimalValueFactory(pset);
         this.binaryStreamValueFactory = new BinaryStreamValueFactory(pset);
         this.uuidValueFactory = new UuidValueFactory(pset);
@@ -371,7 +423,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean absolute(int row) throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -424,7 +476,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public void afterLast() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -449,7 +501,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public void beforeFirst() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -498,6 +550,54 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         return c;
     }
 
+    /**
+     * Confines this result set to the first thread that accesses it. From then on, row navigation and value retrieval don't acquire the connection lock, and
+     * fail if attempted from any other thread.
+     */
+    public void setThreadConfined() {
+        this.threadConfined = true;
+    }
+
+    /**
+     * Returns the lock that guards row navigation and value retrieval, which is the connection lock unless this result set is confined to the current thread.
+     *
+     * @return an {@link AccessLock}
+     * @throws SQLException
+     *             if the result set is closed or is confined to another thread
+     */
+    private AccessLock getAccessLock() throws SQLException {
+        JdbcConnection c = checkClosed();
+        if (!this.threadConfined) {
+            if (this.connectionAccessLock == null) {
+                Lock connectionLock = c.getConnectionLock();
+                this.connectionAccessLock = new AccessLock() {
+
+                    @Override
+                    public void lock() {
+                        connectionLock.lock();
+                    }
+
+                    @Override
+                    public void unlock() {
+                        connectionLock.unlock();
+                    }
+
+                };
+            }
+            return this.connectionAccessLock;
+        }
+
+        Thread currentThread = Thread.currentThread();
+        Thread owner = this.ownerThread.get();
+        if (owner != currentThread && (owner != null || !this.ownerThread.compareAndSet(null, currentThread))) {
+            // Claimed by another thread, possibly just now.
+            owner = this.ownerThread.get();
+            throw SQLError.createSQLException(Messages.getString("ResultSet.ThreadConfined", new Object[] { owner.getName(), currentThread.getName() }),
+                    MysqlErrorNumbers.SQLSTATE_CONNJ_GENERAL_ERROR, getExceptionInterceptor());
+        }
+        return ELIDED_ACCESS_LOCK;
+    }
+
     /**
      * Checks if columnIndex is within the number of columns in this result set.
      *
@@ -508,7 +608,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      *             if the index is out of bounds
      */
     protected final void checkColumnBounds(int columnIndex) throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (columnIndex < 1) {
@@ -568,7 +668,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public void clearWarnings() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             this.warningChain = null;
@@ -595,9 +695,13 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int findColumn(String columnName) throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
+            if (!this.columnDefinition.hasBuiltIndexMapping() && this.owningStatement != null) {
+                this.columnDefinition.setColumnLabelIndex(this.owningStatement.getColumnLabelIndex(this.columnDefinition.getFields()));
+            }
+
             int index = this.columnDefinition.findColumn(columnName, this.useColumnNamesInFindColumn, 1);
 
             if (index == -1) {
@@ -614,7 +718,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean first() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -730,8 +834,27 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean getBoolean(int columnIndex) throws SQLException {
-        Boolean res = getObject(columnIndex, Boolean.TYPE);
-        return res == null ? false : res;
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            Source source = getPrimitiveValue(columnIndex);
+            if (source == null) {
+                return false;
+            }
+            // Goes back to ODBC driver compatibility, and VB/Automation Languages/COM, where in Windows "-1" can mean true as well.
+            if (source == Source.LONG) {
+                long l = this.primitiveValueFactory.getLong();
+                return l == -1 || l > 0;
+            } else if (source == Source.DOUBLE) {
+                double d = this.primitiveValueFactory.getDouble();
+                return d > 0 || d == -1.0d;
+            }
+            // Out of range or not a number, let the regular value factory deal with it.
+            Boolean res = getObject(columnIndex, Boolean.TYPE);
+            return res == null ? false : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -741,8 +864,30 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public byte getByte(int columnIndex) throws SQLException {
-        Byte res = getObject(columnIndex, Byte.TYPE);
-        return res == null ? (byte) 0 : res;
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            Source source = getPrimitiveValue(columnIndex);
+            if (source == null) {
+                return (byte) 0;
+            }
+            if (source == Source.LONG) {
+                long l = this.primitiveValueFactory.getLong();
+                if (l >= Byte.MIN_VALUE && l <= Byte.MAX_VALUE) {
+                    return (byte) l;
+                }
+            } else if (source == Source.DOUBLE) {
+                double d = this.primitiveValueFactory.getDouble();
+                if (d >= Byte.MIN_VALUE && d <= Byte.MAX_VALUE) {
+                    return (byte) d;
+                }
+            }
+            // Out of range or not a number, let the regular value factory deal with it.
+            Byte res = getObject(columnIndex, Byte.TYPE);
+            return res == null ? (byte) 0 : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -831,8 +976,27 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public double getDouble(int columnIndex) throws SQLException {
-        Double res = getObject(columnIndex, Double.TYPE);
-        return res == null ? (double) 0 : res;
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            Source source = getPrimitiveValue(columnIndex);
+            if (source == null) {
+                return (double) 0;
+            }
+            if (source == Source.LONG) {
+                return this.primitiveValueFactory.getLong();
+            } else if (source == Source.DOUBLE) {
+                double d = this.primitiveValueFactory.getDouble();
+                if (d >= -Double.MAX_VALUE && d <= Double.MAX_VALUE) {
+                    return d;
+                }
+            }
+            // Out of range or not a number, let the regular value factory deal with it.
+            Double res = getObject(columnIndex, Double.TYPE);
+            return res == null ? (double) 0 : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -842,8 +1006,27 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public float getFloat(int columnIndex) throws SQLException {
-        Float res = getObject(columnIndex, Float.TYPE);
-        return res == null ? (float) 0 : res;
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            Source source = getPrimitiveValue(columnIndex);
+            if (source == null) {
+                return (float) 0;
+            }
+            if (source == Source.LONG) {
+                return this.primitiveValueFactory.getLong();
+            } else if (source == Source.DOUBLE) {
+                double d = this.primitiveValueFactory.getDouble();
+                if (d >= -Float.MAX_VALUE && d <= Float.MAX_VALUE) {
+                    return (float) d;
+                }
+            }
+            // Out of range or not a number, let the regular value factory deal with it.
+            Float res = getObject(columnIndex, Float.TYPE);
+            return res == null ? (float) 0 : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -853,8 +1036,30 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int getInt(int columnIndex) throws SQLException {
-        Integer res = getObject(columnIndex, Integer.TYPE);
-        return res == null ? 0 : res;
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            Source source = getPrimitiveValue(columnIndex);
+            if (source == null) {
+                return 0;
+            }
+            if (source == Source.LONG) {
+                long l = this.primitiveValueFactory.getLong();
+                if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) {
+                    return (int) l;
+                }
+            } else if (source == Source.DOUBLE) {
+                double d = this.primitiveValueFactory.getDouble();
+                if (d >= Integer.MIN_VALUE && d <= Integer.MAX_VALUE) {
+                    return (int) d;
+                }
+            }
+            // Out of range or not a number, let the regular value factory deal with it.
+            Integer res = getObject(columnIndex, Integer.TYPE);
+            return res == null ? 0 : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -872,6 +1077,145 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         }
     }
 
+    @Override
+    public ColumnBatch createColumnBatch(int capacity) throws SQLException {
+        checkClosed();
+        if (capacity < 1) {
+            throw SQLError.createSQLException(Messages.getString("ResultSet.ColumnBatchCapacity", new Object[] { capacity }),
+                    MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, getExceptionInterceptor());
+        }
+        return new ColumnBatch(this.columnDefinition.getFields(), capacity);
+    }
+
+    @Override
+    public int nextColumnBatch(ColumnBatch batch) throws SQLException {
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            if (!batch.accepts(this.columnDefinition.getFields())) {
+                throw SQLError.createSQLException(Messages.getString("ResultSet.ColumnBatchMismatch"), MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT,
+                        getExceptionInterceptor());
+            }
+            if (this.columnBatchReader == null) {
+                this.columnBatchReader = new ColumnBatchReader(this.session.getPropertySet());
+            }
+
+            batch.clear();
+            try {
+                while (!batch.isFull() && next()) {
+                    this.columnBatchReader.readRow(this.thisRow, batch);
+                }
+            } catch (CJException e) {
+                throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+            }
+            return batch.size();
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public long exportArrowStream(WritableByteChannel channel, int batchRows) throws SQLException {
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            ColumnBatch batch = createColumnBatch(batchRows);
+            ArrowStreamWriter writer = new ArrowStreamWriter(channel, this.columnDefinition.getFields());
+            try {
+                while (nextColumnBatch(batch) > 0) {
+                    writer.writeBatch(batch);
+                }
+                writer.end();
+            } catch (IOException ioEx) {
+                SQLException sqlEx = SQLError.createSQLException(Messages.getString("ResultSet.ArrowExportFailed"),
+                        MysqlErrorNumbers.SQLSTATE_CONNJ_GENERAL_ERROR, getExceptionInterceptor());
+                sqlEx.initCause(ioEx);
+                throw sqlEx;
+            }
+            return writer.getRowsWritten();
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    @Override
+    public <T> List<T> mapRows(RowMapper<T> mapper, ForkJoinPool pool) throws SQLException {
+        ForkJoinPool fjPool = pool == null ? ForkJoinPool.commonPool() : pool;
+        ResultSetImpl[] chunks;
+        int[] chunkOffsets;
+        Object[] results;
+
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            if (!hasRows()) {
+                throw SQLError.createSQLException(Messages.getString("ResultSet.ResultSet_is_from_UPDATE._No_Data_115"),
+                        MysqlErrorNumbers.SQLSTATE_CONNJ_GENERAL_ERROR, getExceptionInterceptor());
+            }
+
+            int firstRow = this.rowData.isDynamic() ? 0 : this.rowData.getPosition() + 1;
+            int rowCount = this.rowData.isDynamic() ? 0 : this.rowData.size() - firstRow;
+            if (rowCount < 2 * MIN_ROWS_PER_TASK || fjPool.getParallelism() < 2) {
+                // Not worth splitting, or rows not in memory yet.
+                List<T> mapped = new ArrayList<>();
+                while (next()) {
+                    mapped.add(mapper.mapRow(this, mapped.size()));
+                }
+                return mapped;
+            }
+
+            // A view rather than a copy, so that rows spilled to disk are read back by the tasks only as they map them.
+            ResultsetRows allRows = this.rowData;
+            List<Row> rows = new AbstractList<Row>() {
+
+                @Override
+                public Row get(int index) {
+                    return allRows.get(firstRow + index);
+                }
+
+                @Override
+                public int size() {
+                    return rowCount;
+                }
+
+            };
+
+            // Result sets are created here rather than in the tasks, as their construction acquires the connection lock, which this thread may hold.
+            int chunkCount = Math.min(rowCount / MIN_ROWS_PER_TASK, fjPool.getParallelism() * TASKS_PER_THREAD);
+            chunks = new ResultSetImpl[chunkCount];
+            chunkOffsets = new int[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                int from = (int) ((long) rowCount * i / chunkCount);
+                int to = (int) ((long) rowCount * (i + 1) / chunkCount);
+                chunks[i] = new ResultSetImpl(new ResultsetRowsStatic(rows.subList(from, to), this.columnDefinition), this.connection, this.owningStatement);
+                chunks[i].setThreadConfined();
+                chunkOffsets[i] = from;
+            }
+            results = new Object[rowCount];
+
+            this.rowData.afterLast();
+            this.thisRow = null;
+            setRowPositionValidity();
+        } finally {
+            connectionLock.unlock();
+        }
+
+        try {
+            fjPool.invoke(new RowMappingTask<>(mapper, chunks, chunkOffsets, 0, chunks.length, results));
+        } catch (CompletionException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof SQLException) {
+                    throw (SQLException) cause;
+                }
+            }
+            throw e;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<T> mapped = (List<T>) Arrays.asList(results);
+        return new ArrayList<>(mapped);
+    }
+
     @Override
     public int getInt(String columnName) throws SQLException {
         return getInt(findColumn(columnName));
@@ -879,8 +1223,27 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public long getLong(int columnIndex) throws SQLException {
-        Long res = getObject(columnIndex, Long.TYPE);
-        return res == null ? 0L : res;
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            Source source = getPrimitiveValue(columnIndex);
+            if (source == null) {
+                return 0L;
+            }
+            if (source == Source.LONG) {
+                return this.primitiveValueFactory.getLong();
+            } else if (source == Source.DOUBLE) {
+                double d = this.primitiveValueFactory.getDouble();
+                if (d >= Long.MIN_VALUE && d <= Long.MAX_VALUE) {
+                    return (long) d;
+                }
+            }
+            // Out of range or not a number, let the regular value factory deal with it.
+            Long res = getObject(columnIndex, Long.TYPE);
+            return res == null ? 0L : res;
+        } finally {
+            connectionLock.unlock();
+        }
     }
 
     @Override
@@ -890,8 +1253,45 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public short getShort(int columnIndex) throws SQLException {
-        Short res = getObject(columnIndex, Short.TYPE);
-        return res == null ? (short) 0 : res;
+        AccessLock connectionLock = getAccessLock();
+        connectionLock.lock();
+        try {
+            Source source = getPrimitiveValue(columnIndex);
+            if (source == null) {
+                return (short) 0;
+            }
+            if (source == Source.LONG) {
+                long l = this.primitiveValueFactory.getLong();
+                if (l >= Short.MIN_VALUE && l <= Short.MAX_VALUE) {
+                    return (short) l;
+                }
+            } else if (source == Source.DOUBLE) {
+                double d = this.primitiveValueFactory.getDouble();
+                if (d >= Short.MIN_VALUE && d <= Short.MAX_VALUE) {
+                    return (short) d;
+                }
+            }
+            // Out of range or not a number, let the regular value factory deal with it.
+            Short res = getObject(columnIndex, Short.TYPE);
+            return res == null ? (short) 0 : res;
+        } finally {
+            connectionLock.unlock();
+        }
+    }
+
+    /**
+     * Decodes the value of the given column of the current row without boxing it, if it's a number.
+     *
+     * @param columnIndex
+     *            the first column is 1, the second is 2, ...
+     * @return the intermediate form of the value, which is held by {@link #primitiveValueFactory} if numeric, or null if the value is NULL
+     * @throws SQLException
+     *             if the column index is out of bounds or the result set isn't on a valid row
+     */
+    private Source getPrimitiveValue(int columnIndex) throws SQLException {
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+        return this.thisRow.getValue(columnIndex - 1, this.primitiveValueFactory);
     }
 
     @Override
@@ -905,8 +1305,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         checkColumnBounds(columnIndex);
 
         Field f = this.columnDefinition.getFields()[columnIndex - 1];
-        ValueFactory<String> vf = new StringValueFactory(this.session.getPropertySet());
-        String stringVal = this.thisRow.getValue(columnIndex - 1, vf);
+        String stringVal = this.thisRow.getValue(columnIndex - 1, this.stringValueFactory);
 
         if (this.padCharsWithSpace && stringVal != null && f.getMysqlTypeId() == MysqlType.FIELD_TYPE_STRING) {
             int maxBytesPerChar = this.session.getServerSession().getCharsetSettings().getMaxBytesPerChar(f.getCollationIndex(), f.getEncoding());
@@ -1277,7 +1676,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
             throw SQLError.createSQLException("Type parameter can not be null", MysqlErrorNumbers.SQLSTATE_CONNJ_ILLEGAL_ARGUMENT, getExceptionInterceptor());
         }
 
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (type.equals(String.class)) {
@@ -1694,7 +2093,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean isAfterLast() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -1709,7 +2108,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean isBeforeFirst() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -1725,7 +2124,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean isFirst() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -1741,7 +2140,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean isLast() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -1768,7 +2167,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean last() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -1809,7 +2208,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean next() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -1856,7 +2255,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
      *                if a database access error occurs
      */
     public boolean prev() throws java.sql.SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
 
@@ -1890,7 +2289,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean previous() throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -2025,7 +2424,7 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean relative(int rows) throws SQLException {
-        Lock connectionLock = checkClosed().getConnectionLock();
+        AccessLock connectionLock = getAccessLock();
         connectionLock.lock();
         try {
             if (!hasRows()) {
@@ -2715,6 +3114,11 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         return getSQLXML(findColumn(columnLabel));
     }
 
+    @Override
+    public CursorFetchStatistics getCursorFetchStatistics() {
+        return this.rowData instanceof ResultsetRowsCursor ? ((ResultsetRowsCursor) this.rowData).getFetchSizeController() : null;
+    }
+
     @Override
     public boolean isWrapperFor(Class<?> iface) throws SQLException {
         checkClosed();
@@ -2822,4 +3226,65 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
         return this.connection != null ? this.connection.getConnectionLock() : null;
     }
 
+    /**
+     * Maps the rows of a range of chunks, splitting the range in two until it holds a single chunk. Each chunk is a result set confined to the thread mapping
+     * it, and its rows are stored in the results array starting at the offset of the chunk.
+     *
+     * @param <T>
+     *            type of the mapped objects
+     */
+    private static final class RowMappingTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 6325447268405297413L;
+
+        private final transient RowMapper<T> mapper;
+        private final transient ResultSetImpl[] chunks;
+        private final int[] chunkOffsets;
+        private final int from;
+        private final int to;
+        private final Object[] results;
+
+        RowMappingTask(RowMapper<T> mapper, ResultSetImpl[] chunks, int[] chunkOffsets, int from, int to, Object[] results) {
+            this.mapper = mapper;
+            this.chunks = chunks;
+            this.chunkOffsets = chunkOffsets;
+            this.from = from;
+            this.to = to;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > 1) {
+                int middle = this.from + this.to >>> 1;
+                invokeAll(new RowMappingTask<>(this.mapper, this.chunks, this.chunkOffsets, this.from, middle, this.results),
+                        new RowMappingTask<>(this.mapper, this.chunks, this.chunkOffsets, middle, this.to, this.results));
+                return;
+            }
+
+            ResultSetImpl chunk = this.chunks[this.from];
+            int index = this.chunkOffsets[this.from];
+            try {
+                while (chunk.next()) {
+                    this.results[index] = this.mapper.mapRow(chunk, index);
+                    index++;
+                }
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        }
+
+    }
+
+    /**
+     * The subset of {@link Lock} used to guard row navigation and value retrieval, so that thread-confined result sets can skip locking altogether.
+     */
+    private interface AccessLock {
+
+        void lock();
+
+        void unlock();
+
+    }
+
 }
@@ -52,7 +52,7 @@ public class DbDocValueFactory extends DefaultValueFactory<DbDoc> {
     @Override
     public DbDoc createFromBytes(byte[] bytes, int offset, int length, Field f) {
         try {
-            return JsonParser.parseDoc(new StringReader(StringUtils.toString(bytes, offset, length, f.getEncoding())));
+            return JsonParser.parseDoc(new StringReader(StringUtils.toString(bytes, offset, length, f.getCharset())));
         } catch (IOException ex) {
             throw AssertionFailedException.shouldNotHappen(ex);
         }
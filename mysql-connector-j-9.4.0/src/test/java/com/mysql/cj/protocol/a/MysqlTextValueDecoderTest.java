@@ -22,18 +22,27 @@ package com.mysql.cj.protocol.a;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.Constants;
 import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyDefinitions.ZeroDatetimeBehavior;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.DataReadException;
 import com.mysql.cj.exceptions.NumberOutOfRange;
 import com.mysql.cj.protocol.InternalTime;
 import com.mysql.cj.protocol.InternalTimestamp;
 import com.mysql.cj.result.DefaultValueFactory;
 import com.mysql.cj.result.Field;
+import com.mysql.cj.result.LocalDateTimeValueFactory;
+import com.mysql.cj.result.LocalDateValueFactory;
 import com.mysql.cj.result.StringValueFactory;
 import com.mysql.cj.result.ValueFactory;
 
@@ -143,6 +152,11 @@ public class MysqlTextValueDecoderTest {
         assertFalse(MysqlTextValueDecoder.isTime("10:00:00.Z"));
         assertFalse(MysqlTextValueDecoder.isTime("10:00:00.12345Z"));
         assertFalse(MysqlTextValueDecoder.isTime("10:00:00.12345+01:00"));
+        assertFalse(MysqlTextValueDecoder.isTime(""));
+        assertFalse(MysqlTextValueDecoder.isTime("-"));
+        assertFalse(MysqlTextValueDecoder.isTime("10:00"));
+        assertFalse(MysqlTextValueDecoder.isTime("10:00:00."));
+        assertFalse(MysqlTextValueDecoder.isTime("10:00:00.1234567890"));
     }
 
     @Test
@@ -185,6 +199,36 @@ public class MysqlTextValueDecoderTest {
         assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00:0Z"));
         assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00:00Z"));
         assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00:00+01:00"));
+        assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00"));
+        assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00:00."));
+        assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00:00.1234567890"));
+    }
+
+    @Test
+    public void testDecodeTemporalValues() {
+        DefaultPropertySet pset = new DefaultPropertySet();
+        byte[] datetime = "2016-03-14 14:34:01.956".getBytes();
+        assertEquals(LocalDateTime.of(2016, 3, 14, 14, 34, 1, 956000000),
+                this.valueDecoder.decodeDatetime(datetime, 0, datetime.length, 3, new LocalDateTimeValueFactory(pset)));
+        assertEquals(LocalDateTime.of(2016, 3, 14, 14, 34, 1, 956000000),
+                this.valueDecoder.decodeTimestamp(datetime, 0, datetime.length, 3, new LocalDateTimeValueFactory(pset)));
+        assertEquals(LocalDate.of(2016, 3, 14), this.valueDecoder.decodeDate(datetime, 0, 10, new LocalDateValueFactory(pset)));
+        assertEquals("2016-03-14 14:34:01.956", this.valueDecoder.decodeDatetime(datetime, 0, datetime.length, 3, new StringValueFactory(pset)));
+        assertEquals("2016-03-14", this.valueDecoder.decodeDate(datetime, 0, 10, new StringValueFactory(pset)));
+
+        // zero dates still follow 'zeroDateTimeBehavior'
+        byte[] zero = "0000-00-00 00:00:00".getBytes();
+        assertThrows(DataReadException.class, () -> this.valueDecoder.decodeDate(zero, 0, 10, new LocalDateValueFactory(pset)));
+        pset.<ZeroDatetimeBehavior>getEnumProperty(PropertyKey.zeroDateTimeBehavior).setValue(ZeroDatetimeBehavior.CONVERT_TO_NULL);
+        assertNull(this.valueDecoder.decodeDatetime(zero, 0, zero.length, 0, new LocalDateTimeValueFactory(pset)));
+        assertNull(this.valueDecoder.decodeDate(zero, 0, 10, new LocalDateValueFactory(pset)));
+        pset.<ZeroDatetimeBehavior>getEnumProperty(PropertyKey.zeroDateTimeBehavior).setValue(ZeroDatetimeBehavior.ROUND);
+        assertEquals(LocalDateTime.of(1, 1, 1, 0, 0), this.valueDecoder.decodeDatetime(zero, 0, zero.length, 0, new LocalDateTimeValueFactory(pset)));
+
+        byte[] badLength = "2016-03-14 14:34".getBytes();
+        assertThrows(DataReadException.class, () -> this.valueDecoder.decodeDatetime(badLength, 0, badLength.length, 0, new LocalDateTimeValueFactory(pset)));
+        byte[] noFraction = "14:34:01.".getBytes();
+        assertThrows(NumberFormatException.class, () -> this.valueDecoder.decodeTime(noFraction, 0, noFraction.length, 0, new StringValueFactory(pset)));
     }
 
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ResultsetRow;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.StringValueFactory;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Tests for {@link SpillableRowList}.
+ */
+public class SpillableRowListTest {
+
+    private static final int ROW_COUNT = 1000;
+
+    private ColumnDefinition columnDefinition = new DefaultColumnDefinition(
+            new Field[] { new Field("t", "name", 33, "UTF-8", MysqlType.VARCHAR, 20), new Field("t", "note", 33, "UTF-8", MysqlType.VARCHAR, 20) });
+
+    private SpillableRowList createList(long memoryLimit) {
+        return fill(new SpillableRowList(this.columnDefinition, false, memoryLimit, null));
+    }
+
+    private SpillableRowList fill(SpillableRowList rows) {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            rows.add(new ByteArrayRow(new byte[][] { StringUtils.getBytes("row " + i), i % 3 == 0 ? null : new byte[0] }, null));
+        }
+        return rows;
+    }
+
+    private void assertRow(int expected, ResultsetRow row) {
+        assertArrayEquals(StringUtils.getBytes("row " + expected), row.getBytes(0));
+        if (expected % 3 == 0) {
+            assertNull(row.getBytes(1));
+            assertTrue(row.getNull(1));
+        } else {
+            assertArrayEquals(new byte[0], row.getBytes(1));
+        }
+    }
+
+    /**
+     * Tests that rows beyond the memory limit are stored in the temporary file and read back in any order.
+     */
+    @Test
+    public void testSpill() {
+        SpillableRowList rows = createList(1024);
+        try {
+            assertEquals(ROW_COUNT, rows.size());
+            assertTrue(rows.getSpilledCount() > 0);
+            assertTrue(rows.getSpilledCount() < ROW_COUNT);
+
+            for (int i = ROW_COUNT - 1; i >= 0; i--) {
+                assertRow(i, rows.get(i));
+            }
+            assertEquals("row 999", rows.get(ROW_COUNT - 1).setMetadata(this.columnDefinition).getValue(0, new StringValueFactory(new DefaultPropertySet())));
+            assertThrows(IndexOutOfBoundsException.class, () -> rows.get(ROW_COUNT));
+        } finally {
+            rows.close();
+        }
+    }
+
+    /**
+     * Tests that rows are removed from memory and from the temporary file.
+     */
+    @Test
+    public void testRemove() {
+        SpillableRowList rows = createList(1024);
+        try {
+            int inMemory = ROW_COUNT - rows.getSpilledCount();
+            rows.remove(ROW_COUNT - 2);
+            rows.remove(0);
+            assertEquals(ROW_COUNT - 2, rows.size());
+            assertEquals(inMemory - 1, ROW_COUNT - 2 - rows.getSpilledCount());
+            for (int i = 0; i < rows.size() - 1; i++) {
+                assertRow(i + 1, rows.get(i));
+            }
+            assertRow(ROW_COUNT - 1, rows.get(rows.size() - 1));
+        } finally {
+            rows.close();
+        }
+    }
+
+    /**
+     * Tests that at least one row is kept in memory and that spilled rows can't be read once the list is closed.
+     */
+    @Test
+    public void testClose() {
+        SpillableRowList rows = createList(1);
+        assertEquals(ROW_COUNT - 1, rows.getSpilledCount());
+        rows.close();
+        assertRow(0, rows.get(0));
+        assertThrows(CJException.class, () -> rows.get(1));
+        rows.close();
+    }
+
+    /**
+     * Tests that lists sharing a budget spill once it is used up by any of them and that closing a list gives its share back.
+     */
+    @Test
+    public void testSharedBudget() {
+        RowMemoryBudget budget = new RowMemoryBudget(() -> 1024);
+        SpillableRowList first = fill(new SpillableRowList(this.columnDefinition, false, budget, null));
+        int firstInMemory = ROW_COUNT - first.getSpilledCount();
+        assertTrue(firstInMemory > 1);
+        long firstUsed = budget.getUsed();
+
+        SpillableRowList second = fill(new SpillableRowList(this.columnDefinition, false, budget, null));
+        assertEquals(ROW_COUNT - 1, second.getSpilledCount());
+        assertTrue(budget.getUsed() > firstUsed);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            assertRow(i, second.get(i));
+        }
+
+        first.close();
+        second.close();
+        assertEquals(0, budget.getUsed());
+
+        SpillableRowList third = fill(new SpillableRowList(this.columnDefinition, false, budget, null));
+        assertEquals(firstInMemory, ROW_COUNT - third.getSpilledCount());
+        third.close();
+        assertEquals(0, budget.getUsed());
+    }
+
+    /**
+     * Tests that a list can give its share of the budget back while its rows stay readable.
+     */
+    @Test
+    public void testReleaseMemoryBudget() {
+        RowMemoryBudget budget = new RowMemoryBudget(() -> 1024);
+        SpillableRowList rows = fill(new SpillableRowList(this.columnDefinition, false, budget, null));
+        try {
+            assertTrue(budget.getUsed() > 0);
+            rows.releaseMemoryBudget();
+            assertEquals(0, budget.getUsed());
+            for (int i = 0; i < ROW_COUNT; i++) {
+                assertRow(i, rows.get(i));
+            }
+            rows.remove(0);
+            assertEquals(0, budget.getUsed());
+        } finally {
+            rows.close();
+        }
+        assertEquals(0, budget.getUsed());
+    }
+
+}
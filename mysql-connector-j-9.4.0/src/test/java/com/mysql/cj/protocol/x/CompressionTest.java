@@ -24,15 +24,18 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.zip.DeflaterOutputStream;
 
 import org.junit.jupiter.api.Test;
@@ -374,4 +377,65 @@ public class CompressionTest {
         }
     }
 
+    /**
+     * Tests that the bundled "lz4_message" streams deflate and inflate data consistently, reusing the same codec context for several messages.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void lz4MessageRoundTrip() throws Exception {
+        CompressionAlgorithm lz4 = CompressionAlgorithm.getDefaultInstances().get("lz4_message");
+        assertEquals(CompressionMode.MESSAGE, lz4.getCompressionMode());
+
+        byte[] largeData = new byte[200000];
+        for (int i = 0; i < largeData.length; i++) {
+            largeData[i] = (byte) (i % 251 ^ i / 1000);
+        }
+
+        Lz4Codec codec = new Lz4Codec();
+        for (byte[] data : new byte[][] { new byte[0], data2, data1, uncompressedFrame1, largeData }) {
+            ByteArrayOutputStream compressedOut = new ByteArrayOutputStream();
+            try (OutputStream lz4Out = new Lz4MessageOutputStream(compressedOut, codec)) {
+                lz4Out.write(data);
+            }
+            byte[] compressedData = compressedOut.toByteArray();
+
+            try (InputStream lz4In = new Lz4MessageInputStream(new ByteArrayInputStream(compressedData), codec)) {
+                assertEquals(data.length, lz4In.available());
+                byte[] uncompressedRead = new byte[data.length];
+                int offset = 0;
+                int read;
+                while (offset < data.length && (read = lz4In.read(uncompressedRead, offset, data.length - offset)) > 0) {
+                    offset += read;
+                }
+                assertEquals(-1, lz4In.read());
+                assertArrayEquals(data, uncompressedRead);
+            }
+        }
+    }
+
+    /**
+     * Tests that LZ4 frames declaring their content size are decompressed into a buffer of exactly that size and that frames whose blocks overflow the
+     * declared size are rejected.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void lz4FrameDeclaredContentSize() throws Exception {
+        byte[] data = new byte[150000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 251 ^ i / 1000);
+        }
+
+        Lz4Codec codec = new Lz4Codec();
+        int frameLen = codec.compressFrame(data, 0, data.length);
+        byte[] frame = Arrays.copyOf(codec.getFrameBuffer(), frameLen);
+        assertArrayEquals(data, codec.decompressFrame(frame, 0, frame.length));
+
+        // Declare a smaller content size than the blocks actually hold, fixing the header checksum accordingly.
+        ByteBuffer.wrap(frame, 6, 4).order(ByteOrder.LITTLE_ENDIAN).putInt(data.length - 10);
+        frame[14] = (byte) (Lz4Codec.XxHash32.hash(frame, 4, 10, 0) >>> 8 & 0xFF);
+        assertThrows(IOException.class, () -> codec.decompressFrame(frame, 0, frame.length));
+    }
+
 }
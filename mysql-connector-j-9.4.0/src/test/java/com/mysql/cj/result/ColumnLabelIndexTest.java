@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+
+/**
+ * Tests for {@link ColumnLabelIndex}
+ */
+public class ColumnLabelIndexTest {
+
+    private static Field[] fields(String... labels) {
+        Field[] fields = new Field[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            fields[i] = new Field("t", labels[i], 33, "UTF-8", MysqlType.INT, 11);
+        }
+        return fields;
+    }
+
+    @Test
+    public void testFindColumn() {
+        ColumnLabelIndex index = new ColumnLabelIndex(fields("id", "name", "Name", "ID"));
+
+        assertEquals(0, index.findColumn("id", false));
+        assertEquals(0, index.findColumn("ID", false));
+        assertEquals(1, index.findColumn("name", false));
+        assertEquals(1, index.findColumn("NAME", false));
+        assertEquals(1, index.findColumn("Name", false));
+        assertEquals(1, index.findColumn("t.name", false));
+        assertEquals(0, index.findColumn("T.Id", true));
+        assertEquals(-1, index.findColumn("missing", false));
+        assertEquals(-1, index.findColumn("missing", true));
+
+        // Repeated lookups are served from the memoized results.
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1, index.findColumn("NAME", false));
+            assertEquals(-1, index.findColumn("missing" + i, false));
+        }
+    }
+
+    @Test
+    public void testMatches() {
+        ColumnLabelIndex index = new ColumnLabelIndex(fields("id", "name"));
+
+        assertTrue(index.matches(fields("id", "name")));
+        assertFalse(index.matches(fields("id", "NAME")));
+        assertFalse(index.matches(fields("name", "id")));
+        assertFalse(index.matches(fields("id")));
+        assertFalse(index.matches(fields("id", "name", "value")));
+        assertFalse(index.matches(null));
+    }
+
+    @Test
+    public void testMaps() {
+        ColumnLabelIndex index = new ColumnLabelIndex(fields("a", "b", "A"));
+
+        assertEquals(2, index.getColumnLabelToIndex().size());
+        assertEquals(Integer.valueOf(0), index.getColumnLabelToIndex().get("A"));
+        assertEquals(Integer.valueOf(1), index.getFullColumnNameToIndex().get("T.B"));
+    }
+
+}
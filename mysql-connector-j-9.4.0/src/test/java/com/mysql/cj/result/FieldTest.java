@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+
+/**
+ * Tests for {@link Field}.
+ */
+public class FieldTest {
+
+    private static byte[] definition(String... names) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0xff); // padding, so that the names don't start at the beginning of the buffer
+        for (String name : names) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length < 0xfb) {
+                out.write(bytes.length);
+            } else {
+                out.write(0xfc);
+                out.write(bytes.length & 0xff);
+                out.write(bytes.length >> 8);
+            }
+            out.write(bytes, 0, bytes.length);
+        }
+        return out.toByteArray();
+    }
+
+    private static Field createField(byte[] definition) {
+        return new Field(definition, 1, "UTF-8", 11, MysqlType.FIELD_TYPE_LONG, (short) 0, 0, 63, "US-ASCII", MysqlType.INT);
+    }
+
+    /**
+     * Tests that the names of a field created from a column definition are decoded on first use.
+     */
+    @Test
+    public void testNamesFromDefinition() {
+        Field field = createField(definition("db", "t", "orig_t", "cé", "orig_c"));
+        assertEquals("db", field.getDatabaseName());
+        assertEquals("t", field.getTableName());
+        assertEquals("orig_t", field.getOriginalTableName());
+        assertEquals("cé", field.getName());
+        assertEquals("cé", field.getColumnLabel());
+        assertEquals("orig_c", field.getOriginalName());
+        assertEquals("t.cé", field.getFullName());
+        assertFalse(field.isFromFunction());
+        assertFalse(field.isReadOnly());
+        assertEquals(MysqlType.INT, field.getMysqlType());
+
+        // Empty names are null, as for fields created from LazyString instances.
+        field = createField(definition("", "", "", "1 + 1", ""));
+        assertNull(field.getDatabaseName());
+        assertNull(field.getTableName());
+        assertEquals("1 + 1", field.getName());
+        assertTrue(field.isFromFunction());
+        assertTrue(field.isReadOnly());
+
+        StringBuilder longName = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            longName.append("é");
+        }
+        field = createField(definition("db", "t", "t", longName.toString(), "c"));
+        assertEquals(longName.toString(), field.getName());
+        assertEquals("c", field.getOriginalName());
+    }
+
+    /**
+     * Tests that schema and table names are shared between fields.
+     */
+    @Test
+    public void testSharedNames() {
+        Field field1 = createField(definition("shared_db", "shared_t", "shared_t", "c1", "c1"));
+        Field field2 = createField(definition("shared_db", "shared_t", "shared_t", "c2", "c2"));
+        assertSame(field1.getDatabaseName(), field2.getDatabaseName());
+        assertSame(field1.getTableName(), field2.getTableName());
+        assertSame(field1.getOriginalTableName(), field2.getOriginalTableName());
+        assertEquals("c2", field2.getName());
+    }
+
+    /**
+     * Tests that a copy of a field describes the same column and can be changed independently.
+     */
+    @Test
+    public void testCopy() {
+        byte[] definition = definition("db", "t", "orig_t", "c", "orig_c");
+        Field field = createField(definition);
+        Field copy = new Field(field);
+        assertEquals("t.c", copy.getFullName());
+        assertEquals("orig_c", copy.getOriginalName());
+        assertTrue(copy.isDefinedBy(definition, definition.length));
+        assertEquals(MysqlType.INT, copy.getMysqlType());
+
+        copy.setFlags((short) (copy.getFlags() | MysqlType.FIELD_FLAG_BINARY));
+        copy.setMysqlTypeId(MysqlType.FIELD_TYPE_LONGLONG);
+        assertTrue(copy.isBinary());
+        assertFalse(field.isBinary());
+        assertNotEquals(field.getMysqlTypeId(), copy.getMysqlTypeId());
+
+        // Names already decoded are copied as well.
+        Field copyOfCopy = new Field(copy);
+        assertSame(copy.getTableName(), copyOfCopy.getTableName());
+        assertEquals("c", copyOfCopy.getName());
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.result;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.protocol.InternalDate;
+import com.mysql.cj.protocol.InternalTime;
+import com.mysql.cj.protocol.InternalTimestamp;
+import com.mysql.cj.result.PrimitiveValueFactory.Source;
+
+/**
+ * Tests for {@link PrimitiveValueFactory}
+ */
+public class PrimitiveValueFactoryTest extends CommonAsserts {
+
+    PrimitiveValueFactory vf = new PrimitiveValueFactory();
+
+    @Test
+    public void testCreateFromLong() {
+        assertEquals(Source.LONG, this.vf.createFromLong(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, this.vf.getLong());
+        assertEquals(Source.LONG, this.vf.createFromLong(-1));
+        assertEquals(-1, this.vf.getLong());
+        assertEquals(Source.LONG, this.vf.createFromYear(2025));
+        assertEquals(2025, this.vf.getLong());
+    }
+
+    @Test
+    public void testCreateFromDouble() {
+        assertEquals(Source.DOUBLE, this.vf.createFromDouble(3.14));
+        assertEquals(3.14, this.vf.getDouble());
+        assertEquals(Source.DOUBLE, this.vf.createFromDouble(Double.NEGATIVE_INFINITY));
+        assertEquals(Double.NEGATIVE_INFINITY, this.vf.getDouble());
+    }
+
+    @Test
+    public void testCreateFromOther() {
+        assertEquals(Source.OTHER, this.vf.createFromBigInteger(BigInteger.ONE));
+        assertEquals(Source.OTHER, this.vf.createFromBigDecimal(BigDecimal.ONE));
+        assertEquals(Source.OTHER, this.vf.createFromBit(new byte[] { 1 }, 0, 1));
+        assertEquals(Source.OTHER, this.vf.createFromBytes("1".getBytes(), 0, 1, null));
+        assertEquals(Source.OTHER, this.vf.createFromDate(new InternalDate(2006, 1, 1)));
+        assertEquals(Source.OTHER, this.vf.createFromTime(new InternalTime(12, 0, 0, 0, 0)));
+        assertEquals(Source.OTHER, this.vf.createFromTimestamp(new InternalTimestamp(2006, 1, 1, 12, 0, 0, 0, 0)));
+        assertEquals(Source.OTHER, this.vf.createFromDatetime(new InternalTimestamp(2006, 1, 1, 12, 0, 0, 0, 0)));
+    }
+
+    @Test
+    public void testCreateFromNull() {
+        assertNull(this.vf.createFromNull());
+    }
+
+}
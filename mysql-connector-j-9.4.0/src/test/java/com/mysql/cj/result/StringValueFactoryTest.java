@@ -21,6 +21,10 @@
 package com.mysql.cj.result;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
 
@@ -133,6 +137,30 @@ public class StringValueFactoryTest extends CommonAsserts {
         assertEquals("false", this.vf.createFromBytes("false".getBytes(), 0, 5, f));
     }
 
+    @Test
+    public void testCreateFromBytesInterned() {
+        Field f = new Field("test", "test", 33, "UTF-8", MysqlType.VARCHAR, 10);
+        byte[] row1 = "1,active,\u00e9t\u00e9".getBytes(StandardCharsets.UTF_8);
+        byte[] row2 = "2,active,\u00e9t\u00e9".getBytes(StandardCharsets.UTF_8);
+
+        this.pset.getBooleanProperty(PropertyKey.internStringValues).setValue(false);
+        assertNotSame(this.vf.createFromBytes(row1, 2, 6, f), this.vf.createFromBytes(row2, 2, 6, f));
+
+        this.pset.getBooleanProperty(PropertyKey.internStringValues).setValue(true);
+        String active = this.vf.createFromBytes(row1, 2, 6, f);
+        assertEquals("active", active);
+        assertSame(active, this.vf.createFromBytes(row2, 2, 6, f));
+        String ete = this.vf.createFromBytes(row1, 9, 5, f);
+        assertEquals("\u00e9t\u00e9", ete);
+        assertSame(ete, this.vf.createFromBytes(row2, 9, 5, f));
+        assertEquals("active,", this.vf.createFromBytes(row2, 2, 7, f));
+        assertSame(active, this.vf.createFromBytes(row1, 2, 6, f));
+
+        byte[] longValue = "a value longer than sixteen bytes".getBytes(StandardCharsets.UTF_8);
+        assertNotSame(this.vf.createFromBytes(longValue, 0, longValue.length, f), this.vf.createFromBytes(longValue, 0, longValue.length, f));
+        this.pset.getBooleanProperty(PropertyKey.internStringValues).setValue(false);
+    }
+
     @Test
     public void testCreateFromBit() {
         assertEquals("49", this.vf.createFromBit("1".getBytes(), 0, 1));
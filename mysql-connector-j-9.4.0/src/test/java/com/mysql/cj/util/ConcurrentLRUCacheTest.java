@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConcurrentLRUCache}.
+ */
+public class ConcurrentLRUCacheTest {
+
+    /**
+     * Tests reads, writes and removals.
+     */
+    @Test
+    public void testGetPutRemove() {
+        ConcurrentLRUCache<String, Integer> cache = new ConcurrentLRUCache<>(10);
+        assertNull(cache.put("a", 1));
+        assertNull(cache.put("b", 2));
+        assertEquals(Integer.valueOf(1), cache.put("a", 3));
+        assertEquals(Integer.valueOf(3), cache.get("a"));
+        assertEquals(2, cache.size());
+        assertTrue(cache.keySet().contains("b"));
+
+        assertEquals(Integer.valueOf(3), cache.remove("a"));
+        assertNull(cache.remove("a"));
+        assertNull(cache.get("a"));
+        cache.clear();
+        assertEquals(0, cache.size());
+
+        ConcurrentLRUCache<String, Integer> disabled = new ConcurrentLRUCache<>(0);
+        disabled.put("a", 1);
+        assertNull(disabled.get("a"));
+    }
+
+    /**
+     * Tests that the entries not read recently are evicted first, and that the listener is notified of them.
+     */
+    @Test
+    public void testEviction() {
+        List<String> evicted = new ArrayList<>();
+        ConcurrentLRUCache<String, Integer> cache = new ConcurrentLRUCache<>(3, (k, v) -> evicted.add(k + "=" + v));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.put("d", 4);
+        assertEquals(3, cache.size());
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        assertEquals("[b=2]", evicted.toString());
+
+        // Removed entries aren't evicted nor notified.
+        cache.remove("c");
+        cache.put("e", 5);
+        assertEquals(3, cache.size());
+        assertEquals("[b=2]", evicted.toString());
+
+        // Repeated removals and puts of the same keys don't grow the cache.
+        for (int i = 0; i < 10000; i++) {
+            cache.remove("e");
+            cache.put("e", i);
+        }
+        assertEquals(3, cache.size());
+        assertEquals("[b=2]", evicted.toString());
+        cache.put("f", 6);
+        assertEquals(3, cache.size());
+        assertEquals(2, evicted.size());
+    }
+
+    /**
+     * Tests that a new entry isn't evicted in its own place when all the other entries were read since the last eviction.
+     */
+    @Test
+    public void testEvictionAllEntriesRead() {
+        List<String> evicted = new ArrayList<>();
+        ConcurrentLRUCache<String, Integer> cache = new ConcurrentLRUCache<>(3, (k, v) -> evicted.add(k + "=" + v));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.put("c", 3);
+        cache.get("a");
+        cache.get("b");
+        cache.get("c");
+        cache.put("d", 4);
+        assertEquals(3, cache.size());
+        assertEquals(Integer.valueOf(4), cache.get("d"));
+        assertEquals("[a=1]", evicted.toString());
+
+        // The flags of the other entries were cleared, so the next new entry evicts the oldest of them that wasn't read again.
+        cache.get("b");
+        cache.put("e", 5);
+        assertEquals(Integer.valueOf(5), cache.get("e"));
+        assertNull(cache.get("c"));
+        assertEquals("[a=1, c=3]", evicted.toString());
+    }
+
+    /**
+     * Tests concurrent reads, writes and removals.
+     */
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100000; i++) {
+                        int key = (i * 31 + seed) % 200;
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else if (value != key) {
+                            throw new AssertionError("Wrong value " + value + " for key " + key);
+                        }
+                        if (i % 100 == 0) {
+                            cache.remove(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.size() <= 64);
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SerialExecutor}.
+ */
+public class SerialExecutorTest {
+
+    /**
+     * An executor that runs each task on a new thread unless told to reject them.
+     */
+    private static class RejectingExecutor implements Executor {
+
+        volatile boolean rejecting = false;
+
+        @Override
+        public void execute(Runnable command) {
+            if (this.rejecting) {
+                throw new RejectedExecutionException("rejected");
+            }
+            new Thread(command).start();
+        }
+
+    }
+
+    /**
+     * Tests that tasks run one at a time, in submission order.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testSubmissionOrder() throws Exception {
+        SerialExecutor executor = new SerialExecutor("testSubmissionOrder");
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+        for (int i = 0; i < 100; i++) {
+            int n = i;
+            executor.execute(() -> order.add(n));
+        }
+        executor.execute(done::countDown);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), order.get(i));
+        }
+        executor.shutdown();
+    }
+
+    /**
+     * Tests that a rejection is thrown to the submitter of a task that is submitted to the underlying executor right away.
+     */
+    @Test
+    public void testImmediateRejection() {
+        RejectingExecutor delegate = new RejectingExecutor();
+        delegate.rejecting = true;
+        SerialExecutor executor = new SerialExecutor(delegate);
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+        }));
+    }
+
+    /**
+     * Tests that tasks rejected after being queued are told so, if they can be, and don't stall the tasks submitted after them.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testQueuedTaskRejection() throws Exception {
+        RejectingExecutor delegate = new RejectingExecutor();
+        SerialExecutor executor = new SerialExecutor(delegate);
+
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                // Just finish.
+            }
+        });
+
+        CountDownLatch rejected = new CountDownLatch(2);
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 3; i++) {
+            String name = "task" + i;
+            if (i == 1) {
+                executor.execute(() -> ran.add(name));
+            } else {
+                executor.execute(new SerialExecutor.Task() {
+
+                    @Override
+                    public void run() {
+                        ran.add(name);
+                    }
+
+                    @Override
+                    public void rejected(RejectedExecutionException e) {
+                        rejected.countDown();
+                    }
+
+                });
+            }
+        }
+
+        delegate.rejecting = true;
+        release.countDown();
+        assertTrue(rejected.await(10, TimeUnit.SECONDS));
+
+        delegate.rejecting = false;
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute(done::countDown);
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(ran.isEmpty());
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.util.SqlLexer.TokenType;
+
+import testsuite.BaseTestCase;
+
+public class SqlLexerTest extends BaseTestCase {
+
+    private static List<String> tokens(String sql, boolean noBackslashEscapes) {
+        List<String> tokens = new ArrayList<>();
+        SqlLexer lexer = new SqlLexer(sql, noBackslashEscapes);
+        while (lexer.next() != TokenType.END) {
+            tokens.add(lexer.getTokenType() + ":" + lexer.getToken());
+        }
+        return tokens;
+    }
+
+    /**
+     * Tests words, symbols and quoted text.
+     */
+    @Test
+    public void testWordsSymbolsAndQuotes() {
+        assertEquals(Arrays.asList("WORD:SELECT", "WORD:a_1", "SYMBOL:,", "WORD:$b", "WORD:FROM", "QUOTED_IDENTIFIER:`t`", "QUOTED_IDENTIFIER:`x`",
+                "WORD:WHERE", "WORD:c", "SYMBOL:=", "STRING_LITERAL:'a'", "STRING_LITERAL:'b'", "WORD:AND", "WORD:d", "SYMBOL:<", "SYMBOL:>",
+                "STRING_LITERAL:\"x\"", "SYMBOL:?"), tokens("SELECT a_1, $b FROM `t``x` WHERE c = 'a''b' AND d <> \"x\"?", false));
+        assertEquals(Arrays.asList("WORD:SELECT", "STRING_LITERAL:'unterminated"), tokens("SELECT 'unterminated", false));
+        assertEquals(Arrays.asList(), tokens(" \t\r\n", false));
+    }
+
+    /**
+     * Tests comments, hints and MySQL specific blocks.
+     */
+    @Test
+    public void testCommentsAndMySqlBlocks() {
+        assertEquals(Arrays.asList("COMMENT:/* c */", "WORD:SELECT", "COMMENT:/*+ BKA(t) */", "WORD:1", "COMMENT:-- x\n", "COMMENT:# y\r\n", "COMMENT:--;",
+                "WORD:2", "MYSQL_MARKER:/*!50700", "WORD:STRAIGHT_JOIN", "MYSQL_MARKER:*/", "MYSQL_MARKER:/*!", "WORD:x", "MYSQL_MARKER:*/"),
+                tokens("/* c */SELECT/*+ BKA(t) */ 1 -- x\n# y\r\n--;2 /*!50700 STRAIGHT_JOIN */ /*!x*/", false));
+
+        // Not comments nor block markers.
+        assertEquals(Arrays.asList("WORD:1", "SYMBOL:-", "SYMBOL:-", "WORD:x", "SYMBOL:*", "SYMBOL:/", "WORD:2"), tokens("1--x*/2", false));
+
+        // Unterminated comment.
+        assertEquals(Arrays.asList("WORD:SELECT", "COMMENT:/* 1"), tokens("SELECT /* 1", false));
+    }
+
+    /**
+     * Tests backslash escapes with and without NO_BACKSLASH_ESCAPES.
+     */
+    @Test
+    public void testBackslashEscapes() {
+        String sql = "'a\\'b' \\' x \\\\/* c */";
+        assertEquals(Arrays.asList("STRING_LITERAL:'a\\'b'", "SYMBOL:\\", "SYMBOL:'", "WORD:x", "SYMBOL:\\", "SYMBOL:\\", "COMMENT:/* c */"),
+                tokens(sql, false));
+        assertEquals(Arrays.asList("STRING_LITERAL:'a\\'", "WORD:b", "STRING_LITERAL:' \\'", "WORD:x", "SYMBOL:\\", "SYMBOL:\\", "COMMENT:/* c */"),
+                tokens(sql, true));
+
+        // An escaped character doesn't open comments.
+        assertEquals(Arrays.asList("SYMBOL:\\", "SYMBOL:#", "WORD:x"), tokens("\\#x", false));
+        assertEquals(Arrays.asList("SYMBOL:\\", "COMMENT:#x"), tokens("\\#x", true));
+    }
+
+    /**
+     * Tests token positions, matching and the mark/reset operations.
+     */
+    @Test
+    public void testPositionsAndMatching() {
+        SqlLexer lexer = new SqlLexer("INSERT INTO t VALUES(?) ON DUPLICATE KEY UPDATE c = LAST_INSERT_ID(c)", false);
+        assertEquals(TokenType.WORD, lexer.next());
+        assertEquals(0, lexer.getTokenStart());
+        assertEquals(6, lexer.getTokenEnd());
+        assertTrue(lexer.tokenEqualsIgnoreCase("insert"));
+        assertTrue(lexer.tokenStartsWithIgnoreCase("INS"));
+        assertFalse(lexer.tokenEqualsIgnoreCase("INS"));
+        assertTrue(lexer.isCodeToken());
+
+        lexer.mark();
+        lexer.next();
+        lexer.next();
+        assertTrue(lexer.tokenEqualsIgnoreCase("t"));
+        assertEquals(TokenType.WORD, lexer.next());
+        assertEquals(14, lexer.getTokenStart());
+        assertEquals(TokenType.SYMBOL, lexer.next());
+        assertEquals('(', lexer.getTokenChar());
+        assertEquals(20, lexer.getTokenStart());
+        lexer.reset();
+        assertEquals("INSERT", lexer.getToken());
+        assertEquals(TokenType.WORD, lexer.next());
+        assertEquals("INTO", lexer.getToken());
+
+        while (lexer.next() != TokenType.END && !lexer.tokenContainsIgnoreCase("insert_id")) {
+            // Look for the function.
+        }
+        assertEquals("LAST_INSERT_ID", lexer.getToken());
+        assertEquals(TokenType.SYMBOL, lexer.next());
+        assertEquals(TokenType.WORD, lexer.next());
+        assertEquals(TokenType.SYMBOL, lexer.next());
+        assertEquals(TokenType.END, lexer.next());
+        assertEquals(Character.MIN_VALUE, lexer.getTokenChar());
+        assertFalse(lexer.isCodeToken());
+    }
+
+}
@@ -22,9 +22,11 @@ package com.mysql.cj.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -34,6 +36,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import com.mysql.cj.exceptions.WrongArgumentException;
+
 import testsuite.BaseTestCase;
 
 public class StringUtilsTest extends BaseTestCase {
@@ -1419,4 +1423,36 @@ public class StringUtilsTest extends BaseTestCase {
         assertEquals(expected, StringUtils.stripCommentsAndHints(testString, "\"'", "\"'", true));
     }
 
+    /**
+     * Tests StringUtils.toString(byte[], int, int, Charset) ASCII fast path and related methods.
+     */
+    @Test
+    public void testToStringCharset() throws Exception {
+        byte[] ascii = "xx0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII);
+        for (int length = 0; length <= 20; length++) {
+            assertTrue(StringUtils.isAscii(ascii, 2, length));
+            assertEquals(new String(ascii, 2, length, StandardCharsets.US_ASCII), StringUtils.toString(ascii, 2, length, StandardCharsets.UTF_8));
+        }
+
+        String text = "abcdefgh\u00e0\u00e9\u00ee\u00f5\u00fc abcdefgh";
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i < 8, StringUtils.isAscii(utf8, 0, i + 1));
+        }
+        assertFalse(StringUtils.isAscii(utf8, 0, utf8.length));
+        assertEquals(text, StringUtils.toString(utf8, 0, utf8.length, StandardCharsets.UTF_8));
+        byte[] latin1 = text.getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(text, StringUtils.toString(latin1, 0, latin1.length, StandardCharsets.ISO_8859_1));
+        byte[] utf16 = "ab".getBytes(StandardCharsets.UTF_16BE);
+        assertEquals("ab", StringUtils.toString(utf16, 0, utf16.length, StandardCharsets.UTF_16BE));
+
+        assertTrue(StringUtils.isAsciiCompatible(StandardCharsets.UTF_8));
+        assertTrue(StringUtils.isAsciiCompatible(Charset.forName("Cp1252")));
+        assertFalse(StringUtils.isAsciiCompatible(StandardCharsets.UTF_16));
+
+        assertEquals(StandardCharsets.UTF_8, StringUtils.toCharset("UTF-8"));
+        assertNull(StringUtils.toCharset(null));
+        assertThrows(WrongArgumentException.class, "Unsupported character encoding 'NoSuchEncoding'", () -> StringUtils.toCharset("NoSuchEncoding"));
+    }
+
 }
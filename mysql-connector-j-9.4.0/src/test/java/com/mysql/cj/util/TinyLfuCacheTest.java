@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TinyLfuCache}.
+ */
+public class TinyLfuCacheTest {
+
+    /**
+     * Tests reads, writes, removals and statistics.
+     */
+    @Test
+    public void testGetPutRemove() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(10);
+        assertNull(cache.get("a"));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(2), cache.get("b"));
+        cache.put("a", 3);
+        assertEquals(Integer.valueOf(3), cache.get("a"));
+        assertEquals(2, cache.size());
+
+        cache.remove("a");
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.size());
+        cache.clear();
+        assertNull(cache.get("b"));
+        assertEquals(0, cache.size());
+
+        assertEquals(3, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0);
+
+        TinyLfuCache<String, Integer> disabled = new TinyLfuCache<>(0);
+        disabled.put("a", 1);
+        assertNull(disabled.get("a"));
+        assertEquals(0, disabled.size());
+    }
+
+    /**
+     * Tests that the cache never holds more than its maximum size, and grows when asked to.
+     */
+    @Test
+    public void testMaximumSize() {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(100);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(i);
+            cache.put(i, i);
+            assertTrue(cache.size() <= 100);
+        }
+        assertEquals(100, cache.size());
+        assertEquals(900, cache.getEvictionCount());
+
+        cache.ensureMaximumSize(50);
+        assertEquals(100, cache.getMaximumSize());
+        cache.ensureMaximumSize(200);
+        assertEquals(200, cache.getMaximumSize());
+        for (int i = 1000; i < 1100; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(200, cache.size());
+    }
+
+    /**
+     * Tests that frequently read entries survive a scan of keys read once, which an LRU cache of the same size would not.
+     */
+    @Test
+    public void testFrequentEntriesSurviveScan() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100);
+        for (int i = 0; i < 10000; i++) {
+            String hot = "hot" + i % 50;
+            if (cache.get(hot) == null) {
+                cache.put(hot, i);
+            }
+            for (int j = 0; j < 3; j++) {
+                String cold = "cold" + (i * 3 + j);
+                if (cache.get(cold) == null) {
+                    cache.put(cold, i);
+                }
+            }
+        }
+        for (int i = 0; i < 50; i++) {
+            assertNotNull(cache.get("hot" + i), "hot" + i);
+        }
+        assertTrue(cache.getHitCount() > 9000);
+    }
+
+    /**
+     * Tests concurrent reads and writes.
+     */
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        TinyLfuCache<Integer, Integer> cache = new TinyLfuCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 100000; i++) {
+                        int key = (i * 31 + seed) % 200;
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key);
+                        } else if (value != key) {
+                            throw new AssertionError("Wrong value " + value + " for key " + key);
+                        }
+                        if (i % 1000 == 0) {
+                            cache.remove(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.size() <= 64);
+        assertEquals(800000, cache.getHitCount() + cache.getMissCount());
+    }
+
+}
@@ -20,17 +20,66 @@
 
 package testsuite.perf;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.ResultSet;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.IntFunction;
 
 import testsuite.BaseTestCase;
 
 /**
- * Base class for performance test cases. Handles statistics.
+ * Base class for performance test cases. Handles statistics, and provides the warm-up and timing loop shared by micro-benchmarks.
  */
 public abstract class BasePerfTest extends BaseTestCase {
 
+    /**
+     * Number of untimed iterations run by {@link #bestOf(TimedIteration)} before the measured ones, so that the code being measured is compiled.
+     */
+    protected static final int WARMUP_ITERATIONS = 5;
+
+    /**
+     * Number of timed iterations run by {@link #bestOf(TimedIteration)}.
+     */
+    protected static final int MEASURED_ITERATIONS = 10;
+
+    /**
+     * One iteration of a micro-benchmark.
+     */
+    @FunctionalInterface
+    protected interface TimedIteration {
+
+        /**
+         * Runs the iteration.
+         *
+         * @return the time spent in the part of the iteration being measured, in nanoseconds
+         * @throws Exception
+         */
+        long run() throws Exception;
+
+    }
+
+    /**
+     * Reads the values of interest of the current row of a result set.
+     */
+    @FunctionalInterface
+    protected interface RowReader {
+
+        /**
+         * Reads the current row.
+         *
+         * @param rs
+         *            the result set, positioned on a row
+         * @return a value derived from the values read, so that reading them can't be optimized away
+         * @throws Exception
+         */
+        long read(ResultSet rs) throws Exception;
+
+    }
+
     /**
      * Confidence interval lookup table, indexed by degrees of freedom at 95%.
      */
@@ -84,11 +133,12 @@ public abstract class BasePerfTest extends BaseTestCase {
     }
 
     /**
-     * Sub-classes should override this to perform the operation to be measured.
+     * Sub-classes using {@link #doIterations(int)} should override this to perform the operation to be measured.
      *
      * @throws Exception
      */
-    protected abstract void doOneIteration() throws Exception;
+    protected void doOneIteration() throws Exception {
+    }
 
     /**
      * Returns the current confidence level.
@@ -181,6 +231,89 @@ public abstract class BasePerfTest extends BaseTestCase {
         System.out.println(messageBuf.toString());
     }
 
+    /**
+     * Runs {@link #WARMUP_ITERATIONS} untimed iterations and then {@link #MEASURED_ITERATIONS} timed ones, returning the best time of the latter.
+     *
+     * @param iteration
+     *            the iteration to run
+     * @return the best time of the measured iterations, in nanoseconds
+     * @throws Exception
+     */
+    protected long bestOf(TimedIteration iteration) throws Exception {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            long elapsed = iteration.run();
+            if (i >= WARMUP_ITERATIONS) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Times the traversal of the result sets returned by the given query, as in {@link #bestOf(TimedIteration)}. Executing the query isn't timed, so only
+     * the in-memory access costs of buffered result sets are measured.
+     *
+     * @param query
+     *            executes the query and returns its result set, which is closed after being traversed
+     * @param reader
+     *            reads each row
+     * @param expectedRows
+     *            the number of rows each result set must have
+     * @param expectedChecksum
+     *            the sum of the values returned by the reader for all rows, or null to only check that all traversals get the same sum
+     * @return the best traversal time, in nanoseconds
+     * @throws Exception
+     */
+    protected long bestTraversalOf(Callable<ResultSet> query, RowReader reader, int expectedRows, Long expectedChecksum) throws Exception {
+        Long[] reference = { expectedChecksum };
+        return bestOf(() -> {
+            try (ResultSet testRs = query.call()) {
+                long checksum = 0;
+                int rows = 0;
+                long start = System.nanoTime();
+                while (testRs.next()) {
+                    checksum += reader.read(testRs);
+                    rows++;
+                }
+                long elapsed = System.nanoTime() - start;
+                assertEquals(expectedRows, rows);
+                if (reference[0] == null) {
+                    reference[0] = checksum;
+                }
+                assertEquals(reference[0].longValue(), checksum);
+                return elapsed;
+            }
+        });
+    }
+
+    /**
+     * Creates a table and fills it with the given number of rows, doubling them with each INSERT ... SELECT statement. The table must have an 'id' column
+     * that numbers rows from 1.
+     *
+     * @param tableName
+     *            the table name
+     * @param columnsDefinition
+     *            the columns definition, as in {@link #createTable(String, String)}
+     * @param firstRowValues
+     *            the VALUES list of the row with 'id' 1
+     * @param nextRowsSelectList
+     *            given the number of rows already inserted, returns the select list that derives new rows from the existing ones, starting with the 'id'
+     *            shifted by that number
+     * @param numRows
+     *            the number of rows to insert
+     * @throws Exception
+     */
+    protected void createTableWithRows(String tableName, String columnsDefinition, String firstRowValues, IntFunction<String> nextRowsSelectList,
+            int numRows) throws Exception {
+        createTable(tableName, columnsDefinition);
+        this.stmt.executeUpdate("INSERT INTO " + tableName + " VALUES " + firstRowValues);
+        for (int rows = 1; rows < numRows; rows *= 2) {
+            this.stmt.executeUpdate(
+                    "INSERT INTO " + tableName + " SELECT " + nextRowsSelectList.apply(rows) + " FROM " + tableName + " WHERE id + " + rows + " <= " + numRows);
+        }
+    }
+
     private double getConfidenceLookup() {
         if (this.confidenceLevel == 95) {
             return T95[this.numIterations - 1];
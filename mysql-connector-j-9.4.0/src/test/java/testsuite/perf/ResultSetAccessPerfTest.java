@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package testsuite.perf;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.PropertyKey;
+
+/**
+ * Micro-benchmarks for the result set read path, over a buffered result set of integer columns, so that the figures reflect the driver's in-memory access
+ * costs rather than network transfer.
+ */
+public class ResultSetAccessPerfTest extends BasePerfTest {
+
+    private static final int NUM_COLUMNS = 20;
+
+    private static final int NUM_ROWS = 50000;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StringBuilder columns = new StringBuilder("(id INT PRIMARY KEY");
+        StringBuilder values = new StringBuilder();
+        StringBuilder selectList = new StringBuilder();
+        for (int c = 1; c < NUM_COLUMNS; c++) {
+            columns.append(", c").append(c).append(" INT");
+            values.append(", ").append(c);
+            selectList.append(", c").append(c);
+        }
+        createTableWithRows("resultSetAccessPerfTest", columns.append(")").toString(), "(1" + values + ")", rows -> "id + " + rows + selectList, NUM_ROWS);
+    }
+
+    /**
+     * Compares reading all values of a buffered result set with and without thread confinement.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testThreadConfinedRead() throws Exception {
+        long lockedNanos = timeTraversal(false);
+        long confinedNanos = timeTraversal(true);
+
+        System.out.println("\nResult Set Read Path (" + NUM_ROWS + " rows x " + NUM_COLUMNS + " columns)\n");
+        System.out.println("Connection lock:  " + lockedNanos / 1000000.0 + " ms");
+        System.out.println("Thread-confined:  " + confinedNanos / 1000000.0 + " ms");
+        System.out.println("Speedup:          " + (double) lockedNanos / confinedNanos + "x");
+    }
+
+    private long timeTraversal(boolean threadConfined) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.threadConfinedResultSets.getKeyName(), Boolean.toString(threadConfined));
+
+        long expectedSum = (long) NUM_ROWS * (NUM_ROWS + 1) / 2 + (long) NUM_ROWS * (NUM_COLUMNS - 1) * NUM_COLUMNS / 2;
+        try (Connection testConn = getConnectionWithProps(props); Statement testStmt = testConn.createStatement()) {
+            return bestTraversalOf(() -> testStmt.executeQuery("SELECT * FROM resultSetAccessPerfTest"), rs -> {
+                long sum = 0;
+                for (int c = 1; c <= NUM_COLUMNS; c++) {
+                    sum += rs.getInt(c);
+                }
+                return sum;
+            }, NUM_ROWS, expectedSum);
+        }
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package testsuite.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.jdbc.JdbcConnection;
+
+/**
+ * Micro-benchmarks for the client side parsing of statements. Prepared statements cache is disabled and all statements in the corpus are distinct, as it
+ * happens with ORMs that build SQL dynamically, so each one is fully parsed.
+ */
+public class StatementParsingPerfTest extends BasePerfTest {
+
+    private static final int CORPUS_SIZE = 2000;
+
+    private interface StatementParser {
+
+        int parse(JdbcConnection conn, String sql) throws Exception;
+
+    }
+
+    /**
+     * Reports the time to prepare client-side statements and to escape process statements from a corpus of realistic, distinct, SQL statements.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testStatementParsing() throws Exception {
+        List<String> corpus = buildCorpus();
+
+        System.out.println("\nStatement Parsing (" + CORPUS_SIZE + " distinct statements)\n");
+        for (String rewrite : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.cachePrepStmts.getKeyName(), "false");
+            props.setProperty(PropertyKey.rewriteBatchedStatements.getKeyName(), rewrite);
+            try (Connection testConn = getConnectionWithProps(props)) {
+                JdbcConnection conn = (JdbcConnection) testConn;
+                report("  clientPrepareStatement (rewriteBatchedStatements=" + rewrite + "): ", conn, corpus, (c, sql) -> {
+                    try (PreparedStatement ps = c.clientPrepareStatement(sql)) {
+                        return ps.getParameterMetaData().getParameterCount();
+                    }
+                });
+            }
+        }
+        try (Connection testConn = getConnectionWithProps(new Properties())) {
+            report("  nativeSQL:                                           ", (JdbcConnection) testConn, corpus, (c, sql) -> c.nativeSQL(sql).length());
+        }
+    }
+
+    private void report(String label, JdbcConnection conn, List<String> corpus, StatementParser parser) throws Exception {
+        long[] expected = { -1 };
+        long best = bestOf(() -> {
+            long sum = 0;
+            long start = System.nanoTime();
+            for (String sql : corpus) {
+                sum += parser.parse(conn, sql);
+            }
+            long elapsed = System.nanoTime() - start;
+            if (expected[0] == -1) {
+                expected[0] = sum;
+            }
+            assertEquals(expected[0], sum);
+            return elapsed;
+        });
+        System.out.println(label + best / 1000000.0 + " ms (" + best / corpus.size() + " ns/statement)");
+    }
+
+    /**
+     * Builds a corpus of distinct statements in the shapes typically generated by ORMs: selects with joins, IN lists of varying sizes and pagination, inserts
+     * with ON DUPLICATE KEY UPDATE, updates with optimistic locking, JSON literals and comments.
+     *
+     * @return the list of statements
+     */
+    private static List<String> buildCorpus() {
+        List<String> corpus = new ArrayList<>(CORPUS_SIZE);
+        for (int i = 0; corpus.size() < CORPUS_SIZE; i++) {
+            StringBuilder inList = new StringBuilder("?");
+            for (int j = 0; j < i % 20; j++) {
+                inList.append(", ?");
+            }
+            corpus.add("select this_.id as id1_" + i + "_, this_.name as name2_" + i + "_, this_.status as status3_" + i
+                    + "_ from customer this_ inner join orders o1_ on this_.id = o1_.customer_id where this_.id in (" + inList
+                    + ") and o1_.created_at > ? order by this_.name asc limit ? offset ?");
+            corpus.add("INSERT INTO order_item_" + i % 10 + " (order_id, product_id, quantity, unit_price, note) VALUES (?, ?, ?, ?, 'it''s #" + i
+                    + "') ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity)");
+            corpus.add("/* service=orders, request=" + i + " */ UPDATE orders SET status = ?, version = version + 1, payload = '{\"step\": " + i
+                    + ", \"tags\": [\"a\", \"b\"]}' WHERE id = ? AND version = ?");
+            corpus.add("DELETE FROM session_" + i % 10 + " WHERE last_seen < ? -- expired sessions, batch " + i + "\n AND user_id IN (" + inList + ")");
+        }
+        return corpus;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under the terms of the GNU General Public License, version 2.0, as published by
+ * the Free Software Foundation.
+ *
+ * This program is designed to work with certain software that is licensed under separate terms, as designated in a particular file or component or in
+ * included license documentation. The authors of MySQL hereby grant you an additional permission to link the program and your derivative works with the
+ * separately licensed software that they have either included with the program or referenced in the documentation.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is part of MySQL Connector/J, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0, for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA
+ */
+
+package testsuite.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.PropertyKey;
+
+/**
+ * Micro-benchmarks for the decoding of temporal values, with the text and the binary protocols.
+ */
+public class TemporalDecodingPerfTest extends BasePerfTest {
+
+    private static final int NUM_ROWS = 50000;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        createTableWithRows("temporalDecodingPerfTest", "(id INT PRIMARY KEY, d DATE, dt DATETIME(6), t TIME(3))",
+                "(1, '2025-01-01', '2025-01-01 10:20:30.123456', '10:20:30.123')",
+                rows -> "id + " + rows + ", d + INTERVAL id DAY, dt + INTERVAL id SECOND, t", NUM_ROWS);
+    }
+
+    /**
+     * Reports the time to read DATE, DATETIME and TIME columns through the java.time and the java.sql getters.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testTemporalDecoding() throws Exception {
+        System.out.println("\nTemporal Decoding (" + NUM_ROWS + " rows)\n");
+        for (String useSPS : new String[] { "false", "true" }) {
+            System.out.println(Boolean.parseBoolean(useSPS) ? "Binary protocol:" : "Text protocol:");
+            report("  DATE as LocalDate:          ", useSPS, rs -> rs.getObject(2, LocalDate.class).getDayOfMonth());
+            report("  DATETIME as LocalDateTime:  ", useSPS, rs -> rs.getObject(3, LocalDateTime.class).getNano());
+            report("  DATE as java.sql.Date:      ", useSPS, rs -> rs.getDate(2).getTime());
+            report("  DATETIME as Timestamp:      ", useSPS, rs -> rs.getTimestamp(3).getNanos());
+            report("  TIME as java.sql.Time:      ", useSPS, rs -> rs.getTime(4).getTime());
+        }
+    }
+
+    /**
+     * Checks that the values returned by the temporal getters of both protocols match the ones parsed by java.time from the text protocol's strings, which
+     * don't go through the driver's temporal decoding at all.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testTemporalDecodingMatchesBaseline() throws Exception {
+        List<String[]> baseline = new ArrayList<>();
+        this.rs = this.stmt.executeQuery("SELECT d, dt, t FROM temporalDecodingPerfTest ORDER BY id");
+        while (this.rs.next()) {
+            baseline.add(new String[] { this.rs.getString(1), this.rs.getString(2), this.rs.getString(3) });
+        }
+        assertEquals(NUM_ROWS, baseline.size());
+
+        for (String useSPS : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSPS);
+            try (Connection testConn = getConnectionWithProps(props);
+                    PreparedStatement testPstmt = testConn.prepareStatement("SELECT d, dt, t FROM temporalDecodingPerfTest ORDER BY id");
+                    ResultSet testRs = testPstmt.executeQuery()) {
+                for (String[] expected : baseline) {
+                    assertTrue(testRs.next());
+                    LocalDate date = LocalDate.parse(expected[0]);
+                    LocalDateTime dateTime = LocalDateTime.parse(expected[1].replace(' ', 'T'));
+                    assertEquals(date, testRs.getObject(1, LocalDate.class), useSPS);
+                    assertEquals(dateTime, testRs.getObject(2, LocalDateTime.class), useSPS);
+                    assertEquals(LocalTime.parse(expected[2]), testRs.getObject(3, LocalTime.class), useSPS);
+                    assertEquals(Date.valueOf(date), testRs.getDate(1), useSPS);
+                    assertEquals(Timestamp.valueOf(dateTime), testRs.getTimestamp(2), useSPS);
+                }
+            }
+        }
+    }
+
+    private void report(String label, String useSPS, RowReader reader) throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSPS);
+
+        try (Connection testConn = getConnectionWithProps(props);
+                PreparedStatement testPstmt = testConn.prepareStatement("SELECT id, d, dt, t FROM temporalDecodingPerfTest")) {
+            System.out.println(label + bestTraversalOf(testPstmt::executeQuery, reader, NUM_ROWS, null) / 1000000.0 + " ms");
+        }
+    }
+
+}
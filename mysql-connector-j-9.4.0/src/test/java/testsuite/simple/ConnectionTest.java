@@ -24,6 +24,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
@@ -54,15 +57,23 @@ import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLSyntaxErrorException;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 import java.util.Random;
@@ -74,8 +85,10 @@ import org.junit.jupiter.api.Test;
 import com.mysql.cj.CharsetMappingWrapper;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.NativeSession;
+import com.mysql.cj.PerVmQueryInfoCacheFactory;
 import com.mysql.cj.PreparedQuery;
 import com.mysql.cj.Query;
+import com.mysql.cj.QueryInfo;
 import com.mysql.cj.conf.ConnectionUrl;
 import com.mysql.cj.conf.PropertyDefinitions;
 import com.mysql.cj.conf.PropertyDefinitions.DatabaseTerm;
@@ -83,10 +96,12 @@ import com.mysql.cj.conf.PropertyDefinitions.SslMode;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.InvalidConnectionAttributeException;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.BulkLoadResult;
 import com.mysql.cj.jdbc.ClientPreparedStatement;
 import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.MysqlConnectionPoolDataSource;
 import com.mysql.cj.jdbc.NonRegisteringDriver;
+import com.mysql.cj.jdbc.PipelinedResult;
 import com.mysql.cj.jdbc.exceptions.CommunicationsException;
 import com.mysql.cj.protocol.MessageReader;
 import com.mysql.cj.protocol.MessageSender;
@@ -2394,4 +2409,217 @@ public class ConnectionTest extends BaseTestCase {
         con.close();
     }
 
+    /**
+     * Tests pipelined execution of independent statements through {@link JdbcConnection#executePipelined(List)}.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExecutePipelined() throws Exception {
+        createTable("testExecutePipelined", "(id INT PRIMARY KEY, val VARCHAR(20))");
+
+        for (String useCompression : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useCompression.getKeyName(), useCompression);
+            JdbcConnection testConn = (JdbcConnection) getConnectionWithProps(props);
+            this.stmt.executeUpdate("TRUNCATE TABLE testExecutePipelined");
+
+            List<String> sqls = new ArrayList<>();
+            for (int i = 1; i <= 100; i++) {
+                sqls.add("INSERT INTO testExecutePipelined VALUES (" + i + ", 'val" + i + "')");
+            }
+            sqls.add("INSERT INTO testExecutePipelined VALUES (1, 'duplicate')");
+            sqls.add("SELECT COUNT(*), MAX(val) FROM testExecutePipelined");
+            sqls.add("UPDATE testExecutePipelined SET val = 'updated' WHERE id <= 10");
+
+            List<PipelinedResult> results = testConn.executePipelined(sqls);
+            assertEquals(sqls.size(), results.size());
+
+            for (int i = 0; i < 100; i++) {
+                PipelinedResult res = results.get(i);
+                assertEquals(sqls.get(i), res.getSql());
+                assertNull(res.getException());
+                assertFalse(res.isResultSet());
+                assertEquals(1, res.getUpdateCount());
+            }
+
+            PipelinedResult res = results.get(100);
+            assertNotNull(res.getException());
+            assertEquals(MysqlErrorNumbers.ER_DUP_ENTRY, res.getException().getErrorCode());
+            assertEquals(-1, res.getUpdateCount());
+
+            res = results.get(101);
+            assertNull(res.getException());
+            assertTrue(res.isResultSet());
+            this.rs = res.getResultSet();
+            assertTrue(this.rs.next());
+            assertEquals(100, this.rs.getInt(1));
+            assertEquals("val99", this.rs.getString(2));
+            assertFalse(this.rs.next());
+
+            res = results.get(102);
+            assertNull(res.getException());
+            assertEquals(10, res.getUpdateCount());
+
+            // The connection remains in a consistent state.
+            this.rs = testConn.createStatement().executeQuery("SELECT COUNT(*) FROM testExecutePipelined WHERE val = 'updated'");
+            assertTrue(this.rs.next());
+            assertEquals(10, this.rs.getInt(1));
+
+            testConn.close();
+        }
+    }
+
+    /**
+     * Tests loading rows and column vectors through {@link JdbcConnection#bulkLoad(String, List, Iterator)} and
+     * {@link JdbcConnection#bulkLoadColumns(String, List, Object...)}.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testBulkLoad() throws Exception {
+        this.rs = this.stmt.executeQuery("SHOW VARIABLES LIKE 'local_infile'");
+        assumeTrue(this.rs.next() && "ON".equalsIgnoreCase(this.rs.getString(2)), "This test requires the server started with --local-infile=ON");
+        this.rs.close();
+
+        createTable("testBulkLoad", "(id INT PRIMARY KEY, val VARCHAR(50), dt DATETIME(6), amount DOUBLE) CHARACTER SET utf8mb4");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.allowLoadLocalInfile.getKeyName(), "true");
+        JdbcConnection testConn = (JdbcConnection) getConnectionWithProps(props);
+
+        // Rows, including values that need escaping, are pulled from an iterator that is never fully materialized.
+        final int rowCount = 20000;
+        Iterator<Object[]> rows = new Iterator<Object[]>() {
+
+            int next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return this.next <= rowCount;
+            }
+
+            @Override
+            public Object[] next() {
+                int id = this.next++;
+                return new Object[] { id, id == 1 ? "tab\tnew line\nback\\slash \u00e9\u20ac" : id == 2 ? null : "val" + id,
+                        LocalDateTime.of(2020, 1, 1, 0, 0, 0, 123456000).plusSeconds(id), id / 2.0 };
+            }
+
+        };
+        BulkLoadResult result = testConn.bulkLoad("testBulkLoad", Arrays.asList("id", "val", "dt", "amount"), rows);
+        assertEquals(rowCount, result.getRowCount());
+        assertEquals(rowCount, result.getUpdateCount());
+        assertTrue(result.getByteCount() > 0);
+        assertTrue(result.getElapsedNanos() > 0);
+        assertTrue(result.getRowsPerSecond() > 0);
+
+        this.rs = this.stmt.executeQuery("SELECT val, dt, amount FROM testBulkLoad WHERE id IN (1, 2, 3) ORDER BY id");
+        assertTrue(this.rs.next());
+        assertEquals("tab\tnew line\nback\\slash \u00e9\u20ac", this.rs.getString(1));
+        assertTrue(this.rs.next());
+        assertNull(this.rs.getString(1));
+        assertTrue(this.rs.next());
+        assertEquals("val3", this.rs.getString(1));
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0, 3, 123456000), this.rs.getObject(2, LocalDateTime.class));
+        assertEquals(1.5, this.rs.getDouble(3));
+        assertFalse(this.rs.next());
+
+        // Column vectors.
+        this.stmt.executeUpdate("TRUNCATE TABLE testBulkLoad");
+        result = testConn.bulkLoadColumns("testBulkLoad", Arrays.asList("id", "val", "amount"), new int[] { 1, 2, 3 }, new String[] { "a", "b", null },
+                new double[] { 0.5, 1.5, 2.5 });
+        assertEquals(3, result.getRowCount());
+        assertEquals(3, result.getUpdateCount());
+        this.rs = this.stmt.executeQuery("SELECT SUM(id), COUNT(val), SUM(amount) FROM testBulkLoad");
+        assertTrue(this.rs.next());
+        assertEquals(6, this.rs.getInt(1));
+        assertEquals(2, this.rs.getInt(2));
+        assertEquals(4.5, this.rs.getDouble(3));
+
+        assertThrows(SQLException.class, "Column vectors must be arrays of the same length\\.", () -> {
+            testConn.bulkLoadColumns("testBulkLoad", null, new int[] { 1 }, new int[] { 1, 2 });
+            return null;
+        });
+        assertThrows(SQLException.class, "The number of column names \\(1\\) doesn't match the number of column vectors \\(2\\)\\.", () -> {
+            testConn.bulkLoadColumns("testBulkLoad", Arrays.asList("id"), new int[] { 1 }, new int[] { 1 });
+            return null;
+        });
+
+        // A malformed row stops the load after the rows that precede it, and the connection remains usable.
+        this.stmt.executeUpdate("TRUNCATE TABLE testBulkLoad");
+        List<Object[]> badRows = Arrays.asList(new Object[] { 1, "a" }, new Object[] { 2, "b" }, new Object[] { 3 });
+        assertThrows(SQLException.class, "Bulk load stopped after 2 rows, which were loaded \\(2 rows affected\\): Row 3 has 1 values but 2 .*", () -> {
+            testConn.bulkLoad("testBulkLoad", Arrays.asList("id", "val"), badRows.iterator());
+            return null;
+        });
+        this.rs = testConn.createStatement().executeQuery("SELECT COUNT(*) FROM testBulkLoad");
+        assertTrue(this.rs.next());
+        assertEquals(2, this.rs.getInt(1));
+
+        // Values of unsupported types aren't rendered with toString(), they stop the load the same way.
+        this.stmt.executeUpdate("TRUNCATE TABLE testBulkLoad");
+        List<Object[]> unsupportedRows = Arrays.asList(new Object[] { 1, LocalDate.of(2020, 1, 1) },
+                new Object[] { 2, OffsetDateTime.of(2020, 1, 1, 10, 0, 0, 0, ZoneOffset.UTC) });
+        assertThrows(SQLFeatureNotSupportedException.class, "Bulk load stopped after 1 rows, .*type 'java\\.time\\.OffsetDateTime' in row 2\\.", () -> {
+            testConn.bulkLoad("testBulkLoad", Arrays.asList("id", "dt"), unsupportedRows.iterator());
+            return null;
+        });
+        this.rs = testConn.createStatement().executeQuery("SELECT dt FROM testBulkLoad");
+        assertTrue(this.rs.next());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), this.rs.getObject(1, LocalDateTime.class));
+        assertFalse(this.rs.next());
+
+        testConn.close();
+
+        // Timestamps are rendered in the connection time zone, as instants are preserved.
+        props.setProperty(PropertyKey.connectionTimeZone.getKeyName(), "UTC");
+        props.setProperty(PropertyKey.preserveInstants.getKeyName(), "true");
+        JdbcConnection utcConn = (JdbcConnection) getConnectionWithProps(props);
+        this.stmt.executeUpdate("TRUNCATE TABLE testBulkLoad");
+        utcConn.bulkLoadColumns("testBulkLoad", Arrays.asList("id", "dt"), new int[] { 1 },
+                new Timestamp[] { Timestamp.from(Instant.parse("2020-01-01T10:00:00.5Z")) });
+        this.rs = this.stmt.executeQuery("SELECT dt FROM testBulkLoad");
+        assertTrue(this.rs.next());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 10, 0, 0, 500000000), this.rs.getObject(1, LocalDateTime.class));
+        utcConn.close();
+    }
+
+    /**
+     * Tests that parsed queries are shared between connections using {@link PerVmQueryInfoCacheFactory}, unless their settings differ.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPerVmQueryInfoCache() throws Exception {
+        String sql = "SELECT ?, 'testPerVmQueryInfoCache'";
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.cachePrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "false");
+        props.setProperty(PropertyKey.queryInfoCacheFactory.getKeyName(), PerVmQueryInfoCacheFactory.class.getName());
+        Connection testConn1 = getConnectionWithProps(props);
+        Connection testConn2 = getConnectionWithProps(props);
+        props.setProperty(PropertyKey.rewriteBatchedStatements.getKeyName(), "true");
+        Connection testConn3 = getConnectionWithProps(props);
+        try {
+            long hits = PerVmQueryInfoCacheFactory.getSharedCache().getHitCount();
+            QueryInfo queryInfo1 = ((ClientPreparedStatement) testConn1.prepareStatement(sql)).getQueryInfo();
+            QueryInfo queryInfo2 = ((ClientPreparedStatement) testConn2.prepareStatement(sql)).getQueryInfo();
+            QueryInfo queryInfo3 = ((ClientPreparedStatement) testConn3.prepareStatement(sql)).getQueryInfo();
+            assertSame(queryInfo1, queryInfo2);
+            assertNotSame(queryInfo1, queryInfo3);
+            assertEquals(hits + 1, PerVmQueryInfoCacheFactory.getSharedCache().getHitCount());
+
+            PreparedStatement testPstmt = testConn2.prepareStatement(sql);
+            testPstmt.setInt(1, 1);
+            this.rs = testPstmt.executeQuery();
+            assertTrue(this.rs.next());
+            assertEquals(1, this.rs.getInt(1));
+        } finally {
+            testConn1.close();
+            testConn2.close();
+            testConn3.close();
+        }
+    }
+
 }
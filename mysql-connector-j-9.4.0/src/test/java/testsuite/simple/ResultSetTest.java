@@ -20,17 +20,24 @@
 
 package testsuite.simple;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Connection;
@@ -50,12 +57,24 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
@@ -65,7 +84,12 @@ import com.mysql.cj.MysqlType;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcResultSet;
+import com.mysql.cj.jdbc.JdbcStatement;
 import com.mysql.cj.jdbc.exceptions.NotUpdatable;
+import com.mysql.cj.jdbc.result.CursorFetchStatistics;
+import com.mysql.cj.result.ColumnBatch;
+import com.mysql.cj.result.ColumnVector;
 import com.mysql.cj.util.StringUtils;
 
 import testsuite.BaseTestCase;
@@ -1254,4 +1278,498 @@ public class ResultSetTest extends BaseTestCase {
         testChar.accept("LONGTEXT");
     }
 
+    /**
+     * Tests streaming result sets with rows prefetched in the background.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPrefetchStreamingResults() throws Exception {
+        createTable("testPrefetchStreamingResults", "(id INT PRIMARY KEY, val VARCHAR(100))");
+        StringBuilder insert = new StringBuilder("INSERT INTO testPrefetchStreamingResults VALUES ");
+        for (int i = 1; i <= 1000; i++) {
+            insert.append(i > 1 ? ", " : "").append("(").append(i).append(", 'value").append(i).append("')");
+        }
+        this.stmt.executeUpdate(insert.toString());
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.prefetchStreamingResults.getKeyName(), "16");
+        boolean useSPS = false;
+        do {
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), Boolean.toString(useSPS));
+            try (Connection testConn = getConnectionWithProps(props)) {
+                PreparedStatement testPstmt = testConn.prepareStatement("SELECT id, val FROM testPrefetchStreamingResults ORDER BY id",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                testPstmt.setFetchSize(Integer.MIN_VALUE);
+
+                // Read all rows.
+                this.rs = testPstmt.executeQuery();
+                int count = 0;
+                while (this.rs.next()) {
+                    count++;
+                    assertEquals(count, this.rs.getInt(1));
+                    assertEquals("value" + count, this.rs.getString(2));
+                }
+                assertEquals(1000, count);
+                this.rs.close();
+
+                // Close early, then check the connection is still usable.
+                this.rs = testPstmt.executeQuery();
+                assertTrue(this.rs.next());
+                assertEquals(1, this.rs.getInt(1));
+                this.rs.close();
+
+                this.rs = testConn.createStatement().executeQuery("SELECT COUNT(*) FROM testPrefetchStreamingResults");
+                assertTrue(this.rs.next());
+                assertEquals(1000, this.rs.getInt(1));
+
+                // Leave the result set alone with a full buffer: the background thread must be given back to the pool without losing rows.
+                this.rs = testPstmt.executeQuery();
+                assertTrue(this.rs.next());
+                long start = System.currentTimeMillis();
+                while (isRowPrefetcherRunning()) {
+                    assertTrue(System.currentTimeMillis() - start < 30000, "The row prefetcher didn't stop");
+                    Thread.sleep(500);
+                }
+                count = 1;
+                while (this.rs.next()) {
+                    count++;
+                    assertEquals(count, this.rs.getInt(1));
+                }
+                assertEquals(1000, count);
+                this.rs.close();
+
+                // An abandoned result set is stopped when its statement is closed.
+                this.rs = testPstmt.executeQuery();
+                assertTrue(this.rs.next());
+                testPstmt.close();
+                assertFalse(isRowPrefetcherRunning());
+                this.rs = testConn.createStatement().executeQuery("SELECT 1");
+                assertTrue(this.rs.next());
+            }
+        } while (useSPS = !useSPS);
+    }
+
+    private static boolean isRowPrefetcherRunning() {
+        return Thread.getAllStackTraces().values().stream().flatMap(Arrays::stream)
+                .anyMatch(e -> e.getClassName().endsWith("ResultsetRowsStreaming$RowPrefetcher") && e.getMethodName().equals("run"));
+    }
+
+    /**
+     * Tests cursor-based result sets with adaptive fetch sizes.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testAdaptiveCursorFetch() throws Exception {
+        createTable("testAdaptiveCursorFetch", "(id INT PRIMARY KEY, val VARCHAR(100))");
+        StringBuilder insert = new StringBuilder("INSERT INTO testAdaptiveCursorFetch VALUES ");
+        for (int i = 1; i <= 2000; i++) {
+            insert.append(i > 1 ? ", " : "").append("(").append(i).append(", 'value").append(i).append("')");
+        }
+        this.stmt.executeUpdate(insert.toString());
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.useCursorFetch.getKeyName(), "true");
+        props.setProperty(PropertyKey.adaptiveCursorFetch.getKeyName(), "true");
+        props.setProperty(PropertyKey.adaptiveCursorFetchMinRows.getKeyName(), "10");
+        props.setProperty(PropertyKey.adaptiveCursorFetchMaxRows.getKeyName(), "500");
+        try (Connection testConn = getConnectionWithProps(props)) {
+            PreparedStatement testPstmt = testConn.prepareStatement("SELECT id, val FROM testAdaptiveCursorFetch ORDER BY id");
+            // Below the minimum, so the controller must pick a different size for all fetches but the first one.
+            testPstmt.setFetchSize(1);
+            this.rs = testPstmt.executeQuery();
+            JdbcResultSet jdbcRs = this.rs.unwrap(JdbcResultSet.class);
+            List<Integer> fetchSizes = new ArrayList<>();
+            int count = 0;
+            while (this.rs.next()) {
+                count++;
+                assertEquals(count, this.rs.getInt(1));
+                assertEquals("value" + count, this.rs.getString(2));
+                if (jdbcRs.getCursorFetchStatistics().getFetchCount() > fetchSizes.size()) {
+                    fetchSizes.add(jdbcRs.getCursorFetchStatistics().getLastFetchSize());
+                }
+            }
+            assertEquals(2000, count);
+
+            CursorFetchStatistics statistics = jdbcRs.getCursorFetchStatistics();
+            assertNotNull(statistics);
+            assertTrue(fetchSizes.size() > 1);
+            assertTrue(fetchSizes.size() >= statistics.getFetchCount() - 1); // The last fetch may return no rows.
+            assertEquals(Integer.valueOf(1), fetchSizes.get(0));
+            for (int fetchSize : fetchSizes.subList(1, fetchSizes.size())) {
+                assertNotEquals(1, fetchSize);
+                assertTrue(fetchSize >= 10 && fetchSize <= 500, "Fetch size out of bounds: " + fetchSize);
+            }
+            assertEquals(1, statistics.getSmallestFetchSize());
+            assertTrue(statistics.getLargestFetchSize() <= 500);
+            assertEquals(2000, statistics.getRowsFetched());
+            assertTrue(statistics.getAverageRowSize() > 0);
+            this.rs.close();
+        }
+    }
+
+    /**
+     * Tests thread-confined result sets.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testThreadConfinedResultSets() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.threadConfinedResultSets.getKeyName(), "true");
+        try (Connection testConn = getConnectionWithProps(props)) {
+            JdbcStatement testStmt = (JdbcStatement) testConn.createStatement();
+            assertTrue(testStmt.isThreadConfinedResultSets());
+
+            ResultSet testRs = testStmt.executeQuery("SELECT 1, 'a' UNION ALL SELECT 2, 'b'");
+            assertTrue(testRs.next());
+            assertEquals(1, testRs.getInt(1));
+            assertEquals("a", testRs.getString(2));
+
+            // Access from another thread is rejected.
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return testRs.next();
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }).get());
+            assertTrue(ex.getCause().getCause() instanceof SQLException);
+
+            assertTrue(testRs.next());
+            assertEquals(2, testRs.getInt(1));
+            assertFalse(testRs.next());
+            testRs.close();
+
+            // Result sets are confined to the thread that first accesses them, not to the one that executed the query.
+            testStmt.setThreadConfinedResultSets(true);
+            ResultSet asyncRs = testStmt.executeQueryAsync("SELECT 3").get();
+            assertTrue(asyncRs.next());
+            assertEquals(3, asyncRs.getInt(1));
+            asyncRs.close();
+
+            testStmt.setThreadConfinedResultSets(false);
+            ResultSet sharedRs = testStmt.executeQuery("SELECT 4");
+            assertTrue(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return sharedRs.next();
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+            }).get());
+            assertEquals(4, sharedRs.getInt(1));
+            sharedRs.close();
+
+            // Only one of several threads racing for a new result set can claim it.
+            testStmt.setThreadConfinedResultSets(true);
+            int racers = 4;
+            ExecutorService racersPool = Executors.newFixedThreadPool(racers);
+            try {
+                for (int i = 0; i < 20; i++) {
+                    ResultSet racedRs = testStmt.executeQuery("SELECT 1 UNION ALL SELECT 2 UNION ALL SELECT 3 UNION ALL SELECT 4");
+                    CyclicBarrier start = new CyclicBarrier(racers);
+                    AtomicInteger claims = new AtomicInteger();
+                    List<CompletableFuture<Void>> accesses = new ArrayList<>();
+                    for (int j = 0; j < racers; j++) {
+                        accesses.add(CompletableFuture.runAsync(() -> {
+                            try {
+                                start.await();
+                                racedRs.next();
+                                claims.incrementAndGet();
+                            } catch (SQLException e) {
+                                // Claimed by another thread.
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        }, racersPool));
+                    }
+                    CompletableFuture.allOf(accesses.toArray(new CompletableFuture<?>[0])).get();
+                    assertEquals(1, claims.get());
+                    racedRs.close();
+                }
+            } finally {
+                racersPool.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Tests reading result sets in column batches.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testColumnBatch() throws Exception {
+        createTable("testColumnBatch", "(id INT, big BIGINT UNSIGNED, d DOUBLE, s VARCHAR(20), dt DATE, b BIT(8))");
+        this.stmt.executeUpdate("INSERT INTO testColumnBatch VALUES (1, 18446744073709551615, 1.5, 'one', '2025-01-01', b'1'), "
+                + "(2, NULL, NULL, NULL, NULL, NULL), (3, 3, -3.25, '', '2025-03-03', b'11'), (4, 4, 4, 'four', '2025-04-04', b'100'), "
+                + "(5, 5, 5.5, 'f\u00fcnf', '2025-05-05', b'101')");
+
+        for (String useSPS : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSPS);
+            try (Connection testConn = getConnectionWithProps(props)) {
+                PreparedStatement ps = testConn.prepareStatement("SELECT id, big, d, s, dt, b FROM testColumnBatch ORDER BY id");
+                JdbcResultSet testRs = ps.executeQuery().unwrap(JdbcResultSet.class);
+                ColumnBatch batch = testRs.createColumnBatch(3);
+                assertEquals(ColumnVector.Kind.INT, batch.getColumn(0).getKind());
+                assertEquals(ColumnVector.Kind.LONG, batch.getColumn(1).getKind());
+                assertEquals(ColumnVector.Kind.DOUBLE, batch.getColumn(2).getKind());
+                assertEquals(ColumnVector.Kind.BYTES, batch.getColumn(3).getKind());
+
+                assertEquals(3, testRs.nextColumnBatch(batch));
+                assertArrayEquals(new int[] { 1, 2, 3 }, Arrays.copyOf(batch.getColumn(0).getIntValues(), 3));
+                assertEquals(-1L, batch.getColumn(1).getLong(0));
+                assertTrue(batch.getColumn(1).isNull(1));
+                assertEquals(3L, batch.getColumn(1).getLong(2));
+                assertEquals(1.5, batch.getColumn(2).getDouble(0));
+                assertTrue(batch.getColumn(2).isNull(1));
+                assertEquals(-3.25, batch.getColumn(2).getDouble(2));
+                assertEquals("one", batch.getColumn(3).getString(0));
+                assertNull(batch.getColumn(3).getString(1));
+                assertEquals("", batch.getColumn(3).getString(2));
+                assertEquals("2025-01-01", batch.getColumn(4).getString(0));
+                assertTrue(batch.getColumn(4).isNull(1));
+                assertArrayEquals(new byte[] { 1 }, batch.getColumn(5).getBytes(0));
+                assertArrayEquals(new byte[] { 3 }, batch.getColumn(5).getBytes(2));
+                assertEquals(3, testRs.getInt(1));
+
+                assertEquals(2, testRs.nextColumnBatch(batch));
+                assertEquals(4, batch.getColumn(0).getInt(0));
+                assertEquals(5, batch.getColumn(0).getInt(1));
+                assertFalse(batch.getColumn(1).isNull(0));
+                assertEquals(4.0, batch.getColumn(2).getDouble(0));
+                assertEquals("f\u00fcnf", batch.getColumn(3).getString(1));
+                assertEquals("2025-05-05", batch.getColumn(4).getString(1));
+
+                assertEquals(0, testRs.nextColumnBatch(batch));
+                assertEquals(0, batch.size());
+
+                assertThrows(SQLException.class, "Column batch capacity must be greater than 0, was 0\\.", () -> testRs.createColumnBatch(0));
+                JdbcResultSet otherRs = testConn.createStatement().executeQuery("SELECT 1").unwrap(JdbcResultSet.class);
+                assertThrows(SQLException.class, "Column batch doesn't match the columns of this result set\\.", () -> otherRs.nextColumnBatch(batch));
+                // Same number of columns, different types.
+                JdbcResultSet otherTypesRs = testConn.createStatement().executeQuery("SELECT s, big, d, id, dt, b FROM testColumnBatch")
+                        .unwrap(JdbcResultSet.class);
+                assertThrows(SQLException.class, "Column batch doesn't match the columns of this result set\\.", () -> otherTypesRs.nextColumnBatch(batch));
+            }
+        }
+    }
+
+    /**
+     * Tests exporting result sets as Arrow IPC streams.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExportArrowStream() throws Exception {
+        createTable("testExportArrowStream", "(id INT, big BIGINT, d DOUBLE, s VARCHAR(20), dd DATE, dt DATETIME(6))");
+        this.stmt.executeUpdate("INSERT INTO testExportArrowStream VALUES (1, 10000000000, 1.5, 'a', '2025-01-01', '2025-01-01 10:00:00.5'), "
+                + "(2, NULL, NULL, NULL, NULL, NULL), (3, -3, -2.25, 'f\u00fcnf', '1969-12-31', '1970-01-01 00:00:01.000001')");
+
+        // The rows as read through JDBC, holding the values in the same form as the Arrow vectors: Int32, Int64, Float64, Utf8, Date32 and Timestamp(us).
+        List<Object[]> expectedRows = new ArrayList<>();
+        this.rs = this.stmt.executeQuery("SELECT id, big, d, s, dd, dt FROM testExportArrowStream ORDER BY id");
+        while (this.rs.next()) {
+            LocalDate date = this.rs.getObject(5, LocalDate.class);
+            LocalDateTime dateTime = this.rs.getObject(6, LocalDateTime.class);
+            expectedRows.add(new Object[] { this.rs.getInt(1), this.rs.getObject(2, Long.class), this.rs.getObject(3, Double.class), this.rs.getString(4),
+                    date == null ? null : (int) date.toEpochDay(),
+                    dateTime == null ? null : dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1000 });
+        }
+        assertEquals(3, expectedRows.size());
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.useCursorFetch.getKeyName(), "false");
+        try (Connection testConn = getConnectionWithProps(props)) {
+            Statement streamingStmt = testConn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            streamingStmt.setFetchSize(Integer.MIN_VALUE);
+            JdbcResultSet testRs = streamingStmt.executeQuery("SELECT id, big, d, s, dd, dt FROM testExportArrowStream ORDER BY id")
+                    .unwrap(JdbcResultSet.class);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(3, testRs.exportArrowStream(Channels.newChannel(out), 2));
+            assertFalse(testRs.next());
+
+            // Schema message, two record batches and the end-of-stream marker, all 8-byte aligned.
+            ByteBuffer stream = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+            List<Object[]> exportedRows = new ArrayList<>();
+            int messages = 0;
+            while (true) {
+                assertEquals(0, stream.position() % 8);
+                assertEquals(-1, stream.getInt());
+                int metadataSize = stream.getInt();
+                if (metadataSize == 0) {
+                    break;
+                }
+                assertEquals(0, metadataSize % 8);
+                int root = stream.position() + stream.getInt(stream.position());
+                assertEquals(4, stream.getShort(flatBufferField(stream, root, 0))); // Message.version == V5
+                byte headerType = stream.get(flatBufferField(stream, root, 1));
+                assertEquals(messages == 0 ? 1 : 3, headerType); // Schema, then RecordBatch
+                long bodyLength = stream.getLong(flatBufferField(stream, root, 3));
+                int bodyStart = stream.position() + metadataSize;
+                if (headerType == 3) {
+                    int header = flatBufferField(stream, root, 2);
+                    exportedRows.addAll(decodeArrowRecordBatch(stream, header + stream.getInt(header), bodyStart));
+                }
+                stream.position(bodyStart + (int) bodyLength);
+                messages++;
+            }
+            assertEquals(3, messages);
+            assertFalse(stream.hasRemaining());
+
+            assertEquals(expectedRows.size(), exportedRows.size());
+            for (int i = 0; i < expectedRows.size(); i++) {
+                assertArrayEquals(expectedRows.get(i), exportedRows.get(i), "Row " + (i + 1));
+            }
+        }
+
+        // An empty result set gets a schema message only.
+        JdbcResultSet emptyRs = this.stmt.executeQuery("SELECT id FROM testExportArrowStream WHERE id < 0").unwrap(JdbcResultSet.class);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertEquals(0, emptyRs.exportArrowStream(Channels.newChannel(out), 10));
+        assertTrue(out.size() > 8);
+    }
+
+    /**
+     * Returns the position of a field of a flatbuffer table, or 0 if the field is absent.
+     */
+    private static int flatBufferField(ByteBuffer buffer, int table, int field) {
+        int vtable = table - buffer.getInt(table);
+        int entry = 4 + 2 * field;
+        if (entry >= buffer.getShort(vtable)) {
+            return 0;
+        }
+        short offset = buffer.getShort(vtable + entry);
+        return offset == 0 ? 0 : table + offset;
+    }
+
+    /**
+     * Decodes an Arrow record batch having the columns Int32, Int64, Float64, Utf8, Date32 and Timestamp(MICROSECOND), in this order, into rows.
+     */
+    private static List<Object[]> decodeArrowRecordBatch(ByteBuffer stream, int recordBatch, int bodyStart) {
+        int rows = (int) stream.getLong(flatBufferField(stream, recordBatch, 0));
+        int nodesField = flatBufferField(stream, recordBatch, 1);
+        int nodes = nodesField + stream.getInt(nodesField);
+        assertEquals(6, stream.getInt(nodes));
+        int buffersField = flatBufferField(stream, recordBatch, 2);
+        int buffers = buffersField + stream.getInt(buffersField);
+        assertEquals(13, stream.getInt(buffers)); // Validity and values for each column, plus the offsets of the Utf8 column.
+
+        List<Object[]> decoded = new ArrayList<>();
+        for (int r = 0; r < rows; r++) {
+            decoded.add(new Object[6]);
+        }
+        int buffer = 0;
+        for (int c = 0; c < 6; c++) {
+            assertEquals(rows, stream.getLong(nodes + 4 + 16 * c)); // FieldNode.length
+            long nullCount = stream.getLong(nodes + 4 + 16 * c + 8);
+            int validity = bodyStart + (int) stream.getLong(buffers + 4 + 16 * buffer);
+            boolean hasValidity = stream.getLong(buffers + 4 + 16 * buffer + 8) > 0;
+            assertEquals(nullCount > 0, hasValidity);
+            int values = bodyStart + (int) stream.getLong(buffers + 4 + 16 * (buffer + 1));
+            int data = c == 3 ? bodyStart + (int) stream.getLong(buffers + 4 + 16 * (buffer + 2)) : 0;
+            buffer += c == 3 ? 3 : 2;
+
+            int nulls = 0;
+            for (int r = 0; r < rows; r++) {
+                if (hasValidity && (stream.get(validity + (r >>> 3)) & 1 << (r & 7)) == 0) {
+                    nulls++;
+                    continue;
+                }
+                switch (c) {
+                    case 0:
+                    case 4:
+                        decoded.get(r)[c] = stream.getInt(values + 4 * r);
+                        break;
+                    case 2:
+                        decoded.get(r)[c] = stream.getDouble(values + 8 * r);
+                        break;
+                    case 3:
+                        int from = stream.getInt(values + 4 * r);
+                        byte[] utf8 = new byte[stream.getInt(values + 4 * (r + 1)) - from];
+                        for (int i = 0; i < utf8.length; i++) {
+                            utf8[i] = stream.get(data + from + i);
+                        }
+                        decoded.get(r)[c] = new String(utf8, StandardCharsets.UTF_8);
+                        break;
+                    default:
+                        decoded.get(r)[c] = stream.getLong(values + 8 * r);
+                        break;
+                }
+            }
+            assertEquals(nullCount, nulls);
+        }
+        return decoded;
+    }
+
+    /**
+     * Tests mapping result set rows in parallel.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMapRows() throws Exception {
+        createTable("testMapRows", "(id INT PRIMARY KEY, s VARCHAR(20), ts DATETIME)");
+        StringBuilder insert = new StringBuilder("INSERT INTO testMapRows VALUES ");
+        for (int i = 1; i <= 10000; i++) {
+            insert.append(i == 1 ? "(" : ", (").append(i).append(", ").append(i % 10 == 0 ? "NULL" : "'s" + i + "'");
+            insert.append(", '2025-01-01 00:00:00' + INTERVAL ").append(i).append(" SECOND)");
+        }
+        this.stmt.executeUpdate(insert.toString());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (String useSPS : new String[] { "false", "true" }) {
+                Properties props = new Properties();
+                props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSPS);
+                try (Connection testConn = getConnectionWithProps(props)) {
+                    PreparedStatement ps = testConn.prepareStatement("SELECT id, s, ts FROM testMapRows ORDER BY id");
+                    JdbcResultSet testRs = ps.executeQuery().unwrap(JdbcResultSet.class);
+                    assertTrue(testRs.next());
+                    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+                    List<String> mapped = testRs.mapRows((rs, index) -> {
+                        threads.add(Thread.currentThread());
+                        assertEquals(index + 2, rs.getInt(1));
+                        return rs.getInt("id") + ":" + rs.getString(2) + ":" + rs.getTimestamp(3).toLocalDateTime().getSecond();
+                    }, pool);
+                    assertEquals(9999, mapped.size());
+                    for (int i = 2; i <= 10000; i++) {
+                        assertEquals(i + ":" + (i % 10 == 0 ? "null" : "s" + i) + ":" + i % 60, mapped.get(i - 2));
+                    }
+                    assertTrue(threads.size() > 1);
+                    assertTrue(testRs.isAfterLast());
+                    assertTrue(testRs.mapRows((rs, index) -> index, pool).isEmpty());
+
+                    // Mapper failures are reported as thrown.
+                    JdbcResultSet failingRs = ps.executeQuery().unwrap(JdbcResultSet.class);
+                    assertThrows(SQLException.class, "Column 'unknown' not found\\.", () -> failingRs.mapRows((rs, index) -> rs.getInt("unknown"), pool));
+
+                    // Small result sets are mapped on the calling thread.
+                    Thread callingThread = Thread.currentThread();
+                    JdbcResultSet smallRs = testConn.createStatement().executeQuery("SELECT id FROM testMapRows WHERE id <= 3 ORDER BY id")
+                            .unwrap(JdbcResultSet.class);
+                    assertEquals(Arrays.asList(1, 2, 3), smallRs.mapRows((rs, index) -> {
+                        assertEquals(callingThread, Thread.currentThread());
+                        return rs.getInt(1);
+                    }, null));
+                }
+            }
+
+            // Streaming result sets are mapped as they are read.
+            try (Connection testConn = getConnectionWithProps("")) {
+                Statement streamingStmt = testConn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                streamingStmt.setFetchSize(Integer.MIN_VALUE);
+                JdbcResultSet testRs = streamingStmt.executeQuery("SELECT id FROM testMapRows ORDER BY id").unwrap(JdbcResultSet.class);
+                List<Integer> mapped = testRs.mapRows((rs, index) -> rs.getInt(1), pool);
+                assertEquals(10000, mapped.size());
+                assertEquals(10000, mapped.get(9999).intValue());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 }
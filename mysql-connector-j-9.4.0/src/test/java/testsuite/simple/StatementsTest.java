@@ -20,10 +20,12 @@
 
 package testsuite.simple;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -63,8 +65,14 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
@@ -75,19 +83,26 @@ import com.mysql.cj.CharsetMappingWrapper;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.MysqlType;
 import com.mysql.cj.Query;
+import com.mysql.cj.ServerPreparedStatementDescriptor;
 import com.mysql.cj.conf.PropertyDefinitions.SslMode;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
+import com.mysql.cj.jdbc.BatchChunkSizeController;
 import com.mysql.cj.jdbc.ClientPreparedStatement;
 import com.mysql.cj.jdbc.ConnectionImpl;
 import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.MultiStatementBatchExecutor;
 import com.mysql.cj.jdbc.ParameterBindings;
 import com.mysql.cj.jdbc.ServerPreparedStatement;
+import com.mysql.cj.jdbc.exceptions.CommunicationsException;
 import com.mysql.cj.jdbc.exceptions.MySQLStatementCancelledException;
 import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
 import com.mysql.cj.jdbc.interceptors.ServerStatusDiffInterceptor;
 import com.mysql.cj.protocol.Resultset;
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.protocol.ServerSession;
+import com.mysql.cj.protocol.a.NativeServerSession;
+import com.mysql.cj.util.ConcurrentLRUCache;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.TimeUtil;
 
@@ -3748,7 +3763,7 @@ public class StatementsTest extends BaseTestCase {
         stmtsCacheField.setAccessible(true);
         ToIntFunction<Connection> getStmtsCacheSize = c -> {
             try {
-                LRUCache<?, ?> stmtsCacheObj = (LRUCache<?, ?>) stmtsCacheField.get(c);
+                ConcurrentLRUCache<?, ?> stmtsCacheObj = (ConcurrentLRUCache<?, ?>) stmtsCacheField.get(c);
                 return stmtsCacheObj == null ? -1 : stmtsCacheObj.size();
             } catch (IllegalArgumentException | IllegalAccessException e) {
                 fail("Fail getting the statements cache size.");
@@ -3758,7 +3773,8 @@ public class StatementsTest extends BaseTestCase {
         Function<Connection, ServerPreparedStatement> getStmtsCacheSingleElem = c -> {
             try {
                 @SuppressWarnings("unchecked")
-                LRUCache<?, ServerPreparedStatement> stmtsCacheObj = (LRUCache<?, ServerPreparedStatement>) stmtsCacheField.get(c);
+                ConcurrentLRUCache<Object, ServerPreparedStatement> stmtsCacheObj = (ConcurrentLRUCache<Object, ServerPreparedStatement>) stmtsCacheField
+                        .get(c);
                 return stmtsCacheObj.get(stmtsCacheObj.keySet().iterator().next());
             } catch (IllegalArgumentException | IllegalAccessException e) {
                 fail("Fail getting the statements cache element.");
@@ -5510,4 +5526,612 @@ public class StatementsTest extends BaseTestCase {
 
     }
 
+    /**
+     * Tests asynchronous statement execution.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExecuteAsync() throws Exception {
+        createTable("testExecuteAsync", "(id INT PRIMARY KEY)");
+
+        JdbcStatement stmt1 = (JdbcStatement) this.conn.createStatement();
+        JdbcStatement stmt2 = (JdbcStatement) this.conn.createStatement();
+
+        // Operations complete in submission order.
+        CompletableFuture<Long> insert = stmt1.executeLargeUpdateAsync("INSERT INTO testExecuteAsync VALUES (1), (2), (3)");
+        CompletableFuture<ResultSet> select = stmt2.executeQueryAsync("SELECT COUNT(*) FROM testExecuteAsync");
+        assertEquals(3L, insert.get().longValue());
+        this.rs = select.get();
+        assertTrue(this.rs.next());
+        assertEquals(3, this.rs.getInt(1));
+
+        // Streamed rows.
+        List<Integer> ids = new ArrayList<>();
+        assertEquals(3L, stmt1.executeQueryAsync("SELECT id FROM testExecuteAsync ORDER BY id", r -> ids.add(r.getInt(1))).get().longValue());
+        assertEquals(3, ids.size());
+        assertEquals(Integer.valueOf(3), ids.get(2));
+
+        // Failures complete the future exceptionally.
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> stmt1.executeLargeUpdateAsync("INSERT INTO testExecuteAsync VALUES (1)").get());
+        assertTrue(ex.getCause() instanceof SQLException);
+        assertEquals(MysqlErrorNumbers.ER_DUP_ENTRY, ((SQLException) ex.getCause()).getErrorCode());
+
+        stmt1.close();
+        stmt2.close();
+        ex = assertThrows(ExecutionException.class, () -> stmt1.executeQueryAsync("SELECT 1").get());
+        assertTrue(ex.getCause() instanceof SQLException);
+    }
+
+    /**
+     * Tests that cancelling the future of a running asynchronous query stops the query on the server, for buffered and for streamed results.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExecuteAsyncCancel() throws Exception {
+        try (Connection testConn = getNewConnection()) {
+            JdbcStatement testStmt = (JdbcStatement) testConn.createStatement();
+            this.rs = testStmt.executeQuery("SELECT CONNECTION_ID()");
+            assertTrue(this.rs.next());
+            long connectionId = this.rs.getLong(1);
+
+            List<CompletableFuture<?>> sleeps = new ArrayList<>();
+            sleeps.add(testStmt.executeQueryAsync("SELECT SLEEP(30)"));
+            sleeps.add(testStmt.executeQueryAsync("SELECT SLEEP(30)", r -> {
+            }));
+            for (CompletableFuture<?> sleep : sleeps) {
+                // Wait for the query to be running on the server.
+                long start = System.currentTimeMillis();
+                do {
+                    assertTrue(System.currentTimeMillis() - start < 10000, "The query didn't start");
+                    Thread.sleep(100);
+                    this.rs = this.stmt.executeQuery("SELECT INFO FROM INFORMATION_SCHEMA.PROCESSLIST WHERE ID = " + connectionId);
+                } while (!this.rs.next() || !"SELECT SLEEP(30)".equals(this.rs.getString(1)));
+
+                start = System.currentTimeMillis();
+                assertTrue(sleep.cancel(true));
+                assertTrue(sleep.isCancelled());
+
+                // The next operation only runs once the cancelled one has returned, which must happen long before the query would have ended.
+                this.rs = testStmt.executeQueryAsync("SELECT 1").get(10, TimeUnit.SECONDS);
+                assertTrue(System.currentTimeMillis() - start < 10000, "Probably wasn't actually cancelled");
+                assertTrue(this.rs.next());
+                assertEquals(1, this.rs.getInt(1));
+            }
+        }
+    }
+
+    /**
+     * Tests that asynchronous operations of a slow connection don't delay those of other connections, and that a caller supplied executor is used when set.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testExecuteAsyncIndependentConnections() throws Exception {
+        // More slow connections than the processors available, which was the size of the former driver-wide pool.
+        int slowConnectionsCount = Runtime.getRuntime().availableProcessors() + 2;
+        List<Connection> slowConnections = new ArrayList<>();
+        List<CompletableFuture<ResultSet>> slowQueries = new ArrayList<>();
+        try {
+            for (int i = 0; i < slowConnectionsCount; i++) {
+                Connection slowConn = getNewConnection();
+                slowConnections.add(slowConn);
+                slowQueries.add(((JdbcStatement) slowConn.createStatement()).executeQueryAsync("SELECT SLEEP(30)"));
+            }
+
+            long start = System.currentTimeMillis();
+            this.rs = ((JdbcStatement) this.conn.createStatement()).executeQueryAsync("SELECT 1").get(10, TimeUnit.SECONDS);
+            assertTrue(System.currentTimeMillis() - start < 10000);
+            assertTrue(this.rs.next());
+            assertEquals(1, this.rs.getInt(1));
+            for (CompletableFuture<ResultSet> slowQuery : slowQueries) {
+                assertFalse(slowQuery.isDone());
+            }
+        } finally {
+            slowQueries.forEach(f -> f.cancel(true));
+            for (Connection slowConn : slowConnections) {
+                slowConn.close();
+            }
+        }
+
+        // Caller supplied executor.
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "testExecuteAsyncIndependentConnections"));
+        try (Connection testConn = getNewConnection()) {
+            ((JdbcConnection) testConn).setAsyncExecutor(executor);
+            List<String> threadNames = new ArrayList<>();
+            ((JdbcStatement) testConn.createStatement()).executeQueryAsync("SELECT 1", r -> threadNames.add(Thread.currentThread().getName())).get();
+            assertEquals(1, threadNames.size());
+            assertEquals("testExecuteAsyncIndependentConnections", threadNames.get(0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests sharing the metadata of server-side prepared statements among connections.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testShareServerPrepStmtMetadata() throws Exception {
+        createTable("testShareServerPrepStmtMetadata", "(id INT PRIMARY KEY, name VARCHAR(32))");
+        this.stmt.executeUpdate("INSERT INTO testShareServerPrepStmtMetadata VALUES (1, 'a'), (2, 'b')");
+        ServerPreparedStatementDescriptor.clear();
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.shareServerPrepStmtMetadata.getKeyName(), "true");
+        String sql = "SELECT id, name FROM testShareServerPrepStmtMetadata WHERE id > ? ORDER BY id";
+
+        try (Connection testConn1 = getConnectionWithProps(props); Connection testConn2 = getConnectionWithProps(props)) {
+            PreparedStatement pstmt1 = testConn1.prepareStatement(sql);
+            assertEquals(1, ServerPreparedStatementDescriptor.size());
+            PreparedStatement pstmt2 = testConn2.prepareStatement(sql);
+            assertEquals(1, ServerPreparedStatementDescriptor.size());
+            // The column definitions are shared, but each statement has its own copies, which decoding rows may change.
+            assertNotSame(pstmt1.getMetaData().unwrap(com.mysql.cj.jdbc.result.ResultSetMetaData.class).getFields()[1],
+                    pstmt2.getMetaData().unwrap(com.mysql.cj.jdbc.result.ResultSetMetaData.class).getFields()[1]);
+
+            ResultSetMetaData rsmd = pstmt2.getMetaData();
+            assertEquals(2, rsmd.getColumnCount());
+            assertEquals("id", rsmd.getColumnName(1));
+            assertEquals("name", rsmd.getColumnName(2));
+            assertEquals(Types.VARCHAR, rsmd.getColumnType(2));
+            assertEquals(1, pstmt2.getParameterMetaData().getParameterCount());
+
+            pstmt2.setInt(1, 1);
+            this.rs = pstmt2.executeQuery();
+            assertTrue(this.rs.next());
+            assertEquals(2, this.rs.getInt("id"));
+            assertEquals("b", this.rs.getString("name"));
+            assertFalse(this.rs.next());
+
+            // A statement whose number of columns has changed is described again.
+            String selectAll = "SELECT * FROM testShareServerPrepStmtMetadata WHERE id > ?";
+            PreparedStatement pstmt3 = testConn1.prepareStatement(selectAll);
+            assertEquals(2, pstmt3.getMetaData().getColumnCount());
+            pstmt3.close();
+            this.stmt.executeUpdate("ALTER TABLE testShareServerPrepStmtMetadata ADD COLUMN note VARCHAR(32)");
+            pstmt3 = testConn2.prepareStatement(selectAll);
+            assertEquals(3, pstmt3.getMetaData().getColumnCount());
+            assertEquals(2, ServerPreparedStatementDescriptor.size());
+            pstmt3.close();
+
+            // A statement whose column types have changed, with the same number of columns, is described again.
+            this.stmt.executeUpdate("ALTER TABLE testShareServerPrepStmtMetadata MODIFY name VARCHAR(64)");
+            PreparedStatement pstmt4 = testConn2.prepareStatement(sql);
+            assertEquals(64, pstmt4.getMetaData().getPrecision(2));
+            pstmt4.close();
+            pstmt4 = testConn1.prepareStatement(sql);
+            assertEquals(64, pstmt4.getMetaData().getPrecision(2));
+            assertEquals(2, ServerPreparedStatementDescriptor.size());
+            pstmt4.close();
+            pstmt1.close();
+            pstmt2.close();
+        } finally {
+            ServerPreparedStatementDescriptor.clear();
+        }
+    }
+
+    /**
+     * Tests omitting the column definitions from the results of repeated server-side prepared statement executions.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOptionalResultSetMetadata() throws Exception {
+        assumeTrue(versionMeetsMinimum(8, 0, 3), "MySQL 8.0.3+ is required to run this test.");
+
+        createTable("testOptionalResultSetMetadata", "(id INT PRIMARY KEY, name VARCHAR(32))");
+        this.stmt.executeUpdate("INSERT INTO testOptionalResultSetMetadata VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.optionalResultSetMetadata.getKeyName(), "true");
+
+        try (Connection testConn = getConnectionWithProps(props)) {
+            PreparedStatement pstmt = testConn.prepareStatement("SELECT id, name FROM testOptionalResultSetMetadata WHERE id = ?");
+            Statement testStmt = testConn.createStatement();
+            for (int i = 1; i <= 3; i++) {
+                pstmt.setInt(1, i);
+                this.rs = pstmt.executeQuery();
+                assertTrue(this.rs.next());
+                assertEquals(i, this.rs.getInt("id"));
+                assertEquals(String.valueOf((char) ('a' + i - 1)), this.rs.getString("name"));
+                assertEquals("name", this.rs.getMetaData().getColumnName(2));
+                assertEquals(Types.VARCHAR, this.rs.getMetaData().getColumnType(2));
+                assertFalse(this.rs.next());
+
+                // Text queries and new statements get their column definitions.
+                this.rs = testStmt.executeQuery("SELECT @@session.resultset_metadata");
+                assertTrue(this.rs.next());
+                assertEquals("FULL", this.rs.getString(1));
+                PreparedStatement pstmt2 = testConn.prepareStatement("SELECT name FROM testOptionalResultSetMetadata WHERE id = ?");
+                pstmt2.setInt(1, i);
+                this.rs = pstmt2.executeQuery();
+                assertTrue(this.rs.next());
+                assertEquals("name", this.rs.getMetaData().getColumnName(1));
+                pstmt2.close();
+            }
+
+            // Updates don't need column definitions.
+            PreparedStatement pstmt3 = testConn.prepareStatement("UPDATE testOptionalResultSetMetadata SET name = ? WHERE id = 1");
+            pstmt3.setString(1, "x");
+            assertEquals(1, pstmt3.executeUpdate());
+            pstmt3.setString(1, "y");
+            assertEquals(1, pstmt3.executeUpdate());
+
+            pstmt.setInt(1, 1);
+            this.rs = pstmt.executeQuery();
+            assertTrue(this.rs.next());
+            assertEquals("y", this.rs.getString(2));
+            pstmt.setInt(1, 1);
+            this.rs = pstmt.executeQuery();
+            assertTrue(this.rs.next());
+            assertEquals("y", this.rs.getString("name"));
+
+            // Repeated executions of the same statement omit the column definitions, the next text query gets them again.
+            for (int i = 1; i <= 3; i++) {
+                pstmt.setInt(1, i);
+                this.rs = pstmt.executeQuery();
+                assertTrue(this.rs.next());
+                assertEquals(i, this.rs.getInt("id"));
+                assertEquals("name", this.rs.getMetaData().getColumnName(2));
+            }
+            this.rs = testStmt.executeQuery("SELECT @@session.resultset_metadata");
+            assertTrue(this.rs.next());
+            assertEquals("FULL", this.rs.getString(1));
+
+            // Once the server reports other metadata, the new column definitions are used by the next executions and by the statement.
+            pstmt.setInt(1, 1);
+            pstmt.executeQuery().close();
+            this.stmt.executeUpdate("ALTER TABLE testOptionalResultSetMetadata MODIFY name VARCHAR(64)");
+            for (int i = 1; i <= 3; i++) {
+                pstmt.setInt(1, i);
+                this.rs = pstmt.executeQuery();
+                assertTrue(this.rs.next());
+                assertEquals(i, this.rs.getInt("id"));
+                if (i > 1) {
+                    assertEquals(64, this.rs.getMetaData().getPrecision(2));
+                }
+            }
+            assertEquals(64, pstmt.getMetaData().getPrecision(2));
+        }
+    }
+
+    /**
+     * Tests that a connection whose "resultset_metadata" session variable couldn't be changed ahead of a command is closed, rather than left to read the
+     * reply to the command out of sync.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testOptionalResultSetMetadataSwitchFailure() throws Exception {
+        assumeTrue(versionMeetsMinimum(8, 0, 3), "MySQL 8.0.3+ is required to run this test.");
+
+        createTable("testOptionalResultSetMetadataSwitchFailure", "(id INT PRIMARY KEY)");
+        this.stmt.executeUpdate("INSERT INTO testOptionalResultSetMetadataSwitchFailure VALUES (1)");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.optionalResultSetMetadata.getKeyName(), "false");
+
+        try (Connection testConn = getConnectionWithProps(props)) {
+            // The server refuses "resultset_metadata = NONE" from a client that didn't negotiate CLIENT_OPTIONAL_RESULTSET_METADATA.
+            JdbcConnection jdbcConn = testConn.unwrap(JdbcConnection.class);
+            jdbcConn.getPropertySet().getBooleanProperty(PropertyKey.optionalResultSetMetadata).setValue(true);
+            ServerSession serverSession = jdbcConn.getSession().getServerSession();
+            serverSession.setClientParam(serverSession.getClientParam() | NativeServerSession.CLIENT_OPTIONAL_RESULTSET_METADATA);
+
+            PreparedStatement pstmt = testConn.prepareStatement("SELECT id FROM testOptionalResultSetMetadataSwitchFailure WHERE id = ?");
+            pstmt.setInt(1, 1);
+            this.rs = pstmt.executeQuery();
+            assertTrue(this.rs.next());
+            assertEquals(1, this.rs.getInt(1));
+
+            assertThrows(CommunicationsException.class, () -> pstmt.executeQuery());
+            assertThrows(SQLException.class, () -> testConn.createStatement().executeQuery("SELECT 1"));
+        }
+    }
+
+    /**
+     * Tests that string and integer parameters of client-side prepared statements, which are written straight into the query packet, reach the server
+     * unchanged under the different escaping modes.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDirectTextParameterEncoding() throws Exception {
+        createTable("testDirectTextParameterEncoding", "(id INT PRIMARY KEY, s VARCHAR(64), n BIGINT)");
+
+        String[] strings = new String[] { "", "plain", "it's", "say \"hi\"", "back\\slash", "nul\0byte", "line\nbreak\r", "ctrl-z\032", "caf\u00e9" };
+        long[] numbers = new long[] { 0, -1, 42, Integer.MIN_VALUE, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE };
+
+        for (String sqlMode : new String[] { "''", "'ANSI_QUOTES'", "'NO_BACKSLASH_ESCAPES'" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+            props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+            props.setProperty(PropertyKey.sessionVariables.getKeyName(), "sql_mode=" + sqlMode);
+
+            this.stmt.executeUpdate("TRUNCATE TABLE testDirectTextParameterEncoding");
+            try (Connection testConn = getConnectionWithProps(props)) {
+                PreparedStatement pstmt = testConn.prepareStatement("INSERT INTO testDirectTextParameterEncoding VALUES (?, ?, ?)");
+                for (int i = 0; i < strings.length; i++) {
+                    pstmt.setInt(1, i);
+                    pstmt.setString(2, strings[i]);
+                    pstmt.setLong(3, numbers[i % numbers.length]);
+                    assertEquals(1, pstmt.executeUpdate());
+                }
+
+                this.rs = testConn.createStatement().executeQuery("SELECT id, s, n FROM testDirectTextParameterEncoding ORDER BY id");
+                for (int i = 0; i < strings.length; i++) {
+                    assertTrue(this.rs.next());
+                    assertEquals(i, this.rs.getInt(1));
+                    assertEquals(strings[i], this.rs.getString(2), sqlMode);
+                    assertEquals(numbers[i % numbers.length], this.rs.getLong(3), sqlMode);
+                }
+                assertFalse(this.rs.next());
+            }
+        }
+    }
+
+    /**
+     * Tests that client-side prepared statement batches, which keep their parameter sets in columnar form, execute the values bound at each addBatch() call.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testColumnarBatchedParameterSets() throws Exception {
+        createTable("testColumnarBatchedParameterSets", "(id INT PRIMARY KEY, l BIGINT, d DOUBLE, b VARBINARY(8), s VARCHAR(16), n DECIMAL(10,2))");
+
+        for (String rewrite : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+            props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+            props.setProperty(PropertyKey.rewriteBatchedStatements.getKeyName(), rewrite);
+
+            this.stmt.executeUpdate("TRUNCATE TABLE testColumnarBatchedParameterSets");
+            try (Connection testConn = getConnectionWithProps(props)) {
+                PreparedStatement pstmt = testConn.prepareStatement("INSERT INTO testColumnarBatchedParameterSets VALUES (?, ?, ?, ?, ?, ?)");
+                byte[] buffer = new byte[2];
+                for (int i = 0; i < 50; i++) {
+                    pstmt.setInt(1, i);
+                    pstmt.setLong(2, Long.MAX_VALUE - i);
+                    pstmt.setDouble(3, i / 4.0);
+                    buffer[0] = (byte) i;
+                    buffer[1] = (byte) -i;
+                    pstmt.setBytes(4, buffer); // the same array is reused for every row
+                    if (i % 3 == 0) {
+                        pstmt.setNull(5, Types.VARCHAR);
+                    } else {
+                        pstmt.setString(5, "row " + i);
+                    }
+                    pstmt.setBigDecimal(6, BigDecimal.valueOf(i, 2));
+                    pstmt.addBatch();
+                }
+                assertEquals(50, pstmt.executeLargeBatch().length);
+
+                // Parameter sets mixed with plain statements.
+                pstmt.setInt(1, 100);
+                pstmt.setLong(2, -1);
+                pstmt.setDouble(3, 0.5);
+                pstmt.setBytes(4, new byte[] { 1 });
+                pstmt.setString(5, "before");
+                pstmt.setBigDecimal(6, BigDecimal.ONE);
+                pstmt.addBatch();
+                pstmt.addBatch("UPDATE testColumnarBatchedParameterSets SET s = 'plain' WHERE id = 100");
+                pstmt.setInt(1, 101);
+                pstmt.setString(5, "after");
+                pstmt.addBatch();
+                assertArrayEquals(new int[] { 1, 1, 1 }, pstmt.executeBatch());
+
+                this.rs = testConn.createStatement().executeQuery("SELECT * FROM testColumnarBatchedParameterSets ORDER BY id");
+                for (int i = 0; i < 50; i++) {
+                    assertTrue(this.rs.next(), rewrite);
+                    assertEquals(i, this.rs.getInt(1));
+                    assertEquals(Long.MAX_VALUE - i, this.rs.getLong(2));
+                    assertEquals(i / 4.0, this.rs.getDouble(3));
+                    assertArrayEquals(new byte[] { (byte) i, (byte) -i }, this.rs.getBytes(4));
+                    assertEquals(i % 3 == 0 ? null : "row " + i, this.rs.getString(5));
+                    assertEquals(BigDecimal.valueOf(i, 2), this.rs.getBigDecimal(6));
+                }
+                assertTrue(this.rs.next());
+                assertEquals(100, this.rs.getInt(1));
+                assertEquals("plain", this.rs.getString(5));
+                assertTrue(this.rs.next());
+                assertEquals(101, this.rs.getInt(1));
+                assertEquals(-1, this.rs.getLong(2));
+                assertArrayEquals(new byte[] { 1 }, this.rs.getBytes(4));
+                assertEquals("after", this.rs.getString(5));
+                assertFalse(this.rs.next());
+            }
+        }
+    }
+
+    /**
+     * Tests rewritten batches split into chunks sized by {@link BatchChunkSizeController}.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testAdaptiveBatchSize() throws Exception {
+        createTable("testAdaptiveBatchSize", "(id INT PRIMARY KEY, val VARCHAR(20))");
+
+        for (String useSPS : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+            props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSPS);
+            props.setProperty(PropertyKey.rewriteBatchedStatements.getKeyName(), "true");
+            props.setProperty(PropertyKey.adaptiveBatchSize.getKeyName(), "true");
+            props.setProperty(PropertyKey.adaptiveBatchSizeMinRows.getKeyName(), "4");
+            props.setProperty(PropertyKey.adaptiveBatchSizeMaxRows.getKeyName(), "64");
+
+            this.stmt.executeUpdate("TRUNCATE TABLE testAdaptiveBatchSize");
+            try (Connection testConn = getConnectionWithProps(props)) {
+                // Multi-values clause rewrite.
+                PreparedStatement pstmt = testConn.prepareStatement("INSERT INTO testAdaptiveBatchSize VALUES (?, ?)");
+                for (int i = 0; i < 1000; i++) {
+                    pstmt.setInt(1, i);
+                    pstmt.setString(2, "value" + i);
+                    pstmt.addBatch();
+                }
+                long[] counts = pstmt.executeLargeBatch();
+                assertEquals(1000, counts.length);
+
+                BatchChunkSizeController controller = ((ClientPreparedStatement) pstmt).getBatchChunkSizeController();
+                int[] chunkSizes = controller.getLastBatchChunkSizes();
+                assertEquals(4, chunkSizes[0], useSPS);
+                assertEquals(1000, Arrays.stream(chunkSizes).sum(), useSPS);
+                for (int chunkSize : chunkSizes) {
+                    assertTrue(chunkSize >= 1 && chunkSize <= 64, useSPS);
+                }
+                assertEquals(chunkSizes.length, controller.getChunkCount());
+                assertEquals(1000, controller.getRowsExecuted());
+
+                this.rs = testConn.createStatement().executeQuery("SELECT COUNT(*), MAX(val) FROM testAdaptiveBatchSize");
+                assertTrue(this.rs.next());
+                assertEquals(1000, this.rs.getInt(1));
+                assertEquals("value999", this.rs.getString(2));
+
+                // Multi-statement rewrite, starting from the chunk size reached by the previous batch of the same statement.
+                pstmt = testConn.prepareStatement("UPDATE testAdaptiveBatchSize SET val = ? WHERE id = ?");
+                for (int i = 0; i < 200; i++) {
+                    pstmt.setString(1, "updated" + i);
+                    pstmt.setInt(2, i * 5);
+                    pstmt.addBatch();
+                }
+                counts = pstmt.executeLargeBatch();
+                assertEquals(200, counts.length);
+                for (long count : counts) {
+                    assertEquals(1, count);
+                }
+                controller = ((ClientPreparedStatement) pstmt).getBatchChunkSizeController();
+                assertEquals(200, Arrays.stream(controller.getLastBatchChunkSizes()).sum(), useSPS);
+
+                int reachedChunkSize = controller.getChunkSize();
+                for (int i = 0; i < 200; i++) {
+                    pstmt.setString(1, "again" + i);
+                    pstmt.setInt(2, i * 5);
+                    pstmt.addBatch();
+                }
+                pstmt.executeLargeBatch();
+                int firstChunkSize = controller.getLastBatchChunkSizes()[0];
+                assertTrue(firstChunkSize >= Math.max(4, reachedChunkSize / 2) && firstChunkSize <= Math.min(64, reachedChunkSize * 2), useSPS);
+                assertEquals(400, controller.getRowsExecuted());
+
+                this.rs = testConn.createStatement().executeQuery("SELECT COUNT(*) FROM testAdaptiveBatchSize WHERE val LIKE 'again%'");
+                assertTrue(this.rs.next());
+                assertEquals(200, this.rs.getInt(1));
+
+                // Bounds changed at runtime apply to the next batch.
+                ((JdbcConnection) testConn).getPropertySet().getIntegerProperty(PropertyKey.adaptiveBatchSizeMaxRows).setValue(8);
+                for (int i = 0; i < 100; i++) {
+                    pstmt.setString(1, "bounded" + i);
+                    pstmt.setInt(2, i * 5);
+                    pstmt.addBatch();
+                }
+                pstmt.executeLargeBatch();
+                for (int chunkSize : controller.getLastBatchChunkSizes()) {
+                    assertTrue(chunkSize >= 1 && chunkSize <= 8, useSPS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests batches sent as multi-statement queries with "useMultiStatementBatches=true".
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMultiStatementBatches() throws Exception {
+        assertEquals("UPDATE t SET a = 1", MultiStatementBatchExecutor.toPackableStatement("UPDATE t SET a = 1; -- done", false));
+        assertEquals("/* hint */ DELETE FROM t WHERE a = ';'",
+                MultiStatementBatchExecutor.toPackableStatement("/* hint */ DELETE FROM t WHERE a = ';' # done", false));
+        assertNull(MultiStatementBatchExecutor.toPackableStatement("UPDATE t SET a = 1; UPDATE t SET a = 2", false));
+        assertNull(MultiStatementBatchExecutor.toPackableStatement("SELECT * FROM t", false));
+        assertNull(MultiStatementBatchExecutor.toPackableStatement("CALL p()", false));
+        assertNull(MultiStatementBatchExecutor.toPackableStatement("LOAD DATA LOCAL INFILE 'f' INTO TABLE t", false));
+        assertNull(MultiStatementBatchExecutor.toPackableStatement("UPDATE t SET a = 'x", false));
+
+        createTable("testMultiStatementBatches", "(id INT PRIMARY KEY, val VARCHAR(20))");
+
+        for (String continueBatchOnError : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+            props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+            props.setProperty(PropertyKey.useMultiStatementBatches.getKeyName(), "true");
+            props.setProperty(PropertyKey.continueBatchOnError.getKeyName(), continueBatchOnError);
+            props.setProperty(PropertyKey.maxAllowedPacket.getKeyName(), "600");
+
+            this.stmt.executeUpdate("TRUNCATE TABLE testMultiStatementBatches");
+            this.stmt.executeUpdate("INSERT INTO testMultiStatementBatches VALUES (1, 'a'), (2, 'b'), (3, 'c'), (4, 'd')");
+
+            try (Connection testConn = getConnectionWithProps(props)) {
+                // Heterogeneous Statement batch, split in several queries by the small max_allowed_packet.
+                Statement testStmt = testConn.createStatement();
+                testStmt.addBatch("UPDATE testMultiStatementBatches SET val = 'x' WHERE id = 1");
+                testStmt.addBatch("DELETE FROM testMultiStatementBatches WHERE id = 2");
+                testStmt.addBatch("INSERT INTO testMultiStatementBatches VALUES (3, 'duplicate')");
+                testStmt.addBatch("UPDATE testMultiStatementBatches SET val = 'y' WHERE id = 3 -- trailing comment");
+                testStmt.addBatch("UPDATE testMultiStatementBatches SET val = 'z' WHERE id > 100");
+                testStmt.addBatch("INSERT INTO testMultiStatementBatches VALUES (5, 'e'), (6, 'f')");
+                testStmt.addBatch("DELETE FROM testMultiStatementBatches WHERE id = 4;");
+
+                BatchUpdateException e = assertThrows(BatchUpdateException.class, testStmt::executeLargeBatch);
+                assertEquals(MysqlErrorNumbers.ER_DUP_ENTRY, e.getErrorCode());
+                if (Boolean.parseBoolean(continueBatchOnError)) {
+                    assertArrayEquals(new long[] { 1, 1, Statement.EXECUTE_FAILED, 1, 0, 2, 1 }, e.getLargeUpdateCounts());
+                } else {
+                    assertArrayEquals(new long[] { 1, 1 }, e.getLargeUpdateCounts());
+                }
+
+                this.rs = this.stmt.executeQuery("SELECT GROUP_CONCAT(id, val ORDER BY id) FROM testMultiStatementBatches");
+                assertTrue(this.rs.next());
+                assertEquals(Boolean.parseBoolean(continueBatchOnError) ? "1x,3y,5e,6f" : "1x,3c,4d", this.rs.getString(1));
+
+                // Prepared statement batch where one parameter set fails.
+                for (String useSPS : new String[] { "false", "true" }) {
+                    this.stmt.executeUpdate("TRUNCATE TABLE testMultiStatementBatches");
+                    for (int i = 0; i < 20; i++) {
+                        this.stmt.executeUpdate("INSERT INTO testMultiStatementBatches VALUES (" + i + ", 'v')");
+                    }
+
+                    Properties spsProps = new Properties();
+                    spsProps.putAll(props);
+                    spsProps.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), useSPS);
+                    spsProps.setProperty(PropertyKey.maxAllowedPacket.getKeyName(), "400");
+                    try (Connection spsConn = getConnectionWithProps(spsProps)) {
+                        PreparedStatement pstmt = spsConn.prepareStatement("UPDATE testMultiStatementBatches SET id = ? WHERE id = ?");
+                        for (int i = 0; i < 20; i++) {
+                            pstmt.setInt(1, i == 7 ? 8 : 100 + i); // 8 is still taken when the 8th parameter set is executed
+                            pstmt.setInt(2, i);
+                            pstmt.addBatch();
+                        }
+
+                        e = assertThrows(BatchUpdateException.class, pstmt::executeLargeBatch);
+                        assertEquals(MysqlErrorNumbers.ER_DUP_ENTRY, e.getErrorCode());
+                        long[] counts = e.getLargeUpdateCounts();
+                        assertEquals(Boolean.parseBoolean(continueBatchOnError) ? 20 : 7, counts.length, useSPS);
+                        for (int i = 0; i < counts.length; i++) {
+                            assertEquals(i == 7 ? Statement.EXECUTE_FAILED : 1, counts[i], useSPS);
+                        }
+
+                        this.rs = this.stmt.executeQuery("SELECT COUNT(*) FROM testMultiStatementBatches WHERE id >= 100");
+                        assertTrue(this.rs.next());
+                        assertEquals(Boolean.parseBoolean(continueBatchOnError) ? 19 : 7, this.rs.getInt(1), useSPS);
+                    }
+                }
+            }
+        }
+    }
+
 }